@@ -107,10 +107,21 @@ export const uploadImage = async (file: File, needsModeration = true): Promise<U
             imageUrl: presignedData.url,
             s3Key: presignedData.s3Key
           },
-          timeout: 20000 // 20초 타임아웃
+          timeout: 10000 // 10초 타임아웃
         });
 
         moderationResult = moderationResponse.data;
+
+        // 검열은 서버에서 비동기로 진행되므로 결과가 나올 때까지 폴링 (최대 30초)
+        const deadline = Date.now() + 30000;
+        while (moderationResult?.data?.status === 'pending' && Date.now() < deadline) {
+          await new Promise(resolve => setTimeout(resolve, 1000));
+          const statusResponse = await axios.get('/files/moderation-status', {
+            params: { s3Key: presignedData.s3Key },
+            timeout: 10000
+          });
+          moderationResult = statusResponse.data;
+        }
       } catch (networkErr: unknown) {
         // 검열 실패 시 S3에서 이미지 삭제
         try {
@@ -133,6 +144,9 @@ export const uploadImage = async (file: File, needsModeration = true): Promise<U
       if (moderationResult?.data) {
         const { status, safe } = moderationResult.data;
 
+        if (status === 'pending') {
+          throw new Error('이미지 검열이 지연되고 있습니다. 잠시 후 다시 시도해주세요.');
+        }
         if (status === 'error' || safe === false) {
           throw new Error('부적절한 이미지가 감지되었습니다. 다른 이미지를 사용해주세요.');
         }
@@ -91,6 +91,21 @@ interface ReportedComment {
   }[];
 }
 
+const USER_PAGE_SIZE = 50;
+const REPORTED_COMMENT_PAGE_SIZE = 20;
+
+interface UserPage {
+  content: UserSummary[];
+  totalPages: number;
+  totalElements: number;
+}
+
+interface ReportedCommentPage {
+  content: ReportedComment[];
+  totalPages: number;
+  totalElements: number;
+}
+
 export default function AdminUserPage() {
   const [users, setUsers] = useState<UserSummary[]>([]);
   const [loading, setLoading] = useState(true);
@@ -102,6 +117,9 @@ export default function AdminUserPage() {
   const [deletedComments, setDeletedComments] = useState<Comment[]>([]);
   const [activeTab, setActiveTab] = useState<'users' | 'ips' | 'posts' | 'reportedPosts' | 'reportedComments' | 'blindComments' | 'deletedPosts' | 'deletedComments' | 'files' | 'scheduler'>('users');
   const [reportedComments, setReportedComments] = useState<ReportedComment[]>([]);
+  const [reportedCommentPage, setReportedCommentPage] = useState(0);
+  const [reportedCommentTotalPages, setReportedCommentTotalPages] = useState(0);
+  const [reportedCommentTotal, setReportedCommentTotal] = useState(0);
   const [showIpModal, setShowIpModal] = useState(false);
   const [showReasonModal, setShowReasonModal] = useState(false);
   const [showPointModal, setShowPointModal] = useState(false);
@@ -113,6 +131,10 @@ export default function AdminUserPage() {
   const [statusFilter, setStatusFilter] = useState<'ALL' | 'ACTIVE' | 'WITHDRAWN'>('ALL');
   const [userTypeFilter, setUserTypeFilter] = useState<'ALL' | 'REGULAR' | 'SOCIAL'>('ALL');
   const [searchTerm, setSearchTerm] = useState('');
+  const [userKeyword, setUserKeyword] = useState('');
+  const [userPage, setUserPage] = useState(0);
+  const [userTotalPages, setUserTotalPages] = useState(0);
+  const [userTotalElements, setUserTotalElements] = useState(0);
   const [postSearchTerm, setPostSearchTerm] = useState('');
   const [ipSearchTerm, setIpSearchTerm] = useState('');
   const [orphanImageCount, setOrphanImageCount] = useState<number>(0);
@@ -143,19 +165,41 @@ export default function AdminUserPage() {
     }
   }, []);
 
+  // 사용자 목록은 서버에서 필터링/페이징 (전체 목록을 한 번에 받지 않음)
   const fetchUsers = useCallback(async () => {
     try {
-      const res = await axios.get('/admin/users');
-      const userData = res.data?.data || res.data || [];
-      const userList = Array.isArray(userData) ? userData : [];
-      setUsers(userList);
+      const res = await axios.get<UserPage>('/admin/users/directory', {
+        params: {
+          page: userPage,
+          size: USER_PAGE_SIZE,
+          keyword: userKeyword || undefined,
+          status: statusFilter === 'ALL' ? undefined : statusFilter,
+          socialProvider: userTypeFilter === 'REGULAR' ? 'local' : userTypeFilter === 'SOCIAL' ? 'social' : undefined,
+        },
+      });
+      setUsers(res.data?.content ?? []);
+      setUserTotalPages(res.data?.totalPages ?? 0);
+      setUserTotalElements(res.data?.totalElements ?? 0);
     } catch (err) {
       console.error('사용자 목록 조회 실패', err);
       setUsers([]);
     } finally {
       setLoading(false);
     }
-  }, []);
+  }, [userPage, userKeyword, statusFilter, userTypeFilter]);
+
+  useEffect(() => {
+    fetchUsers();
+  }, [fetchUsers]);
+
+  // 검색어는 입력이 멈춘 뒤 서버에 반영
+  useEffect(() => {
+    const timer = setTimeout(() => {
+      setUserKeyword(searchTerm.trim());
+      setUserPage(0);
+    }, 300);
+    return () => clearTimeout(timer);
+  }, [searchTerm]);
 
   const handleLock = async (id: number) => {
     // 현재 로그인한 사용자 보호
@@ -288,11 +332,9 @@ export default function AdminUserPage() {
   };
 
   useEffect(() => {
-    fetchUsers();
     fetchBlockedIps();
     fetchBlindedPosts();
     fetchReportedPosts();
-    fetchReportedComments();
     fetchBlindedComments();
     fetchDeletedPosts();
     fetchDeletedComments();
@@ -303,7 +345,24 @@ export default function AdminUserPage() {
 
   const fetchBlindedPosts = useCallback(() => fetchData('/admin/posts/blinded', setBlindedPosts, '블라인드 게시글 목록 조회 실패'), [fetchData]);
   const fetchReportedPosts = useCallback(() => fetchData('/admin/posts/reported', setReportedPosts, '신고된 게시글 목록 조회 실패'), [fetchData]);
-  const fetchReportedComments = useCallback(() => fetchData('/admin/comments/reported', setReportedComments, '신고된 댓글 목록 조회 실패'), [fetchData]);
+  // 신고된 댓글은 서버에서 신고 수 순으로 페이징 (전체 목록을 한 번에 받지 않음)
+  const fetchReportedComments = useCallback(async () => {
+    try {
+      const res = await axios.get<ReportedCommentPage>('/admin/comments/reported', {
+        params: { page: reportedCommentPage, size: REPORTED_COMMENT_PAGE_SIZE },
+      });
+      setReportedComments(res.data?.content ?? []);
+      setReportedCommentTotalPages(res.data?.totalPages ?? 0);
+      setReportedCommentTotal(res.data?.totalElements ?? 0);
+    } catch (err) {
+      console.error('신고된 댓글 목록 조회 실패', err);
+      setReportedComments([]);
+    }
+  }, [reportedCommentPage]);
+
+  useEffect(() => {
+    fetchReportedComments();
+  }, [fetchReportedComments]);
   const fetchBlindedComments = useCallback(() => fetchData('/admin/comments/blinded', setBlindedComments, '블라인드 댓글 목록 조회 실패'), [fetchData]);
   const fetchDeletedPosts = useCallback(() => fetchData('/admin/posts/deleted', setDeletedPosts, '삭제된 게시글 목록 조회 실패'), [fetchData]);
   const fetchDeletedComments = useCallback(() => fetchData('/admin/comments/deleted', setDeletedComments, '삭제된 댓글 목록 조회 실패'), [fetchData]);
@@ -537,30 +596,6 @@ export default function AdminUserPage() {
     return schedulerStatus.messagesToDelete + schedulerStatus.postsToDelete + schedulerStatus.usersToCleanup;
   }, [schedulerStatus]);
 
-  // 필터링된 사용자 목록
-  const filteredUsers = useMemo(() => {
-    if (!users || users.length === 0) return [];
-    
-    return users.filter(user => {
-      // 상태 필터
-      const statusMatch = statusFilter === 'ALL' || 
-        (statusFilter === 'ACTIVE' && user.status !== 'WITHDRAWN') ||
-        (statusFilter === 'WITHDRAWN' && user.status === 'WITHDRAWN');
-      
-      // 사용자 유형 필터
-      const typeMatch = userTypeFilter === 'ALL' ||
-        (userTypeFilter === 'REGULAR' && !user.socialProvider) ||
-        (userTypeFilter === 'SOCIAL' && !!user.socialProvider);
-      
-      // 검색 필터
-      const searchMatch = searchTerm === '' || 
-        user.email.toLowerCase().includes(searchTerm.toLowerCase()) ||
-        user.nickname.toLowerCase().includes(searchTerm.toLowerCase());
-      
-      return statusMatch && typeMatch && searchMatch;
-    });
-  }, [users, statusFilter, userTypeFilter, searchTerm]);
-
   return (
     <div className="min-h-screen bg-gradient-to-br from-[#0c0c1f] via-[#1b1e3d] to-[#0c0c1f] text-white px-6 py-12">
       <div className="max-w-6xl mx-auto">
@@ -726,7 +761,7 @@ export default function AdminUserPage() {
               <div className="flex gap-2 justify-center flex-wrap">
                 {/* 계정 상태 필터 */}
                 <button
-                  onClick={() => setStatusFilter('ALL')}
+                  onClick={() => { setStatusFilter('ALL'); setUserPage(0); }}
                   className={`px-4 py-2 rounded text-sm transition ${
                     statusFilter === 'ALL'
                       ? 'bg-blue-600 text-white'
@@ -736,7 +771,7 @@ export default function AdminUserPage() {
                   전체
                 </button>
                 <button
-                  onClick={() => setStatusFilter('ACTIVE')}
+                  onClick={() => { setStatusFilter('ACTIVE'); setUserPage(0); }}
                   className={`px-4 py-2 rounded text-sm transition ${
                     statusFilter === 'ACTIVE'
                       ? 'bg-green-600 text-white'
@@ -746,7 +781,7 @@ export default function AdminUserPage() {
                   활성 계정
                 </button>
                 <button
-                  onClick={() => setStatusFilter('WITHDRAWN')}
+                  onClick={() => { setStatusFilter('WITHDRAWN'); setUserPage(0); }}
                   className={`px-4 py-2 rounded text-sm transition ${
                     statusFilter === 'WITHDRAWN'
                       ? 'bg-red-600 text-white'
@@ -761,7 +796,7 @@ export default function AdminUserPage() {
                 
                 {/* 사용자 유형 필터 */}
                 <button
-                  onClick={() => setUserTypeFilter('ALL')}
+                  onClick={() => { setUserTypeFilter('ALL'); setUserPage(0); }}
                   className={`px-4 py-2 rounded text-sm transition ${
                     userTypeFilter === 'ALL'
                       ? 'bg-purple-600 text-white'
@@ -771,7 +806,7 @@ export default function AdminUserPage() {
                   전체 유형
                 </button>
                 <button
-                  onClick={() => setUserTypeFilter('REGULAR')}
+                  onClick={() => { setUserTypeFilter('REGULAR'); setUserPage(0); }}
                   className={`px-4 py-2 rounded text-sm transition ${
                     userTypeFilter === 'REGULAR'
                       ? 'bg-orange-600 text-white'
@@ -781,7 +816,7 @@ export default function AdminUserPage() {
                   일반 사용자
                 </button>
                 <button
-                  onClick={() => setUserTypeFilter('SOCIAL')}
+                  onClick={() => { setUserTypeFilter('SOCIAL'); setUserPage(0); }}
                   className={`px-4 py-2 rounded text-sm transition ${
                     userTypeFilter === 'SOCIAL'
                       ? 'bg-cyan-600 text-white'
@@ -811,7 +846,7 @@ export default function AdminUserPage() {
                 </tr>
               </thead>
               <tbody>
-                {filteredUsers.length > 0 ? filteredUsers
+                {users.length > 0 ? users
                   .map((user) => (
                   <tr key={user.id} className="border-t border-gray-700">
                     <td className="p-3 text-center">{user.id}</td>
@@ -920,6 +955,27 @@ export default function AdminUserPage() {
               </tbody>
               </table>
             )}
+            {userTotalPages > 1 && (
+              <div className="flex justify-center items-center gap-4 mt-4 text-sm">
+                <button
+                  onClick={() => setUserPage(p => Math.max(0, p - 1))}
+                  disabled={userPage === 0}
+                  className="px-3 py-1 rounded bg-gray-600 hover:bg-gray-500 disabled:opacity-40"
+                >
+                  이전
+                </button>
+                <span className="text-gray-300">
+                  {userPage + 1} / {userTotalPages} (총 {userTotalElements}명)
+                </span>
+                <button
+                  onClick={() => setUserPage(p => Math.min(userTotalPages - 1, p + 1))}
+                  disabled={userPage >= userTotalPages - 1}
+                  className="px-3 py-1 rounded bg-gray-600 hover:bg-gray-500 disabled:opacity-40"
+                >
+                  다음
+                </button>
+              </div>
+            )}
           </div>
         ) : activeTab === 'posts' ? (
           // 블라인드 게시글 관리 섹션
@@ -1215,6 +1271,27 @@ export default function AdminUserPage() {
                 </table>
               </div>
             )}
+            {reportedCommentTotalPages > 1 && (
+              <div className="flex justify-center items-center gap-4 mt-4 text-sm">
+                <button
+                  onClick={() => setReportedCommentPage(p => Math.max(0, p - 1))}
+                  disabled={reportedCommentPage === 0}
+                  className="px-3 py-1 rounded bg-gray-600 hover:bg-gray-500 disabled:opacity-40"
+                >
+                  이전
+                </button>
+                <span className="text-gray-300">
+                  {reportedCommentPage + 1} / {reportedCommentTotalPages} (총 {reportedCommentTotal}건)
+                </span>
+                <button
+                  onClick={() => setReportedCommentPage(p => Math.min(reportedCommentTotalPages - 1, p + 1))}
+                  disabled={reportedCommentPage >= reportedCommentTotalPages - 1}
+                  className="px-3 py-1 rounded bg-gray-600 hover:bg-gray-500 disabled:opacity-40"
+                >
+                  다음
+                </button>
+              </div>
+            )}
           </div>
         ) : activeTab === 'blindComments' ? (
           // 블라인드 댓글 관리 섹션
@@ -37,34 +37,48 @@ interface ReportedComment {
   }[];
 }
 
+interface ReportedCommentPage {
+  content: ReportedComment[];
+  totalPages: number;
+  totalElements: number;
+}
+
 type TabType = 'reported' | 'blinded' | 'deleted';
 
+const REPORTED_PAGE_SIZE = 20;
+
 export default function AdminCommentsPage() {
   const [activeTab, setActiveTab] = useState<TabType>('reported');
   const [blindedComments, setBlindedComments] = useState<Comment[]>([]);
   const [reportedComments, setReportedComments] = useState<ReportedComment[]>([]);
+  const [reportedPage, setReportedPage] = useState(0);
+  const [reportedTotalPages, setReportedTotalPages] = useState(0);
+  const [reportedTotal, setReportedTotal] = useState(0);
   const [deletedComments, setDeletedComments] = useState<Comment[]>([]);
   const [loading, setLoading] = useState(true);
   const [searchTerm, setSearchTerm] = useState('');
   const [showReportModal, setShowReportModal] = useState(false);
   const [selectedReportComment, setSelectedReportComment] = useState<ReportedComment | null>(null);
 
+  // 신고된 댓글은 서버에서 신고 수 순으로 페이징 (전체 수는 totalElements)
   const fetchData = useCallback(async () => {
     try {
       const [blindedRes, reportedRes, deletedRes] = await Promise.all([
         axios.get('/admin/comments/blinded'),
-        axios.get('/admin/comments/reported'),
+        axios.get<ReportedCommentPage>('/admin/comments/reported', { params: { page: reportedPage, size: REPORTED_PAGE_SIZE } }),
         axios.get('/admin/comments/deleted'),
       ]);
       setBlindedComments(blindedRes.data?.data || blindedRes.data || []);
-      setReportedComments(reportedRes.data?.data || reportedRes.data || []);
+      setReportedComments(reportedRes.data?.content ?? []);
+      setReportedTotalPages(reportedRes.data?.totalPages ?? 0);
+      setReportedTotal(reportedRes.data?.totalElements ?? 0);
       setDeletedComments(deletedRes.data?.data || deletedRes.data || []);
     } catch (err) {
       console.error('댓글 데이터 조회 실패:', err);
     } finally {
       setLoading(false);
     }
-  }, []);
+  }, [reportedPage]);
 
   useEffect(() => {
     fetchData();
@@ -137,7 +151,7 @@ export default function AdminCommentsPage() {
   };
 
   const tabs = [
-    { key: 'reported' as TabType, label: '신고된 댓글', icon: '🚨', count: reportedComments.length, color: 'orange' },
+    { key: 'reported' as TabType, label: '신고된 댓글', icon: '🚨', count: reportedTotal, color: 'orange' },
     { key: 'blinded' as TabType, label: '블라인드 댓글', icon: '💬', count: blindedComments.length, color: 'yellow' },
     { key: 'deleted' as TabType, label: '삭제된 댓글', icon: '💭', count: deletedComments.length, color: 'red' },
   ];
@@ -159,7 +173,7 @@ export default function AdminCommentsPage() {
 
       {/* 통계 */}
       <div className="grid grid-cols-3 gap-4">
-        <AdminStatsCard title="신고된 댓글" value={reportedComments.length} icon="🚨" color="orange" alert={reportedComments.length > 0} />
+        <AdminStatsCard title="신고된 댓글" value={reportedTotal} icon="🚨" color="orange" alert={reportedTotal > 0} />
         <AdminStatsCard title="블라인드 댓글" value={blindedComments.length} icon="💬" color="yellow" />
         <AdminStatsCard title="삭제된 댓글" value={deletedComments.length} icon="💭" color="red" />
       </div>
@@ -260,6 +274,25 @@ export default function AdminCommentsPage() {
               </table>
             </div>
           )}
+          {reportedTotalPages > 1 && (
+            <div className="flex justify-center items-center gap-4 mt-4 text-sm">
+              <button
+                onClick={() => setReportedPage(p => Math.max(0, p - 1))}
+                disabled={reportedPage === 0}
+                className="px-3 py-1 rounded bg-gray-600 hover:bg-gray-500 disabled:opacity-40"
+              >
+                이전
+              </button>
+              <span className="text-gray-300">{reportedPage + 1} / {reportedTotalPages}</span>
+              <button
+                onClick={() => setReportedPage(p => Math.min(reportedTotalPages - 1, p + 1))}
+                disabled={reportedPage >= reportedTotalPages - 1}
+                className="px-3 py-1 rounded bg-gray-600 hover:bg-gray-500 disabled:opacity-40"
+              >
+                다음
+              </button>
+            </div>
+          )}
         </div>
       )}
 
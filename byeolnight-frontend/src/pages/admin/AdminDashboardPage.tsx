@@ -39,8 +39,14 @@ export default function AdminDashboardPage() {
   useEffect(() => {
     const fetchStats = async () => {
       try {
+        // 사용자 수/신고된 댓글 수는 페이지의 totalElements만 사용 (목록 전체를 받지 않음)
+        const today = new Date();
+        const todayParam = `${today.getFullYear()}-${String(today.getMonth() + 1).padStart(2, '0')}-${String(today.getDate()).padStart(2, '0')}`;
+
         const [
           usersRes,
+          activeUsersRes,
+          todayUsersRes,
           reportedPostsRes,
           reportedCommentsRes,
           blockedIpsRes,
@@ -48,39 +54,29 @@ export default function AdminDashboardPage() {
           blindedCommentsRes,
           schedulerRes,
         ] = await Promise.all([
-          axios.get('/admin/users'),
+          axios.get('/admin/users/directory', { params: { size: 1 } }),
+          axios.get('/admin/users/directory', { params: { size: 1, status: 'ACTIVE' } }),
+          axios.get('/admin/users/directory', { params: { size: 1, createdFrom: todayParam } }),
           axios.get('/admin/posts/reported'),
-          axios.get('/admin/comments/reported'),
+          axios.get('/admin/comments/reported', { params: { size: 1 } }),
           axios.get('/admin/blocked-ips'),
           axios.get('/admin/posts/blinded'),
           axios.get('/admin/comments/blinded'),
           axios.get('/admin/scheduler/status').catch(() => ({ data: { data: { messagesToDelete: 0, postsToDelete: 0, usersToCleanup: 0 } } })),
         ]);
 
-        const users = usersRes.data?.data || usersRes.data || [];
         const reportedPosts = reportedPostsRes.data?.data || reportedPostsRes.data || [];
-        const reportedComments = reportedCommentsRes.data?.data || reportedCommentsRes.data || [];
         const blockedIps = blockedIpsRes.data?.data || blockedIpsRes.data || [];
         const blindedPosts = blindedPostsRes.data?.data || blindedPostsRes.data || [];
         const blindedComments = blindedCommentsRes.data?.data || blindedCommentsRes.data || [];
         const schedulerStatus = schedulerRes.data?.data || { messagesToDelete: 0, postsToDelete: 0, usersToCleanup: 0 };
 
-        // 오늘 가입한 사용자 수 계산
-        const today = new Date();
-        today.setHours(0, 0, 0, 0);
-        const todayNewUsers = Array.isArray(users)
-          ? users.filter((u: { createdAt: string }) => {
-              const createdAt = new Date(u.createdAt);
-              return createdAt >= today;
-            }).length
-          : 0;
-
         setStats({
-          totalUsers: Array.isArray(users) ? users.length : 0,
-          activeUsers: Array.isArray(users) ? users.filter((u: { status: string }) => u.status === 'ACTIVE').length : 0,
-          todayNewUsers,
+          totalUsers: usersRes.data?.totalElements ?? 0,
+          activeUsers: activeUsersRes.data?.totalElements ?? 0,
+          todayNewUsers: todayUsersRes.data?.totalElements ?? 0,
           reportedPosts: Array.isArray(reportedPosts) ? reportedPosts.length : 0,
-          reportedComments: Array.isArray(reportedComments) ? reportedComments.length : 0,
+          reportedComments: reportedCommentsRes.data?.totalElements ?? 0,
           blockedIps: Array.isArray(blockedIps) ? blockedIps.length : 0,
           blindedPosts: Array.isArray(blindedPosts) ? blindedPosts.length : 0,
           blindedComments: Array.isArray(blindedComments) ? blindedComments.length : 0,
@@ -1,4 +1,4 @@
-import { useEffect, useState, useCallback, useMemo } from 'react';
+import { useEffect, useState, useCallback } from 'react';
 import axios from '../../lib/axios';
 import { useAuth } from '../../contexts/AuthContext';
 import { useToast } from '../../contexts/ToastContext';
@@ -27,12 +27,31 @@ interface UserSummary {
   socialProvider?: string;
 }
 
+const USER_PAGE_SIZE = 50;
+
+interface UserPage {
+  content: UserSummary[];
+  totalPages: number;
+  totalElements: number;
+}
+
+interface UserCounts {
+  total: number;
+  active: number;
+  withdrawn: number;
+}
+
 export default function AdminUsersPage() {
   const [users, setUsers] = useState<UserSummary[]>([]);
   const [loading, setLoading] = useState(true);
   const [statusFilter, setStatusFilter] = useState('ALL');
   const [userTypeFilter, setUserTypeFilter] = useState('ALL');
   const [searchTerm, setSearchTerm] = useState('');
+  const [keyword, setKeyword] = useState('');
+  const [page, setPage] = useState(0);
+  const [totalPages, setTotalPages] = useState(0);
+  const [totalElements, setTotalElements] = useState(0);
+  const [counts, setCounts] = useState<UserCounts>({ total: 0, active: 0, withdrawn: 0 });
   const [showReasonModal, setShowReasonModal] = useState(false);
   const [showPointModal, setShowPointModal] = useState(false);
   const [modalAction, setModalAction] = useState<{ type: string; userId: number; status?: string } | null>(null);
@@ -41,42 +60,62 @@ export default function AdminUsersPage() {
   const toast = useToast();
   const confirm = useConfirm();
 
+  // 목록은 서버에서 필터링/페이징, 통계는 totalElements만 조회 (전체 목록을 한 번에 받지 않음)
   const fetchUsers = useCallback(async () => {
     try {
-      const res = await axios.get('/admin/users');
-      const userData = res.data?.data || res.data || [];
-      setUsers(Array.isArray(userData) ? userData : []);
+      const res = await axios.get<UserPage>('/admin/users/directory', {
+        params: {
+          page,
+          size: USER_PAGE_SIZE,
+          keyword: keyword || undefined,
+          status: statusFilter === 'ALL' ? undefined : statusFilter,
+          socialProvider: userTypeFilter === 'REGULAR' ? 'local' : userTypeFilter === 'SOCIAL' ? 'social' : undefined,
+        },
+      });
+      setUsers(res.data?.content ?? []);
+      setTotalPages(res.data?.totalPages ?? 0);
+      setTotalElements(res.data?.totalElements ?? 0);
     } catch (err) {
       console.error('사용자 목록 조회 실패', err);
       setUsers([]);
     } finally {
       setLoading(false);
     }
+  }, [page, keyword, statusFilter, userTypeFilter]);
+
+  const fetchCounts = useCallback(async () => {
+    try {
+      const count = async (params: Record<string, string>) => {
+        const res = await axios.get<UserPage>('/admin/users/directory', { params: { size: 1, ...params } });
+        return res.data?.totalElements ?? 0;
+      };
+      const [total, active, withdrawn] = await Promise.all([
+        count({}),
+        count({ status: 'ACTIVE' }),
+        count({ status: 'WITHDRAWN' }),
+      ]);
+      setCounts({ total, active, withdrawn });
+    } catch (err) {
+      console.error('사용자 통계 조회 실패', err);
+    }
   }, []);
 
   useEffect(() => {
     fetchUsers();
   }, [fetchUsers]);
 
-  const filteredUsers = useMemo(() => {
-    if (!users || users.length === 0) return [];
-
-    return users.filter(user => {
-      const statusMatch = statusFilter === 'ALL' ||
-        (statusFilter === 'ACTIVE' && user.status !== 'WITHDRAWN') ||
-        (statusFilter === 'WITHDRAWN' && user.status === 'WITHDRAWN');
-
-      const typeMatch = userTypeFilter === 'ALL' ||
-        (userTypeFilter === 'REGULAR' && !user.socialProvider) ||
-        (userTypeFilter === 'SOCIAL' && !!user.socialProvider);
-
-      const searchMatch = searchTerm === '' ||
-        user.email.toLowerCase().includes(searchTerm.toLowerCase()) ||
-        user.nickname.toLowerCase().includes(searchTerm.toLowerCase());
+  useEffect(() => {
+    fetchCounts();
+  }, [fetchCounts]);
 
-      return statusMatch && typeMatch && searchMatch;
-    });
-  }, [users, statusFilter, userTypeFilter, searchTerm]);
+  // 검색어는 입력이 멈춘 뒤 서버에 반영
+  useEffect(() => {
+    const timer = setTimeout(() => {
+      setKeyword(searchTerm.trim());
+      setPage(0);
+    }, 300);
+    return () => clearTimeout(timer);
+  }, [searchTerm]);
 
   // 핸들러 함수들
   const handleLock = async (id: number) => {
@@ -344,7 +383,7 @@ export default function AdminUsersPage() {
         { value: 'WITHDRAWN', label: '탈퇴 계정', color: 'bg-red-600' },
       ],
       value: statusFilter,
-      onChange: setStatusFilter,
+      onChange: (value: string) => { setStatusFilter(value); setPage(0); },
     },
     {
       options: [
@@ -353,7 +392,7 @@ export default function AdminUsersPage() {
         { value: 'SOCIAL', label: '소셜 사용자', color: 'bg-cyan-600' },
       ],
       value: userTypeFilter,
-      onChange: setUserTypeFilter,
+      onChange: (value: string) => { setUserTypeFilter(value); setPage(0); },
     },
   ];
 
@@ -375,34 +414,54 @@ export default function AdminUsersPage() {
       <div className="grid grid-cols-2 md:grid-cols-4 gap-4">
         <AdminStatsCard
           title="전체 사용자"
-          value={users.length}
+          value={counts.total}
           color="purple"
         />
         <AdminStatsCard
           title="활성 사용자"
-          value={users.filter(u => u.status === 'ACTIVE').length}
+          value={counts.active}
           color="green"
         />
         <AdminStatsCard
           title="탈퇴 사용자"
-          value={users.filter(u => u.status === 'WITHDRAWN').length}
+          value={counts.withdrawn}
           color="red"
         />
         <AdminStatsCard
           title="검색 결과"
-          value={filteredUsers.length}
+          value={totalElements}
           color="cyan"
         />
       </div>
 
       <AdminTable
         columns={columns}
-        data={filteredUsers}
+        data={users}
         keyExtractor={(user) => user.id}
         emptyMessage="사용자 데이터가 없습니다."
         loading={loading}
       />
 
+      {totalPages > 1 && (
+        <div className="flex justify-center items-center gap-4 text-sm">
+          <button
+            onClick={() => setPage(p => Math.max(0, p - 1))}
+            disabled={page === 0}
+            className="px-3 py-1 rounded bg-gray-600 hover:bg-gray-500 disabled:opacity-40"
+          >
+            이전
+          </button>
+          <span className="text-gray-300">{page + 1} / {totalPages}</span>
+          <button
+            onClick={() => setPage(p => Math.min(totalPages - 1, p + 1))}
+            disabled={page >= totalPages - 1}
+            className="px-3 py-1 rounded bg-gray-600 hover:bg-gray-500 disabled:opacity-40"
+          >
+            다음
+          </button>
+        </div>
+      )}
+
       {/* 모달들 */}
       {showReasonModal && (
         <AdminReasonModal
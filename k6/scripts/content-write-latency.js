@@ -0,0 +1,84 @@
+import http from 'k6/http';
+import { check } from 'k6';
+import { Trend } from 'k6/metrics';
+import { BASE_URL } from '../lib/config.js';
+
+// 게시글/댓글 작성 요청 지연 측정 (인증서 평가 비동기화 전/후 비교용)
+// 실행: k6 run -e ACCESS_TOKEN=<accessToken 쿠키 값> -e POST_ID=<댓글 대상 게시글 ID> k6/scripts/content-write-latency.js
+// 같은 스크립트를 변경 전/후 빌드에 각각 실행해 create_post_duration / create_comment_duration p95를 비교한다.
+// 전/후 측정 결과는 인증서 평가 비동기화 변경 범위에 포함하지 않으며, 측정 후 docs/PERFORMANCE.md에 별도로 추가한다.
+
+const createPostDuration = new Trend('create_post_duration', true);
+const createCommentDuration = new Trend('create_comment_duration', true);
+
+const ACCESS_TOKEN = __ENV.ACCESS_TOKEN;
+const POST_ID = Number(__ENV.POST_ID || 1);
+
+export const options = {
+  scenarios: {
+    // 시나리오 1: 게시글 작성 (FREE / IMAGE 번갈아)
+    create_post: {
+      executor: 'constant-vus',
+      vus: 5,
+      duration: '1m',
+      exec: 'createPostTest',
+    },
+    // 시나리오 2: 댓글 작성
+    create_comment: {
+      executor: 'constant-vus',
+      vus: 10,
+      duration: '1m',
+      startTime: '1m10s',
+      exec: 'createCommentTest',
+    },
+  },
+  thresholds: {
+    'create_post_duration': ['p(95)<300'],
+    'create_comment_duration': ['p(95)<150'],
+    'http_req_failed': ['rate<0.01'],
+  },
+};
+
+function params(scenario) {
+  return {
+    headers: { 'Content-Type': 'application/json' },
+    cookies: { accessToken: ACCESS_TOKEN },
+    tags: { scenario },
+  };
+}
+
+// 시나리오 1: 게시글 작성
+export function createPostTest() {
+  const category = __ITER % 2 === 0 ? 'FREE' : 'IMAGE';
+  const res = http.post(
+    `${BASE_URL}/api/member/posts`,
+    JSON.stringify({
+      title: `k6 부하 테스트 ${__VU}-${__ITER}`,
+      content: `k6 게시글 작성 지연 측정 본문 ${Date.now()}`,
+      category,
+      images: [],
+    }),
+    params('create_post')
+  );
+
+  createPostDuration.add(res.timings.duration);
+
+  check(res, {
+    '[게시글] status 200': (r) => r.status === 200,
+  });
+}
+
+// 시나리오 2: 댓글 작성
+export function createCommentTest() {
+  const res = http.post(
+    `${BASE_URL}/api/member/comments`,
+    JSON.stringify({ postId: POST_ID, content: `k6 댓글 ${__VU}-${__ITER}` }),
+    params('create_comment')
+  );
+
+  createCommentDuration.add(res.timings.duration);
+
+  check(res, {
+    '[댓글] status 200': (r) => r.status === 200,
+  });
+}
@@ -0,0 +1,105 @@
+import http from 'k6/http';
+import { check } from 'k6';
+import { Trend } from 'k6/metrics';
+import { BASE_URL, CACHED_CITIES, UNCACHED_COORDS } from '../lib/config.js';
+
+// 실행 모드(플랫폼 스레드 / 가상 스레드) 비교 부하 테스트
+// 실행 (같은 서버에서 모드만 바꿔 두 번):
+//   VIRTUAL_THREADS_ENABLED=false 로 기동 → k6 run -e MODE=platform -e POST_ID=<게시글 ID> --summary-export=platform.json k6/scripts/execution-mode.js
+//   VIRTUAL_THREADS_ENABLED=true  로 기동 → k6 run -e MODE=virtual  -e POST_ID=<게시글 ID> --summary-export=virtual.json  k6/scripts/execution-mode.js
+// - 캐시 히트(날씨/게시글 상세)와 블로킹 호출(날씨 캐시 미스 → OpenWeather, 게시글 목록 → DB)을 동시에 건다.
+// - 플랫폼 모드에서는 느린 외부 호출이 Tomcat 스레드를 점유해 캐시 히트 지연까지 늘어나는지가 관찰 대상이다.
+// - 고정 여부는 /actuator/metrics/jvm.threads.virtual.pinned 에서 확인한다 (측정 동안 0건이어야 함).
+
+const MODE = __ENV.MODE || 'platform';
+const POST_ID = Number(__ENV.POST_ID || 1);
+
+const weatherHitDuration = new Trend('weather_hit_duration', true);
+const weatherMissDuration = new Trend('weather_miss_duration', true);
+const postDetailDuration = new Trend('post_detail_duration', true);
+const postListDuration = new Trend('post_list_duration', true);
+
+export const options = {
+  tags: { mode: MODE },
+  scenarios: {
+    weather_hit: {
+      executor: 'constant-arrival-rate',
+      exec: 'weatherHit',
+      rate: 1000,
+      timeUnit: '1s',
+      duration: '2m',
+      preAllocatedVUs: 100,
+      maxVUs: 500,
+    },
+    weather_miss: {
+      executor: 'constant-arrival-rate',
+      exec: 'weatherMiss',
+      rate: 1,            // OpenWeather 무료 요금제 분당 60회 한도
+      timeUnit: '1s',
+      duration: '2m',
+      preAllocatedVUs: 10,
+      maxVUs: 50,
+    },
+    post_detail: {
+      executor: 'constant-arrival-rate',
+      exec: 'postDetail',
+      rate: 1000,
+      timeUnit: '1s',
+      duration: '2m',
+      preAllocatedVUs: 100,
+      maxVUs: 500,
+    },
+    post_list: {
+      executor: 'constant-arrival-rate',
+      exec: 'postList',
+      rate: 200,
+      timeUnit: '1s',
+      duration: '2m',
+      preAllocatedVUs: 50,
+      maxVUs: 300,
+    },
+  },
+  thresholds: {
+    'weather_hit_duration': ['p(95)<50'],
+    'post_detail_duration': ['p(95)<50'],
+    'http_req_failed{scenario:weather_hit}': ['rate<0.01'],
+    'http_req_failed{scenario:post_detail}': ['rate<0.01'],
+  },
+};
+
+export function weatherHit() {
+  const city = CACHED_CITIES[Math.floor(Math.random() * CACHED_CITIES.length)];
+  const res = http.get(`${BASE_URL}/api/weather/observation?latitude=${city.lat}&longitude=${city.lon}`,
+    { tags: { scenario: 'weather_hit' } });
+
+  weatherHitDuration.add(res.timings.duration);
+  check(res, { '[날씨 히트] status 200': (r) => r.status === 200 });
+}
+
+// 해상/산간 기준점 주변 10도 범위 임의 좌표 → 대부분 캐시 미스 (외부 API 호출)
+export function weatherMiss() {
+  const base = UNCACHED_COORDS[(__VU - 1) % UNCACHED_COORDS.length];
+  const lat = base.lat + Math.random() * 10 - 5;
+  const lon = base.lon + Math.random() * 10 - 5;
+  const res = http.get(`${BASE_URL}/api/weather/observation?latitude=${lat.toFixed(4)}&longitude=${lon.toFixed(4)}`,
+    { tags: { scenario: 'weather_miss' }, timeout: '30s' });
+
+  weatherMissDuration.add(res.timings.duration);
+  check(res, { '[날씨 미스] status 200': (r) => r.status === 200 });
+}
+
+export function postDetail() {
+  const res = http.get(`${BASE_URL}/api/public/posts/${POST_ID}`, { tags: { scenario: 'post_detail' } });
+
+  postDetailDuration.add(res.timings.duration);
+  check(res, { '[게시글 상세] status 200': (r) => r.status === 200 });
+}
+
+export function postList() {
+  const page = Math.floor(Math.random() * 20);
+  const res = http.get(`${BASE_URL}/api/public/posts?category=FREE&sort=recent&page=${page}&size=10`,
+    { tags: { scenario: 'post_list' } });
+
+  postListDuration.add(res.timings.duration);
+  check(res, { '[게시글 목록] status 200': (r) => r.status === 200 });
+}
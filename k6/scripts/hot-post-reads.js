@@ -0,0 +1,71 @@
+import http from 'k6/http';
+import { check } from 'k6';
+import { SharedArray } from 'k6/data';
+import { Counter, Trend } from 'k6/metrics';
+import { BASE_URL } from '../lib/config.js';
+
+// 인기 게시글 상세 조회 부하 테스트 (초당 2,000건 조회 + 초당 20건 추천)
+// 실행: k6 run -e TOKENS_FILE=./tokens.json -e POST_ID=<대상 게시글 ID> k6/scripts/hot-post-reads.js
+// - 비로그인/로그인 조회를 절반씩 섞어 likedByMe 판정(Redis 집합) 비용까지 측정한다.
+// - 추천이 섞여도 상세 캐시는 1초 단위로만 무효화되므로 조회 지연이 유지되어야 한다.
+// - 히트율은 /actuator/prometheus 의 cache_gets_total{cache="post.detail"} 에서 확인한다.
+
+const readDuration = new Trend('hot_post_read_duration', true);
+const readErrors = new Counter('hot_post_read_errors');
+
+const POST_ID = Number(__ENV.POST_ID || 1);
+const TOKENS = new SharedArray('tokens', () => JSON.parse(open(__ENV.TOKENS_FILE || './tokens.json')));
+
+export const options = {
+  scenarios: {
+    hot_post_reads: {
+      executor: 'constant-arrival-rate',
+      exec: 'read',
+      rate: 2000,
+      timeUnit: '1s',
+      duration: '1m',
+      preAllocatedVUs: 200,
+      maxVUs: 1000,
+    },
+    hot_post_likes: {
+      executor: 'constant-arrival-rate',
+      exec: 'like',
+      rate: 20,
+      timeUnit: '1s',
+      duration: '1m',
+      preAllocatedVUs: 10,
+      maxVUs: 50,
+    },
+  },
+  thresholds: {
+    'hot_post_read_duration': ['p(95)<50', 'p(99)<150'],
+    'checks{scenario:hot_post_reads}': ['rate>0.99'],
+  },
+};
+
+export function read() {
+  const params = { tags: { scenario: 'hot_post_reads' } };
+  if (__ITER % 2 === 0) {
+    params.cookies = { accessToken: TOKENS[(__VU * 100000 + __ITER) % TOKENS.length] };
+  }
+
+  const res = http.get(`${BASE_URL}/api/public/posts/${POST_ID}`, params);
+
+  readDuration.add(res.timings.duration);
+  if (res.status !== 200) {
+    readErrors.add(1);
+  }
+
+  check(res, {
+    '[상세] status 200': (r) => r.status === 200,
+    '[상세] 게시글 ID 일치': (r) => r.status === 200 && r.json('data.id') === POST_ID,
+  }, { scenario: 'hot_post_reads' });
+}
+
+export function like() {
+  const token = TOKENS[(__VU * 100000 + __ITER) % TOKENS.length];
+  http.post(`${BASE_URL}/api/member/posts/${POST_ID}/like`, null, {
+    cookies: { accessToken: token },
+    tags: { scenario: 'hot_post_likes' },
+  });
+}
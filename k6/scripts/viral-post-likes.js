@@ -0,0 +1,55 @@
+import http from 'k6/http';
+import { check } from 'k6';
+import { SharedArray } from 'k6/data';
+import { Counter, Trend } from 'k6/metrics';
+import { BASE_URL } from '../lib/config.js';
+
+// 인기 게시글 추천 폭주 부하 테스트 (초당 500건 추천)
+// 실행: k6 run -e TOKENS_FILE=./tokens.json -e POST_ID=<대상 게시글 ID> k6/scripts/viral-post-likes.js
+// - TOKENS_FILE: 서로 다른 사용자의 accessToken 쿠키 값 배열(JSON). 토큰 수보다 요청이 많으면 중복 추천(400)이 섞인다.
+// - 추천 처리 후 포인트/인증서 보상은 워커가 비동기 처리하므로, 테스트 종료 후 잠시 뒤
+//   게시글 likeCount와 작성자 포인트(추천 성공 수 x 2)가 일치하는지 확인한다.
+
+const likeDuration = new Trend('like_post_duration', true);
+const likeAccepted = new Counter('like_post_accepted');
+const likeDuplicate = new Counter('like_post_duplicate');
+
+const POST_ID = Number(__ENV.POST_ID || 1);
+const TOKENS = new SharedArray('tokens', () => JSON.parse(open(__ENV.TOKENS_FILE || './tokens.json')));
+
+export const options = {
+  scenarios: {
+    viral_post_likes: {
+      executor: 'constant-arrival-rate',
+      rate: 500,
+      timeUnit: '1s',
+      duration: '1m',
+      preAllocatedVUs: 200,
+      maxVUs: 1000,
+    },
+  },
+  thresholds: {
+    'like_post_duration': ['p(95)<100', 'p(99)<250'],
+    // 중복 추천(400)은 정상 응답으로 간주, 5xx/타임아웃만 실패로 집계
+    'checks': ['rate>0.99'],
+  },
+};
+
+export default function () {
+  const token = TOKENS[(__VU * 100000 + __ITER) % TOKENS.length];
+  const res = http.post(`${BASE_URL}/api/member/posts/${POST_ID}/like`, null, {
+    cookies: { accessToken: token },
+    tags: { scenario: 'viral_post_likes' },
+  });
+
+  likeDuration.add(res.timings.duration);
+  if (res.status === 200) {
+    likeAccepted.add(1);
+  } else if (res.status === 400) {
+    likeDuplicate.add(1);
+  }
+
+  check(res, {
+    '[추천] status 200 또는 중복 400': (r) => r.status === 200 || r.status === 400,
+  });
+}
@@ -0,0 +1,83 @@
+package com.byeolnight.benchmark;
+
+import com.byeolnight.entity.user.User;
+import com.byeolnight.infrastructure.security.JwtClaims;
+import com.byeolnight.infrastructure.security.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 필터의 토큰 처리 경로 처리량 비교
+ * - legacyDoubleParse: 기존 방식 (요청마다 파서 생성 + validate/getEmail로 서명 검증 2회)
+ * - singleParse: 공유 파서 + 1회 파싱 + 검증 캐시 (JwtTokenProvider.verify)
+ * - tokenSet=distinct: 10만 개 토큰 순환 (캐시 용량 초과 → 대부분 미스)
+ * - tokenSet=hot: 100개 토큰 반복 (캐시 히트)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "benchmarkSecretKeyForJWT1234567890123456";
+
+    @Param({"distinct", "hot"})
+    private String tokenSet;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private SecretKey key;
+    private String[] tokens;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 10_000, null);
+        key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+
+        int size = "hot".equals(tokenSet) ? 100 : 100_000;
+        tokens = new String[size];
+        for (int i = 0; i < size; i++) {
+            tokens[i] = jwtTokenProvider.createAccessToken(User.builder()
+                    .id((long) i + 1)
+                    .email("user" + i + "@test.com")
+                    .role(User.Role.USER)
+                    .build());
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+
+        String next(String[] tokens) {
+            String token = tokens[next];
+            next = (next + 1) % tokens.length;
+            return token;
+        }
+    }
+
+    @Benchmark
+    public String legacyDoubleParse(Cursor cursor) {
+        String token = cursor.next(tokens);
+        try {
+            Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+        Claims claims = Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+        return claims.getSubject();
+    }
+
+    @Benchmark
+    public String singleParse(Cursor cursor) {
+        return jwtTokenProvider.verify(cursor.next(tokens))
+                .map(JwtClaims::userId)
+                .map(String::valueOf)
+                .orElse(null);
+    }
+}
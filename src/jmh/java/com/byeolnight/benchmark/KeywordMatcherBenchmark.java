@@ -0,0 +1,118 @@
+package com.byeolnight.benchmark;
+
+import com.byeolnight.infrastructure.config.KeywordFilterProperties;
+import com.byeolnight.infrastructure.util.AhoCorasickMatcher;
+import com.byeolnight.infrastructure.util.AhoCorasickMatcher.MatchMode;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 후보 1건(제목 + 설명)의 키워드 필터 비용 비교 (기본 키워드 목록)
+ * - legacyNews / matcherNews: NewsContentValidator.isSpaceRelated (제외 목록 + 우주 목록 contains 루프)
+ * - legacyCinema / matcherCinema: CinemaService 음악/상업/드라마 제외 + 우주 키워드 집계 (짧은 키워드는 정규식 단어 경계)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class KeywordMatcherBenchmark {
+
+    private static final String[] TEXTS = {
+            "NASA 제임스 웹 우주망원경, 130억 광년 떨어진 은하에서 물 분자 발견 "
+                    + "The James Webb Space Telescope has detected water vapor in a galaxy more than 13 billion light-years away, "
+                    + "giving astronomers a new look at the early universe and the formation of the first stars.",
+            "SpaceX Starship fifth flight test: booster caught by the launch tower for the first time "
+                    + "스페이스X가 스타십 다섯 번째 시험 비행에서 슈퍼헤비 부스터를 발사탑 로봇팔로 붙잡는 데 성공했다. 화성 유인 탐사를 위한 핵심 기술이다.",
+            "[MV] 우주를 줄게 - 라이브 무대 풀버전 | 음악중심 Music Core 컴백 스페셜 "
+                    + "Official music video and live stage performance from this week's comeback show, lyrics included in the description.",
+            "Bitcoin hits record high as markets rally 비트코인이 사상 최고가를 경신하며 관련 주식과 코인 시장이 동반 상승했다. "
+                    + "Analysts say the rally reflects expectations of lower interest rates and institutional demand."
+    };
+
+    private List<String> newsSpace;
+    private List<String> newsExclude;
+    private List<String> cinemaExclude;
+    private List<String> cinemaSpace;
+
+    private AhoCorasickMatcher newsSpaceMatcher;
+    private AhoCorasickMatcher newsExcludeMatcher;
+    private AhoCorasickMatcher cinemaExcludeMatcher;
+    private AhoCorasickMatcher cinemaSpaceMatcher;
+
+    @Setup
+    public void setUp() {
+        KeywordFilterProperties properties = new KeywordFilterProperties();
+        newsSpace = properties.getNewsSpace();
+        newsExclude = properties.getNewsExclude();
+        cinemaExclude = new ArrayList<>(properties.getCinemaMusic());
+        cinemaExclude.addAll(properties.getCinemaCommercial());
+        cinemaExclude.addAll(properties.getCinemaDrama());
+        cinemaSpace = new ArrayList<>(properties.getCinemaSpaceKo());
+        cinemaSpace.addAll(properties.getCinemaSpaceEn());
+
+        newsSpaceMatcher = AhoCorasickMatcher.of(MatchMode.WORD, newsSpace);
+        newsExcludeMatcher = AhoCorasickMatcher.of(MatchMode.WORD, newsExclude);
+        cinemaExcludeMatcher = AhoCorasickMatcher.of(MatchMode.WORD, cinemaExclude);
+        cinemaSpaceMatcher = AhoCorasickMatcher.of(MatchMode.WORD, cinemaSpace);
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+
+        String next() {
+            String text = TEXTS[next];
+            next = (next + 1) % TEXTS.length;
+            return text;
+        }
+    }
+
+    @Benchmark
+    public boolean legacyNews(Cursor cursor) {
+        String content = cursor.next().toLowerCase();
+        for (String exclude : newsExclude) {
+            if (content.contains(exclude)) return false;
+        }
+        int keywordCount = 0;
+        for (String keyword : newsSpace) {
+            if (content.contains(keyword.toLowerCase())) keywordCount++;
+        }
+        return keywordCount >= 1;
+    }
+
+    @Benchmark
+    public boolean matcherNews(Cursor cursor) {
+        String content = cursor.next();
+        return !newsExcludeMatcher.containsAny(content) && newsSpaceMatcher.containsAny(content);
+    }
+
+    @Benchmark
+    public int legacyCinema(Cursor cursor) {
+        String content = cursor.next().toLowerCase();
+        for (String keyword : cinemaExclude) {
+            if (content.contains(keyword.toLowerCase())) return -1;
+        }
+        int count = 0;
+        for (String keyword : cinemaSpace) {
+            if (containsExactKeyword(content, keyword.toLowerCase())) count++;
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int matcherCinema(Cursor cursor) {
+        String content = cursor.next();
+        if (cinemaExcludeMatcher.containsAny(content)) return -1;
+        return cinemaSpaceMatcher.findAll(content).size();
+    }
+
+    // 기존 CinemaService.ContentValidator 로직
+    private static boolean containsExactKeyword(String text, String keyword) {
+        if (keyword.length() <= 2) {
+            return text.matches(".*\\b" + keyword + "\\b.*");
+        }
+        return text.contains(keyword);
+    }
+}
@@ -0,0 +1,124 @@
+package com.byeolnight.benchmark;
+
+import com.byeolnight.infrastructure.util.NearDuplicateIndex;
+import com.byeolnight.infrastructure.util.TitleMinHash;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 수집 후보 1건의 유사 중복 판정 비용 비교 (기존 제목 10만 건)
+ * - legacyPairwise: 기존 방식 (모든 제목과 단어 단위 O(n²) 비교)
+ * - indexLookup: MinHash + LSH 버킷 조회 후 후보만 Jaccard 확인
+ * - indexLoad: 저장된 서명으로 인덱스를 구성하는 비용 (수집 회차마다 1회)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NearDuplicateIndexBenchmark {
+
+    private static final int HISTORY = 100_000;
+    private static final double THRESHOLD = 0.7;
+    private static final String[] WORDS = {
+            "NASA", "SpaceX", "스타십", "화성", "탐사선", "제임스", "웹", "망원경", "은하", "블랙홀",
+            "발사", "성공", "실패", "궤도", "진입", "관측", "발견", "달", "착륙", "아르테미스",
+            "우주정거장", "혜성", "소행성", "충돌", "태양", "폭발", "탐사", "신호", "위성", "로켓",
+            "mars", "moon", "rover", "launch", "orbit", "telescope", "galaxy", "comet", "asteroid", "eclipse"
+    };
+
+    private String[] historyTitles;
+    private byte[][] historySignatures;
+    private String[] queries;
+    private NearDuplicateIndex index;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        historyTitles = new String[HISTORY];
+        historySignatures = new byte[HISTORY][];
+        for (int i = 0; i < HISTORY; i++) {
+            historyTitles[i] = randomTitle(random) + " " + i;
+            historySignatures[i] = TitleMinHash.toBytes(TitleMinHash.signature(historyTitles[i]));
+        }
+        queries = new String[256];
+        for (int i = 0; i < queries.length; i++) {
+            queries[i] = i % 2 == 0
+                    ? historyTitles[random.nextInt(HISTORY)] + "!"
+                    : randomTitle(random);
+        }
+        index = indexLoad();
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int next;
+
+        String next(String[] queries) {
+            String query = queries[next];
+            next = (next + 1) % queries.length;
+            return query;
+        }
+    }
+
+    @Benchmark
+    public boolean legacyPairwise(Cursor cursor) {
+        String newTitle = normalize(cursor.next(queries));
+        for (String title : historyTitles) {
+            if (calculateSimilarity(newTitle, normalize(title)) > THRESHOLD) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Benchmark
+    public boolean indexLookup(Cursor cursor) {
+        return index.findSimilar(cursor.next(queries)).isPresent();
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public NearDuplicateIndex indexLoad() {
+        NearDuplicateIndex loaded = new NearDuplicateIndex(THRESHOLD);
+        for (int i = 0; i < HISTORY; i++) {
+            loaded.add(historyTitles[i], TitleMinHash.fromBytes(historySignatures[i]));
+        }
+        return loaded;
+    }
+
+    private static String randomTitle(Random random) {
+        StringBuilder title = new StringBuilder();
+        int words = 5 + random.nextInt(5);
+        for (int i = 0; i < words; i++) {
+            if (i > 0) title.append(' ');
+            title.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return title.toString();
+    }
+
+    // 기존 NewsContentValidator 비교 로직
+    private static String normalize(String title) {
+        return title.toLowerCase()
+                .replaceAll("[^\\w\\s가-힣]", "")
+                .replaceAll("\\s+", " ")
+                .trim();
+    }
+
+    private static double calculateSimilarity(String title1, String title2) {
+        String[] words1 = title1.split("\\s+");
+        String[] words2 = title2.split("\\s+");
+
+        int commonWords = 0;
+        for (String word1 : words1) {
+            for (String word2 : words2) {
+                if (word1.equals(word2) && word1.length() > 2) {
+                    commonWords++;
+                    break;
+                }
+            }
+        }
+        return (double) commonWords / Math.max(words1.length, words2.length);
+    }
+}
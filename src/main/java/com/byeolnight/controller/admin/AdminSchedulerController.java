@@ -7,10 +7,11 @@ import com.byeolnight.service.discussion.DiscussionTopicScheduler;
 import com.byeolnight.service.PostCleanupScheduler;
 import com.byeolnight.service.message.MessageCleanupService;
 import com.byeolnight.service.user.WithdrawnUserCleanupService;
-import com.byeolnight.repository.MessageRepository;
-import com.byeolnight.repository.post.PostRepository;
-import com.byeolnight.repository.user.UserRepository;
-import com.byeolnight.entity.user.User;
+import com.byeolnight.service.retention.ExpiredCommentRetentionPolicy;
+import com.byeolnight.service.retention.ExpiredMessageRetentionPolicy;
+import com.byeolnight.service.retention.ExpiredPostRetentionPolicy;
+import com.byeolnight.service.retention.RetentionExecutor;
+import com.byeolnight.service.retention.WithdrawnUserRetentionPolicy;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -20,8 +21,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.time.LocalDateTime;
-
 @RestController
 @RequestMapping("/api/admin/scheduler")
 @RequiredArgsConstructor
@@ -35,9 +34,11 @@ public class AdminSchedulerController {
     private final PostCleanupScheduler postCleanupScheduler;
     private final MessageCleanupService messageCleanupService;
     private final WithdrawnUserCleanupService withdrawnUserCleanupService;
-    private final MessageRepository messageRepository;
-    private final PostRepository postRepository;
-    private final UserRepository userRepository;
+    private final RetentionExecutor retentionExecutor;
+    private final ExpiredMessageRetentionPolicy expiredMessageRetentionPolicy;
+    private final ExpiredPostRetentionPolicy expiredPostRetentionPolicy;
+    private final ExpiredCommentRetentionPolicy expiredCommentRetentionPolicy;
+    private final WithdrawnUserRetentionPolicy withdrawnUserRetentionPolicy;
 
     @PostMapping("/news/manual")
     @Operation(
@@ -82,24 +83,18 @@ public class AdminSchedulerController {
     @GetMapping("/status")
     @Operation(
         summary = "스케줄러 상태 조회",
-        description = "스케줄러 작업들의 대상 데이터 개수를 조회합니다."
+        description = "스케줄러 작업들의 대상 데이터 개수와 보존기간 정리 작업의 마지막 실행 결과를 조회합니다."
     )
     @ApiResponse(responseCode = "200", description = "스케줄러 상태 조회 성공")
     public CommonResponse<SchedulerStatusDto> getSchedulerStatus() {
         try {
-            int messagesToDelete = messageRepository.findMessagesEligibleForPermanentDeletion().size();
-            
-            LocalDateTime threshold = LocalDateTime.now().minusDays(30);
-            int postsToDelete = postRepository.findExpiredDeletedPosts(threshold).size();
-
-            LocalDateTime twoYearsAgo = LocalDateTime.now().minusYears(2);
-            int usersToCleanup = userRepository.findByWithdrawnAtBeforeAndStatusIn(
-                twoYearsAgo, java.util.List.of(User.UserStatus.WITHDRAWN, User.UserStatus.BANNED)).size();
-            
+            // 대상 데이터는 COUNT 쿼리로만 집계 (엔티티 로딩 없음)
             SchedulerStatusDto status = SchedulerStatusDto.builder()
-                .messagesToDelete(messagesToDelete)
-                .postsToDelete(postsToDelete)
-                .usersToCleanup(usersToCleanup)
+                .messagesToDelete((int) expiredMessageRetentionPolicy.countExpired())
+                .postsToDelete((int) expiredPostRetentionPolicy.countExpired())
+                .commentsToDelete((int) expiredCommentRetentionPolicy.countExpired())
+                .usersToCleanup((int) withdrawnUserRetentionPolicy.countExpired())
+                .lastRuns(retentionExecutor.getLastResults())
                 .build();
             
             return CommonResponse.success(status);
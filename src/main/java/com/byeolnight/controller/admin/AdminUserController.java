@@ -4,26 +4,33 @@ import com.byeolnight.dto.admin.IpBlockRequestDto;
 import com.byeolnight.dto.admin.NicknameDebugDto;
 import com.byeolnight.dto.admin.UserStatusChangeRequestDto;
 import com.byeolnight.dto.admin.PointAwardRequestDto;
-import com.byeolnight.dto.user.UserSummaryDto;
+import com.byeolnight.dto.user.UserDirectoryCondition;
+import com.byeolnight.dto.user.UserDirectoryDto;
 import com.byeolnight.entity.user.User;
 import com.byeolnight.service.auth.SocialAccountCleanupService;
 import com.byeolnight.service.user.PointService;
 import com.byeolnight.service.user.UserAccountService;
 import com.byeolnight.service.user.UserAdminService;
+import com.byeolnight.service.user.UserDirectoryExporter;
 import com.byeolnight.service.user.WithdrawnUserCleanupService;
 import io.swagger.v3.oas.annotations.Operation;
-import io.swagger.v3.oas.annotations.media.Content;
-import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
@@ -37,24 +44,39 @@ import java.util.stream.Collectors;
 @Tag(name = "👮 관리자 API - 사용자", description = "사용자 관리 및 제재 관련 API")
 public class AdminUserController {
 
+    private static final int SIMILAR_NICKNAME_LIMIT = 20;
+
     private final UserAdminService userAdminService;
     private final UserAccountService userAccountService;
     private final StringRedisTemplate redisTemplate;
     private final PointService pointService;
     private final WithdrawnUserCleanupService withdrawnUserCleanupService;
     private final SocialAccountCleanupService socialAccountCleanupService;
+    private final UserDirectoryExporter userDirectoryExporter;
 
-    @Operation(summary = "전체 사용자 요약 조회", description = "관리자 권한으로 전체 사용자 목록을 조회합니다.")
-    @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "조회 성공",
-                    content = @Content(schema = @Schema(implementation = UserSummaryDto.class))),
-            @ApiResponse(responseCode = "403", description = "권한 없음", content = @Content)
-    })
+    @Operation(summary = "사용자 디렉터리 조회", description = "상태/권한/소셜 제공자/가입일/키워드 조건으로 사용자를 페이지 단위로 조회합니다. 권한 미지정 시 관리자는 제외됩니다.")
     @PreAuthorize("hasRole('ADMIN')")
-    @GetMapping("/users")
-    public ResponseEntity<List<UserSummaryDto>> getAllUsers() {
-        List<UserSummaryDto> users = userAdminService.getAllUserSummaries();
-        return ResponseEntity.ok(users);
+    @GetMapping("/users/directory")
+    public ResponseEntity<Page<UserDirectoryDto>> getUserDirectory(
+            @ModelAttribute UserDirectoryCondition condition,
+            @PageableDefault(size = 50) Pageable pageable) {
+        return ResponseEntity.ok(userAdminService.getUserDirectory(condition, pageable));
+    }
+
+    @Operation(summary = "사용자 목록 내보내기", description = "디렉터리 조건에 맞는 전체 사용자를 CSV 또는 NDJSON으로 스트리밍합니다.")
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/users/export")
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+            @ModelAttribute UserDirectoryCondition condition,
+            @RequestParam(defaultValue = "csv") String format) {
+        UserDirectoryExporter.Format exportFormat = UserDirectoryExporter.Format.from(format);
+        String filename = "users-" + LocalDate.now() + "." + exportFormat.extension();
+
+        StreamingResponseBody body = out -> userDirectoryExporter.export(condition, exportFormat, out);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .contentType(MediaType.parseMediaType(exportFormat.contentType() + ";charset=UTF-8"))
+                .body(body);
     }
 
     @Operation(summary = "사용자 계정 잠금", description = "관리자 권한으로 특정 사용자의 계정을 잠금 처리합니다.")
@@ -237,12 +259,8 @@ public class AdminUserController {
     public ResponseEntity<com.byeolnight.infrastructure.common.CommonResponse<NicknameDebugDto>> debugNickname(
             @PathVariable String nickname) {
 
-        // 데이터베이스에서 비슷한 닉네임들 찾기
-        java.util.List<String> similarNicknames = userAdminService.getAllUserSummaries().stream()
-                .map(UserSummaryDto::getNickname)
-                .filter(n -> n.toLowerCase().contains(nickname.toLowerCase()) ||
-                           nickname.toLowerCase().contains(n.toLowerCase()))
-                .collect(java.util.stream.Collectors.toList());
+        // 데이터베이스에서 비슷한 닉네임들 찾기 (LIKE 부분 일치)
+        List<String> similarNicknames = userAdminService.findSimilarNicknames(nickname, SIMILAR_NICKNAME_LIMIT);
 
         NicknameDebugDto result = NicknameDebugDto.builder()
                 .inputNickname(nickname)
@@ -5,10 +5,8 @@ import com.byeolnight.dto.user.LoginRequestDto;
 import com.byeolnight.dto.user.TokenResponseDto;
 
 import com.byeolnight.dto.user.WithdrawRequestDto;
-import com.byeolnight.entity.log.AuditRefreshTokenLog;
 import com.byeolnight.entity.token.PasswordResetToken;
 import com.byeolnight.entity.user.User;
-import com.byeolnight.repository.log.AuditRefreshTokenLogRepository;
 import com.byeolnight.dto.user.UserSignUpRequestDto;
 import com.byeolnight.dto.auth.*;
 import com.byeolnight.service.auth.SocialAccountCleanupService;
@@ -21,6 +19,7 @@ import com.byeolnight.service.auth.TokenService;
 import com.byeolnight.service.auth.EmailAuthService;
 import com.byeolnight.service.auth.PasswordResetService;
 import com.byeolnight.service.certificate.CertificateService;
+import com.byeolnight.service.log.AuditLogWriter;
 import com.byeolnight.service.user.UserAccountService;
 import com.byeolnight.service.user.UserQueryService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -56,8 +55,8 @@ public class AuthController {
     private final EmailAuthService emailAuthService;
     private final PasswordResetService passwordResetService;
     private final CertificateService certificateService;
-    private final AuditRefreshTokenLogRepository auditRefreshTokenLogRepository;
     private final SocialAccountCleanupService socialAccountCleanupService;
+    private final AuditLogWriter auditLogWriter;
 
 
     @PostMapping("/login")
@@ -107,8 +106,8 @@ public class AuthController {
                 throw new IllegalArgumentException("해당 사용자를 찾을 수 없습니다.");
             }
 
-            auditRefreshTokenLogRepository.save(AuditRefreshTokenLog.of(user.getEmail(), 
-                    IpUtil.getClientIp(request), request.getHeader("User-Agent")));
+            auditLogWriter.refresh(user.getEmail(), 
+                    IpUtil.getClientIp(request), request.getHeader("User-Agent"));
 
             String newAccessToken = jwtTokenProvider.createAccessToken(user);
             String newRefreshToken = jwtTokenProvider.createRefreshToken(user);
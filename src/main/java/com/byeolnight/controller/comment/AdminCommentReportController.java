@@ -10,6 +10,9 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -26,12 +29,11 @@ public class AdminCommentReportController {
 
     private final CommentReportService commentReportService;
 
-    @Operation(summary = "신고된 댓글 목록 조회", description = "관리자가 신고된 댓글 목록을 조회합니다.")
+    @Operation(summary = "신고된 댓글 목록 조회", description = "관리자가 신고된 댓글 목록을 신고 수 많은 순으로 페이지 단위 조회합니다. (totalElements: 신고된 댓글 전체 수)")
     @PreAuthorize("hasRole('ADMIN')")
     @GetMapping("/comments/reported")
-    public ResponseEntity<List<CommentReportDto>> getReportedComments() {
-        List<CommentReportDto> reportedComments = commentReportService.getReportedComments();
-        return ResponseEntity.ok(reportedComments);
+    public ResponseEntity<Page<CommentReportDto>> getReportedComments(@PageableDefault(size = 20) Pageable pageable) {
+        return ResponseEntity.ok(commentReportService.getReportedComments(pageable));
     }
 
     @Operation(summary = "대기 중인 댓글 신고 목록 조회", description = "관리자가 처리되지 않은 댓글 신고 목록을 조회합니다.")
@@ -7,6 +7,7 @@ import com.byeolnight.infrastructure.common.CommonResponse;
 import com.byeolnight.infrastructure.util.IpUtil;
 import com.byeolnight.service.file.CloudFrontService;
 import com.byeolnight.service.file.FileUploadRateLimitService;
+import com.byeolnight.service.file.ImageModerationService;
 import com.byeolnight.service.file.S3Service;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -26,16 +27,19 @@ public class FileController {
     private final S3Service s3Service;
     private final CloudFrontService cloudFrontService;
     private final FileUploadRateLimitService rateLimitService;
+    private final ImageModerationService imageModerationService;
     private final String cloudFrontDomain;
 
     public FileController(
             S3Service s3Service,
             CloudFrontService cloudFrontService,
             FileUploadRateLimitService rateLimitService,
+            ImageModerationService imageModerationService,
             @Value("${cloud.aws.cloudfront.domain}") String cloudFrontDomain) {
         this.s3Service = s3Service;
         this.cloudFrontService = cloudFrontService;
         this.rateLimitService = rateLimitService;
+        this.imageModerationService = imageModerationService;
         this.cloudFrontDomain = cloudFrontDomain;
     }
 
@@ -92,7 +96,7 @@ public class FileController {
         }
     }
 
-    @Operation(summary = "URL 기반 이미지 검열", description = "업로드된 이미지의 URL을 기반으로 검열합니다. 부적절한 이미지는 자동으로 삭제됩니다.")
+    @Operation(summary = "URL 기반 이미지 검열 요청", description = "업로드된 이미지의 검열을 요청합니다. 검열은 비동기로 진행되며 결과는 moderation-status로 조회합니다. 부적절한 이미지는 자동으로 삭제됩니다.")
     @PostMapping("/moderate-url")
     public ResponseEntity<CommonResponse<ModerationResultDto>> moderateUrl(
             @RequestParam("imageUrl") String imageUrl,
@@ -100,80 +104,44 @@ public class FileController {
             HttpServletRequest request) {
 
         String clientIp = IpUtil.getClientIp(request);
-        String userAgent = request.getHeader("User-Agent");
 
-        try {
-            log.info("URL 기반 이미지 검열 시작: s3Key={}, imageUrl={}, clientIp={}, userAgent={}",
-                    s3Key, imageUrl, clientIp, userAgent);
+        // URL 유효성 검사
+        if (imageUrl == null || imageUrl.trim().isEmpty()) {
+            log.warn("이미지 검열 실패: URL 누락 - clientIp={}, s3Key={}", clientIp, s3Key);
+            return ResponseEntity.badRequest().body(CommonResponse.error("이미지 URL이 필요합니다."));
+        }
 
-            // URL 유효성 검사
-            if (imageUrl == null || imageUrl.trim().isEmpty()) {
-                log.warn("이미지 검열 실패: URL 누락 - clientIp={}, s3Key={}", clientIp, s3Key);
-                return ResponseEntity.badRequest().body(CommonResponse.error("이미지 URL이 필요합니다."));
-            }
+        // S3 키 유효성 검사
+        if (s3Key == null || s3Key.trim().isEmpty()) {
+            log.warn("이미지 검열 실패: S3 키 누락 - clientIp={}, imageUrl={}", clientIp, imageUrl);
+            return ResponseEntity.badRequest().body(CommonResponse.error("S3 키가 필요합니다."));
+        }
 
-            // S3 키 유효성 검사
-            if (s3Key == null || s3Key.trim().isEmpty()) {
-                log.warn("이미지 검열 실패: S3 키 누락 - clientIp={}, imageUrl={}", clientIp, imageUrl);
-                return ResponseEntity.badRequest().body(CommonResponse.error("S3 키가 필요합니다."));
-            }
+        // CloudFront URL만 허용 (SSRF 방지)
+        if (!isCloudFrontUrl(imageUrl)) {
+            log.warn("이미지 검열 실패: 허용되지 않는 URL - clientIp={}, imageUrl={}", clientIp, imageUrl);
+            return ResponseEntity.badRequest().body(CommonResponse.error("허용되지 않는 URL입니다. CloudFront URL만 사용 가능합니다."));
+        }
 
-            // 이미지 즉시 검증 (비동기적으로 처리하지 않고 즉시 결과 반환)
-            try {
-                // CloudFront URL만 허용 (SSRF 방지)
-                if (!isCloudFrontUrl(imageUrl)) {
-                    throw new SecurityException("허용되지 않는 URL입니다. CloudFront URL만 사용 가능합니다.");
-                }
-
-                // 이미지 다운로드
-                java.net.URL url = new java.net.URL(imageUrl);
-                java.io.InputStream inputStream = url.openStream();
-                byte[] imageBytes = inputStream.readAllBytes();
-                inputStream.close();
-
-                // 검사
-                boolean isSafe = s3Service.validateUploadedImage(imageBytes);
-                log.info("이미지 검사 결과: {} -> {}", imageUrl, isSafe ? "안전" : "부적절");
-
-                // 부적절한 경우 삭제
-                if (!isSafe) {
-                    log.warn("부적절한 이미지 감지: {} - 자동 삭제 시작", s3Key);
-                    s3Service.deleteObject(s3Key);
-                    log.info("부적절한 이미지 삭제 완료: {}", s3Key);
-
-                    return ResponseEntity.ok(CommonResponse.success(
-                            ModerationResultDto.completed(false, "부적절한 이미지가 감지되어 삭제되었습니다.")
-                    ));
-                }
-
-                // 안전한 이미지인 경우
-                return ResponseEntity.ok(CommonResponse.success(
-                        ModerationResultDto.completed(true, "이미지 검증이 완료되었습니다.")
-                ));
-
-            } catch (Exception e) {
-                log.error("이미지 검증 실패: imageUrl={}, s3Key={}, clientIp={}, error={}",
-                        imageUrl, s3Key, clientIp, e.getMessage(), e);
-                // 오류 발생 시 S3에서 이미지 삭제
-                try {
-                    s3Service.deleteObject(s3Key);
-                    log.info("검증 실패한 이미지 삭제 완료: s3Key={}, clientIp={}", s3Key, clientIp);
-                } catch (Exception ex) {
-                    log.error("이미지 삭제 실패: s3Key={}, clientIp={}, deleteError={}", s3Key, clientIp, ex.getMessage(), ex);
-                }
-
-                return ResponseEntity.ok(CommonResponse.success(
-                        ModerationResultDto.error("이미지 검증 중 오류가 발생했습니다.")
-                ));
-            }
+        try {
+            log.info("이미지 검열 요청: s3Key={}, clientIp={}", s3Key, clientIp);
+            return ResponseEntity.ok(CommonResponse.success(imageModerationService.requestModeration(s3Key)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(CommonResponse.error(e.getMessage()));
         } catch (Exception e) {
-            log.error("URL 기반 이미지 검열 오류: s3Key={}, imageUrl={}, clientIp={}, error={}",
-                    s3Key, imageUrl, clientIp, e.getMessage(), e);
+            log.error("이미지 검열 요청 오류: s3Key={}, clientIp={}, error={}", s3Key, clientIp, e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(CommonResponse.error(
                 "이미지 검열 중 오류가 발생했습니다: " + e.getMessage()
             ));
         }
     }
+
+    @Operation(summary = "이미지 검열 결과 조회", description = "검열 상태를 조회합니다. status가 pending이면 잠시 후 다시 조회합니다.")
+    @GetMapping("/moderation-status")
+    public ResponseEntity<CommonResponse<ModerationResultDto>> getModerationStatus(
+            @RequestParam("s3Key") String s3Key) {
+        return ResponseEntity.ok(CommonResponse.success(imageModerationService.getResult(s3Key)));
+    }
     
     @Operation(summary = "S3 이미지 삭제", description = "S3에 업로드된 이미지를 삭제합니다.")
     @DeleteMapping("/delete")
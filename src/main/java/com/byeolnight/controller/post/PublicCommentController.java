@@ -1,6 +1,7 @@
 package com.byeolnight.controller.post;
 
 import com.byeolnight.service.comment.CommentService;
+import com.byeolnight.dto.comment.CommentPageDto;
 import com.byeolnight.dto.comment.CommentResponseDto;
 import com.byeolnight.infrastructure.common.CommonResponse;
 import io.swagger.v3.oas.annotations.Operation;
@@ -31,4 +32,25 @@ public class PublicCommentController {
         log.debug("반환할 댓글 수: {}", comments.size());
         return ResponseEntity.ok(CommonResponse.success(comments));
     }
+
+    @Operation(summary = "게시글 댓글 페이지 조회", description = "루트 댓글을 커서 기반으로 페이지 조회하고, 각 루트 댓글의 답글 일부를 함께 반환합니다. 첫 페이지에는 인기 댓글 TOP3가 포함됩니다.")
+    @ApiResponse(responseCode = "200", description = "댓글 페이지 반환")
+    @GetMapping("/post/{postId}/page")
+    public ResponseEntity<CommonResponse<CommentPageDto>> getPageByPost(
+            @PathVariable Long postId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "3") int replySize) {
+        return ResponseEntity.ok(CommonResponse.success(commentService.getPageByPostId(postId, cursor, size, replySize, null)));
+    }
+
+    @Operation(summary = "답글 더보기", description = "루트 댓글의 답글(답글의 답글 포함)을 커서 기반으로 조회합니다.")
+    @ApiResponse(responseCode = "200", description = "답글 목록 반환")
+    @GetMapping("/{commentId}/replies")
+    public ResponseEntity<CommonResponse<CommentPageDto.Replies>> getReplies(
+            @PathVariable Long commentId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(CommonResponse.success(commentService.getReplies(commentId, cursor, size, null)));
+    }
 }
\ No newline at end of file
@@ -10,10 +10,14 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -26,18 +30,15 @@ public class StellaShopController {
 
     private final StellaShopService stellaShopService;
 
-    @Operation(summary = "스텔라 상점 아이콘 목록 조회 (공개)")
+    @Operation(summary = "스텔라 상점 아이콘 목록 조회 (공개)",
+            description = "카탈로그 버전과 보유 아이콘으로 만든 ETag를 내려주며, If-None-Match가 일치하면 304를 반환합니다.")
     @GetMapping("/api/public/shop/icons")
     public ResponseEntity<CommonResponse<List<StellaIconDto>>> getShopIcons(
-            @AuthenticationPrincipal User user) {
-        
-        log.info("아이콘 목록 요청 - 사용자: {}", user != null ? user.getNickname() : "null");
-        
+            @AuthenticationPrincipal User user, WebRequest webRequest) {
+
         try {
             List<StellaIcon> shopIcons = stellaShopService.getShopIcons();
-            log.info("상점 아이콘 조회 - 사용자: {}, 아이콘 수: {}", 
-                    user != null ? user.getNickname() : "anonymous", shopIcons.size());
-            
+
             // 빈 리스트일 때 기본 데이터 초기화
             if (shopIcons.isEmpty()) {
                 log.warn("아이콘 데이터가 비어있음. 기본 데이터 초기화 시도");
@@ -45,24 +46,38 @@ public class StellaShopController {
                 shopIcons = stellaShopService.getShopIcons();
                 log.info("기본 데이터 초기화 후 아이콘 수: {}", shopIcons.size());
             }
-            
-            Set<Long> ownedIconIds = user != null ? 
-                stellaShopService.getUserIcons(user).stream()
-                    .map(userIcon -> userIcon.getStellaIcon().getId())
-                    .collect(Collectors.toSet()) : Set.of();
-            
+
+            Set<Long> ownedIconIds = user != null ? stellaShopService.getOwnedIconIds(user) : Set.of();
+
+            // 보유 여부가 사용자마다 다르므로 카탈로그 버전 + 보유 아이콘 해시로 ETag 구성
+            String eTag = catalogETag(ownedIconIds);
+            if (webRequest.checkNotModified(eTag)) {
+                return null;
+            }
+
             List<StellaIconDto> iconDtos = shopIcons.stream()
                     .map(icon -> StellaIconDto.from(icon, ownedIconIds.contains(icon.getId())))
                     .toList();
-            
-            log.info("아이콘 DTO 변환 완료 - DTO 수: {}", iconDtos.size());
-            return ResponseEntity.ok(CommonResponse.success(iconDtos));
+
+            return ResponseEntity.ok()
+                    .eTag(eTag)
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .body(CommonResponse.success(iconDtos));
         } catch (Exception e) {
             log.error("아이콘 목록 조회 중 오류 발생", e);
             return ResponseEntity.ok(CommonResponse.error("아이콘 목록 조회 실패: " + e.getMessage()));
         }
     }
 
+    private String catalogETag(Set<Long> ownedIconIds) {
+        String owned = ownedIconIds.stream()
+                .sorted()
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+        String ownedHash = DigestUtils.md5DigestAsHex(owned.getBytes(StandardCharsets.UTF_8)).substring(0, 12);
+        return "\"" + stellaShopService.getCatalogVersion() + "-" + ownedHash + "\"";
+    }
+
     @Operation(summary = "스텔라 아이콘 구매 (로그인 필요)")
     @PostMapping("/api/member/shop/purchase/{iconId}")
     public ResponseEntity<CommonResponse<String>> purchaseIcon(
@@ -0,0 +1,9 @@
+package com.byeolnight.dto.admin;
+
+import java.time.LocalDateTime;
+
+/**
+ * 신고 대상(게시글/댓글)별 집계 결과 - GROUP BY 쿼리 projection
+ */
+public record ReportedTargetSummary(Long targetId, Long reportCount, LocalDateTime latestReportedAt) {
+}
@@ -1,10 +1,13 @@
 package com.byeolnight.dto.admin;
 
+import com.byeolnight.service.retention.RetentionResult;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.Map;
+
 @Getter
 @Builder
 @NoArgsConstructor
@@ -12,5 +15,7 @@ import lombok.NoArgsConstructor;
 public class SchedulerStatusDto {
     private Integer messagesToDelete;
     private Integer postsToDelete;
+    private Integer commentsToDelete;
     private Integer usersToCleanup;
+    private Map<String, RetentionResult> lastRuns; // 정책별 마지막 정리 실행 결과
 }
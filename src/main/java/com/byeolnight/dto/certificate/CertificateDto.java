@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.io.Serializable;
 import java.time.LocalDateTime;
 
 public class CertificateDto {
@@ -13,7 +14,7 @@ public class CertificateDto {
     @Builder
     @NoArgsConstructor
     @AllArgsConstructor
-    public static class Response {
+    public static class Response implements Serializable {
         private Long id;
         private String title;
         private String description;
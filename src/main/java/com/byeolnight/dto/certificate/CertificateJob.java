@@ -0,0 +1,56 @@
+package com.byeolnight.dto.certificate;
+
+import com.byeolnight.service.certificate.CertificateService.CertificateCheckType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * 인증서 평가 작업 DTO
+ * - Redis 큐에서 사용
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CertificateJob implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long userId;
+    private CertificateCheckType checkType;
+    private Integer totalPoints; // POINT_ACHIEVEMENT 전용
+
+    @Builder.Default
+    private int attempt = 0;
+
+    private String createdAt;
+    private String errorMessage;
+
+    public static CertificateJob of(Long userId, CertificateCheckType checkType, Integer totalPoints) {
+        return CertificateJob.builder()
+                .userId(userId)
+                .checkType(checkType)
+                .totalPoints(totalPoints)
+                .createdAt(Instant.now().toString())
+                .build();
+    }
+
+    /**
+     * attempt 증가 및 오류 정보 업데이트
+     */
+    public CertificateJob withRetry(String errorMessage) {
+        return CertificateJob.builder()
+                .userId(this.userId)
+                .checkType(this.checkType)
+                .totalPoints(this.totalPoints)
+                .attempt(this.attempt + 1)
+                .createdAt(this.createdAt)
+                .errorMessage(errorMessage)
+                .build();
+    }
+}
@@ -0,0 +1,41 @@
+package com.byeolnight.dto.comment;
+
+import java.util.List;
+
+/**
+ * 게시글 댓글 페이지 응답 (루트 댓글 keyset 페이지 + 루트별 답글 미리보기)
+ *
+ * @param comments       루트 댓글과 답글 미리보기
+ * @param popularComments 인기 댓글 TOP3 (첫 페이지에서만 포함)
+ * @param nextCursor     다음 페이지 조회용 커서 (마지막 루트 댓글 id)
+ */
+public record CommentPageDto(
+        List<RootComment> comments,
+        List<CommentResponseDto> popularComments,
+        Long nextCursor,
+        boolean hasNext
+) {
+
+    /**
+     * @param replies          답글 미리보기 (id 오름차순)
+     * @param replyCount       전체 답글 수 (답글의 답글 포함)
+     * @param nextReplyCursor  "답글 더보기" 커서 (더 없으면 null)
+     */
+    public record RootComment(
+            CommentResponseDto comment,
+            List<CommentResponseDto> replies,
+            int replyCount,
+            Long nextReplyCursor
+    ) {
+    }
+
+    /**
+     * 답글 더보기 응답
+     */
+    public record Replies(
+            List<CommentResponseDto> replies,
+            Long nextCursor,
+            boolean hasNext
+    ) {
+    }
+}
@@ -8,9 +8,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 @Getter
@@ -78,17 +76,4 @@ public class CommentReportDto {
                 .reportDetails(reportDetails)
                 .build();
     }
-
-    public static List<CommentReportDto> fromCommentReports(Map<Comment, List<CommentReport>> commentReportsMap) {
-        List<CommentReportDto> result = new ArrayList<>();
-        
-        for (Map.Entry<Comment, List<CommentReport>> entry : commentReportsMap.entrySet()) {
-            Comment comment = entry.getKey();
-            List<CommentReport> reports = entry.getValue();
-            
-            result.add(from(comment, reports));
-        }
-        
-        return result;
-    }
-}
\ No newline at end of file
+}
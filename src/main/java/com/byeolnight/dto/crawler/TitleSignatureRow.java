@@ -0,0 +1,9 @@
+package com.byeolnight.dto.crawler;
+
+/**
+ * 유사 중복 인덱스 로드용 프로젝션 (제목, 저장된 MinHash 서명)
+ */
+public record TitleSignatureRow(
+        String title,
+        byte[] titleMinHash
+) {}
@@ -0,0 +1,19 @@
+package com.byeolnight.dto.external.openai;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * OpenAI 응답 캐시 항목 (캐시 적중 시 절약한 토큰/비용 집계용으로 사용량도 함께 저장)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OpenAiCachedCompletion implements Serializable {
+    private String content;
+    private int promptTokens;
+    private int completionTokens;
+}
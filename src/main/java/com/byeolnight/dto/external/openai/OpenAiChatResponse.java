@@ -9,6 +9,7 @@ import java.util.List;
 @NoArgsConstructor
 public class OpenAiChatResponse {
     private List<OpenAiChoice> choices;
+    private OpenAiUsage usage;
 
     public String getFirstContent() {
         if (choices != null && !choices.isEmpty()) {
@@ -0,0 +1,17 @@
+package com.byeolnight.dto.external.openai;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OpenAiUsage {
+    @JsonProperty("prompt_tokens")
+    private int promptTokens;
+
+    @JsonProperty("completion_tokens")
+    private int completionTokens;
+}
@@ -0,0 +1,12 @@
+package com.byeolnight.dto.external.youtube;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+public class YouTubeContentDetails {
+    private String duration;
+    private String definition;
+    private String caption;
+}
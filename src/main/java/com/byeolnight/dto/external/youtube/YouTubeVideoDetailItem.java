@@ -3,8 +3,13 @@ package com.byeolnight.dto.external.youtube;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+/**
+ * videos.list 응답 항목 (search와 달리 id가 문자열)
+ */
 @Getter
 @NoArgsConstructor
 public class YouTubeVideoDetailItem {
+    private String id;
     private YouTubeStatistics statistics;
+    private YouTubeContentDetails contentDetails;
 }
@@ -12,4 +12,7 @@ public class YouTubeVideoItem {
 
     @Setter
     private YouTubeStatistics statistics;
+
+    @Setter
+    private YouTubeContentDetails contentDetails;
 }
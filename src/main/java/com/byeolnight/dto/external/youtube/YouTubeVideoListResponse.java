@@ -8,5 +8,5 @@ import java.util.List;
 @Getter
 @NoArgsConstructor
 public class YouTubeVideoListResponse {
-    private List<YouTubeVideoItem> items;
-}
\ No newline at end of file
+    private List<YouTubeVideoDetailItem> items;
+}
@@ -0,0 +1,51 @@
+package com.byeolnight.dto.file;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * 이미지 검열 작업 DTO
+ * - Redis 큐에서 사용
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ImageModerationJob implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private String s3Key;
+
+    @Builder.Default
+    private int attempt = 0;
+
+    private String createdAt;
+    private String lastAttemptAt;
+    private String errorMessage;
+
+    public static ImageModerationJob of(String s3Key) {
+        return ImageModerationJob.builder()
+                .s3Key(s3Key)
+                .createdAt(Instant.now().toString())
+                .build();
+    }
+
+    /**
+     * attempt 증가 및 오류 정보 업데이트
+     */
+    public ImageModerationJob withRetry(String errorMessage) {
+        return ImageModerationJob.builder()
+                .s3Key(this.s3Key)
+                .attempt(this.attempt + 1)
+                .createdAt(this.createdAt)
+                .lastAttemptAt(Instant.now().toString())
+                .errorMessage(errorMessage)
+                .build();
+    }
+}
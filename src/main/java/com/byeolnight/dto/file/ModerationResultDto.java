@@ -5,12 +5,12 @@ import lombok.Getter;
 
 /**
  * 이미지 검열 결과 응답 DTO
- * POST /api/files/moderate-url 엔드포인트에서 사용
+ * POST /api/files/moderate-url, GET /api/files/moderation-status 엔드포인트에서 사용
  */
 @Getter
 @Builder
 public class ModerationResultDto {
-    private String status;      // "completed", "error"
+    private String status;      // "pending", "completed", "error"
     private boolean isSafe;
     private String message;
 
@@ -22,6 +22,14 @@ public class ModerationResultDto {
                 .build();
     }
 
+    public static ModerationResultDto pending(String message) {
+        return ModerationResultDto.builder()
+                .status("pending")
+                .isSafe(false)
+                .message(message)
+                .build();
+    }
+
     public static ModerationResultDto error(String message) {
         return ModerationResultDto.builder()
                 .status("error")
@@ -0,0 +1,75 @@
+package com.byeolnight.dto.file;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * S3 객체 삭제 작업 DTO
+ * - Redis 큐에서 사용
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class S3DeleteJob implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private String s3Key;
+
+    @Builder.Default
+    private int attempt = 0;
+
+    private String createdAt;
+    private String lastAttemptAt;
+    private String nextAttemptAt;
+    private String errorMessage;
+
+    public static S3DeleteJob of(String s3Key) {
+        return S3DeleteJob.builder()
+                .s3Key(s3Key)
+                .createdAt(Instant.now().toString())
+                .build();
+    }
+
+    /**
+     * attempt 증가, 오류 정보 업데이트 및 delay 이후로 다음 시도 예약
+     */
+    public S3DeleteJob withRetry(String errorMessage, Duration delay) {
+        Instant now = Instant.now();
+        return S3DeleteJob.builder()
+                .s3Key(this.s3Key)
+                .attempt(this.attempt + 1)
+                .createdAt(this.createdAt)
+                .lastAttemptAt(now.toString())
+                .nextAttemptAt(now.plus(delay).toString())
+                .errorMessage(errorMessage)
+                .build();
+    }
+
+    /**
+     * 다음 시도 시각이 지났는지 (최초 작업은 항상 true)
+     */
+    public boolean isDue(Instant now) {
+        return nextAttemptAt == null || !Instant.parse(nextAttemptAt).isAfter(now);
+    }
+
+    /**
+     * DLQ 이동용 최종 실패 정보 추가
+     */
+    public S3DeleteJob withFinalFailure(String finalError) {
+        return S3DeleteJob.builder()
+                .s3Key(this.s3Key)
+                .attempt(this.attempt)
+                .createdAt(this.createdAt)
+                .lastAttemptAt(Instant.now().toString())
+                .errorMessage(finalError)
+                .build();
+    }
+}
@@ -0,0 +1,40 @@
+package com.byeolnight.dto.log;
+
+import com.byeolnight.entity.log.AuditSignupLog;
+
+import java.time.LocalDateTime;
+
+/**
+ * 감사 로그 적재 작업
+ * - 인증 요청 스레드에서는 메모리 버퍼에 넣기만 하고, AuditLogWriter가 모아서 일괄 INSERT
+ * - occurredAt은 실제 발생 시각 (INSERT 시각이 아님)
+ */
+public record AuditLogJob(Type type, String email, String ipAddress, String userAgent,
+                          AuditSignupLog.Result result, String failureReason, LocalDateTime occurredAt) {
+
+    private static final int USER_AGENT_MAX_LENGTH = 512;
+
+    public enum Type {
+        LOGIN, REFRESH, SIGNUP
+    }
+
+    public static AuditLogJob login(String email, String ipAddress, String userAgent) {
+        return new AuditLogJob(Type.LOGIN, email, ipAddress, userAgent, null, null, LocalDateTime.now());
+    }
+
+    public static AuditLogJob refresh(String email, String ipAddress, String userAgent) {
+        String agent = userAgent == null ? "" : userAgent;
+        if (agent.length() > USER_AGENT_MAX_LENGTH) {
+            agent = agent.substring(0, USER_AGENT_MAX_LENGTH);
+        }
+        return new AuditLogJob(Type.REFRESH, email, ipAddress, agent, null, null, LocalDateTime.now());
+    }
+
+    public static AuditLogJob signupSuccess(String email, String ipAddress) {
+        return new AuditLogJob(Type.SIGNUP, email, ipAddress, null, AuditSignupLog.Result.SUCCESS, null, LocalDateTime.now());
+    }
+
+    public static AuditLogJob signupFailure(String email, String ipAddress, String reason) {
+        return new AuditLogJob(Type.SIGNUP, email, ipAddress, null, AuditSignupLog.Result.FAILURE, reason, LocalDateTime.now());
+    }
+}
@@ -13,7 +13,7 @@ import java.util.List;
  * - 추천 수, 내가 추천했는지, 블라인드 여부 포함
  */
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @AllArgsConstructor
 public class PostResponseDto {
 
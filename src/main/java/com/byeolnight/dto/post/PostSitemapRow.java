@@ -0,0 +1,11 @@
+package com.byeolnight.dto.post;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사이트맵 생성용 게시글 프로젝션 (id, 수정일만 조회)
+ */
+public record PostSitemapRow(
+        Long id,
+        LocalDateTime updatedAt
+) {}
@@ -0,0 +1,68 @@
+package com.byeolnight.dto.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * 추천 보상 작업 DTO
+ * - Redis 큐에서 사용
+ * - GIVE: 추천한 사용자 보상 (userId 필요), RECEIVE: 게시글 작성자 보상 (작성자는 워커가 일괄 조회)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LikePointJob implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public enum Kind {
+        GIVE, RECEIVE
+    }
+
+    private Kind kind;
+    private Long userId;
+    private Long postId;
+
+    @Builder.Default
+    private int attempt = 0;
+
+    private String createdAt;
+    private String errorMessage;
+
+    public static LikePointJob give(Long userId, Long postId) {
+        return LikePointJob.builder()
+                .kind(Kind.GIVE)
+                .userId(userId)
+                .postId(postId)
+                .createdAt(Instant.now().toString())
+                .build();
+    }
+
+    public static LikePointJob receive(Long postId) {
+        return LikePointJob.builder()
+                .kind(Kind.RECEIVE)
+                .postId(postId)
+                .createdAt(Instant.now().toString())
+                .build();
+    }
+
+    /**
+     * attempt 증가 및 오류 정보 업데이트
+     */
+    public LikePointJob withRetry(String errorMessage) {
+        return LikePointJob.builder()
+                .kind(this.kind)
+                .userId(this.userId)
+                .postId(this.postId)
+                .attempt(this.attempt + 1)
+                .createdAt(this.createdAt)
+                .errorMessage(errorMessage)
+                .build();
+    }
+}
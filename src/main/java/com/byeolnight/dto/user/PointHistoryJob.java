@@ -0,0 +1,62 @@
+package com.byeolnight.dto.user;
+
+import com.byeolnight.entity.user.PointHistory.PointType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 히스토리 적재 작업 DTO
+ * - Redis 큐에서 사용 (워커가 모아서 일괄 INSERT)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PointHistoryJob implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long userId;
+    private int amount;
+    private PointType type;
+    private String reason;
+    private String referenceId;
+    private LocalDateTime createdAt; // 실제 적립 시각 (INSERT 시각이 아님)
+
+    @Builder.Default
+    private int attempt = 0;
+
+    private String errorMessage;
+
+    public static PointHistoryJob of(Long userId, int amount, PointType type, String reason, String referenceId) {
+        return PointHistoryJob.builder()
+                .userId(userId)
+                .amount(amount)
+                .type(type)
+                .reason(reason)
+                .referenceId(referenceId)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * attempt 증가 및 오류 정보 업데이트
+     */
+    public PointHistoryJob withRetry(String errorMessage) {
+        return PointHistoryJob.builder()
+                .userId(this.userId)
+                .amount(this.amount)
+                .type(this.type)
+                .reason(this.reason)
+                .referenceId(this.referenceId)
+                .createdAt(this.createdAt)
+                .attempt(this.attempt + 1)
+                .errorMessage(errorMessage)
+                .build();
+    }
+}
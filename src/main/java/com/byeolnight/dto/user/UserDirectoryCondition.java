@@ -0,0 +1,30 @@
+package com.byeolnight.dto.user;
+
+import com.byeolnight.entity.user.User;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * 관리자 사용자 디렉터리 검색 조건 (모든 값은 선택)
+ * - status ACTIVE는 탈퇴하지 않은 사용자 전체 (정지/차단 포함), 그 외 상태는 정확히 일치
+ * - socialProvider: google/naver/kakao, "local"이면 일반 가입 사용자만, "social"이면 소셜 가입 사용자만
+ * - role 미지정 시 관리자 계정은 제외
+ * - keyword: 이메일/닉네임 부분 일치
+ */
+public record UserDirectoryCondition(
+        User.UserStatus status,
+        User.Role role,
+        String socialProvider,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate createdFrom,
+        @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate createdTo,
+        String keyword
+) {
+
+    public static final String LOCAL_PROVIDER = "local";
+    public static final String SOCIAL_PROVIDER = "social";
+
+    public static UserDirectoryCondition empty() {
+        return new UserDirectoryCondition(null, null, null, null, null, null);
+    }
+}
@@ -0,0 +1,23 @@
+package com.byeolnight.dto.user;
+
+import com.byeolnight.entity.user.User;
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 사용자 디렉터리 행 (엔티티 로딩 없이 필요한 컬럼만 projection)
+ */
+public record UserDirectoryDto(
+        Long id,
+        String email,
+        String nickname,
+        User.Role role,
+        User.UserStatus status,
+        boolean accountLocked,
+        int points,
+        String socialProvider,
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss") LocalDateTime createdAt,
+        @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss") LocalDateTime lastLoginAt
+) {
+}
@@ -0,0 +1,7 @@
+package com.byeolnight.dto.user;
+
+/**
+ * 게시글/댓글 작성자 표시 정보 (닉네임, 장착 아이콘)
+ */
+public record WriterSummary(Long id, String nickname, String equippedIconName) {
+}
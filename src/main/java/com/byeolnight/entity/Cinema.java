@@ -45,13 +45,17 @@ public class Cinema {
     @Column(length = 500)
     private String hashtags;
 
+    @Column(name = "title_minhash", length = 256)
+    private byte[] titleMinHash; // 제목 MinHash 서명 (유사 중복 인덱스용)
+
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
     @Builder
     public Cinema(String title, String description, String videoId, String videoUrl,
-                  String channelTitle, LocalDateTime publishedAt, String summary, String hashtags) {
+                  String channelTitle, LocalDateTime publishedAt, String summary, String hashtags,
+                  byte[] titleMinHash) {
         this.title = title;
         this.description = description;
         this.videoId = videoId;
@@ -60,5 +64,6 @@ public class Cinema {
         this.publishedAt = publishedAt;
         this.summary = summary;
         this.hashtags = hashtags;
+        this.titleMinHash = titleMinHash;
     }
 }
\ No newline at end of file
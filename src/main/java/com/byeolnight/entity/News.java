@@ -45,6 +45,10 @@ public class News {
     @Column(length = 100)
     private String source;
     
+    // 제목 MinHash 서명 (유사 중복 인덱스용, TitleMinHash.toBytes)
+    @Column(name = "title_minhash", length = 256)
+    private byte[] titleMinHash;
+    
     @Column(name = "used_for_discussion")
     @Builder.Default
     private boolean usedForDiscussion = false;
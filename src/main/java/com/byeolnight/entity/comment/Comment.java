@@ -90,6 +90,11 @@ public class Comment {
         return this.blinded;
     }
 
+    // 프로필 댓글 수 집계 대상 여부 (삭제·블라인드 제외)
+    public boolean isCounted() {
+        return !this.deleted && !this.blinded;
+    }
+
     // ✅ 댓글 소프트 삭제
     public void softDelete() {
         this.deleted = true;
@@ -38,6 +38,12 @@ public class File {
     @Builder.Default
     private FileStatus status = FileStatus.CONFIRMED; // 기존 데이터 마이그레이션용 기본값
 
+    @Enumerated(EnumType.STRING)
+    private ModerationStatus moderationStatus; // null: 검열 도입 이전 데이터 (검열 대기로 취급)
+
+    @Column(length = 64)
+    private String contentHash; // 이미지 내용 SHA-256 (검열 결과 재사용용)
+
     @CreationTimestamp
     @Column(updatable = false)
     private LocalDateTime createdAt;
@@ -61,6 +67,22 @@ public class File {
         this.status = FileStatus.CONFIRMED;
     }
 
+    /**
+     * 검열 통과
+     */
+    public void approveModeration(String contentHash) {
+        this.moderationStatus = ModerationStatus.APPROVED;
+        this.contentHash = contentHash;
+    }
+
+    /**
+     * 검열 거부 (부적절하거나 검열 불가)
+     */
+    public void rejectModeration(String contentHash) {
+        this.moderationStatus = ModerationStatus.REJECTED;
+        this.contentHash = contentHash;
+    }
+
     public static File of(Post post, String originalName, String s3Key, String url) {
         return File.builder()
                 .post(post)
@@ -80,6 +102,7 @@ public class File {
                 .s3Key(s3Key)
                 .url(url)
                 .status(FileStatus.PENDING)
+                .moderationStatus(ModerationStatus.PENDING)
                 .build();
     }
 }
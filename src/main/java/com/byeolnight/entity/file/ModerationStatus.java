@@ -0,0 +1,14 @@
+package com.byeolnight.entity.file;
+
+/**
+ * 이미지 검열 상태를 나타내는 enum
+ *
+ * - PENDING: 검열 대기/진행 중
+ * - APPROVED: 안전한 이미지로 판정
+ * - REJECTED: 부적절하거나 검열할 수 없는 이미지 (S3 객체 삭제됨)
+ */
+public enum ModerationStatus {
+    PENDING,
+    APPROVED,
+    REJECTED
+}
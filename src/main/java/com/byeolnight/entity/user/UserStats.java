@@ -0,0 +1,55 @@
+package com.byeolnight.entity.user;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 활동 집계 (프로필 조회용)
+ * - 작성/삭제/구매/출석 시 원자적 증감으로 유지
+ * - 행이 없으면 최초 조회 또는 최초 증감 시 원본 테이블 COUNT로 생성
+ */
+@Entity
+@Table(name = "user_stats")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UserStats {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "post_count", nullable = false)
+    private int postCount;
+
+    @Column(name = "comment_count", nullable = false)
+    private int commentCount;
+
+    @Column(name = "icon_count", nullable = false)
+    private int iconCount;
+
+    @Column(name = "attendance_count", nullable = false)
+    private int attendanceCount;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    public enum Counter {
+        POST, COMMENT, ICON, ATTENDANCE
+    }
+
+    public static UserStats of(Long userId, int postCount, int commentCount, int iconCount, int attendanceCount) {
+        UserStats stats = new UserStats();
+        stats.userId = userId;
+        stats.postCount = postCount;
+        stats.commentCount = commentCount;
+        stats.iconCount = iconCount;
+        stats.attendanceCount = attendanceCount;
+        return stats;
+    }
+}
@@ -0,0 +1,7 @@
+package com.byeolnight.event;
+
+/**
+ * 채팅 메시지 전송 이벤트 (인증서 진행도 갱신용)
+ */
+public record ChatSentEvent(Long userId) {
+}
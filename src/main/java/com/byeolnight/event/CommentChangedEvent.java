@@ -0,0 +1,7 @@
+package com.byeolnight.event;
+
+/**
+ * 댓글 삭제/복구 이벤트 (게시글 상세 캐시 댓글 수 무효화용)
+ */
+public record CommentChangedEvent(Long postId) {
+}
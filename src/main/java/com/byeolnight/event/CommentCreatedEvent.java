@@ -0,0 +1,7 @@
+package com.byeolnight.event;
+
+/**
+ * 댓글 작성 이벤트 (인증서 진행도 갱신, 게시글 상세 캐시 댓글 수 무효화용)
+ */
+public record CommentCreatedEvent(Long userId, Long postId) {
+}
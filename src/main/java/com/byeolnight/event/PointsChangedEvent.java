@@ -0,0 +1,9 @@
+package com.byeolnight.event;
+
+/**
+ * 포인트 변경 이벤트
+ *
+ * @param totalPoints 변경 후 누적 포인트
+ */
+public record PointsChangedEvent(Long userId, int totalPoints) {
+}
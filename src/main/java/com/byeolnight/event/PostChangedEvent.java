@@ -0,0 +1,9 @@
+package com.byeolnight.event;
+
+/**
+ * 게시글 공개 상태/내용 변경 이벤트
+ * - 작성, 수정, 삭제, 블라인드, 복구 시 발행
+ * - 사이트맵 등 게시글 기반 캐시 무효화에 사용
+ */
+public record PostChangedEvent(Long postId) {
+}
@@ -0,0 +1,9 @@
+package com.byeolnight.event;
+
+import com.byeolnight.entity.post.Post;
+
+/**
+ * 게시글 작성 이벤트 (인증서 진행도 갱신용)
+ */
+public record PostCreatedEvent(Long userId, Post.Category category) {
+}
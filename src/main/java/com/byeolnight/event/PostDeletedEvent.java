@@ -0,0 +1,9 @@
+package com.byeolnight.event;
+
+import com.byeolnight.entity.post.Post;
+
+/**
+ * 게시글 삭제 이벤트 (인증서 진행도 차감용)
+ */
+public record PostDeletedEvent(Long userId, Post.Category category) {
+}
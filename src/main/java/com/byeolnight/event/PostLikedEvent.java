@@ -0,0 +1,7 @@
+package com.byeolnight.event;
+
+/**
+ * 게시글 추천 이벤트 (추천 포인트 보상용)
+ */
+public record PostLikedEvent(Long userId, Long postId) {
+}
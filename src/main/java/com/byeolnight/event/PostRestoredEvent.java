@@ -0,0 +1,9 @@
+package com.byeolnight.event;
+
+import com.byeolnight.entity.post.Post;
+
+/**
+ * 게시글 복구 이벤트 (인증서 진행도 복원용)
+ */
+public record PostRestoredEvent(Long userId, Post.Category category) {
+}
@@ -0,0 +1,8 @@
+package com.byeolnight.event;
+
+/**
+ * 공개 프로필 표시 정보 변경 이벤트 (닉네임, 장착 아이콘, 인증서)
+ * - 프로필 캐시 무효화에 사용
+ */
+public record UserProfileChangedEvent(Long userId) {
+}
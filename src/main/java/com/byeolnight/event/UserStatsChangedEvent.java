@@ -0,0 +1,32 @@
+package com.byeolnight.event;
+
+import com.byeolnight.entity.comment.Comment;
+import com.byeolnight.entity.user.UserStats;
+
+/**
+ * 사용자 활동 집계 변경 이벤트
+ * - 게시글/댓글 작성·삭제·복구, 아이콘 획득, 출석 시 발행
+ */
+public record UserStatsChangedEvent(Long userId, UserStats.Counter counter, int delta) {
+
+    public static UserStatsChangedEvent increment(Long userId, UserStats.Counter counter) {
+        return new UserStatsChangedEvent(userId, counter, 1);
+    }
+
+    public static UserStatsChangedEvent decrement(Long userId, UserStats.Counter counter) {
+        return new UserStatsChangedEvent(userId, counter, -1);
+    }
+
+    /**
+     * 댓글 삭제/블라인드/복구 전후의 집계 대상 여부로 증감 이벤트 생성 (변화 없으면 delta 0)
+     */
+    public static UserStatsChangedEvent commentVisibilityChanged(Comment comment, boolean wasCounted) {
+        Long writerId = comment.getWriter() != null ? comment.getWriter().getId() : null;
+        int delta = wasCounted == comment.isCounted() ? 0 : (comment.isCounted() ? 1 : -1);
+        return new UserStatsChangedEvent(writerId, UserStats.Counter.COMMENT, delta);
+    }
+
+    public boolean isNoop() {
+        return userId == null || delta == 0;
+    }
+}
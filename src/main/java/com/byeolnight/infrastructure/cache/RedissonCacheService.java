@@ -6,7 +6,9 @@ import org.redisson.api.*;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
@@ -33,6 +35,13 @@ public class RedissonCacheService {
         return value
         """;
 
+    private static final String DECREMENT_IF_EXISTS_SCRIPT = """
+        if redis.call('EXISTS', KEYS[1]) == 1 then
+            return redis.call('DECR', KEYS[1])
+        end
+        return 0
+        """;
+
     /**
      * 값 저장 (TTL 포함)
      */
@@ -154,6 +163,24 @@ public class RedissonCacheService {
         return value;
     }
 
+    /**
+     * 원자적 감소 연산 (DECR)
+     * - 키가 있을 때만 감소 (만료된 카운터를 TTL 없는 음수로 되살리지 않음)
+     * @return 감소 후 값 (키가 없으면 0)
+     */
+    public long decrementIfExists(String key) {
+        RScript script = redissonClient.getScript();
+        long value = script.eval(
+                RScript.Mode.READ_WRITE,
+                DECREMENT_IF_EXISTS_SCRIPT,
+                RScript.ReturnType.INTEGER,
+                Collections.singletonList(key)
+        );
+
+        log.debug("원자적 감소: key={}, value={}", key, value);
+        return value;
+    }
+
     /**
      * 원자적 카운터 값 조회
      */
@@ -201,6 +228,29 @@ public class RedissonCacheService {
         }
     }
 
+    /**
+     * 메시지 큐에 여러 작업을 한 번에 추가
+     */
+    public <T> void enqueueAll(String queueName, Collection<T> jobs) {
+        if (jobs.isEmpty()) {
+            return;
+        }
+        RBlockingQueue<T> queue = redissonClient.getBlockingQueue(queueName);
+        queue.addAll(jobs);
+        log.debug("큐에 작업 일괄 추가: queue={}, size={}", queueName, jobs.size());
+    }
+
+    /**
+     * 메시지 큐에서 최대 limit개 작업을 한 번에 가져오기 (논블로킹)
+     * @return 작업 목록 (비어 있으면 빈 리스트)
+     */
+    public <T> List<T> dequeueBatch(String queueName, int limit) {
+        RBlockingQueue<T> queue = redissonClient.getBlockingQueue(queueName);
+        List<T> jobs = queue.poll(limit);
+        log.debug("큐에서 작업 일괄 가져옴: queue={}, size={}", queueName, jobs.size());
+        return jobs;
+    }
+
     /**
      * 메시지 큐 크기 조회
      */
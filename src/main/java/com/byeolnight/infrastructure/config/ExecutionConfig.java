@@ -0,0 +1,61 @@
+package com.byeolnight.infrastructure.config;
+
+/**
+ * 실행 모드(플랫폼 스레드 / 가상 스레드) 설정
+ *
+ * 역할:
+ * - spring.threads.virtual.enabled(VIRTUAL_THREADS_ENABLED) 하나로 요청 처리/@Async/스케줄러 실행 스레드 전환
+ *   (Tomcat 요청 스레드는 Spring Boot가 같은 설정으로 가상 스레드 실행기로 교체)
+ * - @Async / MVC 비동기: 가상 스레드 모드는 작업마다 가상 스레드, 플랫폼 모드는 spring.task.execution.pool.* 스레드 풀
+ * - @Scheduled: spring.task.scheduling.pool.size 크기의 스케줄러로 작업 격리 (기본 단일 스레드에서는 한 작업이 느리면 나머지가 모두 밀림)
+ *   가상 스레드 모드에서도 같은 풀 크기를 유지하고 워커만 가상 스레드로 생성 (fixedDelay 작업도 서로 다른 워커에서 실행)
+ * - 작업별 실행 시간/실패: tasks.scheduled.execution{code.function, outcome}
+ */
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorBuilder;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Slf4j
+@Configuration
+@EnableAsync
+public class ExecutionConfig {
+
+    static final String SCHEDULER_THREAD_PREFIX = "scheduling-vt-";
+
+    /**
+     * 스케줄러 빈(Executor)이 있으면 Spring Boot 기본 applicationTaskExecutor가 등록되지 않으므로 같은 규칙으로 직접 등록
+     */
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+    public AsyncTaskExecutor applicationTaskExecutor(Environment environment,
+                                                     SimpleAsyncTaskExecutorBuilder simpleAsyncTaskExecutorBuilder,
+                                                     ThreadPoolTaskExecutorBuilder threadPoolTaskExecutorBuilder) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return simpleAsyncTaskExecutorBuilder.build();
+        }
+        return threadPoolTaskExecutorBuilder.build();
+    }
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(Environment environment,
+                                                 ThreadPoolTaskSchedulerBuilder threadPoolTaskSchedulerBuilder) {
+        ThreadPoolTaskScheduler scheduler = threadPoolTaskSchedulerBuilder.build();
+        boolean virtual = Threading.VIRTUAL.isActive(environment);
+        if (virtual) {
+            scheduler.setThreadFactory(Thread.ofVirtual().name(SCHEDULER_THREAD_PREFIX, 0).factory());
+        }
+        log.info("실행 모드: {}, 스케줄러 워커 {}개", virtual ? "가상 스레드" : "플랫폼 스레드", scheduler.getPoolSize());
+        return scheduler;
+    }
+}
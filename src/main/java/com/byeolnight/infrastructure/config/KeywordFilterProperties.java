@@ -0,0 +1,115 @@
+package com.byeolnight.infrastructure.config;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 콘텐츠 필터 키워드 설정 (content.keywords.*)
+ * 
+ * 역할:
+ * - 뉴스/영상 수집 시 우주 관련 판정과 제외 판정에 쓰는 키워드 목록
+ * - 설정 서버에서 목록을 바꾸면 KeywordMatcherRegistry가 다시 바인딩해 매칭기를 재구성 (재시작 불필요)
+ * - 기본값은 설정이 없을 때 사용하는 기존 하드코딩 목록
+ */
+@Data
+public class KeywordFilterProperties {
+
+    public static final String PREFIX = "content.keywords";
+
+    // 뉴스 우주 관련 판정 (1개 이상)
+    private List<String> newsSpace = List.of(
+            "우주", "로켓", "위성", "화성", "달", "태양", "지구", "목성", "토성", "블랙홀", "은하", "별", "항성", "혜성", "소행성", "망원경",
+            "천문", "항공우주", "우주선", "우주정거장", "우주비행사", "우주탐사", "화성탐사", "달탐사", "nasa", "spacex", "space", "mars",
+            "moon", "astronomy", "telescope", "satellite", "rocket", "planet", "solar", "lunar", "jupiter",
+            "saturn", "venus", "mercury", "neptune", "uranus", "pluto", "galaxy", "nebula", "star", "comet",
+            "asteroid", "meteor", "orbit", "spacecraft", "astronaut", "cosmology", "astrophysics",
+            "observatory", "constellation", "eclipse", "aurora", "supernova", "quasar", "pulsar",
+            "exoplanet", "milky way", "andromeda", "hubble", "webb", "iss", "international space station",
+            "falcon", "dragon", "starship", "artemis", "apollo", "voyager", "cassini", "juno",
+            "perseverance", "curiosity", "ingenuity", "parker solar probe", "james webb", "kepler",
+            "spitzer", "chandra", "esa", "roscosmos", "jaxa", "isro", "cnsa"
+    );
+
+    // 뉴스 제외 키워드 (비우주 주제)
+    private List<String> newsExclude = List.of(
+            "trump", "biden", "정치", "선거", "경제", "주식", "코인", "bitcoin", "cryptocurrency", "sports",
+            "football", "basketball", "soccer", "entertainment", "celebrity", "fashion", "food", "recipe",
+            "cooking"
+    );
+
+    // 영상 제외: 음악/아이돌/방송
+    private List<String> cinemaMusic = List.of(
+            "원위", "onewe", "bts", "blackpink", "twice", "red velvet", "aespa", "itzy", "ive", "newjeans",
+            "stray kids", "seventeen", "nct", "exo", "bigbang", "2ne1", "girls generation", "snsd", "더 쇼",
+            "the show", "music bank", "inkigayo", "m countdown", "show champion", "뮤직뱅크", "인기가요", "엠카운트다운",
+            "쇼챔피언", "음악중심", "music core", "comeback", "컴백", "debut", "데뷔", "mv", "뮤직비디오", "music video",
+            "live stage", "라이브", "performance", "퍼포먼스", "dance practice", "안무", "idol", "아이돌", "kpop",
+            "k-pop", "케이팝", "한류", "hallyu", "가사", "lyrics", "노래", "song", "음악", "music", "앨범", "album",
+            "미발매", "unreleased", "콘서트", "concert", "페스티벌", "festival", "칸타빌레", "cantabile", "더 시즌즈",
+            "the seasons", "박보검", "샘 킴", "sam kim", "오현우", "ohHyunwoo", "일식", "eclipse", "[가사]", "[lyrics]",
+            "kbs", "방송", "태양의 후예", "descendants of the sun", "ost", "사운드트랙", "soundtrack", "드라마", "drama",
+            "영화", "movie", "시네마", "cinema", "배우", "actor", "actress", "여배우", "가수", "singer", "아티스트",
+            "artist", "뮤지션", "musician", "밴드", "band", "그룹", "group", "솔로", "solo", "듀엣", "duet", "트리오",
+            "trio", "보컬", "vocal", "래퍼", "rapper", "댄서", "dancer", "프로듀서", "producer", "작곡가", "composer",
+            "작사가", "lyricist"
+    );
+
+    // 영상 제외: 광고/상업
+    private List<String> cinemaCommercial = List.of(
+            "쇼핑", "shopping", "구매", "buy", "판매", "sale", "할인", "discount", "특가", "세일", "광고", "ad",
+            "advertisement", "홍보", "promotion", "캠페인", "campaign", "브랜드", "brand", "제품", "product", "상품",
+            "item", "리뷰", "review", "언박싱", "unboxing", "추천", "recommend", "후기", "testimonial", "체험",
+            "experience", "협찬", "sponsored", "파트너십", "partnership", "마케팅", "marketing"
+    );
+
+    // 영상 제외: 드라마/예능
+    private List<String> cinemaDrama = List.of(
+            "이 사랑에 이름을 붙인다면", "iss pyaar ko kya naam doon", "아르나브", "arnav", "쿠시", "khushi", "키스", "kiss",
+            "로맨스", "romance", "사랑", "love story", "연애", "relationship", "시즌", "season", "에피소드", "episode",
+            "시리즈", "series", "드라마", "drama", "생일 서프라이즈", "birthday surprise", "결혼", "wedding", "신혼",
+            "honeymoon", "bollywood", "볼리우드", "hindi", "힌디", "indian", "인도", "telugu", "tamil", "zee tv",
+            "star plus", "colors tv", "sony tv", "hotstar", "voot", "예능", "variety", "토크쇼", "talk show",
+            "리얼리티", "reality", "게임쇼", "game show", "인터뷰", "interview", "behind the scenes", "비하인드", "메이킹",
+            "making", "셀럽", "celebrity", "스타", "star", "팬미팅", "fan meeting", "팬사인회", "fan sign"
+    );
+
+    // 영상 검색어 + 우주 콘텐츠 판정 (한국어)
+    private List<String> cinemaSpaceKo = List.of(
+            "우주", "로켓", "위성", "화성", "달", "태양", "지구", "목성", "토성", "천왕성", "해왕성", "수성", "금성", "명왕성", "블랙홀",
+            "은하", "별", "항성", "혜성", "소행성", "망원경", "천문", "항공우주", "우주선", "우주정거장", "우주비행사", "우주발사", "우주탐사", "성운",
+            "퀘이사", "중성자별", "백색왜성", "적색거성", "초신성", "성단", "성간물질", "암흑물질", "암흑에너지", "빅뱅", "우주론", "외계행성", "외계생명",
+            "SETI", "우주망원경", "허블", "제임스웹", "케플러", "스피처", "찬드라", "컴프턴", "국제우주정거장", "ISS", "아르테미스", "아폴로",
+            "보이저", "카시니", "갈릴레오", "뉴호라이즌스", "파커", "주노", "화성탐사", "달탐사", "목성탐사", "토성탐사", "태양탐사", "소행성탐사",
+            "혜성탐사", "우주쓰레기", "우주날씨", "태양풍", "자기권", "오로라", "일식", "월식", "유성우", "운석", "크레이터", "화산", "대기", "중력",
+            "궤도", "공전", "자전", "조석", "라그랑주점", "중력파", "상대성이론", "양자역학", "끈이론", "다중우주", "우주배경복사", "적색편이",
+            "도플러효과", "허블상수", "우주나이", "우주크기", "관측가능우주", "사건지평선", "특이점", "웜홀"
+    );
+
+    // 영상 검색어 + 우주 콘텐츠 판정 (영어)
+    private List<String> cinemaSpaceEn = List.of(
+            "space", "rocket", "satellite", "Mars", "Moon", "Sun", "Earth", "Jupiter", "Saturn", "Uranus",
+            "Neptune", "Mercury", "Venus", "Pluto", "blackhole", "galaxy", "star", "stellar", "comet",
+            "asteroid", "telescope", "astronomy", "aerospace", "spacecraft", "space station", "astronaut",
+            "space launch", "space exploration", "nebula", "quasar", "neutron star", "white dwarf",
+            "red giant", "supernova", "cluster", "interstellar", "dark matter", "dark energy", "big bang",
+            "cosmology", "exoplanet", "extraterrestrial", "SETI", "space telescope", "Hubble", "James Webb",
+            "Kepler", "Spitzer", "Chandra", "Compton", "ISS", "International Space Station", "Artemis",
+            "Apollo", "Voyager", "Cassini", "Galileo", "New Horizons", "Parker", "Juno", "Mars exploration",
+            "lunar exploration", "Jupiter mission", "Saturn mission", "solar mission", "asteroid mission",
+            "comet mission", "space debris", "space weather", "solar wind", "magnetosphere", "aurora",
+            "eclipse", "lunar eclipse", "meteor shower", "meteorite", "crater", "volcano", "atmosphere",
+            "gravity", "orbit", "revolution", "rotation", "tidal", "Lagrange point", "gravitational wave",
+            "relativity", "quantum mechanics", "string theory", "multiverse", "cosmic background",
+            "redshift", "Doppler effect", "Hubble constant", "universe age", "universe size",
+            "observable universe", "event horizon", "singularity", "wormhole"
+    );
+
+    // 영상 우주 콘텐츠 판정: 전문 키워드 (1개면 키워드 3개로 통과)
+    private List<String> cinemaProfessional = List.of(
+            "블랙홀", "blackhole", "중성자별", "neutron star", "초신성", "supernova", "우주망원경", "space telescope", "허블",
+            "hubble", "제임스웹", "james webb", "nasa", "spacex", "화성탐사", "mars exploration", "달탐사",
+            "lunar exploration", "국제우주정거장", "international space station", "iss", "아르테미스", "artemis", "아폴로",
+            "apollo"
+    );
+}
@@ -0,0 +1,48 @@
+package com.byeolnight.infrastructure.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 외부 API 호출 설정 (outbound.http.*)
+ *
+ * 역할:
+ * - 업스트림(OpenWeather, YouTube, Vision 등)별 연결/응답 타임아웃
+ * - 업스트림별 동시 호출 상한(벌크헤드)과 서킷 브레이커 기준
+ * - hosts로 요청 호스트 → 업스트림 매핑 (매핑이 없으면 defaults 사용)
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "outbound.http")
+public class OutboundHttpProperties {
+
+    public static final String DEFAULT_UPSTREAM = "default";
+
+    private Upstream defaults = new Upstream();
+    private Map<String, Upstream> upstreams = new LinkedHashMap<>();
+
+    @Data
+    public static class Upstream {
+        private List<String> hosts = new ArrayList<>();
+        private long connectTimeoutMs = 3000;       // 연결 타임아웃
+        private long readTimeoutMs = 10000;         // 응답 타임아웃
+        private int maxConcurrentCalls = 20;        // 동시 호출 상한 (초과 시 대기 후 거절)
+        private long maxWaitMs = 0;                 // 벌크헤드 대기 시간
+        private float failureRateThreshold = 50;    // 실패율(%) 이상이면 서킷 오픈
+        private float slowCallRateThreshold = 80;   // 느린 호출 비율(%) 이상이면 서킷 오픈
+        private long slowCallThresholdMs = 5000;    // 느린 호출 기준
+        private int slidingWindowSize = 20;         // 최근 N회 호출 기준으로 판정
+        private int minimumNumberOfCalls = 10;      // 판정에 필요한 최소 호출 수
+        private long openStateWaitMs = 30000;       // 오픈 후 반개방까지 대기
+    }
+
+    public Upstream upstream(String name) {
+        return upstreams.getOrDefault(name, defaults);
+    }
+}
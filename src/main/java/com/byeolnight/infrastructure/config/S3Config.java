@@ -0,0 +1,91 @@
+package com.byeolnight.infrastructure.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * AWS S3 클라이언트 설정
+ *
+ * 역할:
+ * - 애플리케이션 전체에서 공유하는 S3Client / S3Presigner 싱글톤 빈 등록
+ * - Apache HttpClient 커넥션 풀 + 연결/소켓/API 호출 타임아웃 설정
+ * - cloud.aws.s3.endpoint 지정 시 MinIO/LocalStack 등 S3 호환 스토리지 사용 (path-style)
+ */
+@Slf4j
+@Configuration
+public class S3Config {
+
+    @Value("${cloud.aws.credentials.access-key}")
+    private String accessKey;
+
+    @Value("${cloud.aws.credentials.secret-key}")
+    private String secretKey;
+
+    @Value("${cloud.aws.region.static}")
+    private String region;
+
+    @Value("${cloud.aws.s3.endpoint:}")
+    private String endpoint;
+
+    @Value("${cloud.aws.s3.max-connections:50}")
+    private int maxConnections;
+
+    @Bean
+    public AwsCredentialsProvider awsCredentialsProvider() {
+        return StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey));
+    }
+
+    @Bean(destroyMethod = "close")
+    public S3Client s3Client(AwsCredentialsProvider awsCredentialsProvider) {
+        S3ClientBuilder builder = S3Client.builder()
+                .region(Region.of(region))
+                .credentialsProvider(awsCredentialsProvider)
+                .httpClientBuilder(ApacheHttpClient.builder()
+                        .maxConnections(maxConnections)
+                        .connectionTimeout(Duration.ofSeconds(5))
+                        .socketTimeout(Duration.ofSeconds(30))
+                        .connectionMaxIdleTime(Duration.ofSeconds(60)))
+                .overrideConfiguration(config -> config
+                        .apiCallTimeout(Duration.ofSeconds(60))
+                        .apiCallAttemptTimeout(Duration.ofSeconds(20)));
+
+        if (hasEndpointOverride()) {
+            builder.endpointOverride(URI.create(endpoint)).forcePathStyle(true);
+        }
+
+        log.info("S3Client 빈 생성 완료 (region={}, maxConnections={}, endpoint={})",
+                region, maxConnections, hasEndpointOverride() ? endpoint : "AWS 기본");
+        return builder.build();
+    }
+
+    @Bean(destroyMethod = "close")
+    public S3Presigner s3Presigner(AwsCredentialsProvider awsCredentialsProvider) {
+        S3Presigner.Builder builder = S3Presigner.builder()
+                .region(Region.of(region))
+                .credentialsProvider(awsCredentialsProvider);
+
+        if (hasEndpointOverride()) {
+            builder.endpointOverride(URI.create(endpoint))
+                    .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build());
+        }
+        return builder.build();
+    }
+
+    private boolean hasEndpointOverride() {
+        return endpoint != null && !endpoint.isBlank();
+    }
+}
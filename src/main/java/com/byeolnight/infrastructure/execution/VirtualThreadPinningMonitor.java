@@ -0,0 +1,118 @@
+package com.byeolnight.infrastructure.execution;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드 캐리어 고정(pinning) 진단
+ * - JFR jdk.VirtualThreadPinned 이벤트(synchronized/네이티브 프레임 안에서 블로킹)를 프로세스 내부 RecordingStream으로 구독
+ * - threshold-ms 이상 고정된 경우만 jvm.threads.virtual.pinned{frame} 타이머로 집계
+ *   frame: 고정 지점에서 가장 가까운 애플리케이션 프레임 (없으면 첫 라이브러리 프레임)
+ * - frame별 최초 1회는 스택 상위 프레임을 경고 로그로 남김
+ * - execution.pinning.enabled 미지정 시 가상 스레드 모드에서만 실행 (플랫폼 모드에서는 JFR 스트림을 열지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class VirtualThreadPinningMonitor {
+
+    static final String METRIC_NAME = "jvm.threads.virtual.pinned";
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APP_PACKAGE = "com.byeolnight.";
+    private static final List<String> JDK_PACKAGES = List.of("java.", "javax.", "jdk.", "sun.");
+    private static final int LOGGED_FRAMES = 12;
+
+    private final MeterRegistry meterRegistry;
+    private final Environment environment;
+
+    @Value("${execution.pinning.enabled:#{null}}")
+    private Boolean enabled;
+
+    @Value("${execution.pinning.threshold-ms:20}")
+    private long thresholdMs;
+
+    private final Set<String> reportedFrames = ConcurrentHashMap.newKeySet();
+    private RecordingStream stream;
+
+    @PostConstruct
+    public void init() {
+        boolean active = enabled != null ? enabled : Threading.VIRTUAL.isActive(environment);
+        if (!active) {
+            log.info("가상 스레드 고정 진단 비활성화");
+            return;
+        }
+        try {
+            stream = new RecordingStream();
+            stream.enable(PINNED_EVENT).withThreshold(Duration.ofMillis(thresholdMs)).withStackTrace();
+            stream.setMaxAge(Duration.ofMinutes(5));
+            stream.onEvent(PINNED_EVENT, this::onPinned);
+            stream.startAsync();
+            log.info("가상 스레드 고정 진단 시작: threshold={}ms", thresholdMs);
+        } catch (Exception e) {
+            // JFR을 쓸 수 없는 런타임이면 진단 없이 기동
+            log.warn("가상 스레드 고정 진단 시작 실패: {}", e.getMessage());
+            stream = null;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        List<String> frames = stackTrace == null ? List.of() : stackTrace.getFrames().stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName())
+                .toList();
+        String frame = pinnedFrame(frames);
+
+        Timer.builder(METRIC_NAME)
+                .description("가상 스레드가 캐리어 스레드에 고정된 시간")
+                .tag("frame", frame)
+                .register(meterRegistry)
+                .record(event.getDuration());
+
+        if (reportedFrames.add(frame)) {
+            log.warn("가상 스레드 캐리어 고정 감지: frame={}, duration={}ms\n\tat {}", frame, event.getDuration().toMillis(),
+                    frames.stream().limit(LOGGED_FRAMES).collect(Collectors.joining("\n\tat ")));
+        }
+    }
+
+    /**
+     * 고정 지점을 대표하는 프레임 (애플리케이션 프레임은 단순 클래스명.메서드)
+     */
+    static String pinnedFrame(List<String> frames) {
+        for (String frame : frames) {
+            if (frame.startsWith(APP_PACKAGE)) {
+                String method = frame.substring(0, frame.lastIndexOf('.'));
+                return frame.substring(method.lastIndexOf('.') + 1);
+            }
+        }
+        return frames.stream()
+                .filter(frame -> JDK_PACKAGES.stream().noneMatch(frame::startsWith))
+                .findFirst()
+                .orElse(frames.isEmpty() ? "unknown" : frames.get(0));
+    }
+}
@@ -0,0 +1,148 @@
+package com.byeolnight.infrastructure.http;
+
+import com.byeolnight.infrastructure.config.OutboundHttpProperties;
+import com.byeolnight.infrastructure.config.OutboundHttpProperties.Upstream;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 외부 API 호출용 HTTP 클라이언트 모음
+ * - 업스트림마다 커넥션을 재사용하는 JDK HttpClient 1개 (연결/응답 타임아웃 적용)
+ * - 업스트림마다 벌크헤드(동시 호출 상한) + 서킷 브레이커, 열려 있으면 호출하지 않고 즉시 예외 → 호출부 fallback
+ * - 호출 시간: http.client.outbound{upstream, outcome}, 상태: resilience4j.circuitbreaker.* / resilience4j.bulkhead.*
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboundHttpClients {
+
+    static final String TIMER_NAME = "http.client.outbound";
+
+    private final OutboundHttpProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, ClientHttpRequestFactory> requestFactories = new ConcurrentHashMap<>();
+    private final Map<String, String> hostToUpstream = new HashMap<>();
+    private CircuitBreakerRegistry circuitBreakers;
+    private BulkheadRegistry bulkheads;
+
+    @PostConstruct
+    public void init() {
+        circuitBreakers = CircuitBreakerRegistry.ofDefaults();
+        bulkheads = BulkheadRegistry.ofDefaults();
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakers).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheads).bindTo(meterRegistry);
+
+        properties.getUpstreams().forEach((name, upstream) ->
+                upstream.getHosts().forEach(host -> hostToUpstream.put(host.toLowerCase(), name)));
+        log.info("외부 API 업스트림 구성: {}", hostToUpstream);
+    }
+
+    /**
+     * 요청 호스트로 업스트림을 골라 호출하는 RestTemplate (여러 외부 API를 함께 쓰는 공용 빈용)
+     */
+    public RestTemplate restTemplate() {
+        return build(null);
+    }
+
+    /**
+     * 지정한 업스트림 설정으로 호출하는 RestTemplate
+     */
+    public RestTemplate restTemplate(String upstream) {
+        return build(upstream);
+    }
+
+    String resolve(URI uri, String fixedUpstream) {
+        if (fixedUpstream != null) {
+            return fixedUpstream;
+        }
+        String host = uri.getHost();
+        return host != null
+                ? hostToUpstream.getOrDefault(host.toLowerCase(), OutboundHttpProperties.DEFAULT_UPSTREAM)
+                : OutboundHttpProperties.DEFAULT_UPSTREAM;
+    }
+
+    CircuitBreaker circuitBreaker(String upstream) {
+        return circuitBreakers.circuitBreaker(upstream, () -> circuitBreakerConfig(properties.upstream(upstream)));
+    }
+
+    Bulkhead bulkhead(String upstream) {
+        return bulkheads.bulkhead(upstream, () -> bulkheadConfig(properties.upstream(upstream)));
+    }
+
+    void record(String upstream, String outcome, long elapsedNanos) {
+        meterRegistry.timer(TIMER_NAME, "upstream", upstream, "outcome", outcome)
+                .record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private RestTemplate build(String fixedUpstream) {
+        ClientHttpRequestFactory routing = (uri, method) ->
+                requestFactory(resolve(uri, fixedUpstream)).createRequest(uri, method);
+        RestTemplate restTemplate = new RestTemplate(routing);
+        restTemplate.setInterceptors(List.of(new OutboundHttpInterceptor(this, fixedUpstream)));
+
+        // UTF-8 인코딩 설정
+        restTemplate.getMessageConverters().stream()
+                .filter(converter -> converter instanceof StringHttpMessageConverter)
+                .forEach(converter -> ((StringHttpMessageConverter) converter).setDefaultCharset(StandardCharsets.UTF_8));
+        return restTemplate;
+    }
+
+    private ClientHttpRequestFactory requestFactory(String upstream) {
+        return requestFactories.computeIfAbsent(upstream, name -> {
+            Upstream config = properties.upstream(name);
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofMillis(config.getConnectTimeoutMs()))
+                    .followRedirects(HttpClient.Redirect.NORMAL)
+                    .build();
+            JdkClientHttpRequestFactory factory = new JdkClientHttpRequestFactory(httpClient);
+            factory.setReadTimeout(Duration.ofMillis(config.getReadTimeoutMs()));
+            return factory;
+        });
+    }
+
+    private static CircuitBreakerConfig circuitBreakerConfig(Upstream config) {
+        return CircuitBreakerConfig.custom()
+                .slidingWindowSize(config.getSlidingWindowSize())
+                .minimumNumberOfCalls(config.getMinimumNumberOfCalls())
+                .failureRateThreshold(config.getFailureRateThreshold())
+                .slowCallRateThreshold(config.getSlowCallRateThreshold())
+                .slowCallDurationThreshold(Duration.ofMillis(config.getSlowCallThresholdMs()))
+                .waitDurationInOpenState(Duration.ofMillis(config.getOpenStateWaitMs()))
+                .permittedNumberOfCallsInHalfOpenState(Math.max(1, Math.min(3, config.getMinimumNumberOfCalls())))
+                .build();
+    }
+
+    private static BulkheadConfig bulkheadConfig(Upstream config) {
+        return BulkheadConfig.custom()
+                .maxConcurrentCalls(config.getMaxConcurrentCalls())
+                .maxWaitDuration(Duration.ofMillis(config.getMaxWaitMs()))
+                .build();
+    }
+}
@@ -0,0 +1,184 @@
+package com.byeolnight.infrastructure.http;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.SocketTimeoutException;
+import java.net.http.HttpTimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 업스트림별 벌크헤드 → 서킷 브레이커 → 호출 시간 기록
+ * - 5xx 응답, 타임아웃/연결 실패, 본문 읽기 실패를 서킷 실패로 집계 (4xx는 호출부 문제이므로 성공으로 집계)
+ * - 벌크헤드 반환과 서킷/호출 시간 기록은 응답을 닫을 때 (본문까지 읽은 뒤, RestTemplate은 항상 close 호출)
+ * - 거절(BulkheadFullException)/차단(CallNotPermittedException)은 RuntimeException으로 그대로 전파 → 호출부 catch에서 fallback
+ */
+@RequiredArgsConstructor
+class OutboundHttpInterceptor implements ClientHttpRequestInterceptor {
+
+    private final OutboundHttpClients clients;
+    private final String fixedUpstream;
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+        String upstream = clients.resolve(request.getURI(), fixedUpstream);
+        Bulkhead bulkhead = clients.bulkhead(upstream);
+        CircuitBreaker circuitBreaker = clients.circuitBreaker(upstream);
+
+        long started = System.nanoTime();
+        if (!bulkhead.tryAcquirePermission()) {
+            clients.record(upstream, "rejected", System.nanoTime() - started);
+            throw BulkheadFullException.createBulkheadFullException(bulkhead);
+        }
+        if (!circuitBreaker.tryAcquirePermission()) {
+            bulkhead.onComplete();
+            clients.record(upstream, "open", System.nanoTime() - started);
+            throw CallNotPermittedException.createCallNotPermittedException(circuitBreaker);
+        }
+
+        Call call = new Call(upstream, bulkhead, circuitBreaker, started);
+        ClientHttpResponse response = null;
+        try {
+            response = execution.execute(request, body);
+            return new GuardedResponse(response, response.getStatusCode(), call);
+        } catch (IOException | RuntimeException e) {
+            if (response != null) {
+                response.close();
+            }
+            call.complete(null, e);
+            throw e;
+        }
+    }
+
+    private static boolean isTimeout(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof HttpTimeoutException || cause instanceof SocketTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 한 번의 호출 (벌크헤드 permit과 서킷 결과는 정확히 한 번만 반환/기록)
+     */
+    private final class Call {
+
+        private final String upstream;
+        private final Bulkhead bulkhead;
+        private final CircuitBreaker circuitBreaker;
+        private final long started;
+        private final long callStarted;
+        private final AtomicBoolean completed = new AtomicBoolean();
+
+        private Call(String upstream, Bulkhead bulkhead, CircuitBreaker circuitBreaker, long started) {
+            this.upstream = upstream;
+            this.bulkhead = bulkhead;
+            this.circuitBreaker = circuitBreaker;
+            this.started = started;
+            this.callStarted = circuitBreaker.getCurrentTimestamp();
+        }
+
+        void complete(HttpStatusCode status, Throwable error) {
+            if (!completed.compareAndSet(false, true)) {
+                return;
+            }
+            long duration = circuitBreaker.getCurrentTimestamp() - callStarted;
+            String outcome;
+            try {
+                if (error != null) {
+                    circuitBreaker.onError(duration, circuitBreaker.getTimestampUnit(), error);
+                    outcome = isTimeout(error) ? "timeout" : "error";
+                } else if (status.is5xxServerError()) {
+                    circuitBreaker.onError(duration, circuitBreaker.getTimestampUnit(), new HttpServerErrorException(status));
+                    outcome = "server_error";
+                } else {
+                    circuitBreaker.onSuccess(duration, circuitBreaker.getTimestampUnit());
+                    outcome = status.is4xxClientError() ? "client_error" : "success";
+                }
+            } finally {
+                bulkhead.onComplete();
+            }
+            clients.record(upstream, outcome, System.nanoTime() - started);
+        }
+    }
+
+    /**
+     * 본문 읽기 실패를 기억했다가 close 시점에 호출 결과로 반영하는 응답 래퍼
+     */
+    private static final class GuardedResponse implements ClientHttpResponse {
+
+        private final ClientHttpResponse delegate;
+        private final HttpStatusCode status;
+        private final Call call;
+        private volatile IOException bodyError;
+
+        private GuardedResponse(ClientHttpResponse delegate, HttpStatusCode status, Call call) {
+            this.delegate = delegate;
+            this.status = status;
+            this.call = call;
+        }
+
+        @Override
+        public HttpStatusCode getStatusCode() {
+            return status;
+        }
+
+        @Override
+        public String getStatusText() throws IOException {
+            return delegate.getStatusText();
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return delegate.getHeaders();
+        }
+
+        @Override
+        public InputStream getBody() throws IOException {
+            return new FilterInputStream(delegate.getBody()) {
+                @Override
+                public int read() throws IOException {
+                    try {
+                        return super.read();
+                    } catch (IOException e) {
+                        bodyError = e;
+                        throw e;
+                    }
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException {
+                    try {
+                        return super.read(b, off, len);
+                    } catch (IOException e) {
+                        bodyError = e;
+                        throw e;
+                    }
+                }
+            };
+        }
+
+        @Override
+        public void close() {
+            try {
+                delegate.close();
+            } finally {
+                call.complete(status, bodyError);
+            }
+        }
+    }
+}
@@ -38,6 +38,7 @@ public final class AuthWhitelist {
             "/favicon.ico",
             "/robots.txt",
             "/sitemap*.xml",
+            "/sitemap*.xml.gz",
             "/naver*.html",
             
             // 에러 페이지
@@ -93,17 +93,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 토큰 검증 및 인증 처리
         boolean authenticated = false;
 
-        if (jwtTokenProvider.validate(token) && !tokenService.isAccessTokenBlacklisted(token)) {
-            String userId = jwtTokenProvider.getEmail(token);
-            if (userId != null) {
-                try {
-                    UserDetails userDetails = userDetailsService.loadUserByUsername(userId);
-                    setAuthentication(request, userDetails);
-                    authenticated = true;
-                    log.debug("✅ 인증 성공: {} - {}", userId, uri);
-                } catch (UsernameNotFoundException e) {
-                    log.warn("❌ 사용자 조회 실패: {} - {}", userId, e.getMessage());
-                }
+        // 서명 검증과 클레임 추출을 한 번의 파싱으로 처리
+        JwtClaims claims = jwtTokenProvider.verify(token).orElse(null);
+        if (claims != null && !tokenService.isAccessTokenBlacklisted(token)) {
+            String userId = claims.userId().toString();
+            try {
+                UserDetails userDetails = userDetailsService.loadUserByUsername(userId);
+                setAuthentication(request, userDetails);
+                authenticated = true;
+                log.debug("✅ 인증 성공: {} - {}", userId, uri);
+            } catch (UsernameNotFoundException e) {
+                log.warn("❌ 사용자 조회 실패: {} - {}", userId, e.getMessage());
             }
         }
 
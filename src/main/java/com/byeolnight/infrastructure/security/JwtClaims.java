@@ -0,0 +1,29 @@
+package com.byeolnight.infrastructure.security;
+
+import io.jsonwebtoken.Claims;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증이 끝난 JWT 클레임 (한 번 파싱한 결과를 요청 처리 전반에서 재사용)
+ */
+public record JwtClaims(Long userId, String email, String role, String sessionId, String type, Instant expiresAt) {
+
+    static JwtClaims from(Claims claims) {
+        return new JwtClaims(
+                Long.parseLong(claims.getSubject()),
+                claims.get("email", String.class),
+                claims.get("role", String.class),
+                claims.get("sessionId", String.class),
+                claims.get("type", String.class),
+                claims.getExpiration().toInstant());
+    }
+
+    public boolean isRefresh() {
+        return "refresh".equals(type);
+    }
+
+    public boolean isExpired() {
+        return !expiresAt.isAfter(Instant.now());
+    }
+}
@@ -1,6 +1,9 @@
 package com.byeolnight.infrastructure.security;
 
 import com.byeolnight.entity.user.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import jakarta.servlet.http.Cookie;
@@ -20,20 +23,37 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.Base64;
 import java.util.Date;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
+/**
+ * JWT 발급/검증
+ * - 파서는 생성 시 한 번만 만들어 재사용 (불변, 스레드 안전)
+ * - 검증된 토큰은 SHA-256 해시 → 클레임으로 만료 시각까지 캐시해 같은 토큰의 서명 재검증/JSON 파싱을 생략
+ */
 @Slf4j
 @Component
 public class JwtTokenProvider {
 
     private final SecretKey key;
+    private final JwtParser parser;
+    private final Cache<String, JwtClaims> verifiedTokens;
     private final StringRedisTemplate redisTemplate;
     private final Duration accessTokenExpiry = Duration.ofMinutes(30);
     private final Duration refreshTokenExpiry = Duration.ofDays(7);
 
-    public JwtTokenProvider(@Value("${app.security.jwt.secret}") String secret, StringRedisTemplate redisTemplate) {
+    public JwtTokenProvider(@Value("${app.security.jwt.secret}") String secret,
+                            @Value("${app.security.jwt.verified-cache-size:10000}") long verifiedCacheSize,
+                            StringRedisTemplate redisTemplate) {
         this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(key).build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .expireAfter(Expiry.creating((String hash, JwtClaims claims) ->
+                        Duration.between(Instant.now(), claims.expiresAt())))
+                .build();
         this.redisTemplate = redisTemplate;
     }
 
@@ -77,23 +97,37 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    public boolean validateAccessToken(String token) {
+    /**
+     * 서명/만료 검증 후 클레임 반환 (검증 실패 시 empty)
+     */
+    public Optional<JwtClaims> verify(String token) {
         try {
-            Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
-            return true;
+            return Optional.of(parseToken(token));
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return Optional.empty();
         }
     }
 
+    public boolean validateAccessToken(String token) {
+        return verify(token).isPresent();
+    }
+
     public Long getUserIdFromToken(String token) {
-        Claims claims = parseToken(token);
-        return Long.parseLong(claims.getSubject());
+        return parseToken(token).userId();
     }
-    
-    private Claims parseToken(String token) {
-        return Jwts.parser().verifyWith(key).build()
-                .parseSignedClaims(token).getPayload();
+
+    private JwtClaims parseToken(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("토큰이 비어 있습니다.");
+        }
+        String hash = hash(token);
+        JwtClaims cached = verifiedTokens.getIfPresent(hash);
+        if (cached != null && !cached.isExpired()) {
+            return cached;
+        }
+        JwtClaims claims = JwtClaims.from(parser.parseSignedClaims(token).getPayload());
+        verifiedTokens.put(hash, claims);
+        return claims;
     }
 
     // 호환성 메서드들
@@ -102,12 +136,7 @@ public class JwtTokenProvider {
     }
 
     public boolean validateRefreshToken(String token) {
-        try {
-            Claims claims = parseToken(token);
-            return "refresh".equals(claims.get("type", String.class));
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
-        }
+        return verify(token).map(JwtClaims::isRefresh).orElse(false);
     }
 
     public String getEmail(String token) {
@@ -127,16 +156,15 @@ public class JwtTokenProvider {
     }
 
     public long getExpiration(String token) {
-        Claims claims = parseToken(token);
-        return claims.getExpiration().getTime() - System.currentTimeMillis();
+        return parseToken(token).expiresAt().toEpochMilli() - System.currentTimeMillis();
     }
 
     public Authentication getAuthentication(String token) {
         try {
-            Claims claims = parseToken(token);
-            Long userId = Long.parseLong(claims.getSubject());
-            String email = claims.get("email", String.class);
-            String role = claims.get("role", String.class);
+            JwtClaims claims = parseToken(token);
+            Long userId = claims.userId();
+            String email = claims.email();
+            String role = claims.role();
 
             User principal = User.builder()
                     .id(userId)
@@ -155,10 +183,10 @@ public class JwtTokenProvider {
 
     public Long getUserIdFromRequest(HttpServletRequest request) {
         String token = resolveToken(request);
-        if (token != null && validate(token)) {
-            return getUserIdFromToken(token);
+        if (token == null) {
+            return null;
         }
-        return null;
+        return verify(token).map(JwtClaims::userId).orElse(null);
     }
 
     private String resolveToken(HttpServletRequest request) {
@@ -173,6 +201,15 @@ public class JwtTokenProvider {
         return null;
     }
 
+    private String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (Exception e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
     private String generateSessionId(Long userId, String clientInfo, String ipAddress) {
         try {
             String data = userId + ":" + clientInfo + ":" + ipAddress + ":" + System.currentTimeMillis();
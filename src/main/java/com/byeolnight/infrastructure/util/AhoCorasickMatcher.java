@@ -0,0 +1,250 @@
+package com.byeolnight.infrastructure.util;
+
+import java.text.Normalizer;
+import java.util.*;
+
+/**
+ * 다중 키워드 매칭기 (Aho-Corasick)
+ * - 키워드 수와 무관하게 본문을 한 번만 훑어 포함 여부 판정 (키워드마다 contains를 반복하지 않음)
+ * - 키워드/본문 모두 normalize 후 비교 (NFKC, 소문자, 문장부호·공백 → 공백 1칸)
+ * - WORD 모드: 영문/숫자 키워드는 단어 단위(복수형 s/es 허용, 뒤에 붙은 한글 조사 허용),
+ *   한글 두 글자 이상은 합성어/조사를 고려해 부분 일치, 한 글자(달/별 등)는 단독 단어 또는 단어 + 조사만 인정
+ * - 생성 후 불변이므로 여러 스레드에서 공유 가능
+ */
+public final class AhoCorasickMatcher {
+
+    public enum MatchMode {
+        SUBSTRING,
+        WORD
+    }
+
+    private static final int ROOT = 0;
+    private static final Set<String> PARTICLES = Set.of(
+            "이", "가", "을", "를", "의", "에", "은", "는", "도", "와", "과", "로", "으로",
+            "에서", "에게", "까지", "부터", "만", "처럼", "보다", "이다", "입니다");
+
+    private final MatchMode mode;
+    private final String[] keywords;
+    // 노드별 전이: 정렬된 문자 배열 + 같은 위치의 다음 노드
+    private final char[][] edgeChars;
+    private final int[][] edgeTargets;
+    private final int[] failure;
+    // 노드에 도달했을 때 끝나는 키워드 인덱스 (실패 링크를 따라 끝나는 키워드 포함)
+    private final int[][] outputs;
+
+    private AhoCorasickMatcher(MatchMode mode, String[] keywords, char[][] edgeChars, int[][] edgeTargets,
+                               int[] failure, int[][] outputs) {
+        this.mode = mode;
+        this.keywords = keywords;
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.failure = failure;
+        this.outputs = outputs;
+    }
+
+    public static AhoCorasickMatcher of(String... keywords) {
+        return of(MatchMode.SUBSTRING, Arrays.asList(keywords));
+    }
+
+    public static AhoCorasickMatcher of(Collection<String> keywords) {
+        return of(MatchMode.SUBSTRING, keywords);
+    }
+
+    public static AhoCorasickMatcher of(MatchMode mode, Collection<String> keywords) {
+        List<String> distinct = new ArrayList<>(new LinkedHashSet<>(keywords.stream()
+                .filter(Objects::nonNull)
+                .map(AhoCorasickMatcher::normalize)
+                .filter(keyword -> !keyword.isEmpty())
+                .toList()));
+
+        // 1. 트라이 구성
+        List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        List<List<Integer>> ends = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        ends.add(new ArrayList<>());
+        for (int i = 0; i < distinct.size(); i++) {
+            int node = ROOT;
+            for (char c : distinct.get(i).toCharArray()) {
+                Integer child = trie.get(node).get(c);
+                if (child == null) {
+                    child = trie.size();
+                    trie.get(node).put(c, child);
+                    trie.add(new TreeMap<>());
+                    ends.add(new ArrayList<>());
+                }
+                node = child;
+            }
+            ends.get(node).add(i);
+        }
+
+        // 2. 너비 우선으로 실패 링크 계산 + 출력 병합
+        int size = trie.size();
+        char[][] edgeChars = new char[size][];
+        int[][] edgeTargets = new int[size][];
+        for (int node = 0; node < size; node++) {
+            TreeMap<Character, Integer> edges = trie.get(node);
+            edgeChars[node] = new char[edges.size()];
+            edgeTargets[node] = new int[edges.size()];
+            int j = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                edgeChars[node][j] = edge.getKey();
+                edgeTargets[node][j++] = edge.getValue();
+            }
+        }
+
+        int[] failure = new int[size];
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int child : edgeTargets[ROOT]) {
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int j = 0; j < edgeChars[node].length; j++) {
+                char c = edgeChars[node][j];
+                int child = edgeTargets[node][j];
+                int fallback = failure[node];
+                while (fallback != ROOT && next(edgeChars, edgeTargets, fallback, c) < 0) {
+                    fallback = failure[fallback];
+                }
+                int target = next(edgeChars, edgeTargets, fallback, c);
+                failure[child] = target >= 0 && target != child ? target : ROOT;
+                ends.get(child).addAll(ends.get(failure[child]));
+                queue.add(child);
+            }
+        }
+
+        int[][] outputs = new int[size][];
+        for (int node = 0; node < size; node++) {
+            outputs[node] = ends.get(node).stream().mapToInt(Integer::intValue).toArray();
+        }
+        return new AhoCorasickMatcher(mode, distinct.toArray(String[]::new), edgeChars, edgeTargets, failure, outputs);
+    }
+
+    /**
+     * 비교용 정규화: NFKC(전각/호환 문자 통일) → 소문자 → 글자/숫자 외 문자는 공백 1칸으로
+     */
+    public static String normalize(String text) {
+        String nfkc = Normalizer.normalize(text, Normalizer.Form.NFKC);
+        StringBuilder normalized = new StringBuilder(nfkc.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < nfkc.length(); i++) {
+            char c = nfkc.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                if (pendingSpace && !normalized.isEmpty()) {
+                    normalized.append(' ');
+                }
+                normalized.append(Character.toLowerCase(c));
+                pendingSpace = false;
+            } else {
+                pendingSpace = true;
+            }
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * 키워드 중 하나라도 포함하는지 (첫 매칭에서 종료)
+     */
+    public boolean containsAny(String text) {
+        if (text == null || keywords.length == 0) {
+            return false;
+        }
+        String normalized = normalize(text);
+        int node = ROOT;
+        for (int i = 0; i < normalized.length(); i++) {
+            node = step(node, normalized.charAt(i));
+            for (int keyword : outputs[node]) {
+                if (accepts(normalized, keyword, i + 1)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 포함된 키워드 목록 (정규화된 형태, 처음 등장한 순서)
+     */
+    public Set<String> findAll(String text) {
+        Set<String> found = new LinkedHashSet<>();
+        if (text == null || keywords.length == 0) {
+            return found;
+        }
+        String normalized = normalize(text);
+        int node = ROOT;
+        for (int i = 0; i < normalized.length(); i++) {
+            node = step(node, normalized.charAt(i));
+            for (int keyword : outputs[node]) {
+                if (accepts(normalized, keyword, i + 1)) {
+                    found.add(keywords[keyword]);
+                }
+            }
+        }
+        return found;
+    }
+
+    public int size() {
+        return keywords.length;
+    }
+
+    private boolean accepts(String text, int keywordIndex, int end) {
+        if (mode == MatchMode.SUBSTRING) {
+            return true;
+        }
+        String keyword = keywords[keywordIndex];
+        int start = end - keyword.length();
+
+        if (isHangul(keyword.charAt(0))) {
+            if (keyword.length() > 1) {
+                return true;
+            }
+            // 한 글자 키워드: 앞은 단어 경계, 뒤는 경계 또는 조사
+            if (start > 0 && isHangul(text.charAt(start - 1))) {
+                return false;
+            }
+            int suffixEnd = end;
+            while (suffixEnd < text.length() && isHangul(text.charAt(suffixEnd))) {
+                suffixEnd++;
+            }
+            return suffixEnd == end || PARTICLES.contains(text.substring(end, suffixEnd));
+        }
+
+        if (start > 0 && isWordChar(text.charAt(start - 1))) {
+            return false;
+        }
+        if (end == text.length() || !isWordChar(text.charAt(end))) {
+            return true;
+        }
+        // 영문 복수형 (stars, eclipses)
+        int plural = text.charAt(end) == 's' ? end + 1
+                : text.startsWith("es", end) ? end + 2 : -1;
+        return plural > 0 && (plural == text.length() || !isWordChar(text.charAt(plural)));
+    }
+
+    // 영문/숫자 단어 경계 판정용 (한글은 조사가 붙으므로 경계로 취급)
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) && !isHangul(c);
+    }
+
+    private static boolean isHangul(char c) {
+        return c >= '가' && c <= '힣';
+    }
+
+    private int step(int node, char c) {
+        while (true) {
+            int target = next(edgeChars, edgeTargets, node, c);
+            if (target >= 0) {
+                return target;
+            }
+            if (node == ROOT) {
+                return ROOT;
+            }
+            node = failure[node];
+        }
+    }
+
+    private static int next(char[][] edgeChars, int[][] edgeTargets, int node, char c) {
+        int index = Arrays.binarySearch(edgeChars[node], c);
+        return index >= 0 ? edgeTargets[node][index] : -1;
+    }
+}
@@ -0,0 +1,87 @@
+package com.byeolnight.infrastructure.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 제목 유사 중복 인덱스 (MinHash + LSH)
+ * - 서명 64개를 16밴드 × 4행으로 나눠 밴드별 버킷에 등록, 같은 버킷을 공유하는 제목만 후보로 비교
+ * - 후보는 shingle 집합의 실제 Jaccard 유사도로 최종 확인 (임계값 0.7에서 놓칠 확률 약 1%)
+ * - 수집 회차마다 1회 로드해 사용하며, 이번 회차에 선별한 제목도 추가해 회차 내 중복까지 거름
+ * - 스레드 안전하지 않음 (수집 작업 단위로 생성해 단일 스레드에서 사용)
+ */
+public class NearDuplicateIndex {
+
+    private static final int BANDS = 16;
+    private static final int ROWS = TitleMinHash.NUM_HASHES / BANDS;
+
+    private final double threshold;
+    private final List<String> titles = new ArrayList<>();
+    private final Map<Long, List<Integer>> buckets = new HashMap<>();
+
+    public NearDuplicateIndex(double threshold) {
+        this.threshold = threshold;
+    }
+
+    public void add(String title) {
+        add(title, null);
+    }
+
+    /**
+     * 저장된 서명으로 등록 (서명이 없으면 제목으로 계산)
+     */
+    public void add(String title, int[] signature) {
+        if (TitleMinHash.normalize(title).isEmpty()) {
+            return;
+        }
+        int[] resolved = signature != null ? signature : TitleMinHash.signature(title);
+        int id = titles.size();
+        titles.add(title);
+        for (int band = 0; band < BANDS; band++) {
+            buckets.computeIfAbsent(bucketKey(resolved, band), key -> new ArrayList<>(1)).add(id);
+        }
+    }
+
+    /**
+     * 임계값을 넘게 유사한 기존 제목 조회
+     */
+    public Optional<String> findSimilar(String title) {
+        Set<Integer> shingles = TitleMinHash.shingles(title);
+        if (shingles.isEmpty()) {
+            return Optional.empty();
+        }
+        int[] signature = TitleMinHash.signature(shingles);
+
+        Set<Integer> candidates = new LinkedHashSet<>();
+        for (int band = 0; band < BANDS; band++) {
+            List<Integer> bucket = buckets.get(bucketKey(signature, band));
+            if (bucket != null) {
+                candidates.addAll(bucket);
+            }
+        }
+        for (int id : candidates) {
+            String candidate = titles.get(id);
+            if (TitleMinHash.jaccard(shingles, TitleMinHash.shingles(candidate)) > threshold) {
+                return Optional.of(candidate);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public int size() {
+        return titles.size();
+    }
+
+    private static long bucketKey(int[] signature, int band) {
+        int hash = 1;
+        for (int i = band * ROWS; i < (band + 1) * ROWS; i++) {
+            hash = 31 * hash + signature[i];
+        }
+        return ((long) band << 32) | (hash & 0xFFFFFFFFL);
+    }
+}
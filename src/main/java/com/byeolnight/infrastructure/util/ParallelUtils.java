@@ -0,0 +1,50 @@
+package com.byeolnight.infrastructure.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * 외부 API 호출(번역/AI 분석 등)을 항목별로 동시에 수행하는 유틸리티
+ * - 최대 parallelism개의 가상 스레드로 실행해 외부 API 동시 호출 수를 제한
+ * - 트랜잭션 밖에서 호출하는 것을 전제로 함 (DB 커넥션을 잡은 채 원격 호출을 기다리지 않도록)
+ */
+@Slf4j
+public final class ParallelUtils {
+
+    private ParallelUtils() {
+    }
+
+    /**
+     * 항목별 작업을 동시 실행하고 입력 순서대로 결과 반환 (실패하거나 null을 반환한 항목은 제외)
+     */
+    public static <T, R> List<R> mapBounded(List<T> items, int parallelism, Function<T, R> task) {
+        if (items.isEmpty()) {
+            return List.of();
+        }
+        int threads = Math.max(1, Math.min(parallelism, items.size()));
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads, Thread.ofVirtual().name("enrich-", 0).factory())) {
+            List<CompletableFuture<R>> futures = items.stream()
+                    .map(item -> CompletableFuture.supplyAsync(() -> apply(task, item), executor))
+                    .toList();
+            return futures.stream()
+                    .map(CompletableFuture::join)
+                    .filter(Objects::nonNull)
+                    .toList();
+        }
+    }
+
+    private static <T, R> R apply(Function<T, R> task, T item) {
+        try {
+            return task.apply(item);
+        } catch (Exception e) {
+            log.warn("병렬 작업 항목 처리 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.byeolnight.infrastructure.util;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * 제목 MinHash 서명 유틸리티
+ * - 정규화한 제목의 문자 3-gram 집합(shingle)에 대해 64개 해시의 최솟값을 서명으로 사용
+ * - 두 서명의 일치 비율 ≈ shingle 집합의 Jaccard 유사도
+ * - 해시 계수는 고정 시드로 생성하므로 DB에 저장한 서명을 재기동 후에도 그대로 비교 가능
+ */
+public final class TitleMinHash {
+
+    public static final int NUM_HASHES = 64;
+
+    private static final int SHINGLE_SIZE = 3;
+    private static final long PRIME = (1L << 31) - 1;
+    private static final long SEED = 0x5EEDL;
+    private static final long[] COEFF_A = new long[NUM_HASHES];
+    private static final long[] COEFF_B = new long[NUM_HASHES];
+
+    static {
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (int i = 0; i < NUM_HASHES; i++) {
+            COEFF_A[i] = random.nextLong(1, PRIME);
+            COEFF_B[i] = random.nextLong(0, PRIME);
+        }
+    }
+
+    private TitleMinHash() {
+    }
+
+    /**
+     * 소문자 변환, 특수문자 제거, 공백 정리
+     */
+    public static String normalize(String title) {
+        if (title == null) return "";
+        return title.toLowerCase()
+                .replaceAll("[^\\w\\s가-힣]", "")
+                .replaceAll("\\s+", " ")
+                .trim();
+    }
+
+    /**
+     * 정규화한 제목의 문자 3-gram 해시 집합 (3자 미만이면 제목 전체 1개)
+     */
+    public static Set<Integer> shingles(String title) {
+        String normalized = normalize(title);
+        Set<Integer> shingles = new HashSet<>();
+        if (normalized.isEmpty()) {
+            return shingles;
+        }
+        if (normalized.length() < SHINGLE_SIZE) {
+            shingles.add(normalized.hashCode());
+            return shingles;
+        }
+        for (int i = 0; i + SHINGLE_SIZE <= normalized.length(); i++) {
+            shingles.add(normalized.substring(i, i + SHINGLE_SIZE).hashCode());
+        }
+        return shingles;
+    }
+
+    public static int[] signature(String title) {
+        return signature(shingles(title));
+    }
+
+    public static int[] signature(Set<Integer> shingles) {
+        int[] signature = new int[NUM_HASHES];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (int shingle : shingles) {
+            long x = shingle & 0xFFFFFFFFL;
+            for (int i = 0; i < NUM_HASHES; i++) {
+                int h = (int) ((COEFF_A[i] * x + COEFF_B[i]) % PRIME);
+                if (h < signature[i]) {
+                    signature[i] = h;
+                }
+            }
+        }
+        return signature;
+    }
+
+    public static double jaccard(Set<Integer> a, Set<Integer> b) {
+        if (a.isEmpty() || b.isEmpty()) return 0.0;
+        Set<Integer> smaller = a.size() <= b.size() ? a : b;
+        Set<Integer> larger = smaller == a ? b : a;
+        int intersection = 0;
+        for (Integer shingle : smaller) {
+            if (larger.contains(shingle)) intersection++;
+        }
+        return (double) intersection / (a.size() + b.size() - intersection);
+    }
+
+    /**
+     * DB 저장용 직렬화 (64개 int → 256바이트)
+     */
+    public static byte[] toBytes(int[] signature) {
+        ByteBuffer buffer = ByteBuffer.allocate(signature.length * Integer.BYTES);
+        for (int value : signature) {
+            buffer.putInt(value);
+        }
+        return buffer.array();
+    }
+
+    /**
+     * 저장된 서명 복원 (길이가 맞지 않으면 null → 제목으로 다시 계산)
+     */
+    public static int[] fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length != NUM_HASHES * Integer.BYTES) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        int[] signature = new int[NUM_HASHES];
+        for (int i = 0; i < NUM_HASHES; i++) {
+            signature[i] = buffer.getInt();
+        }
+        return signature;
+    }
+}
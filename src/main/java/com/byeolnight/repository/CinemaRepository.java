@@ -1,7 +1,10 @@
 package com.byeolnight.repository;
 
+import com.byeolnight.dto.crawler.TitleSignatureRow;
 import com.byeolnight.entity.Cinema;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -16,6 +19,10 @@ public interface CinemaRepository extends JpaRepository<Cinema, Long> {
     
     List<Cinema> findByCreatedAtAfter(LocalDateTime cutoffDate);
     
+    // 유사 중복 인덱스 로드 (제목 + 서명만 조회)
+    @Query("SELECT new com.byeolnight.dto.crawler.TitleSignatureRow(c.title, c.titleMinHash) FROM Cinema c WHERE c.createdAt > :after")
+    List<TitleSignatureRow> findTitleSignaturesCreatedAfter(@Param("after") LocalDateTime after);
+    
     List<Cinema> findTop10ByOrderByCreatedAtDesc();
     
     long countByCreatedAtAfter(LocalDateTime after);
@@ -5,6 +5,7 @@ import com.byeolnight.entity.user.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -22,13 +23,21 @@ public interface MessageRepository extends JpaRepository<Message, Long> {
     // 읽지 않은 쪽지 개수
     long countByReceiverAndIsReadFalseAndReceiverDeletedFalse(User receiver);
 
-    // 3년 경과 후 영구 삭제 대상 쪽지 조회
-    @Query("SELECT m FROM Message m WHERE m.senderDeleted = true AND m.receiverDeleted = true " +
+    // 3년 경과 후 영구 삭제 대상 쪽지 ID keyset 조회 (id 오름차순, 청크 단위)
+    @Query("SELECT m.id FROM Message m WHERE m.senderDeleted = true AND m.receiverDeleted = true " +
+           "AND ((m.senderDeletedAt < :threeYearsAgo) OR (m.receiverDeletedAt < :threeYearsAgo)) " +
+           "AND m.id > :afterId ORDER BY m.id ASC")
+    List<Long> findIdsEligibleForPermanentDeletion(@Param("threeYearsAgo") java.time.LocalDateTime threeYearsAgo,
+                                                   @Param("afterId") Long afterId,
+                                                   Pageable pageable);
+
+    // 3년 경과 후 영구 삭제 대상 쪽지 수
+    @Query("SELECT COUNT(m) FROM Message m WHERE m.senderDeleted = true AND m.receiverDeleted = true " +
            "AND ((m.senderDeletedAt < :threeYearsAgo) OR (m.receiverDeletedAt < :threeYearsAgo))")
-    List<Message> findMessagesEligibleForPermanentDeletion(@Param("threeYearsAgo") java.time.LocalDateTime threeYearsAgo);
-    
-    // 편의 메서드
-    default List<Message> findMessagesEligibleForPermanentDeletion() {
-        return findMessagesEligibleForPermanentDeletion(java.time.LocalDateTime.now().minusYears(3));
-    }
+    long countEligibleForPermanentDeletion(@Param("threeYearsAgo") java.time.LocalDateTime threeYearsAgo);
+
+    // 쪽지 일괄 물리 삭제 (DELETE ... WHERE id IN)
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Message m WHERE m.id IN :ids")
+    int bulkDeleteByIds(@Param("ids") List<Long> ids);
 }
\ No newline at end of file
@@ -1,10 +1,14 @@
 package com.byeolnight.repository;
 
+import com.byeolnight.dto.crawler.TitleSignatureRow;
 import com.byeolnight.entity.News;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -12,11 +16,19 @@ public interface NewsRepository extends JpaRepository<News, Long> {
     
     boolean existsByUrl(String url);
     
+    // 수집 후보 중 이미 저장된 URL 일괄 조회
+    @Query("SELECT n.url FROM News n WHERE n.url IN :urls")
+    List<String> findUrlsByUrlIn(@Param("urls") Collection<String> urls);
+    
     List<News> findTop10ByCreatedAtAfterAndUsedForDiscussionFalseOrderByCreatedAtDesc(LocalDateTime after);
     
     List<News> findTop10ByUsedForDiscussionFalseOrderByCreatedAtAsc();
     
     List<News> findByPublishedAtAfter(LocalDateTime after);
     
+    // 유사 중복 인덱스 로드 (제목 + 서명만 조회)
+    @Query("SELECT new com.byeolnight.dto.crawler.TitleSignatureRow(n.title, n.titleMinHash) FROM News n WHERE n.publishedAt > :after")
+    List<TitleSignatureRow> findTitleSignaturesPublishedAfter(@Param("after") LocalDateTime after);
+    
     long countByCreatedAtAfter(LocalDateTime after);
 }
\ No newline at end of file
@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -21,6 +22,10 @@ public interface UserCertificateRepository extends JpaRepository<UserCertificate
     // 사용자의 대표 인증서 조회
     Optional<UserCertificate> findByUserAndIsRepresentativeTrue(User user);
 
+    // 사용자가 보유한 인증서 종류 조회 (보유 현황 캐시 적재용)
+    @Query("SELECT uc.certificateType FROM UserCertificate uc WHERE uc.user.id = :userId")
+    List<Certificate.CertificateType> findCertificateTypesByUserId(@Param("userId") Long userId);
+
     // 특정 인증서 보유 여부 확인
     boolean existsByUserAndCertificateType(User user, Certificate.CertificateType certificateType);
 
@@ -32,7 +37,7 @@ public interface UserCertificateRepository extends JpaRepository<UserCertificate
     // 사용자의 특정 인증서 조회
     Optional<UserCertificate> findByUserAndCertificateType(User user, Certificate.CertificateType certificateType);
 
-    // 여러 사용자의 대표 인증서 배치 조회 (N+1 방지)
-    @Query("SELECT uc FROM UserCertificate uc WHERE uc.user IN :users AND uc.isRepresentative = true")
-    List<UserCertificate> findByUserInAndIsRepresentativeTrue(@Param("users") java.util.Set<User> users);
+    // 여러 사용자의 대표 인증서 종류 배치 조회 ([userId, certificateType])
+    @Query("SELECT uc.user.id, uc.certificateType FROM UserCertificate uc WHERE uc.user.id IN :userIds AND uc.isRepresentative = true")
+    List<Object[]> findRepresentativeTypesByUserIdIn(@Param("userIds") Collection<Long> userIds);
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package com.byeolnight.repository.chat;
 
 import com.byeolnight.entity.chat.ChatBan;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -11,8 +12,9 @@ import java.util.Optional;
 
 public interface ChatBanRepository extends JpaRepository<ChatBan, Long> {
 
-    // 활성 상태인 채팅 금지 조회
-    List<ChatBan> findByIsActiveTrueOrderByBannedAtDesc();
+    // 활성 상태이면서 만료되지 않은 채팅 금지 조회 (SQL 페이징)
+    @Query("SELECT c FROM ChatBan c WHERE c.isActive = true AND c.bannedUntil > :now ORDER BY c.bannedAt DESC, c.id DESC")
+    List<ChatBan> findActiveBans(@Param("now") LocalDateTime now, Pageable pageable);
 
     // 특정 사용자의 활성 채팅 금지 조회
     Optional<ChatBan> findByUsernameAndIsActiveTrueAndBannedUntilAfter(String username, LocalDateTime now);
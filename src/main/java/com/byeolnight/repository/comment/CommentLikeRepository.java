@@ -4,6 +4,9 @@ import com.byeolnight.entity.comment.Comment;
 import com.byeolnight.entity.comment.CommentLike;
 import com.byeolnight.entity.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -12,4 +15,19 @@ public interface CommentLikeRepository extends JpaRepository<CommentLike, Long>
     boolean existsByCommentAndUser(Comment comment, User user);
     
     void deleteByCommentAndUser(Comment comment, User user);
-}
\ No newline at end of file
+
+    // 좋아요 추가 (INSERT ... SELECT 한 번, 이미 좋아요했거나 댓글이 없으면 0건)
+    @Modifying
+    @Query(value = """
+        INSERT INTO comment_likes (comment_id, user_id, created_at)
+        SELECT c.id, :userId, CURRENT_TIMESTAMP FROM comments c
+        WHERE c.id = :commentId
+          AND NOT EXISTS (SELECT 1 FROM comment_likes cl WHERE cl.comment_id = :commentId AND cl.user_id = :userId)
+        """, nativeQuery = true)
+    int insertIfAbsent(@Param("commentId") Long commentId, @Param("userId") Long userId);
+
+    // 좋아요 취소 (엔티티 로딩 없이 DELETE 한 번)
+    @Modifying
+    @Query("DELETE FROM CommentLike cl WHERE cl.comment.id = :commentId AND cl.user.id = :userId")
+    int deleteByCommentIdAndUserId(@Param("commentId") Long commentId, @Param("userId") Long userId);
+}
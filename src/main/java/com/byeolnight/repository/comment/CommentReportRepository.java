@@ -1,12 +1,17 @@
 package com.byeolnight.repository.comment;
 
+import com.byeolnight.dto.admin.ReportedTargetSummary;
 import com.byeolnight.entity.comment.Comment;
 import com.byeolnight.entity.comment.CommentReport;
 import com.byeolnight.entity.user.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -18,4 +23,27 @@ public interface CommentReportRepository extends JpaRepository<CommentReport, Lo
     
     @Query("SELECT cr FROM CommentReport cr WHERE cr.reviewed = false ORDER BY cr.createdAt DESC")
     List<CommentReport> findPendingReports();
-}
\ No newline at end of file
+
+    // 관리자용 신고 큐: 댓글별 신고 수/최근 신고 시각 집계 (신고 수 많은 순, SQL 페이징, 미처리 신고가 남은 댓글만)
+    @Query(value = """
+        SELECT new com.byeolnight.dto.admin.ReportedTargetSummary(c.id, COUNT(cr), MAX(cr.createdAt))
+        FROM CommentReport cr JOIN cr.comment c
+        WHERE c.reportCount > 0
+        GROUP BY c.id
+        ORDER BY COUNT(cr) DESC, MAX(cr.createdAt) DESC, c.id DESC
+        """,
+        countQuery = "SELECT COUNT(DISTINCT c.id) FROM CommentReport cr JOIN cr.comment c WHERE c.reportCount > 0")
+    Page<ReportedTargetSummary> findReportedCommentSummaries(Pageable pageable);
+
+    // 현재 페이지 댓글의 신고 상세 (댓글/작성자/게시글/신고자 함께 로딩)
+    @Query("""
+        SELECT cr FROM CommentReport cr
+        JOIN FETCH cr.comment c
+        JOIN FETCH c.writer
+        LEFT JOIN FETCH c.post
+        JOIN FETCH cr.user
+        WHERE c.id IN :commentIds
+        ORDER BY cr.createdAt DESC
+        """)
+    List<CommentReport> findAllWithDetailsByCommentIdIn(@Param("commentIds") Collection<Long> commentIds);
+}
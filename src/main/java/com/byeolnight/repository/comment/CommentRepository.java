@@ -4,30 +4,109 @@ import com.byeolnight.entity.comment.Comment;
 import com.byeolnight.entity.user.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     /**
-     * 게시글 ID로 댓글 전체 조회 + 작성자 즉시 로딩 (LEFT JOIN 사용)
+     * 게시글 ID로 댓글 전체 조회 + 작성자/부모 댓글/부모 작성자 즉시 로딩 (LEFT JOIN 사용)
      */
-    @Query("SELECT c FROM Comment c LEFT JOIN FETCH c.writer WHERE c.post.id = :postId ORDER BY c.createdAt ASC")
+    @Query("""
+        SELECT c FROM Comment c
+        LEFT JOIN FETCH c.writer
+        LEFT JOIN FETCH c.parent p
+        LEFT JOIN FETCH p.writer
+        WHERE c.post.id = :postId
+        ORDER BY c.createdAt ASC
+        """)
     List<Comment> findAllByPostId(@Param("postId") Long postId);
     
     /**
      * 게시글 ID로 모든 댓글 조회 (삭제/블라인드 포함) - 관리자용
      */
-    @Query("SELECT c FROM Comment c LEFT JOIN FETCH c.writer WHERE c.post.id = :postId ORDER BY c.createdAt ASC")
+    @Query("""
+        SELECT c FROM Comment c
+        LEFT JOIN FETCH c.writer
+        LEFT JOIN FETCH c.parent p
+        LEFT JOIN FETCH p.writer
+        WHERE c.post.id = :postId
+        ORDER BY c.createdAt ASC
+        """)
     List<Comment> findAllByPostIdIncludingDeleted(@Param("postId") Long postId);
     
     /**
      * 게시글 ID로 인기 댓글 TOP3 조회 (좋아요 5개 이상)
      */
-    @Query("SELECT c FROM Comment c LEFT JOIN FETCH c.writer WHERE c.post.id = :postId AND c.likeCount >= 5 AND c.deleted = false AND c.blinded = false ORDER BY c.likeCount DESC LIMIT 3")
+    @Query("""
+        SELECT c FROM Comment c
+        LEFT JOIN FETCH c.writer
+        LEFT JOIN FETCH c.parent p
+        LEFT JOIN FETCH p.writer
+        WHERE c.post.id = :postId AND c.likeCount >= 5 AND c.deleted = false AND c.blinded = false
+        ORDER BY c.likeCount DESC
+        LIMIT 3
+        """)
     List<Comment> findTop3PopularCommentsByPostId(@Param("postId") Long postId);
+
+    /**
+     * 게시글의 루트 댓글 keyset 조회 (id 오름차순)
+     */
+    @Query("""
+        SELECT c FROM Comment c
+        LEFT JOIN FETCH c.writer
+        WHERE c.post.id = :postId AND c.parent IS NULL AND c.id > :afterId
+        ORDER BY c.id ASC
+        """)
+    List<Comment> findRootCommentsAfter(@Param("postId") Long postId,
+                                        @Param("afterId") Long afterId,
+                                        org.springframework.data.domain.Pageable pageable);
+
+    /**
+     * 루트 댓글별 전체 답글(답글의 답글 포함) ID 조회 - 재귀 CTE 한 번으로 계층 전체 탐색
+     * @return [답글 id, 루트 댓글 id] 목록 (루트, id 오름차순)
+     */
+    @Query(value = """
+        WITH RECURSIVE thread (id, root_id) AS (
+            SELECT c.id, c.parent_id FROM comments c WHERE c.parent_id IN (:rootIds)
+            UNION ALL
+            SELECT c.id, t.root_id FROM comments c JOIN thread t ON c.parent_id = t.id
+        )
+        SELECT t.id, t.root_id FROM thread t ORDER BY t.root_id, t.id
+        """, nativeQuery = true)
+    List<Object[]> findReplyIdsByRootIds(@Param("rootIds") Collection<Long> rootIds);
+
+    /**
+     * 루트 댓글 하위 계층의 답글 ID keyset 조회 (id 오름차순, 최대 limit개)
+     */
+    @Query(value = """
+        WITH RECURSIVE thread (id) AS (
+            SELECT c.id FROM comments c WHERE c.parent_id = :rootId
+            UNION ALL
+            SELECT c.id FROM comments c JOIN thread t ON c.parent_id = t.id
+        )
+        SELECT t.id FROM thread t WHERE t.id > :afterId ORDER BY t.id LIMIT :limit
+        """, nativeQuery = true)
+    List<Number> findReplyIdsAfter(@Param("rootId") Long rootId,
+                                   @Param("afterId") Long afterId,
+                                   @Param("limit") int limit);
+
+    /**
+     * ID 목록으로 댓글 조회 + 작성자/부모 댓글/부모 작성자 즉시 로딩
+     */
+    @Query("""
+        SELECT c FROM Comment c
+        LEFT JOIN FETCH c.writer
+        LEFT JOIN FETCH c.parent p
+        LEFT JOIN FETCH p.writer
+        WHERE c.id IN :ids
+        ORDER BY c.id ASC
+        """)
+    List<Comment> findAllWithParentByIdIn(@Param("ids") Collection<Long> ids);
     
     /**
      * 게시글 ID로 댓글 수 조회
@@ -59,10 +138,25 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     List<Comment> findByDeletedTrueOrderByCreatedAtDesc();
     
     /**
-     * 30일 이상 지난 삭제된 댓글 조회
+     * 만료된 삭제 댓글 ID keyset 조회 (id 오름차순, 청크 단위)
      */
-    @Query("SELECT c FROM Comment c WHERE c.deleted = true AND c.deletedAt < :threshold")
-    List<Comment> findExpiredDeletedComments(@Param("threshold") java.time.LocalDateTime threshold);
+    @Query("SELECT c.id FROM Comment c WHERE c.deleted = true AND c.deletedAt < :threshold AND c.id > :afterId ORDER BY c.id ASC")
+    List<Long> findExpiredDeletedCommentIds(@Param("threshold") java.time.LocalDateTime threshold,
+                                            @Param("afterId") Long afterId,
+                                            org.springframework.data.domain.Pageable pageable);
+
+    /**
+     * 만료된 삭제 댓글 수
+     */
+    @Query("SELECT COUNT(c) FROM Comment c WHERE c.deleted = true AND c.deletedAt < :threshold")
+    long countExpiredDeletedComments(@Param("threshold") java.time.LocalDateTime threshold);
+
+    /**
+     * 댓글 일괄 물리 삭제 (DELETE ... WHERE id IN)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Comment c WHERE c.id IN :ids")
+    int bulkDeleteByIds(@Param("ids") List<Long> ids);
     
     /**
      * 댓글 내용에 특정 문자열이 포함된 댓글 존재 여부 확인 (S3 파일 사용 여부 체크용)
@@ -74,4 +168,18 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      */
     @Query("SELECT c FROM Comment c LEFT JOIN FETCH c.writer LEFT JOIN FETCH c.post WHERE c.reportCount > :count ORDER BY c.reportCount DESC, c.createdAt DESC")
     List<Comment> findByReportCountGreaterThanOrderByReportCountDesc(@Param("count") int count);
+
+    /**
+     * 좋아요 수 원자적 증가
+     */
+    @Modifying
+    @Query("UPDATE Comment c SET c.likeCount = c.likeCount + 1 WHERE c.id = :commentId")
+    int incrementLikeCount(@Param("commentId") Long commentId);
+
+    /**
+     * 좋아요 수 원자적 감소 (0 미만으로 내려가지 않음)
+     */
+    @Modifying
+    @Query("UPDATE Comment c SET c.likeCount = c.likeCount - 1 WHERE c.id = :commentId AND c.likeCount > 0")
+    int decrementLikeCount(@Param("commentId") Long commentId);
 }
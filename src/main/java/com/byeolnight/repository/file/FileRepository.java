@@ -4,8 +4,12 @@ import com.byeolnight.entity.file.File;
 import com.byeolnight.entity.file.FileStatus;
 import com.byeolnight.entity.post.Post;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,6 +17,18 @@ public interface FileRepository extends JpaRepository<File, Long> {
     void deleteAllByPost(Post post); // ✔️ 게시글 삭제 시 첨부 파일도 삭제
     List<File> findAllByPost(Post post);
 
+    /**
+     * 여러 게시글의 첨부 파일 일괄 조회 (보존기간 정리용)
+     */
+    List<File> findAllByPostIdIn(Collection<Long> postIds);
+
+    /**
+     * 여러 게시글의 첨부 파일 레코드 일괄 삭제 (DELETE ... WHERE post_id IN)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM File f WHERE f.post.id IN :postIds")
+    int bulkDeleteByPostIds(@Param("postIds") Collection<Long> postIds);
+
     /**
      * S3 키로 파일 조회
      */
@@ -0,0 +1,63 @@
+package com.byeolnight.repository.log;
+
+import com.byeolnight.dto.log.AuditLogJob;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * 감사 로그 JDBC 배치 INSERT
+ * - IDENTITY 전략은 Hibernate 배치 INSERT가 비활성화되므로 JdbcTemplate batchUpdate 사용
+ */
+@Repository
+@RequiredArgsConstructor
+public class AuditLogBatchRepository {
+
+    private static final String INSERT_LOGIN_SQL = """
+        INSERT INTO audit_login_log (email, ip_address, user_agent, logged_in_at)
+        VALUES (?, ?, ?, ?)
+        """;
+
+    private static final String INSERT_REFRESH_SQL = """
+        INSERT INTO audit_refresh_token_log (email, ip_address, user_agent, issued_at)
+        VALUES (?, ?, ?, ?)
+        """;
+
+    private static final String INSERT_SIGNUP_SQL = """
+        INSERT INTO audit_signup_log (email, ip_address, result, failure_reason, created_at)
+        VALUES (?, ?, ?, ?, ?)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void batchInsertLogins(List<AuditLogJob> jobs) {
+        jdbcTemplate.batchUpdate(INSERT_LOGIN_SQL, jobs, jobs.size(), (ps, job) -> {
+            ps.setString(1, job.email());
+            ps.setString(2, job.ipAddress());
+            ps.setString(3, job.userAgent());
+            ps.setTimestamp(4, Timestamp.valueOf(job.occurredAt()));
+        });
+    }
+
+    public void batchInsertRefreshes(List<AuditLogJob> jobs) {
+        jdbcTemplate.batchUpdate(INSERT_REFRESH_SQL, jobs, jobs.size(), (ps, job) -> {
+            ps.setString(1, job.email());
+            ps.setString(2, job.ipAddress());
+            ps.setString(3, job.userAgent());
+            ps.setTimestamp(4, Timestamp.valueOf(job.occurredAt()));
+        });
+    }
+
+    public void batchInsertSignups(List<AuditLogJob> jobs) {
+        jdbcTemplate.batchUpdate(INSERT_SIGNUP_SQL, jobs, jobs.size(), (ps, job) -> {
+            ps.setString(1, job.email());
+            ps.setString(2, job.ipAddress());
+            ps.setString(3, job.result().name());
+            ps.setString(4, job.failureReason());
+            ps.setTimestamp(5, Timestamp.valueOf(job.occurredAt()));
+        });
+    }
+}
@@ -1,7 +1,39 @@
 package com.byeolnight.repository.log;
 
 import com.byeolnight.entity.log.AuditRefreshTokenLog;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface AuditRefreshTokenLogRepository extends JpaRepository<AuditRefreshTokenLog, Long> {
+
+    /**
+     * [보존기간 정리] 만료된 로그 ID keyset 조회
+     */
+    @Query("""
+    SELECT a.id FROM AuditRefreshTokenLog a
+    WHERE a.issuedAt < :threshold AND a.id > :afterId
+    ORDER BY a.id ASC
+    """)
+    List<Long> findExpiredIds(@Param("threshold") LocalDateTime threshold,
+                              @Param("afterId") Long afterId,
+                              Pageable pageable);
+
+    /**
+     * [보존기간 정리] 만료된 로그 수
+     */
+    @Query("SELECT COUNT(a) FROM AuditRefreshTokenLog a WHERE a.issuedAt < :threshold")
+    long countExpired(@Param("threshold") LocalDateTime threshold);
+
+    /**
+     * [보존기간 정리] 일괄 물리 삭제
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM AuditRefreshTokenLog a WHERE a.id IN :ids")
+    int bulkDeleteByIds(@Param("ids") List<Long> ids);
 }
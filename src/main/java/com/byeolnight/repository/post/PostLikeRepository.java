@@ -4,8 +4,28 @@ import com.byeolnight.entity.post.Post;
 import com.byeolnight.entity.post.PostLike;
 import com.byeolnight.entity.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
 
 public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
     boolean existsByUserAndPost(User user, Post post);
     long countByPost(Post post);
+    boolean existsByUserIdAndPostId(Long userId, Long postId);
+
+    // 사용자가 추천한 게시글 ID 목록 (추천 여부 Redis Set 적재용)
+    @Query("SELECT pl.post.id FROM PostLike pl WHERE pl.user.id = :userId")
+    List<Long> findPostIdsByUserId(@Param("userId") Long userId);
+
+    // 추천 추가 (엔티티 로딩 없이 INSERT ... SELECT 한 번, 이미 추천했거나 게시글이 없으면 0건)
+    @Modifying
+    @Query(value = """
+        INSERT INTO post_likes (user_id, post_id, liked_at)
+        SELECT :userId, p.id, CURRENT_TIMESTAMP FROM posts p
+        WHERE p.id = :postId
+          AND NOT EXISTS (SELECT 1 FROM post_likes pl WHERE pl.user_id = :userId AND pl.post_id = :postId)
+        """, nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId, @Param("postId") Long postId);
 }
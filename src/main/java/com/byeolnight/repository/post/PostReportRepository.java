@@ -1,12 +1,16 @@
 package com.byeolnight.repository.post;
 
+import com.byeolnight.dto.admin.ReportedTargetSummary;
 import com.byeolnight.entity.post.Post;
 import com.byeolnight.entity.post.PostReport;
 import com.byeolnight.entity.user.User;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface PostReportRepository extends JpaRepository<PostReport, Long> {
@@ -15,12 +19,37 @@ public interface PostReportRepository extends JpaRepository<PostReport, Long> {
     
     List<PostReport> findByPost(Post post);
     
-    // 관리자용 신고 조회
-    List<PostReport> findAllByOrderByCreatedAtDesc();
-    
-    List<PostReport> findByPostTitleContainingIgnoreCase(String title);
-    
-    List<PostReport> findByPostWriterNicknameContainingIgnoreCase(String nickname);
+    // 관리자용 신고 큐: 게시글별 신고 수/최근 신고 시각 집계 (신고 수 많은 순, SQL 페이징, 삭제된 게시글 제외)
+    @Query(value = """
+        SELECT new com.byeolnight.dto.admin.ReportedTargetSummary(p.id, COUNT(pr), MAX(pr.createdAt))
+        FROM PostReport pr JOIN pr.post p LEFT JOIN p.writer w
+        WHERE p.isDeleted = false
+          AND (:title IS NULL OR LOWER(p.title) LIKE LOWER(CONCAT('%', :title, '%')))
+          AND (:writer IS NULL OR LOWER(w.nickname) LIKE LOWER(CONCAT('%', :writer, '%')))
+        GROUP BY p.id
+        ORDER BY COUNT(pr) DESC, MAX(pr.createdAt) DESC, p.id DESC
+        """,
+        countQuery = """
+        SELECT COUNT(DISTINCT p.id)
+        FROM PostReport pr JOIN pr.post p LEFT JOIN p.writer w
+        WHERE p.isDeleted = false
+          AND (:title IS NULL OR LOWER(p.title) LIKE LOWER(CONCAT('%', :title, '%')))
+          AND (:writer IS NULL OR LOWER(w.nickname) LIKE LOWER(CONCAT('%', :writer, '%')))
+        """)
+    Page<ReportedTargetSummary> findReportedPostSummaries(@Param("title") String title,
+                                                          @Param("writer") String writer,
+                                                          Pageable pageable);
+
+    // 현재 페이지 게시글의 신고 상세 (게시글/작성자/신고자 함께 로딩)
+    @Query("""
+        SELECT pr FROM PostReport pr
+        JOIN FETCH pr.post p
+        LEFT JOIN FETCH p.writer
+        JOIN FETCH pr.user
+        WHERE p.id IN :postIds
+        ORDER BY pr.createdAt DESC
+        """)
+    List<PostReport> findAllWithDetailsByPostIdIn(@Param("postIds") Collection<Long> postIds);
     
     // 사용자별 승인된 신고 수 조회
     @Query("SELECT COUNT(pr) FROM PostReport pr WHERE pr.user = :user AND pr.accepted = true")
@@ -1,5 +1,6 @@
 package com.byeolnight.repository.post;
 
+import com.byeolnight.dto.post.PostSitemapRow;
 import com.byeolnight.entity.post.Post;
 import com.byeolnight.entity.post.Post.Category;
 import com.byeolnight.entity.user.User;
@@ -11,6 +12,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -114,10 +116,30 @@ public interface PostRepository extends JpaRepository<Post, Long>, PostRepositor
     Page<Post> findByCategoryAndDiscussionTopicFalseAndIsDeletedFalse(Category category, Pageable pageable);
     
     /**
-     * 30일 이상 지난 삭제된 게시글 조회
+     * [보존기간 정리] 만료된 삭제 게시글 ID keyset 조회 (id 오름차순, 청크 단위)
      */
-    @Query("SELECT p FROM Post p WHERE p.isDeleted = true AND p.deletedAt < :threshold")
-    List<Post> findExpiredDeletedPosts(@Param("threshold") LocalDateTime threshold);
+    @Query("""
+    SELECT p.id FROM Post p
+    WHERE p.isDeleted = true AND p.deletedAt < :threshold
+      AND p.id > :afterId
+    ORDER BY p.id ASC
+    """)
+    List<Long> findExpiredDeletedPostIds(@Param("threshold") LocalDateTime threshold,
+                                         @Param("afterId") Long afterId,
+                                         Pageable pageable);
+
+    /**
+     * [보존기간 정리] 만료된 삭제 게시글 수
+     */
+    @Query("SELECT COUNT(p) FROM Post p WHERE p.isDeleted = true AND p.deletedAt < :threshold")
+    long countExpiredDeletedPosts(@Param("threshold") LocalDateTime threshold);
+
+    /**
+     * [보존기간 정리] 게시글 일괄 물리 삭제 (DELETE ... WHERE id IN)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Post p WHERE p.id IN :ids")
+    int bulkDeleteByIds(@Param("ids") List<Long> ids);
 
     /**
      * 게시글 내용에 특정 문자열이 포함된 게시글 존재 여부 확인 (S3 파일 사용 여부 체크용)
@@ -130,9 +152,29 @@ public interface PostRepository extends JpaRepository<Post, Long>, PostRepositor
     long countByCategoryAndIsDeletedFalse(Category category);
 
     /**
-     * 블라인드 처리되지 않고 삭제되지 않은 게시글만 조회 (사이트맵용)
+     * [사이트맵] 공개 게시글 (id, 수정일) 프로젝션 keyset 조회
+     * - 조건: 블라인드/삭제되지 않은 게시글 중 afterId 이후
+     * - 정렬: id 오름차순 (PK 인덱스 범위 스캔, OFFSET 미사용)
+     */
+    @Query("""
+    SELECT new com.byeolnight.dto.post.PostSitemapRow(p.id, p.updatedAt) FROM Post p
+    WHERE p.blinded = false AND p.isDeleted = false
+      AND p.id > :afterId
+    ORDER BY p.id ASC
+    """)
+    List<PostSitemapRow> findSitemapRowsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * [사이트맵] 고정된 id 구간 (afterId, lastId] 의 공개 게시글 프로젝션 조회
+     * - 변경된 사이트맵 페이지만 다시 생성할 때 사용
      */
-    Page<Post> findByBlindedFalseAndIsDeletedFalse(Pageable pageable);
+    @Query("""
+    SELECT new com.byeolnight.dto.post.PostSitemapRow(p.id, p.updatedAt) FROM Post p
+    WHERE p.blinded = false AND p.isDeleted = false
+      AND p.id > :afterId AND p.id <= :lastId
+    ORDER BY p.id ASC
+    """)
+    List<PostSitemapRow> findSitemapRowsBetween(@Param("afterId") Long afterId, @Param("lastId") Long lastId);
     
     /**
      * 카테고리별 게시글 개수 조회 (삭제된 것 포함)
@@ -173,6 +215,24 @@ public interface PostRepository extends JpaRepository<Post, Long>, PostRepositor
     )
     """)
     int softDeletePostsWithDeletedWriter();
-    
 
+    /**
+     * 추천 수 원자적 증가 (엔티티 로딩/전체 컬럼 UPDATE 없이)
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = p.likeCount + 1 WHERE p.id = :postId")
+    int incrementLikeCount(@Param("postId") Long postId);
+
+    /**
+     * 조회수 원자적 가산 (버퍼에 모은 조회수를 주기적으로 반영)
+     */
+    @Modifying
+    @Query("UPDATE Post p SET p.viewCount = p.viewCount + :delta WHERE p.id = :postId")
+    int addViewCount(@Param("postId") Long postId, @Param("delta") int delta);
+
+    /**
+     * 게시글 ID → 작성자 ID 일괄 조회 (추천 보상 워커용)
+     */
+    @Query("SELECT p.id, p.writer.id FROM Post p WHERE p.id IN :ids")
+    List<Object[]> findWriterIdsByIds(@Param("ids") Collection<Long> ids);
 }
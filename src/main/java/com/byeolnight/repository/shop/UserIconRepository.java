@@ -20,6 +20,12 @@ public interface UserIconRepository extends JpaRepository<UserIcon, Long> {
     @Query("SELECT ui FROM UserIcon ui JOIN FETCH ui.stellaIcon WHERE ui.user = :user ORDER BY ui.createdAt DESC")
     List<UserIcon> findByUserWithStellaIconOrderByCreatedAtDesc(@Param("user") User user);
     
+    /**
+     * 사용자가 보유한 아이콘 ID 목록
+     */
+    @Query("SELECT ui.stellaIcon.id FROM UserIcon ui WHERE ui.user.id = :userId")
+    List<Long> findStellaIconIdsByUserId(@Param("userId") Long userId);
+
     /**
      * 사용자가 특정 아이콘을 보유하고 있는지 확인
      */
@@ -0,0 +1,36 @@
+package com.byeolnight.repository.user;
+
+import com.byeolnight.dto.user.PointHistoryJob;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * 포인트 히스토리 JDBC 배치 INSERT
+ * - IDENTITY 전략은 Hibernate 배치 INSERT가 비활성화되므로 JdbcTemplate batchUpdate 사용
+ */
+@Repository
+@RequiredArgsConstructor
+public class PointHistoryBatchRepository {
+
+    private static final String INSERT_SQL = """
+        INSERT INTO point_history (user_id, amount, type, reason, reference_id, created_at)
+        VALUES (?, ?, ?, ?, ?, ?)
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void batchInsert(List<PointHistoryJob> jobs) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, jobs, jobs.size(), (ps, job) -> {
+            ps.setLong(1, job.getUserId());
+            ps.setInt(2, job.getAmount());
+            ps.setString(3, job.getType().name());
+            ps.setString(4, job.getReason());
+            ps.setString(5, job.getReferenceId());
+            ps.setTimestamp(6, Timestamp.valueOf(job.getCreatedAt()));
+        });
+    }
+}
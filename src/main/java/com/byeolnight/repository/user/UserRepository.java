@@ -1,15 +1,19 @@
 package com.byeolnight.repository.user;
 
+import com.byeolnight.dto.user.WriterSummary;
 import com.byeolnight.entity.user.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
     Optional<User> findByEmail(String email);
     Optional<User> findByNickname(String nickname);
 
@@ -18,11 +22,49 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByNicknameAndStatusNotIn(String nickname, List<User.UserStatus> statuses);
     
     List<User> findByRole(User.Role role);
+
+    // 닉네임 부분 일치 (LIKE, 대소문자 무시)
+    @Query("SELECT u.nickname FROM User u WHERE LOWER(u.nickname) LIKE LOWER(CONCAT('%', :keyword, '%')) ORDER BY u.nickname ASC")
+    List<String> findNicknamesContaining(@Param("keyword") String keyword, Pageable pageable);
     
     List<User> findByStatusAndWithdrawnAtBefore(User.UserStatus status, LocalDateTime withdrawnAt);
     
-    List<User> findByWithdrawnAtBeforeAndStatusIn(LocalDateTime withdrawnAt, List<User.UserStatus> statuses);
+    // 탈퇴/밴 후 보존기간이 지난 사용자 ID keyset 조회 (id 오름차순, 청크 단위)
+    @Query("SELECT u.id FROM User u WHERE u.withdrawnAt < :withdrawnAt AND u.status IN :statuses AND u.id > :afterId ORDER BY u.id ASC")
+    List<Long> findExpiredWithdrawnUserIds(@Param("withdrawnAt") LocalDateTime withdrawnAt,
+                                           @Param("statuses") List<User.UserStatus> statuses,
+                                           @Param("afterId") Long afterId,
+                                           Pageable pageable);
+
+    long countByWithdrawnAtBeforeAndStatusIn(LocalDateTime withdrawnAt, List<User.UserStatus> statuses);
+
+    // 사용자 일괄 물리 삭제 (DELETE ... WHERE id IN)
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM User u WHERE u.id IN :ids")
+    int bulkDeleteByIds(@Param("ids") List<Long> ids);
     
+    // 포인트 원자적 적립 (points = points + delta, 오버플로우 방지)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE User u SET u.points = u.points + :delta WHERE u.id = :id AND u.points <= :maxBefore")
+    int addPoints(@Param("id") Long id, @Param("delta") int delta, @Param("maxBefore") int maxBefore);
+
+    // 포인트 원자적 차감 (잔액이 부족하면 0건 갱신)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE User u SET u.points = u.points - :amount WHERE u.id = :id AND u.points >= :amount")
+    int deductPoints(@Param("id") Long id, @Param("amount") int amount);
+
+    // 포인트 원자적 차감 (잔액이 부족하면 0으로 맞춤, 페널티용)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE User u SET u.points = CASE WHEN u.points >= :amount THEN u.points - :amount ELSE 0 END WHERE u.id = :id")
+    int deductPointsFloorZero(@Param("id") Long id, @Param("amount") int amount);
+
+    @Query("SELECT u.points FROM User u WHERE u.id = :id")
+    Optional<Integer> findPointsById(@Param("id") Long id);
+
+    // 작성자 표시 정보 배치 조회 (DTO 어셈블러용)
+    @Query("SELECT new com.byeolnight.dto.user.WriterSummary(u.id, u.nickname, u.equippedIconName) FROM User u WHERE u.id IN :ids")
+    List<WriterSummary> findWriterSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
     // 소셜 사용자 중 탈퇴 신청 후 30일 경과한 사용자 조회
     List<User> findBySocialProviderIsNotNullAndWithdrawnAtBeforeAndStatus(
         LocalDateTime withdrawnAt, User.UserStatus status);
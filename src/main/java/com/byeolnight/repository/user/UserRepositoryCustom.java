@@ -0,0 +1,24 @@
+package com.byeolnight.repository.user;
+
+import com.byeolnight.dto.user.UserDirectoryCondition;
+import com.byeolnight.dto.user.UserDirectoryDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.stream.Stream;
+
+/**
+ * QueryDSL을 사용한 User 동적 조회 인터페이스
+ */
+public interface UserRepositoryCustom {
+
+    /**
+     * 관리자 사용자 디렉터리 (필터 + 페이징, projection)
+     */
+    Page<UserDirectoryDto> searchDirectory(UserDirectoryCondition condition, Pageable pageable);
+
+    /**
+     * 관리자 사용자 내보내기용 스트림 (JDBC fetch size 단위로 커서 조회, 트랜잭션 안에서 소비 후 close 필요)
+     */
+    Stream<UserDirectoryDto> streamDirectory(UserDirectoryCondition condition, int fetchSize);
+}
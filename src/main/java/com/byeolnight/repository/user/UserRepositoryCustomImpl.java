@@ -0,0 +1,101 @@
+package com.byeolnight.repository.user;
+
+import com.byeolnight.dto.user.UserDirectoryCondition;
+import com.byeolnight.dto.user.UserDirectoryDto;
+import com.byeolnight.entity.user.User;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static com.byeolnight.entity.user.QUser.user;
+
+@Repository
+@RequiredArgsConstructor
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    private static final ConstructorExpression<UserDirectoryDto> DIRECTORY_ROW = Projections.constructor(
+            UserDirectoryDto.class,
+            user.id, user.email, user.nickname, user.role, user.status, user.accountLocked,
+            user.points, user.socialProvider, user.createdAt, user.lastLoginAt);
+
+    @Override
+    public Page<UserDirectoryDto> searchDirectory(UserDirectoryCondition condition, Pageable pageable) {
+        BooleanBuilder where = toPredicate(condition);
+
+        List<UserDirectoryDto> content = queryFactory
+                .select(DIRECTORY_ROW)
+                .from(user)
+                .where(where)
+                .orderBy(user.id.desc())
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        Long total = queryFactory
+                .select(user.count())
+                .from(user)
+                .where(where)
+                .fetchOne();
+
+        return new PageImpl<>(content, pageable, total != null ? total : 0L);
+    }
+
+    @Override
+    public Stream<UserDirectoryDto> streamDirectory(UserDirectoryCondition condition, int fetchSize) {
+        return queryFactory
+                .select(DIRECTORY_ROW)
+                .from(user)
+                .where(toPredicate(condition))
+                .orderBy(user.id.asc())
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .stream();
+    }
+
+    private BooleanBuilder toPredicate(UserDirectoryCondition condition) {
+        BooleanBuilder builder = new BooleanBuilder();
+
+        if (condition.role() != null) {
+            builder.and(user.role.eq(condition.role()));
+        } else {
+            builder.and(user.role.ne(User.Role.ADMIN));
+        }
+        if (condition.status() == User.UserStatus.ACTIVE) {
+            builder.and(user.status.ne(User.UserStatus.WITHDRAWN));
+        } else if (condition.status() != null) {
+            builder.and(user.status.eq(condition.status()));
+        }
+        if (condition.socialProvider() != null && !condition.socialProvider().isBlank()) {
+            if (UserDirectoryCondition.LOCAL_PROVIDER.equalsIgnoreCase(condition.socialProvider())) {
+                builder.and(user.socialProvider.isNull());
+            } else if (UserDirectoryCondition.SOCIAL_PROVIDER.equalsIgnoreCase(condition.socialProvider())) {
+                builder.and(user.socialProvider.isNotNull());
+            } else {
+                builder.and(user.socialProvider.equalsIgnoreCase(condition.socialProvider().trim()));
+            }
+        }
+        if (condition.createdFrom() != null) {
+            builder.and(user.createdAt.goe(condition.createdFrom().atStartOfDay()));
+        }
+        if (condition.createdTo() != null) {
+            builder.and(user.createdAt.lt(condition.createdTo().plusDays(1).atStartOfDay()));
+        }
+        if (condition.keyword() != null && !condition.keyword().isBlank()) {
+            String keyword = condition.keyword().trim();
+            builder.and(user.email.containsIgnoreCase(keyword).or(user.nickname.containsIgnoreCase(keyword)));
+        }
+        return builder;
+    }
+}
@@ -0,0 +1,42 @@
+package com.byeolnight.repository.user;
+
+import com.byeolnight.entity.user.UserStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface UserStatsRepository extends JpaRepository<UserStats, Long> {
+
+    @Modifying
+    @Query("""
+            UPDATE UserStats s SET s.postCount = CASE WHEN s.postCount + :delta < 0 THEN 0 ELSE s.postCount + :delta END,
+                   s.updatedAt = CURRENT_TIMESTAMP
+            WHERE s.userId = :userId
+            """)
+    int addPostCount(@Param("userId") Long userId, @Param("delta") int delta);
+
+    @Modifying
+    @Query("""
+            UPDATE UserStats s SET s.commentCount = CASE WHEN s.commentCount + :delta < 0 THEN 0 ELSE s.commentCount + :delta END,
+                   s.updatedAt = CURRENT_TIMESTAMP
+            WHERE s.userId = :userId
+            """)
+    int addCommentCount(@Param("userId") Long userId, @Param("delta") int delta);
+
+    @Modifying
+    @Query("""
+            UPDATE UserStats s SET s.iconCount = CASE WHEN s.iconCount + :delta < 0 THEN 0 ELSE s.iconCount + :delta END,
+                   s.updatedAt = CURRENT_TIMESTAMP
+            WHERE s.userId = :userId
+            """)
+    int addIconCount(@Param("userId") Long userId, @Param("delta") int delta);
+
+    @Modifying
+    @Query("""
+            UPDATE UserStats s SET s.attendanceCount = CASE WHEN s.attendanceCount + :delta < 0 THEN 0 ELSE s.attendanceCount + :delta END,
+                   s.updatedAt = CURRENT_TIMESTAMP
+            WHERE s.userId = :userId
+            """)
+    int addAttendanceCount(@Param("userId") Long userId, @Param("delta") int delta);
+}
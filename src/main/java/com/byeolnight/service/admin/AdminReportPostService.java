@@ -6,11 +6,12 @@ import com.byeolnight.entity.user.User;
 import com.byeolnight.repository.post.PostReportRepository;
 import com.byeolnight.repository.user.UserRepository;
 import com.byeolnight.dto.admin.ReportedPostDetailDto;
+import com.byeolnight.dto.admin.ReportedTargetSummary;
 import com.byeolnight.service.certificate.CertificateService;
 import com.byeolnight.service.user.PointService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -31,85 +32,31 @@ public class AdminReportPostService {
 
     /**
      * 신고된 게시글 목록 조회
+     * - 게시글별 신고 수/최근 신고 시각을 GROUP BY로 집계하고 SQL에서 페이징
+     * - 신고 상세는 현재 페이지 게시글에 대해서만 한 번에 조회
      */
     public Page<ReportedPostDetailDto> getReportedPosts(String search, String searchType, Pageable pageable) {
-        List<PostReport> reports;
-        
-        if (search != null && !search.trim().isEmpty()) {
-            switch (searchType) {
-                case "title" -> reports = postReportRepository.findByPostTitleContainingIgnoreCase(search.trim());
-                case "writer" -> reports = postReportRepository.findByPostWriterNicknameContainingIgnoreCase(search.trim());
-                default -> reports = postReportRepository.findAllByOrderByCreatedAtDesc();
-            }
-        } else {
-            reports = postReportRepository.findAllByOrderByCreatedAtDesc();
-        }
-
-        // 게시글별로 그룹화 (삭제된 게시글 제외)
-        Map<Post, List<PostReport>> groupedReports = reports.stream()
-                .filter(report -> {
-                    try {
-                        // 게시글이 삭제되었는지 확인
-                        Post post = report.getPost();
-                        return post != null && !post.isDeleted();
-                    } catch (Exception e) {
-                        // 엔티티를 찾을 수 없는 경우 (삭제된 게시글)
-                        return false;
-                    }
-                })
-                .collect(Collectors.groupingBy(PostReport::getPost));
-
-        List<ReportedPostDetailDto> reportedPosts = groupedReports.entrySet().stream()
-                .map(entry -> {
-                    Post post = entry.getKey();
-                    List<PostReport> postReports = entry.getValue();
-                    
-                    List<ReportedPostDetailDto.ReportDetail> reportDetails = postReports.stream()
-                            .map(report -> ReportedPostDetailDto.ReportDetail.builder()
-                                    .reportId(report.getId())
-                                    .reporterNickname(report.getUser().getNickname())
-                                    .reason(report.getReason())
-                                    .description(report.getDescription())
-                                    .reviewed(report.isReviewed())
-                                    .accepted(report.isAccepted())
-                                    .reportedAt(report.getCreatedAt())
-                                    .build())
-                            .collect(Collectors.toList());
+        String keyword = search != null && !search.isBlank() ? search.trim() : null;
+        String title = "title".equals(searchType) ? keyword : null;
+        String writer = "writer".equals(searchType) ? keyword : null;
 
-                    try {
-                        List<String> reasons = postReports.stream()
-                                .map(PostReport::getReason)
-                                .collect(Collectors.toList());
-                        
-                        return ReportedPostDetailDto.builder()
-                                .id(post.getId())
-                                .postId(post.getId())
-                                .title(post.getTitle())
-                                .content(post.getContent().length() > 100 ? 
-                                        post.getContent().substring(0, 100) + "..." : post.getContent())
-                                .writer(post.getWriter() != null ? post.getWriter().getNickname() : "알 수 없음")
-                                .category(post.getCategory().name())
-                                .createdAt(post.getCreatedAt())
-                                .blinded(post.isBlinded())
-                                .reportCount(postReports.size())
-                                .reportReasons(reasons)
-                                .reportDetails(reportDetails)
-                                .build();
-                    } catch (Exception e) {
-                        // 삭제된 게시글에 대한 예외 처리
-                        return null;
-                    }
-                })
-                .filter(dto -> dto != null) // null 제거
-                .sorted((a, b) -> b.getReportCount() - a.getReportCount()) // 신고 수 많은 순
-                .collect(Collectors.toList());
+        // 정렬은 집계 쿼리의 신고 수 순서를 사용 (요청의 sort 파라미터는 GROUP BY와 맞지 않아 무시)
+        Page<ReportedTargetSummary> summaries = postReportRepository.findReportedPostSummaries(
+                title, writer, PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
 
-        // 페이징 처리
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), reportedPosts.size());
-        List<ReportedPostDetailDto> pagedList = reportedPosts.subList(start, end);
+        List<Long> postIds = summaries.map(ReportedTargetSummary::targetId).getContent();
+        Map<Long, List<PostReport>> reportsByPost = postIds.isEmpty() ? Map.of()
+                : postReportRepository.findAllWithDetailsByPostIdIn(postIds).stream()
+                        .collect(Collectors.groupingBy(report -> report.getPost().getId()));
 
-        return new PageImpl<>(pagedList, pageable, reportedPosts.size());
+        return summaries.map(summary -> {
+            List<PostReport> postReports = reportsByPost.getOrDefault(summary.targetId(), List.of());
+            Post post = postReports.get(0).getPost();
+            List<String> reasons = postReports.stream()
+                    .map(PostReport::getReason)
+                    .toList();
+            return ReportedPostDetailDto.of(post, summary.reportCount(), reasons, postReports);
+        });
     }
 
     /**
@@ -1,16 +1,12 @@
 package com.byeolnight.service.ai;
 
 import com.byeolnight.dto.external.openai.OpenAiChatRequest;
-import com.byeolnight.dto.external.openai.OpenAiChatResponse;
 import com.byeolnight.dto.external.openai.OpenAiMessage;
 import com.byeolnight.entity.News;
 import com.byeolnight.repository.NewsRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -22,10 +18,7 @@ import java.util.Optional;
 public class NewsBasedDiscussionService {
     
     private final NewsRepository newsRepository;
-    private final RestTemplate restTemplate = new RestTemplate();
-    
-    @Value("${app.security.external-api.ai.openai-api-key:}")
-    private String apiKey;
+    private final OpenAiClient openAiClient;
     
     public String generateNewsBasedDiscussion() {
         // 최근 3일 내 뉴스 중 토론 주제로 사용되지 않은 뉴스 조회
@@ -38,7 +31,7 @@ public class NewsBasedDiscussionService {
         
         News news = newsOpt.get();
         
-        if (apiKey.isEmpty()) {
+        if (!openAiClient.isConfigured()) {
             log.warn("OpenAI API 키가 설정되지 않아 뉴스 기반 fallback 주제 사용");
             return generateNewsBasedFallback(news);
         }
@@ -76,57 +69,41 @@ public class NewsBasedDiscussionService {
         return Optional.empty();
     }
     
+    /**
+     * 토론 주제는 매번 새로 생성해야 하므로 응답 캐시 없이 호출
+     */
     private String generateDiscussionWithGPT(News news) {
-        try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.setBearerAuth(apiKey);
+        String prompt = String.format("""
+            다음 우주 뉴스를 바탕으로 토론 주제를 생성해주세요:
             
-            String prompt = String.format("""
-                다음 우주 뉴스를 바탕으로 토론 주제를 생성해주세요:
-                
-                뉴스 제목: %s
-                뉴스 내용: %s
-                
-                요구사항:
-                - 제목: 30자 이내의 흥미로운 토론 제목
-                - 내용: 200자 이내의 토론을 유도하는 설명
-                - 반드시 제공된 뉴스 내용과 직접적으로 연관된 토론 주제를 생성할 것
-                - 뉴스에서 언급된 구체적 사실이나 연구 결과를 토론 내용에 포함할 것
-                - 추상적이거나 일반적인 주제가 아닌, 해당 뉴스만의 고유한 쟁점을 다룰 것
-                - 톤: 지적이고 품격 있는 커뮤니티에 어울리는 진지한 톤
-                
-                다음 형식으로만 응답해주세요:
-                제목: [제목]
-                내용: [내용]
-                """, news.getTitle(), news.getDescription());
+            뉴스 제목: %s
+            뉴스 내용: %s
             
-            OpenAiChatRequest requestBody = OpenAiChatRequest.builder()
-                .model("gpt-4o-mini")
-                .messages(List.of(OpenAiMessage.user(prompt)))
-                .maxTokens(300)
-                .temperature(0.7)
-                .build();
-
-            HttpEntity<OpenAiChatRequest> entity = new HttpEntity<>(requestBody, headers);
-            ResponseEntity<OpenAiChatResponse> response = restTemplate.exchange(
-                "https://api.openai.com/v1/chat/completions",
-                HttpMethod.POST,
-                entity,
-                OpenAiChatResponse.class
-            );
+            요구사항:
+            - 제목: 30자 이내의 흥미로운 토론 제목
+            - 내용: 200자 이내의 토론을 유도하는 설명
+            - 반드시 제공된 뉴스 내용과 직접적으로 연관된 토론 주제를 생성할 것
+            - 뉴스에서 언급된 구체적 사실이나 연구 결과를 토론 내용에 포함할 것
+            - 추상적이거나 일반적인 주제가 아닌, 해당 뉴스만의 고유한 쟁점을 다룰 것
+            - 톤: 지적이고 품격 있는 커뮤니티에 어울리는 진지한 톤
+            
+            다음 형식으로만 응답해주세요:
+            제목: [제목]
+            내용: [내용]
+            """, news.getTitle(), news.getDescription());
+        
+        OpenAiChatRequest requestBody = OpenAiChatRequest.builder()
+            .model("gpt-4o-mini")
+            .messages(List.of(OpenAiMessage.user(prompt)))
+            .maxTokens(300)
+            .temperature(0.7)
+            .build();
 
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                String content = response.getBody().getFirstContent();
-                if (content != null) {
-                    return content;
-                }
-            }
-        } catch (Exception e) {
-            log.error("GPT API 호출 실패", e);
+        Optional<String> content = openAiClient.complete(requestBody);
+        if (content.isEmpty()) {
+            log.error("GPT API 호출 실패 - 뉴스: {}", news.getTitle());
         }
-        
-        return null;
+        return content.orElse(null);
     }
     
     private String generateNewsBasedFallback(News news) {
@@ -0,0 +1,202 @@
+package com.byeolnight.service.ai;
+
+import com.byeolnight.dto.external.openai.OpenAiCachedCompletion;
+import com.byeolnight.dto.external.openai.OpenAiChatRequest;
+import com.byeolnight.dto.external.openai.OpenAiChatResponse;
+import com.byeolnight.dto.external.openai.OpenAiMessage;
+import com.byeolnight.dto.external.openai.OpenAiUsage;
+import com.byeolnight.infrastructure.cache.RedissonCacheService;
+import com.byeolnight.infrastructure.http.OutboundHttpClients;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * OpenAI Chat Completions 공용 클라이언트
+ * - outbound.http.upstreams.openai 설정의 공유 HTTP 클라이언트 (커넥션 재사용, 타임아웃/서킷 브레이커)
+ * - completeCached: (모델, 파라미터, 프롬프트) 해시 → 응답을 Redis에 TTL로 저장, 같은 요청이 동시에 오면 1회만 호출
+ * - 캐시 적중/병합으로 절약한 토큰과 비용(USD)을 ai.openai.* 메트릭으로 집계
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OpenAiClient {
+
+    private static final String CACHE_KEY_PREFIX = "ai:completion:";
+    private static final String COMPLETIONS_PATH = "/v1/chat/completions";
+    private static final String UPSTREAM = "openai";
+
+    private final RedissonCacheService cacheService;
+    private final MeterRegistry meterRegistry;
+    private final OutboundHttpClients outboundHttpClients;
+
+    @Value("${app.security.external-api.ai.openai-api-key:}")
+    private String apiKey;
+
+    @Value("${app.ai.openai.base-url:https://api.openai.com}")
+    private String baseUrl;
+
+    @Value("${app.ai.openai.cache-ttl-days:30}")
+    private long cacheTtlDays;
+
+    // gpt-4o-mini 기준 1M 토큰당 USD
+    @Value("${app.ai.openai.price.input-per-1m:0.15}")
+    private double inputPricePerMillion;
+
+    @Value("${app.ai.openai.price.output-per-1m:0.60}")
+    private double outputPricePerMillion;
+
+    private final Map<String, CompletableFuture<Optional<OpenAiCachedCompletion>>> inFlight = new ConcurrentHashMap<>();
+    private RestTemplate restTemplate;
+
+    @PostConstruct
+    public void init() {
+        restTemplate = outboundHttpClients.restTemplate(UPSTREAM);
+    }
+
+    public boolean isConfigured() {
+        return apiKey != null && !apiKey.isBlank();
+    }
+
+    /**
+     * 캐시 없이 호출 (매번 다른 결과가 필요한 생성 요청용)
+     */
+    public Optional<String> complete(OpenAiChatRequest request) {
+        if (!isConfigured()) {
+            return Optional.empty();
+        }
+        return call(request).map(OpenAiCachedCompletion::getContent);
+    }
+
+    /**
+     * 같은 요청이면 저장된 결과 재사용 (번역/요약처럼 입력이 같으면 결과도 같아도 되는 요청용)
+     */
+    public Optional<String> completeCached(OpenAiChatRequest request) {
+        if (!isConfigured()) {
+            return Optional.empty();
+        }
+        String key = cacheKey(request);
+        OpenAiCachedCompletion cached = readCache(key);
+        if (cached != null) {
+            recordSaved("hit", cached);
+            return Optional.of(cached.getContent());
+        }
+
+        CompletableFuture<Optional<OpenAiCachedCompletion>> mine = new CompletableFuture<>();
+        CompletableFuture<Optional<OpenAiCachedCompletion>> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            Optional<OpenAiCachedCompletion> joined = running.join();
+            joined.ifPresent(result -> recordSaved("inflight", result));
+            return joined.map(OpenAiCachedCompletion::getContent);
+        }
+
+        Optional<OpenAiCachedCompletion> result = Optional.empty();
+        try {
+            // 직전에 다른 요청이 끝나 캐시에 저장했을 수 있으므로 한 번 더 확인
+            OpenAiCachedCompletion stored = readCache(key);
+            if (stored != null) {
+                recordSaved("hit", stored);
+                result = Optional.of(stored);
+            } else {
+                meterRegistry.counter("ai.openai.cache", "result", "miss").increment();
+                result = call(request);
+                result.ifPresent(completion -> writeCache(key, completion));
+            }
+            return result.map(OpenAiCachedCompletion::getContent);
+        } finally {
+            inFlight.remove(key, mine);
+            mine.complete(result);
+        }
+    }
+
+    private Optional<OpenAiCachedCompletion> call(OpenAiChatRequest request) {
+        try {
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            headers.setBearerAuth(apiKey);
+
+            OpenAiChatResponse response = restTemplate.postForObject(
+                    baseUrl + COMPLETIONS_PATH, new HttpEntity<>(request, headers), OpenAiChatResponse.class);
+            String content = response != null ? response.getFirstContent() : null;
+            if (content == null) {
+                meterRegistry.counter("ai.openai.calls", "outcome", "empty").increment();
+                return Optional.empty();
+            }
+
+            OpenAiUsage usage = response.getUsage();
+            OpenAiCachedCompletion completion = new OpenAiCachedCompletion(content,
+                    usage != null ? usage.getPromptTokens() : 0,
+                    usage != null ? usage.getCompletionTokens() : 0);
+            meterRegistry.counter("ai.openai.calls", "outcome", "success").increment();
+            recordUsage("api", completion);
+            return Optional.of(completion);
+        } catch (Exception e) {
+            meterRegistry.counter("ai.openai.calls", "outcome", "failure").increment();
+            log.warn("OpenAI 호출 실패: model={}, error={}", request.getModel(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private OpenAiCachedCompletion readCache(String key) {
+        try {
+            return cacheService.get(key);
+        } catch (Exception e) {
+            log.warn("OpenAI 응답 캐시 조회 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeCache(String key, OpenAiCachedCompletion completion) {
+        try {
+            cacheService.set(key, completion, Duration.ofDays(cacheTtlDays));
+        } catch (Exception e) {
+            log.warn("OpenAI 응답 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private void recordSaved(String result, OpenAiCachedCompletion completion) {
+        meterRegistry.counter("ai.openai.cache", "result", result).increment();
+        recordUsage("saved", completion);
+    }
+
+    private void recordUsage(String source, OpenAiCachedCompletion completion) {
+        meterRegistry.counter("ai.openai.tokens", "source", source, "type", "prompt").increment(completion.getPromptTokens());
+        meterRegistry.counter("ai.openai.tokens", "source", source, "type", "completion").increment(completion.getCompletionTokens());
+        double cost = (completion.getPromptTokens() * inputPricePerMillion
+                + completion.getCompletionTokens() * outputPricePerMillion) / 1_000_000;
+        meterRegistry.counter("ai.openai.cost.usd", "source", source).increment(cost);
+    }
+
+    static String cacheKey(OpenAiChatRequest request) {
+        StringBuilder source = new StringBuilder()
+                .append(request.getModel()).append('\n')
+                .append(request.getMaxTokens()).append('\n')
+                .append(request.getTemperature()).append('\n');
+        for (OpenAiMessage message : request.getMessages()) {
+            source.append(message.getRole()).append(':').append(message.getContent()).append('\n');
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(source.toString().getBytes(StandardCharsets.UTF_8));
+            return CACHE_KEY_PREFIX + HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 미지원", e);
+        }
+    }
+}
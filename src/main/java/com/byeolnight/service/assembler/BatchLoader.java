@@ -0,0 +1,63 @@
+package com.byeolnight.service.assembler;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * 키를 모아 한 번에 조회하는 배치 로더 (DataLoader 패턴)
+ * - prime()으로 키를 등록해 두면 첫 get() 시점에 대기 중인 키 전체를 batchFunction 1회로 조회
+ * - 조회 결과(없음 포함)는 로더 수명 동안 메모이즈
+ * - 배치 조회(DB I/O)는 ReentrantLock으로 직렬화 (synchronized는 가상 스레드를 캐리어에 고정)
+ */
+public class BatchLoader<K, V> {
+
+    private final Function<Set<K>, Map<K, V>> batchFunction;
+    private final Map<K, Optional<V>> memo = new ConcurrentHashMap<>();
+    private final Set<K> pending = ConcurrentHashMap.newKeySet();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public BatchLoader(Function<Set<K>, Map<K, V>> batchFunction) {
+        this.batchFunction = batchFunction;
+    }
+
+    public void prime(Collection<K> keys) {
+        keys.stream()
+                .filter(Objects::nonNull)
+                .filter(key -> !memo.containsKey(key))
+                .forEach(pending::add);
+    }
+
+    public V get(K key) {
+        if (key == null) {
+            return null;
+        }
+        if (!memo.containsKey(key)) {
+            pending.add(key);
+            dispatch();
+        }
+        return memo.getOrDefault(key, Optional.empty()).orElse(null);
+    }
+
+    private void dispatch() {
+        lock.lock();
+        try {
+            Set<K> batch = new HashSet<>(pending);
+            pending.removeAll(batch);
+            batch.removeIf(memo::containsKey);
+            if (batch.isEmpty()) {
+                return;
+            }
+            Map<K, V> loaded = batchFunction.apply(batch);
+            batch.forEach(key -> memo.put(key, Optional.ofNullable(loaded.get(key))));
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -1,29 +1,30 @@
 package com.byeolnight.service.assembler;
 
 import com.byeolnight.dto.comment.CommentResponseDto;
-import com.byeolnight.entity.certificate.UserCertificate;
 import com.byeolnight.entity.comment.Comment;
 import com.byeolnight.entity.user.User;
-import com.byeolnight.service.certificate.CertificateService;
+import com.byeolnight.service.assembler.WriterProfileLoader.WriterProfile;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
-import java.util.Set;
+import java.util.Objects;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Comment -> CommentResponseDto 변환을 담당하는 Assembler
  * - DTO에서 서비스 의존성을 제거하고 명시적인 의존성 주입 사용
- * - 배치 조회를 통한 N+1 문제 방지
+ * - 작성자/부모 댓글 작성자 정보는 WriterProfileLoader로 배치 조회 (목록 변환은 batch 하나로 prime/get)
  */
 @Component
 @RequiredArgsConstructor
 public class CommentResponseAssembler {
 
-    private final CertificateService certificateService;
+    private static final String UNKNOWN_WRITER = "알 수 없는 사용자";
+
+    private final WriterProfileLoader writerProfileLoader;
 
     /**
      * 단일 댓글 변환
@@ -36,44 +37,36 @@ public class CommentResponseAssembler {
      * 단일 댓글 변환 (관리자 모드)
      */
     public CommentResponseDto toDto(Comment comment, User currentUser, boolean forAdmin) {
-        String writerName = getWriterName(comment);
+        return toDto(comment, currentUser, forAdmin, writerProfileLoader.batch());
+    }
+
+    private CommentResponseDto toDto(Comment comment, User currentUser, boolean forAdmin, WriterProfileLoader.Batch writers) {
+        WriterProfile writer = writers.get(getWriterId(comment));
+
         Long parentId = null;
         String parentWriter = null;
-
         if (comment.getParent() != null) {
             parentId = comment.getParent().getId();
-            parentWriter = getWriterName(comment.getParent());
+            WriterProfile parent = writers.get(getWriterId(comment.getParent()));
+            parentWriter = parent != null ? parent.nickname() : UNKNOWN_WRITER;
         }
 
-        String writerIcon = null;
         List<String> writerCertificates = new ArrayList<>();
-
-        if (comment.getWriter() != null) {
-            writerIcon = comment.getWriter().getEquippedIconName();
-
-            try {
-                UserCertificate repCert = certificateService.getRepresentativeCertificate(comment.getWriter());
-                if (repCert != null) {
-                    writerCertificates.add(repCert.getCertificateType().getName());
-                }
-            } catch (Exception e) {
-                // 인증서 조회 실패 시 무시
-            }
+        if (writer != null && writer.representativeCertificate() != null) {
+            writerCertificates.add(writer.representativeCertificate());
         }
 
-        String displayContent = getDisplayContent(comment, currentUser, forAdmin);
-
         return CommentResponseDto.builder()
                 .id(comment.getId())
-                .content(displayContent)
-                .writer(writerName)
-                .writerId(comment.getWriter() != null ? comment.getWriter().getId() : null)
+                .content(getDisplayContent(comment, currentUser, forAdmin))
+                .writer(writer != null ? writer.nickname() : UNKNOWN_WRITER)
+                .writerId(getWriterId(comment))
                 .blinded(comment.getBlinded())
                 .deleted(comment.getDeleted())
                 .createdAt(comment.getCreatedAt())
                 .parentId(parentId)
                 .parentWriter(parentWriter)
-                .writerIcon(writerIcon)
+                .writerIcon(writer != null ? writer.equippedIconName() : null)
                 .writerCertificates(writerCertificates)
                 .likeCount(comment.getLikeCount())
                 .reportCount(comment.getReportCount())
@@ -96,64 +89,21 @@ public class CommentResponseAssembler {
             return new ArrayList<>();
         }
 
-        // 모든 작성자의 대표 인증서를 한 번에 조회
-        Set<User> writers = comments.stream()
-                .map(Comment::getWriter)
-                .filter(writer -> writer != null)
-                .collect(Collectors.toSet());
-
-        Map<Long, UserCertificate> certMap = certificateService.getRepresentativeCertificatesForUsers(writers);
+        // 작성자 + 부모 댓글 작성자를 한 번에 조회하도록 등록
+        WriterProfileLoader.Batch writers = writerProfileLoader.batch().prime(comments.stream()
+                .flatMap(comment -> Stream.of(comment, comment.getParent()))
+                .filter(Objects::nonNull)
+                .map(this::getWriterId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
 
         return comments.stream()
-                .map(comment -> toDtoWithCertMap(comment, currentUser, forAdmin, certMap))
+                .map(comment -> toDto(comment, currentUser, forAdmin, writers))
                 .collect(Collectors.toList());
     }
 
-    private CommentResponseDto toDtoWithCertMap(Comment comment, User currentUser, boolean forAdmin,
-                                                 Map<Long, UserCertificate> certMap) {
-        String writerName = getWriterName(comment);
-        Long parentId = null;
-        String parentWriter = null;
-
-        if (comment.getParent() != null) {
-            parentId = comment.getParent().getId();
-            parentWriter = getWriterName(comment.getParent());
-        }
-
-        String writerIcon = null;
-        List<String> writerCertificates = new ArrayList<>();
-
-        if (comment.getWriter() != null) {
-            writerIcon = comment.getWriter().getEquippedIconName();
-
-            UserCertificate repCert = certMap.get(comment.getWriter().getId());
-            if (repCert != null) {
-                writerCertificates.add(repCert.getCertificateType().getName());
-            }
-        }
-
-        String displayContent = getDisplayContent(comment, currentUser, forAdmin);
-
-        return CommentResponseDto.builder()
-                .id(comment.getId())
-                .content(displayContent)
-                .writer(writerName)
-                .writerId(comment.getWriter() != null ? comment.getWriter().getId() : null)
-                .blinded(comment.getBlinded())
-                .deleted(comment.getDeleted())
-                .createdAt(comment.getCreatedAt())
-                .parentId(parentId)
-                .parentWriter(parentWriter)
-                .writerIcon(writerIcon)
-                .writerCertificates(writerCertificates)
-                .likeCount(comment.getLikeCount())
-                .reportCount(comment.getReportCount())
-                .isPopular(comment.isPopular())
-                .build();
-    }
-
-    private String getWriterName(Comment comment) {
-        return comment.getWriter() != null ? comment.getWriter().getNickname() : "알 수 없는 사용자";
+    private Long getWriterId(Comment comment) {
+        return comment.getWriter() != null ? comment.getWriter().getId() : null;
     }
 
     private String getDisplayContent(Comment comment, User currentUser, boolean forAdmin) {
@@ -171,4 +121,4 @@ public class CommentResponseAssembler {
         }
         return comment.getContent();
     }
-}
\ No newline at end of file
+}
@@ -1,37 +1,61 @@
 package com.byeolnight.service.assembler;
 
 import com.byeolnight.dto.post.PostResponseDto;
-import com.byeolnight.entity.certificate.UserCertificate;
 import com.byeolnight.entity.file.File;
 import com.byeolnight.entity.post.Post;
-import com.byeolnight.entity.user.User;
-import com.byeolnight.service.certificate.CertificateService;
+import com.byeolnight.service.assembler.WriterProfileLoader.WriterProfile;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
  * Post -> PostResponseDto 변환을 담당하는 Assembler
  * - DTO에서 서비스 의존성을 제거하고 명시적인 의존성 주입 사용
- * - 배치 조회를 통한 N+1 문제 방지
+ * - 작성자 닉네임/아이콘/대표 인증서는 WriterProfileLoader로 배치 조회 (목록 변환 전 prime으로 받은 batch를 변환에 전달)
  */
 @Component
 @RequiredArgsConstructor
 public class PostResponseAssembler {
 
-    private final CertificateService certificateService;
+    private final WriterProfileLoader writerProfileLoader;
+
+    /**
+     * 목록 변환 전에 작성자 ID를 등록해 첫 변환 시 한 번에 조회되도록 함
+     * - 반환된 batch를 같은 목록의 toDto/toDtoSimple에 넘겨야 배치가 유지됨
+     */
+    public WriterProfileLoader.Batch prime(Collection<Post> posts) {
+        return writerProfileLoader.batch().prime(posts.stream()
+                .map(this::getWriterId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
+    }
 
     /**
      * 단일 게시글 변환 (상세 조회용)
      */
     public PostResponseDto toDto(Post post, boolean likedByMe, long likeCount, boolean isHot, long commentCount) {
-        return toDto(post, likedByMe, likeCount, isHot, commentCount, null);
+        return toDto(post, likedByMe, likeCount, isHot, commentCount, writerProfileLoader.batch());
+    }
+
+    /**
+     * 단일 게시글 변환 (목록 조회용, prime으로 받은 batch 사용)
+     */
+    public PostResponseDto toDto(Post post, boolean likedByMe, long likeCount, boolean isHot, long commentCount,
+                                  WriterProfileLoader.Batch writers) {
+        return baseBuilder(post, writers)
+                .likeCount(likeCount)
+                .likedByMe(likedByMe)
+                .hot(isHot)
+                .commentCount(commentCount)
+                .build();
     }
 
     /**
@@ -39,90 +63,24 @@ public class PostResponseAssembler {
      */
     public PostResponseDto toDto(Post post, boolean likedByMe, long likeCount, boolean isHot,
                                   long commentCount, List<File> files) {
-        String writerName = getWriterName(post);
-        Long writerId = post.getWriter() != null ? post.getWriter().getId() : null;
-
-        List<PostResponseDto.FileDto> imageDtos = convertFiles(files);
-
-        String writerIcon = null;
-        List<String> writerCertificates = new ArrayList<>();
-
-        if (post.getWriter() != null) {
-            writerIcon = post.getWriter().getEquippedIconName();
-
-            try {
-                UserCertificate repCert = certificateService.getRepresentativeCertificate(post.getWriter());
-                if (repCert != null) {
-                    writerCertificates.add(repCert.getCertificateType().getName());
-                }
-            } catch (Exception e) {
-                // 인증서 조회 실패 시 무시
-            }
-        }
-
-        return PostResponseDto.builder()
-                .id(post.getId())
-                .title(post.getTitle())
-                .content(post.getContent())
-                .category(post.getCategory().name())
-                .writer(writerName)
-                .writerId(writerId)
-                .blinded(post.isBlinded())
-                .blindType(post.getBlindType() != null ? post.getBlindType().name() : null)
+        return baseBuilder(post, writerProfileLoader.batch())
                 .likeCount(likeCount)
                 .likedByMe(likedByMe)
                 .hot(isHot)
-                .viewCount(post.getViewCount())
                 .commentCount(commentCount)
-                .updatedAt(post.getUpdatedAt())
-                .createdAt(post.getCreatedAt())
-                .images(imageDtos)
-                .writerIcon(writerIcon)
-                .writerCertificates(writerCertificates)
+                .images(convertFiles(files))
                 .build();
     }
 
     /**
-     * 단일 게시글 변환 (목록 조회용, 간소화)
+     * 단일 게시글 변환 (목록 조회용, 간소화, prime으로 받은 batch 사용)
      */
-    public PostResponseDto toDtoSimple(Post post, boolean isHot, long commentCount) {
-        String writerName = getWriterName(post);
-        Long writerId = post.getWriter() != null ? post.getWriter().getId() : null;
-
-        String writerIcon = null;
-        List<String> writerCertificates = new ArrayList<>();
-
-        if (post.getWriter() != null) {
-            writerIcon = post.getWriter().getEquippedIconName();
-
-            try {
-                UserCertificate repCert = certificateService.getRepresentativeCertificate(post.getWriter());
-                if (repCert != null) {
-                    writerCertificates.add(repCert.getCertificateType().getName());
-                }
-            } catch (Exception e) {
-                // 인증서 조회 실패 시 무시
-            }
-        }
-
-        return PostResponseDto.builder()
-                .id(post.getId())
-                .title(post.getTitle())
-                .content(post.getContent())
-                .category(post.getCategory().name())
-                .writer(writerName)
-                .writerId(writerId)
-                .blinded(post.isBlinded())
-                .blindType(post.getBlindType() != null ? post.getBlindType().name() : null)
+    public PostResponseDto toDtoSimple(Post post, boolean isHot, long commentCount, WriterProfileLoader.Batch writers) {
+        return baseBuilder(post, writers)
                 .likeCount(post.getLikeCount())
                 .likedByMe(false)
                 .hot(isHot)
-                .viewCount(post.getViewCount())
                 .commentCount(commentCount)
-                .updatedAt(post.getUpdatedAt())
-                .createdAt(post.getCreatedAt())
-                .writerIcon(writerIcon)
-                .writerCertificates(writerCertificates)
                 .build();
     }
 
@@ -135,64 +93,45 @@ public class PostResponseAssembler {
             return new ArrayList<>();
         }
 
-        // 모든 작성자의 대표 인증서를 한 번에 조회
-        Set<User> writers = posts.stream()
-                .map(Post::getWriter)
-                .filter(writer -> writer != null)
-                .collect(Collectors.toSet());
-
-        Map<Long, UserCertificate> certMap = certificateService.getRepresentativeCertificatesForUsers(writers);
+        WriterProfileLoader.Batch writers = prime(posts);
 
         return posts.stream()
-                .map(post -> toDtoWithCertMap(post, likeCountMap, commentCountMap, hotPostIds, certMap))
+                .map(post -> baseBuilder(post, writers)
+                        .likeCount(likeCountMap.getOrDefault(post.getId(), (long) post.getLikeCount()))
+                        .likedByMe(false)
+                        .hot(hotPostIds != null && hotPostIds.contains(post.getId()))
+                        .commentCount(commentCountMap.getOrDefault(post.getId(), 0L))
+                        .build())
                 .collect(Collectors.toList());
     }
 
-    private PostResponseDto toDtoWithCertMap(Post post, Map<Long, Long> likeCountMap,
-                                              Map<Long, Long> commentCountMap, Set<Long> hotPostIds,
-                                              Map<Long, UserCertificate> certMap) {
-        String writerName = getWriterName(post);
-        Long writerId = post.getWriter() != null ? post.getWriter().getId() : null;
+    private PostResponseDto.PostResponseDtoBuilder baseBuilder(Post post, WriterProfileLoader.Batch writers) {
+        Long writerId = getWriterId(post);
+        WriterProfile writer = writers.get(writerId);
 
-        String writerIcon = null;
         List<String> writerCertificates = new ArrayList<>();
-
-        if (post.getWriter() != null) {
-            writerIcon = post.getWriter().getEquippedIconName();
-
-            UserCertificate repCert = certMap.get(post.getWriter().getId());
-            if (repCert != null) {
-                writerCertificates.add(repCert.getCertificateType().getName());
-            }
+        if (writer != null && writer.representativeCertificate() != null) {
+            writerCertificates.add(writer.representativeCertificate());
         }
 
-        long likeCount = likeCountMap.getOrDefault(post.getId(), (long) post.getLikeCount());
-        long commentCount = commentCountMap.getOrDefault(post.getId(), 0L);
-        boolean isHot = hotPostIds != null && hotPostIds.contains(post.getId());
-
         return PostResponseDto.builder()
                 .id(post.getId())
                 .title(post.getTitle())
                 .content(post.getContent())
                 .category(post.getCategory().name())
-                .writer(writerName)
+                .writer(writer != null ? writer.nickname() : "알 수 없는 사용자")
                 .writerId(writerId)
                 .blinded(post.isBlinded())
                 .blindType(post.getBlindType() != null ? post.getBlindType().name() : null)
-                .likeCount(likeCount)
-                .likedByMe(false)
-                .hot(isHot)
                 .viewCount(post.getViewCount())
-                .commentCount(commentCount)
                 .updatedAt(post.getUpdatedAt())
                 .createdAt(post.getCreatedAt())
-                .writerIcon(writerIcon)
-                .writerCertificates(writerCertificates)
-                .build();
+                .writerIcon(writer != null ? writer.equippedIconName() : null)
+                .writerCertificates(writerCertificates);
     }
 
-    private String getWriterName(Post post) {
-        return post.getWriter() != null ? post.getWriter().getNickname() : "알 수 없는 사용자";
+    private Long getWriterId(Post post) {
+        return post.getWriter() != null ? post.getWriter().getId() : null;
     }
 
     private List<PostResponseDto.FileDto> convertFiles(List<File> files) {
@@ -203,4 +142,4 @@ public class PostResponseAssembler {
                 .map(file -> new PostResponseDto.FileDto(file.getId(), file.getOriginalName(), file.getUrl()))
                 .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+}
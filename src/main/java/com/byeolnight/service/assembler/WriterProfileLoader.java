@@ -0,0 +1,94 @@
+package com.byeolnight.service.assembler;
+
+import com.byeolnight.dto.user.WriterSummary;
+import com.byeolnight.entity.certificate.Certificate;
+import com.byeolnight.repository.certificate.UserCertificateRepository;
+import com.byeolnight.repository.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 작성자 부가 정보(닉네임, 장착 아이콘, 대표 인증서) 배치 로더
+ * - 어셈블러가 목록 변환마다 batch() 하나를 만들어 작성자 ID를 prime하고, 같은 batch로 get()하면 종류별 IN 쿼리 1회로 조회
+ * - 웹 요청 안에서는 같은 batch를 요청 속성에 보관해 요청 전체에서 재사용 (최적화일 뿐, 요청 밖에서도 batch 단위 배치는 유지)
+ */
+@Component
+@RequiredArgsConstructor
+public class WriterProfileLoader {
+
+    private static final String REQUEST_ATTRIBUTE = WriterProfileLoader.class.getName() + ".batch";
+
+    private final UserRepository userRepository;
+    private final UserCertificateRepository userCertificateRepository;
+
+    public record WriterProfile(Long userId, String nickname, String equippedIconName, String representativeCertificate) {
+    }
+
+    /**
+     * 변환 단위 로더 (웹 요청 안이면 요청 단위로 공유, 밖이면 새로 생성)
+     * - 호출자는 목록 변환 동안 같은 인스턴스로 prime/get 해야 함
+     */
+    public Batch batch() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return new Batch();
+        }
+        Batch batch = (Batch) attributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (batch == null) {
+            batch = new Batch();
+            attributes.setAttribute(REQUEST_ATTRIBUTE, batch, RequestAttributes.SCOPE_REQUEST);
+        }
+        return batch;
+    }
+
+    public final class Batch {
+
+        private final BatchLoader<Long, WriterSummary> writers = new BatchLoader<>(WriterProfileLoader.this::loadWriters);
+        private final BatchLoader<Long, String> certificates = new BatchLoader<>(WriterProfileLoader.this::loadRepresentativeCertificates);
+
+        private Batch() {
+        }
+
+        public Batch prime(Collection<Long> userIds) {
+            writers.prime(userIds);
+            certificates.prime(userIds);
+            return this;
+        }
+
+        /**
+         * 작성자 정보 조회 (존재하지 않는 사용자면 null)
+         */
+        public WriterProfile get(Long userId) {
+            if (userId == null) {
+                return null;
+            }
+            certificates.prime(Set.of(userId)); // 같은 배치에 묶이도록 인증서 키도 함께 등록
+            WriterSummary writer = writers.get(userId);
+            if (writer == null) {
+                return null;
+            }
+            return new WriterProfile(userId, writer.nickname(), writer.equippedIconName(), certificates.get(userId));
+        }
+    }
+
+    private Map<Long, WriterSummary> loadWriters(Set<Long> userIds) {
+        return userRepository.findWriterSummariesByIdIn(userIds).stream()
+                .collect(Collectors.toMap(WriterSummary::id, writer -> writer));
+    }
+
+    private Map<Long, String> loadRepresentativeCertificates(Set<Long> userIds) {
+        Map<Long, String> result = new HashMap<>();
+        for (Object[] row : userCertificateRepository.findRepresentativeTypesByUserIdIn(userIds)) {
+            result.putIfAbsent((Long) row[0], ((Certificate.CertificateType) row[1]).getName());
+        }
+        return result;
+    }
+}
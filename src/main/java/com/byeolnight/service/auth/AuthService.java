@@ -1,14 +1,11 @@
 package com.byeolnight.service.auth;
 
-import com.byeolnight.entity.log.AuditLoginLog;
-import com.byeolnight.entity.log.AuditSignupLog;
 import com.byeolnight.entity.user.User;
-import com.byeolnight.repository.log.AuditLoginLogRepository;
-import com.byeolnight.repository.log.AuditSignupLogRepository;
 import com.byeolnight.dto.user.LoginRequestDto;
 import com.byeolnight.infrastructure.security.JwtTokenProvider;
 import com.byeolnight.infrastructure.util.IpUtil;
 import com.byeolnight.service.certificate.CertificateService;
+import com.byeolnight.service.log.AuditLogWriter;
 import com.byeolnight.service.user.UserAccountService;
 import com.byeolnight.service.user.UserAdminService;
 import com.byeolnight.service.user.UserQueryService;
@@ -36,11 +33,10 @@ public class AuthService {
     private final UserAccountService userAccountService;
     private final UserAdminService userAdminService;
     private final JwtTokenProvider jwtTokenProvider;
-    private final AuditLoginLogRepository auditLoginLogRepository;
-    private final AuditSignupLogRepository auditSignupLogRepository;
     private final UserSecurityService userSecurityService;
     private final CertificateService certificateService;
     private final SocialAccountCleanupService socialAccountCleanupService;
+    private final AuditLogWriter auditLogWriter;
     /**
      * 로그인 인증 처리
      */
@@ -61,7 +57,7 @@ public class AuthService {
 
         // 로그인 성공 처리
         userAdminService.resetLoginFailCount(user);
-        auditLoginLogRepository.save(AuditLoginLog.of(user.getEmail(), ip, userAgent));
+        auditLogWriter.login(user.getEmail(), ip, userAgent);
 
         // 인증서 발급 체크
         certificateService.checkAndIssueCertificates(user, CertificateService.CertificateCheckType.LOGIN);
@@ -80,7 +76,7 @@ public class AuthService {
     private User findAndValidateUser(String email, String ip) {
         User user = userQueryService.findByEmail(email)
                 .orElseThrow(() -> {
-                    auditSignupLogRepository.save(AuditSignupLog.failure(email, ip, "존재하지 않는 이메일"));
+                    auditLogWriter.signupFailure(email, ip, "존재하지 않는 이메일");
                     return new BadCredentialsException("존재하지 않는 아이디입니다.");
                 });
 
@@ -89,21 +85,21 @@ public class AuthService {
             // 탈퇴한 계정 - 복구 가능 여부 확인
             if (socialAccountCleanupService.canRecover(user.getEmail())) {
                 // 복구 가능한 계정
-                auditSignupLogRepository.save(AuditSignupLog.failure(user.getEmail(), ip, "탈퇴 계정 복구 가능"));
+                auditLogWriter.signupFailure(user.getEmail(), ip, "탈퇴 계정 복구 가능");
                 throw new BadCredentialsException("RECOVERABLE_ACCOUNT:" + user.getEmail());
             } else {
                 // 복구 불가능한 계정 (30일 경과)
-                auditSignupLogRepository.save(AuditSignupLog.failure(user.getEmail(), ip, "탈퇴 계정 복구 불가"));
+                auditLogWriter.signupFailure(user.getEmail(), ip, "탈퇴 계정 복구 불가");
                 throw new BadCredentialsException("탈퇴한 계정입니다.");
             }
         } else if (user.getStatus() != User.UserStatus.ACTIVE) {
-            auditSignupLogRepository.save(AuditSignupLog.failure(user.getEmail(), ip, "비활성 상태: " + user.getStatus()));
+            auditLogWriter.signupFailure(user.getEmail(), ip, "비활성 상태: " + user.getStatus());
             throw new BadCredentialsException("해당 계정은 로그인할 수 없습니다. 현재 상태: " + user.getStatus());
         }
 
         // 계정 잠금 확인
         if (user.isAccountLocked()) {
-            auditSignupLogRepository.save(AuditSignupLog.failure(user.getEmail(), ip, "계정 잠김 상태"));
+            auditLogWriter.signupFailure(user.getEmail(), ip, "계정 잠김 상태");
             throw new BadCredentialsException("🔒 계정이 잠겨 있습니다. 비밀번호 초기화를 통해 잠금을 해제하거나 관리자에게 문의하세요.");
         }
 
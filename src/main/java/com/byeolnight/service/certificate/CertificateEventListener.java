@@ -0,0 +1,94 @@
+package com.byeolnight.service.certificate;
+
+import com.byeolnight.dto.certificate.CertificateJob;
+import com.byeolnight.entity.post.Post;
+import com.byeolnight.event.ChatSentEvent;
+import com.byeolnight.event.CommentCreatedEvent;
+import com.byeolnight.event.PointsChangedEvent;
+import com.byeolnight.event.PostCreatedEvent;
+import com.byeolnight.event.PostDeletedEvent;
+import com.byeolnight.event.PostRestoredEvent;
+import com.byeolnight.event.UserStatsChangedEvent;
+import com.byeolnight.service.certificate.CertificateProgressStore.Metric;
+import com.byeolnight.service.certificate.CertificateService.CertificateCheckType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 도메인 이벤트 → 인증서 평가 작업 변환
+ * - 커밋 이후 Redis 큐에 적재만 하고, 평가/발급은 CertificateWorker가 요청 경로 밖에서 처리
+ * - 진행도 카운터는 작성/삭제 트랜잭션 안에서 갱신 (생성은 커밋 전, 증감은 커밋 이후)
+ */
+@Component
+@RequiredArgsConstructor
+public class CertificateEventListener {
+
+    private final CertificateService certificateService;
+
+    @EventListener
+    public void trackStats(UserStatsChangedEvent event) {
+        switch (event.counter()) {
+            case POST -> certificateService.trackProgress(event.userId(), Metric.POSTS, event.delta());
+            default -> {
+            }
+        }
+    }
+
+    // 은하 통신병 기준은 작성한 댓글 전체 수 (삭제/블라인드돼도 차감하지 않음)
+    @EventListener
+    public void trackCommentCreated(CommentCreatedEvent event) {
+        certificateService.trackProgress(event.userId(), Metric.COMMENTS, 1);
+    }
+
+    @EventListener
+    public void trackPostCreated(PostCreatedEvent event) {
+        if (event.category() == Post.Category.IMAGE) {
+            certificateService.trackProgress(event.userId(), Metric.IMAGE_POSTS, 1);
+        }
+    }
+
+    @EventListener
+    public void trackPostDeleted(PostDeletedEvent event) {
+        if (event.category() == Post.Category.IMAGE) {
+            certificateService.trackProgress(event.userId(), Metric.IMAGE_POSTS, -1);
+        }
+    }
+
+    @EventListener
+    public void trackPostRestored(PostRestoredEvent event) {
+        if (event.category() == Post.Category.IMAGE) {
+            certificateService.trackProgress(event.userId(), Metric.IMAGE_POSTS, 1);
+        }
+    }
+
+    @EventListener
+    public void trackChatSent(ChatSentEvent event) {
+        certificateService.trackProgress(event.userId(), Metric.CHAT_MESSAGES, 1);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostCreated(PostCreatedEvent event) {
+        certificateService.enqueue(CertificateJob.of(event.userId(), CertificateCheckType.POST_WRITE, null));
+        if (event.category() == Post.Category.IMAGE) {
+            certificateService.enqueue(CertificateJob.of(event.userId(), CertificateCheckType.IMAGE_UPLOAD, null));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCommentCreated(CommentCreatedEvent event) {
+        certificateService.enqueue(CertificateJob.of(event.userId(), CertificateCheckType.COMMENT_WRITE, null));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onChatSent(ChatSentEvent event) {
+        certificateService.enqueue(CertificateJob.of(event.userId(), CertificateCheckType.CHAT_PARTICIPATE, null));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPointsChanged(PointsChangedEvent event) {
+        certificateService.enqueue(CertificateJob.of(event.userId(), CertificateCheckType.POINT_ACHIEVEMENT, event.totalPoints()));
+    }
+}
@@ -0,0 +1,136 @@
+package com.byeolnight.service.certificate;
+
+import com.byeolnight.entity.certificate.Certificate;
+import lombok.RequiredArgsConstructor;
+import org.redisson.api.RScript;
+import org.redisson.api.RSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * 인증서 진행도/보유 현황 Redis 저장소
+ * - 진행도 카운터: 쓰기 트랜잭션 커밋 전에 (DB 값 - 이번 변경분)으로 없을 때만 생성, 커밋 이후 증감 (작성 +1, 게시글 삭제 -1)
+ *   생성 후 7일이 지나면 만료되어 다음 변경 시 DB 기준으로 다시 생성 (증감은 카운터가 있을 때만 반영)
+ * - 보유 인증서 집합: 최초 조회 시 DB에서 적재, 발급 시 추가 (이미 보유한 인증서는 DB 조회 없이 건너뜀)
+ */
+@Component
+@RequiredArgsConstructor
+public class CertificateProgressStore {
+
+    private static final String PROGRESS_PREFIX = "cert:progress:";
+    private static final String OWNED_PREFIX = "cert:owned:";
+    private static final String LOADED_MARKER = "_";
+    private static final Duration PROGRESS_TTL = Duration.ofDays(7);
+    private static final Duration OWNED_TTL = Duration.ofDays(1);
+
+    private static final String SEED_SCRIPT = """
+        return redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) and 1 or 0
+        """;
+
+    private static final String ADD_IF_EXISTS_SCRIPT = """
+        if redis.call('EXISTS', KEYS[1]) == 1 then
+            return redis.call('INCRBY', KEYS[1], ARGV[1])
+        end
+        return nil
+        """;
+
+    // 집합이 없을 때만 [표식 + 보유 목록]으로 만들고 보유 여부 반환 (ARGV: 대상, TTL(ms), 보유 목록...)
+    private static final String LOAD_OWNED_SCRIPT = """
+        if redis.call('EXISTS', KEYS[1]) == 0 then
+            redis.call('SADD', KEYS[1], unpack(ARGV, 3))
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+        end
+        return redis.call('SISMEMBER', KEYS[1], ARGV[1])
+        """;
+
+    private static final String ADD_OWNED_IF_EXISTS_SCRIPT = """
+        if redis.call('EXISTS', KEYS[1]) == 1 then
+            redis.call('SADD', KEYS[1], ARGV[1])
+        end
+        return 0
+        """;
+
+    private final RedissonClient redissonClient;
+
+    public enum Metric {
+        POSTS, IMAGE_POSTS, COMMENTS, CHAT_MESSAGES
+    }
+
+    /**
+     * 카운터가 없으면 initial 값으로 생성 (이미 있으면 initial을 계산하지 않음)
+     */
+    public void seed(Long userId, Metric metric, LongSupplier initial) {
+        String key = progressKey(userId, metric);
+        if (redissonClient.getBucket(key, StringCodec.INSTANCE).isExists()) {
+            return;
+        }
+        script().eval(RScript.Mode.READ_WRITE, SEED_SCRIPT, RScript.ReturnType.INTEGER,
+                List.of(key), String.valueOf(Math.max(0, initial.getAsLong())), String.valueOf(PROGRESS_TTL.toMillis()));
+    }
+
+    /**
+     * 카운터가 있을 때만 증감 (없으면 다음 변경 시 DB 기준으로 생성됨)
+     */
+    public void add(Long userId, Metric metric, long delta) {
+        String key = progressKey(userId, metric);
+        script().eval(RScript.Mode.READ_WRITE, ADD_IF_EXISTS_SCRIPT, RScript.ReturnType.INTEGER,
+                List.of(key), String.valueOf(delta));
+    }
+
+    /**
+     * 현재 진행도 (카운터가 없으면 empty → 호출자가 DB로 계산)
+     */
+    public OptionalLong get(Long userId, Metric metric) {
+        String value = redissonClient.<String>getBucket(progressKey(userId, metric), StringCodec.INSTANCE).get();
+        return value != null ? OptionalLong.of(Long.parseLong(value)) : OptionalLong.empty();
+    }
+
+    /**
+     * 인증서 보유 여부 (집합이 없으면 loader 결과로 원자적으로 생성)
+     */
+    public boolean isOwned(Long userId, Certificate.CertificateType type,
+                           Supplier<Collection<Certificate.CertificateType>> loader) {
+        String key = OWNED_PREFIX + userId;
+        RSet<String> owned = redissonClient.getSet(key, StringCodec.INSTANCE);
+        if (owned.contains(type.name())) {
+            return true;
+        }
+        if (owned.isExists()) {
+            return false;
+        }
+        List<Object> args = new ArrayList<>();
+        args.add(type.name());
+        args.add(String.valueOf(OWNED_TTL.toMillis()));
+        args.add(LOADED_MARKER);
+        loader.get().forEach(ownedType -> args.add(ownedType.name()));
+        Long loaded = script().eval(RScript.Mode.READ_WRITE, LOAD_OWNED_SCRIPT, RScript.ReturnType.INTEGER,
+                List.of(key), args.toArray());
+        return loaded != null && loaded == 1L;
+    }
+
+    /**
+     * 발급된 인증서를 보유 집합에 추가 (집합이 적재된 경우에만)
+     */
+    public void markOwned(Long userId, Certificate.CertificateType type) {
+        String key = OWNED_PREFIX + userId;
+        script().eval(RScript.Mode.READ_WRITE, ADD_OWNED_IF_EXISTS_SCRIPT, RScript.ReturnType.INTEGER,
+                List.of(key), type.name());
+    }
+
+    private RScript script() {
+        return redissonClient.getScript(StringCodec.INSTANCE);
+    }
+
+    private static String progressKey(Long userId, Metric metric) {
+        return PROGRESS_PREFIX + userId + ":" + metric.name().toLowerCase();
+    }
+}
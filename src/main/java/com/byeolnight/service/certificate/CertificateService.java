@@ -4,6 +4,7 @@ import com.byeolnight.entity.certificate.Certificate;
 import com.byeolnight.entity.certificate.UserCertificate;
 import com.byeolnight.entity.user.User;
 import com.byeolnight.entity.post.Post;
+import com.byeolnight.event.UserProfileChangedEvent;
 import com.byeolnight.repository.SuggestionRepository;
 import com.byeolnight.repository.chat.ChatParticipationRepository;
 import com.byeolnight.repository.comment.CommentRepository;
@@ -13,10 +14,16 @@ import com.byeolnight.repository.post.PostRepository;
 import com.byeolnight.repository.user.DailyAttendanceRepository;
 import com.byeolnight.repository.user.UserRepository;
 import com.byeolnight.dto.certificate.CertificateDto;
+import com.byeolnight.dto.certificate.CertificateJob;
+import com.byeolnight.infrastructure.cache.RedissonCacheService;
+import com.byeolnight.service.certificate.CertificateProgressStore.Metric;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
 import java.util.Collections;
@@ -29,6 +36,8 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class CertificateService {
 
+    public static final String CERTIFICATE_QUEUE = "queue:certificate";
+
     private final UserCertificateRepository userCertificateRepository;
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
@@ -37,43 +46,91 @@ public class CertificateService {
     private final SuggestionRepository suggestionRepository;
     private final DailyAttendanceRepository dailyAttendanceRepository;
     private final UserRepository userRepository;
+    private final RedissonCacheService cacheService;
+    private final CertificateProgressStore progressStore;
+    private final ApplicationEventPublisher eventPublisher;
 
-    // 인증서 발급 체크 및 발급
-    @Transactional
+    /**
+     * 인증서 발급 체크 요청
+     * - 요청 경로에서는 Redis 큐에 적재만 하고 실제 평가는 CertificateWorker가 처리
+     * - 트랜잭션 안에서 호출되면 커밋 이후에 적재
+     */
     public void checkAndIssueCertificates(User user, CertificateCheckType checkType) {
-        switch (checkType) {
-            case LOGIN -> checkStarlightExplorer(user);
-            case POST_WRITE -> {
-                checkSpaceCitizen(user);
-                checkExperimenter(user);
+        if (user == null || user.getId() == null) {
+            return;
+        }
+        CertificateJob job = CertificateJob.of(user.getId(), checkType, user.getPoints());
+        runAfterCommit(() -> enqueue(job));
+    }
+
+    /**
+     * 진행도 변경 (작성/삭제 트랜잭션 안에서 호출)
+     * - 카운터가 없으면 커밋 전에 (DB 값 - 이번 변경분)으로 생성 → 이미 큐에 있는 작업의 증감과 겹치지 않음
+     * - 증감은 커밋 이후 반영 (롤백되면 반영하지 않음)
+     */
+    public void trackProgress(Long userId, Metric metric, int delta) {
+        if (userId == null || delta == 0) {
+            return;
+        }
+        try {
+            progressStore.seed(userId, metric, () -> countProgress(userId, metric) - delta);
+        } catch (Exception e) {
+            log.warn("인증서 진행도 초기화 실패: userId={}, metric={}, error={}", userId, metric, e.getMessage());
+        }
+        runAfterCommit(() -> {
+            try {
+                progressStore.add(userId, metric, delta);
+            } catch (Exception e) {
+                log.warn("인증서 진행도 반영 실패: userId={}, metric={}, delta={}, error={}", userId, metric, delta, e.getMessage());
             }
-            case COMMENT_WRITE -> checkGalaxyCommunicator(user);
-            case IMAGE_UPLOAD -> checkStarObserver(user);
-            case CHAT_PARTICIPATE -> checkChatMaster(user);
-            case POINT_ACHIEVEMENT -> checkNightCitizen(user);
-            case REPORT_APPROVED -> checkGuardian(user);
-            case SUGGESTION_WRITE -> checkSuggestionKing(user);
+        });
+    }
+
+    /**
+     * 평가 작업 큐 적재 (도메인 이벤트 리스너/요청 경로에서 호출)
+     */
+    public void enqueue(CertificateJob job) {
+        try {
+            cacheService.enqueue(CERTIFICATE_QUEUE, job);
+        } catch (Exception e) {
+            log.warn("인증서 평가 작업 적재 실패: userId={}, type={}, error={}", job.getUserId(), job.getCheckType(), e.getMessage());
         }
     }
 
-    // 🌠 별빛 탐험가 인증서
-    private void checkStarlightExplorer(User user) {
-        if (!hasUserCertificate(user, Certificate.CertificateType.STARLIGHT_EXPLORER)) {
-            issueCertificate(user, Certificate.CertificateType.STARLIGHT_EXPLORER);
+    /**
+     * 인증서 평가 및 발급 (워커에서 호출)
+     * - 이미 보유한 인증서는 Redis 보유 집합으로 판별해 DB 조회 없이 건너뜀
+     * - 누적 조건은 Redis 진행도 카운터로 판별
+     */
+    @Transactional
+    public void evaluate(CertificateJob job) {
+        Long userId = job.getUserId();
+        switch (job.getCheckType()) {
+            case LOGIN -> issueIfAbsent(userId, Certificate.CertificateType.STARLIGHT_EXPLORER);
+            case POST_WRITE -> {
+                issueIfAbsent(userId, Certificate.CertificateType.SPACE_CITIZEN);
+                checkExperimenter(userId);
+            }
+            case COMMENT_WRITE -> checkGalaxyCommunicator(userId);
+            case IMAGE_UPLOAD -> checkStarObserver(userId);
+            case CHAT_PARTICIPATE -> checkChatMaster(userId);
+            case POINT_ACHIEVEMENT -> checkNightCitizen(userId, job.getTotalPoints());
+            case REPORT_APPROVED -> checkGuardian(userId);
+            case SUGGESTION_WRITE -> checkSuggestionKing(userId);
         }
     }
 
-    // 🪐 우주인 등록 인증서
-    private void checkSpaceCitizen(User user) {
-        if (!hasUserCertificate(user, Certificate.CertificateType.SPACE_CITIZEN)) {
-            issueCertificate(user, Certificate.CertificateType.SPACE_CITIZEN);
+    private void issueIfAbsent(Long userId, Certificate.CertificateType type) {
+        if (!isOwned(userId, type)) {
+            issueCertificate(userRepository.getReferenceById(userId), type);
         }
     }
 
     // 🚀 은하 통신병 인증서 (댓글 10회 이상)
-    private void checkGalaxyCommunicator(User user) {
-        if (!hasUserCertificate(user, Certificate.CertificateType.GALAXY_COMMUNICATOR)) {
-            long commentCount = commentRepository.countByWriter(user);
+    private void checkGalaxyCommunicator(Long userId) {
+        if (!isOwned(userId, Certificate.CertificateType.GALAXY_COMMUNICATOR)) {
+            User user = userRepository.getReferenceById(userId);
+            long commentCount = progress(userId, Metric.COMMENTS);
             if (commentCount >= 10) {
                 issueCertificate(user, Certificate.CertificateType.GALAXY_COMMUNICATOR);
             }
@@ -81,20 +138,22 @@ public class CertificateService {
     }
 
     // 🧪 우주 실험자 인증서 (게시글 5개 이상 + 서로 다른 게시판 3곳 이상)
-    private void checkExperimenter(User user) {
-        if (!hasUserCertificate(user, Certificate.CertificateType.EXPERIMENTER)) {
-            long postCount = postRepository.countByWriterAndIsDeletedFalse(user);
-            long categoryCount = postRepository.countDistinctCategoriesByWriter(user);
-            if (postCount >= 5 && categoryCount >= 3) {
+    private void checkExperimenter(Long userId) {
+        if (!isOwned(userId, Certificate.CertificateType.EXPERIMENTER)) {
+            User user = userRepository.getReferenceById(userId);
+            long postCount = progress(userId, Metric.POSTS);
+            // 게시판 수는 게시글 수 조건을 만족한 뒤에만 조회
+            if (postCount >= 5 && postRepository.countDistinctCategoriesByWriter(user) >= 3) {
                 issueCertificate(user, Certificate.CertificateType.EXPERIMENTER);
             }
         }
     }
 
     // 🌌 별 관측 매니아 인증서 (IMAGE 게시판에 사진 5장 이상 업로드)
-    private void checkStarObserver(User user) {
-        if (!hasUserCertificate(user, Certificate.CertificateType.STAR_OBSERVER)) {
-            long imagePostCount = postRepository.countByWriterAndCategoryAndIsDeletedFalse(user, Post.Category.IMAGE);
+    private void checkStarObserver(Long userId) {
+        if (!isOwned(userId, Certificate.CertificateType.STAR_OBSERVER)) {
+            User user = userRepository.getReferenceById(userId);
+            long imagePostCount = progress(userId, Metric.IMAGE_POSTS);
             if (imagePostCount >= 5) {
                 issueCertificate(user, Certificate.CertificateType.STAR_OBSERVER);
             }
@@ -102,29 +161,29 @@ public class CertificateService {
     }
 
     // 🌟 별 헤는 밤 시민증 (누적 스텔라포인트 350점 이상)
-    private void checkNightCitizen(User user) {
-        if (!hasUserCertificate(user, Certificate.CertificateType.NIGHT_CITIZEN)) {
-            if (user.getPoints() >= 350) {
-                issueCertificate(user, Certificate.CertificateType.NIGHT_CITIZEN);
-            }
+    private void checkNightCitizen(Long userId, Integer totalPoints) {
+        if (totalPoints != null && totalPoints >= 350
+                && !isOwned(userId, Certificate.CertificateType.NIGHT_CITIZEN)) {
+            issueCertificate(userRepository.getReferenceById(userId), Certificate.CertificateType.NIGHT_CITIZEN);
         }
     }
 
     // 💬 별빛 채팅사 인증서 (출석일수 3회 + 채팅 10회)
-    private void checkChatMaster(User user) {
-        if (!hasUserCertificate(user, Certificate.CertificateType.CHAT_MASTER)) {
-            Long totalMessages = chatParticipationRepository.getTotalMessageCountByUser(user);
-            long attendanceCount = dailyAttendanceRepository.countByUser(user);
-            
-            if (totalMessages != null && totalMessages >= 10 && attendanceCount >= 3) {
+    private void checkChatMaster(Long userId) {
+        if (!isOwned(userId, Certificate.CertificateType.CHAT_MASTER)) {
+            User user = userRepository.getReferenceById(userId);
+            long totalMessages = progress(userId, Metric.CHAT_MESSAGES);
+            // 출석일수는 채팅 수 조건을 만족한 뒤에만 조회
+            if (totalMessages >= 10 && dailyAttendanceRepository.countByUser(user) >= 3) {
                 issueCertificate(user, Certificate.CertificateType.CHAT_MASTER);
             }
         }
     }
 
     // 🛰️ 별빛 수호자 인증서 (게시글 신고 5회 이상 + 3건 이상 관리자 승인)
-    private void checkGuardian(User user) {
-        if (!hasUserCertificate(user, Certificate.CertificateType.GUARDIAN)) {
+    private void checkGuardian(Long userId) {
+        if (!isOwned(userId, Certificate.CertificateType.GUARDIAN)) {
+            User user = userRepository.getReferenceById(userId);
             long totalReports = postReportRepository.countByUser(user);
             long approvedReports = postReportRepository.countApprovedReportsByUser(user);
             
@@ -135,8 +194,9 @@ public class CertificateService {
     }
 
     // 💡 건의왕 인증서 (건의사항 3건 이상 작성)
-    private void checkSuggestionKing(User user) {
-        if (!hasUserCertificate(user, Certificate.CertificateType.SUGGESTION_KING)) {
+    private void checkSuggestionKing(Long userId) {
+        if (!isOwned(userId, Certificate.CertificateType.SUGGESTION_KING)) {
+            User user = userRepository.getReferenceById(userId);
             long suggestionCount = suggestionRepository.countByAuthor(user);
             
             if (suggestionCount >= 3) {
@@ -145,6 +205,44 @@ public class CertificateService {
         }
     }
 
+    /**
+     * 현재 진행도 (카운터가 없으면 커밋된 DB 값)
+     */
+    private long progress(Long userId, Metric metric) {
+        return progressStore.get(userId, metric).orElseGet(() -> countProgress(userId, metric));
+    }
+
+    private long countProgress(Long userId, Metric metric) {
+        User user = userRepository.getReferenceById(userId);
+        return switch (metric) {
+            case POSTS -> postRepository.countByWriterAndIsDeletedFalse(user);
+            case IMAGE_POSTS -> postRepository.countByWriterAndCategoryAndIsDeletedFalse(user, Post.Category.IMAGE);
+            case COMMENTS -> commentRepository.countByWriter(user);
+            case CHAT_MESSAGES -> {
+                Long count = chatParticipationRepository.getTotalMessageCountByUser(user);
+                yield count != null ? count : 0L;
+            }
+        };
+    }
+
+    private static void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private boolean isOwned(Long userId, Certificate.CertificateType type) {
+        return progressStore.isOwned(userId, type,
+                () -> userCertificateRepository.findCertificateTypesByUserId(userId));
+    }
+
     // 인증서 발급
     @Transactional
     public void issueCertificate(User user, Certificate.CertificateType certificateType) {
@@ -156,8 +254,10 @@ public class CertificateService {
         if (!hasUserCertificate(user, certificateType)) {
             UserCertificate userCertificate = UserCertificate.of(user, certificateType);
             userCertificateRepository.save(userCertificate);
-            log.info("인증서 발급: {} - {}", user.getNickname(), certificateType.getName());
+            eventPublisher.publishEvent(new UserProfileChangedEvent(user.getId()));
+            log.info("인증서 발급: userId={} - {}", user.getId(), certificateType.getName());
         }
+        progressStore.markOwned(user.getId(), certificateType);
     }
 
     // 대표 인증서 설정
@@ -169,6 +269,7 @@ public class CertificateService {
         // 새 대표 인증서 설정
         userCertificateRepository.findByUserAndCertificateType(user, certificateType)
                 .ifPresent(UserCertificate::setAsRepresentative);
+        eventPublisher.publishEvent(new UserProfileChangedEvent(user.getId()));
     }
 
     // 사용자 인증서 목록 조회
@@ -181,26 +282,6 @@ public class CertificateService {
         return userCertificateRepository.findByUserAndIsRepresentativeTrue(user).orElse(null);
     }
 
-    /**
-     * 여러 사용자의 대표 인증서를 한 번에 조회 (N+1 방지용 배치 조회)
-     * @param users 조회할 사용자 Set
-     * @return userId -> UserCertificate 매핑
-     */
-    public java.util.Map<Long, UserCertificate> getRepresentativeCertificatesForUsers(Set<User> users) {
-        if (users == null || users.isEmpty()) {
-            return java.util.Collections.emptyMap();
-        }
-
-        List<UserCertificate> certificates = userCertificateRepository.findByUserInAndIsRepresentativeTrue(users);
-
-        return certificates.stream()
-                .collect(Collectors.toMap(
-                        cert -> cert.getUser().getId(),
-                        cert -> cert,
-                        (existing, replacement) -> existing // 중복 시 기존 값 유지
-                ));
-    }
-
     /**
      * 대표 인증서 안전 조회 (예외 발생 시 null 반환)
      */
@@ -8,9 +8,9 @@ import com.byeolnight.dto.admin.ChatStatsDto;
 import com.byeolnight.dto.admin.ChatBanStatusDto;
 import com.byeolnight.dto.admin.BannedUserDto;
 import com.byeolnight.dto.admin.BlindedMessageDto;
+import com.byeolnight.infrastructure.common.OffsetPageRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.redis.core.StringRedisTemplate;
 
 import org.springframework.scheduling.annotation.Scheduled;
@@ -109,14 +109,12 @@ public class AdminChatService {
         return new ChatStatsDto(totalMessages, blindedMessages, bannedUsers, activeUsers);
     }
 
-    // 제재된 사용자 목록 조회 (페이징 지원)
+    // 제재된 사용자 목록 조회 (offset/limit 페이징, limit < 1이면 IllegalArgumentException)
     public List<BannedUserDto> getBannedUsers(int limit, int offset) {
-        List<ChatBan> activeBans = chatBanRepository.findByIsActiveTrueOrderByBannedAtDesc();
-        
+        // 만료 여부 필터와 페이징을 SQL에서 처리
+        List<ChatBan> activeBans = chatBanRepository.findActiveBans(LocalDateTime.now(), OffsetPageRequest.of(offset, limit));
+
         return activeBans.stream()
-                .filter(ban -> !ban.isExpired())
-                .skip(offset)
-                .limit(limit)
                 .map(ban -> BannedUserDto.builder()
                     .userId(ban.getUsername())
                     .username(ban.getUsername())
@@ -130,7 +128,7 @@ public class AdminChatService {
     // 블라인드된 메시지 목록 조회 (페이징 지원)
     public List<BlindedMessageDto> getBlindedMessages(int limit, int offset) {
         List<ChatMessage> blindedMessages = chatMessageRepository
-                .findByIsBlindedTrueOrderByBlindedAtDesc(PageRequest.of(offset / limit, limit));
+                .findByIsBlindedTrueOrderByBlindedAtDesc(OffsetPageRequest.of(offset, limit));
         
         return blindedMessages.stream()
                 .map(message -> BlindedMessageDto.builder()
@@ -6,9 +6,10 @@ import com.byeolnight.dto.chat.ChatMessageDto;
 import com.byeolnight.entity.chat.ChatParticipation;
 import com.byeolnight.entity.user.User;
 import com.byeolnight.repository.user.UserRepository;
-import com.byeolnight.service.certificate.CertificateService;
+import com.byeolnight.event.ChatSentEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,7 +25,7 @@ public class ChatService {
     private final ChatMessageRepository chatMessageRepository;
     private final com.byeolnight.repository.chat.ChatParticipationRepository chatParticipationRepository;
     private final UserRepository userRepository;
-    private final CertificateService certificateService;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     @Transactional(readOnly = true, isolation = Isolation.READ_COMMITTED)
@@ -138,9 +139,8 @@ public class ChatService {
                 chatParticipationRepository.save(participation);
             }
             
-            // 채팅 인증서 체크
-            certificateService.checkAndIssueCertificates(user, 
-                com.byeolnight.service.certificate.CertificateService.CertificateCheckType.CHAT_PARTICIPATE);
+            // 채팅 인증서는 커밋 이후 비동기로 평가
+            eventPublisher.publishEvent(new ChatSentEvent(user.getId()));
                 
         } catch (Exception e) {
             log.error("채팅 참여 추적 실패: {}", e.getMessage());
@@ -2,8 +2,8 @@ package com.byeolnight.service.cinema;
 
 import com.byeolnight.dto.admin.CinemaStatusDto;
 import com.byeolnight.dto.cinema.CinemaVideoData;
+import com.byeolnight.dto.crawler.TitleSignatureRow;
 import com.byeolnight.dto.external.openai.OpenAiChatRequest;
-import com.byeolnight.dto.external.openai.OpenAiChatResponse;
 import com.byeolnight.dto.external.openai.OpenAiMessage;
 import com.byeolnight.dto.external.youtube.*;
 import com.byeolnight.dto.video.VideoDto;
@@ -13,15 +13,21 @@ import com.byeolnight.entity.user.User;
 import com.byeolnight.repository.CinemaRepository;
 import com.byeolnight.repository.post.PostRepository;
 import com.byeolnight.repository.user.UserRepository;
+import com.byeolnight.service.ai.OpenAiClient;
+import com.byeolnight.service.crawler.KeywordMatcherRegistry;
+import com.byeolnight.service.crawler.KeywordMatcherRegistry.KeywordSet;
 import com.byeolnight.infrastructure.config.CinemaCollectionProperties;
+import com.byeolnight.infrastructure.util.AhoCorasickMatcher;
+import com.byeolnight.infrastructure.util.NearDuplicateIndex;
+import com.byeolnight.infrastructure.util.ParallelUtils;
+import com.byeolnight.infrastructure.util.TitleMinHash;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.client.RestTemplate;
 
 import java.time.LocalDateTime;
@@ -39,26 +45,25 @@ public class CinemaService {
     private final UserRepository userRepository;
     private final CinemaCollectionProperties cinemaConfig;
     private final RestTemplate restTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OpenAiClient openAiClient;
+    private final YouTubeMetadataFetcher youTubeMetadataFetcher;
+    private final KeywordMatcherRegistry keywordMatchers;
     
     @Value("${app.security.external-api.ai.google-api-key:}")
     private String googleApiKey;
     
-    @Value("${app.security.external-api.ai.openai-api-key:}")
-    private String openaiApiKey;
-    
     @Value("${app.system.users.newsbot.email:newsbot@byeolnight.com}")
     private String newsbotEmail;
 
     // ================================ 스케줄링 ================================
     
     @Scheduled(cron = "0 0 20 * * *", zone = "Asia/Seoul")
-    @Transactional
     public void createDailyCinemaPost() {
         executeWithRetry("일일 자동 포스팅");
     }
     
     @Scheduled(cron = "0 5 20 * * *", zone = "Asia/Seoul")
-    @Transactional
     public void retryDailyCinemaPost() {
         if (shouldRetryToday()) {
             executeWithRetry("재시도 포스팅");
@@ -66,7 +71,6 @@ public class CinemaService {
     }
     
     @Scheduled(cron = "0 10 20 * * *", zone = "Asia/Seoul")
-    @Transactional
     public void finalRetryDailyCinemaPost() {
         if (shouldRetryToday()) {
             executeWithRetry("최종 재시도 포스팅");
@@ -103,7 +107,9 @@ public class CinemaService {
         }
     }
 
-    @Transactional
+    /**
+     * YouTube 검색/번역은 트랜잭션 밖에서 수행하고, 중복 확인과 저장만 짧은 트랜잭션으로 처리
+     */
     public void collectAndSaveSpaceVideo(User user) {
         log.info("우주 영상 수집 시작");
 
@@ -113,18 +119,18 @@ public class CinemaService {
             return;
         }
 
-        if (isDuplicateVideo(videoData.videoId(), videoData.title())) {
-            log.info("중복 영상으로 스킵: {}", videoData.title());
-            return;
-        }
-
         Cinema cinema = convertToCinema(videoData);
-        cinemaRepository.save(cinema);
-
         Post post = convertToPost(videoData, user);
-        Post savedPost = postRepository.save(post);
 
-        log.info("새 별빛시네마 게시글 저장: {}", savedPost.getTitle());
+        transactionTemplate.executeWithoutResult(status -> {
+            if (isDuplicateVideo(videoData.videoId(), videoData.title())) {
+                log.info("중복 영상으로 스킵: {}", videoData.title());
+                return;
+            }
+            cinemaRepository.save(cinema);
+            Post savedPost = postRepository.save(post);
+            log.info("새 별빛시네마 게시글 저장: {}", savedPost.getTitle());
+        });
     }
 
     // ================================ YouTube 검색 ================================
@@ -134,13 +140,15 @@ public class CinemaService {
             return createMockVideoData();
         }
 
-        String[][] keywordSets = {KeywordConstants.KOREAN_KEYWORDS, KeywordConstants.ENGLISH_KEYWORDS};
+        List<List<String>> keywordSets = List.of(
+            keywordMatchers.keywords(KeywordSet.CINEMA_SPACE_KO), keywordMatchers.keywords(KeywordSet.CINEMA_SPACE_EN));
+        NearDuplicateIndex recentTitles = loadRecentTitleIndex();
 
-        for (String[] keywords : keywordSets) {
+        for (List<String> keywords : keywordSets) {
             for (int attempt = 0; attempt < cinemaConfig.getCollection().getRetryCount(); attempt++) {
                 try {
                     CinemaVideoData video = searchYouTube(keywords);
-                    if (video != null && !isSimilarToExistingVideos(video)) {
+                    if (video != null && !isSimilarToExistingVideos(video, recentTitles)) {
                         return video;
                     }
                     Thread.sleep(1000 * (attempt + 1));
@@ -153,7 +161,7 @@ public class CinemaService {
         return createMockVideoData();
     }
     
-    private CinemaVideoData searchYouTube(String[] keywords) {
+    private CinemaVideoData searchYouTube(List<String> keywords) {
         String query = getRandomKeywords(keywords, cinemaConfig.getCollection().getKeywordCount());
 
         String url = buildYouTubeSearchUrl(query, "viewCount");
@@ -196,10 +204,13 @@ public class CinemaService {
             return List.of();
         }
 
-        return response.getItems().stream()
+        // 품질 조건을 통과한 후보만 모아 통계를 일괄 조회
+        List<YouTubeVideoItem> candidates = response.getItems().stream()
+            .filter(video -> video.getId() != null && video.getId().getVideoId() != null)
             .filter(this::isQualityVideo)
-            .map(this::enrichWithVideoStats)
-            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+
+        return youTubeMetadataFetcher.enrich(candidates).stream()
             .filter(this::hasMinimumEngagement)
             .sorted(this::compareVideoQuality)
             .collect(Collectors.toList());
@@ -240,9 +251,7 @@ public class CinemaService {
         }
 
         // 음악/상업적/드라마 콘텐츠 필터링
-        if (ContentFilter.isKPopOrMusicContent(titleLower, descLower) ||
-            ContentFilter.isCommercialContent(titleLower, descLower) ||
-            ContentFilter.isDramaOrEntertainmentContent(titleLower, descLower)) {
+        if (isMusicCommercialOrDramaContent(title, description)) {
             log.debug("음악/상업적/드라마 콘텐츠로 제외: {}", title);
             return false;
         }
@@ -254,7 +263,61 @@ public class CinemaService {
         }
 
         // 우주 콘텐츠 검증
-        return ContentValidator.hasValidSpaceContent(titleLower, descLower);
+        return hasValidSpaceContent(titleLower, descLower);
+    }
+    
+    private boolean isMusicCommercialOrDramaContent(String title, String description) {
+        for (KeywordSet set : List.of(KeywordSet.CINEMA_MUSIC, KeywordSet.CINEMA_COMMERCIAL, KeywordSet.CINEMA_DRAMA)) {
+            AhoCorasickMatcher matcher = keywordMatchers.matcher(set);
+            if (matcher.containsAny(title) || matcher.containsAny(description)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private boolean hasValidSpaceContent(String titleLower, String descLower) {
+        // 제목/설명 중 한 곳에라도 있는 키워드를 한국어/영어 목록별로 집계 (단어 경계 고려)
+        Set<String> koreanFound = findKeywords(KeywordSet.CINEMA_SPACE_KO, titleLower, descLower);
+        Set<String> englishFound = findKeywords(KeywordSet.CINEMA_SPACE_EN, titleLower, descLower);
+        int spaceKeywordCount = koreanFound.size() + englishFound.size();
+        
+        // 최소 키워드 개수 증가 (더 엄격하게)
+        if (spaceKeywordCount < 3) {
+            return false;
+        }
+        
+        // "태양" 키워드 특별 처리 강화
+        if (koreanFound.contains("태양") || englishFound.contains("sun")) {
+            if (titleLower.contains("태양의") || titleLower.contains("descendants") ||
+                titleLower.contains("사랑") || titleLower.contains("love") ||
+                titleLower.contains("드라마") || titleLower.contains("drama")) {
+                return false;
+            }
+            
+            boolean hasOtherSpaceKeywords = koreanFound.stream().anyMatch(k -> !k.equals("태양")) ||
+                    englishFound.stream().anyMatch(k -> !k.equals("sun"));
+            
+            if (!hasOtherSpaceKeywords) {
+                return false;
+            }
+        }
+        
+        // 전문적인 우주 키워드 우선 체크
+        AhoCorasickMatcher professional = keywordMatchers.matcher(KeywordSet.CINEMA_PROFESSIONAL);
+        if (professional.containsAny(titleLower) || professional.containsAny(descLower)) {
+            return true;
+        }
+        
+        // 일반 키워드는 더 많이 필요
+        return spaceKeywordCount >= 4;
+    }
+    
+    private Set<String> findKeywords(KeywordSet set, String titleLower, String descLower) {
+        AhoCorasickMatcher matcher = keywordMatchers.matcher(set);
+        Set<String> found = matcher.findAll(titleLower);
+        found.addAll(matcher.findAll(descLower));
+        return found;
     }
     
     private boolean passesBasicQualityCheck(String titleLower, String title, String description) {
@@ -283,29 +346,6 @@ public class CinemaService {
 
     // ================================ 영상 통계 및 품질 평가 ================================
     
-    private YouTubeVideoItem enrichWithVideoStats(YouTubeVideoItem video) {
-        try {
-            YouTubeVideoId videoId = video.getId();
-            if (videoId == null || videoId.getVideoId() == null) return null;
-
-            String statsUrl = String.format(
-                "https://www.googleapis.com/youtube/v3/videos?part=statistics,contentDetails&id=%s&key=%s",
-                videoId.getVideoId(), googleApiKey
-            );
-
-            YouTubeVideoListResponse statsResponse = restTemplate.getForObject(statsUrl, YouTubeVideoListResponse.class);
-
-            if (statsResponse != null && statsResponse.getItems() != null && !statsResponse.getItems().isEmpty()) {
-                video.setStatistics(statsResponse.getItems().get(0).getStatistics());
-            }
-
-            return video;
-        } catch (Exception e) {
-            log.warn("영상 통계 조회 실패: {}", e.getMessage());
-            return video;
-        }
-    }
-
     private boolean hasMinimumEngagement(YouTubeVideoItem video) {
         YouTubeStatistics statistics = video.getStatistics();
         if (statistics == null) return true;
@@ -354,12 +394,12 @@ public class CinemaService {
 
     // ================================ 유틸리티 메서드 ================================
     
-    private String getRandomKeywords(String[] keywords, int count) {
+    private String getRandomKeywords(List<String> keywords, int count) {
         Random random = new Random();
         Set<String> selected = new HashSet<>();
         
-        while (selected.size() < count && selected.size() < keywords.length) {
-            selected.add(keywords[random.nextInt(keywords.length)]);
+        while (selected.size() < count && selected.size() < keywords.size()) {
+            selected.add(keywords.get(random.nextInt(keywords.size())));
         }
         
         return String.join(" OR ", selected);
@@ -375,39 +415,22 @@ public class CinemaService {
         return cinemaRepository.existsByVideoId(videoId) || cinemaRepository.existsByTitle(title);
     }
     
-    private boolean isSimilarToExistingVideos(CinemaVideoData videoData) {
+    /**
+     * 최근 영상 제목 유사 중복 인덱스 로드 (수집 회차마다 1회)
+     */
+    private NearDuplicateIndex loadRecentTitleIndex() {
         LocalDateTime cutoffDate = LocalDateTime.now().minusDays(cinemaConfig.getCollection().getSimilarityCheckDays());
-        List<Cinema> recentVideos = cinemaRepository.findByCreatedAtAfter(cutoffDate);
-
-        String newTitle = videoData.title();
-
-        for (Cinema cinema : recentVideos) {
-            double similarity = calculateTitleSimilarity(newTitle, cinema.getTitle());
-            if (similarity > cinemaConfig.getCollection().getSimilarityThreshold()) {
-                log.info("유사 영상 발견 (유사도: {:.1f}%): {} vs {}", 
-                        similarity * 100, newTitle, cinema.getTitle());
-                return true;
-            }
+        NearDuplicateIndex index = new NearDuplicateIndex(cinemaConfig.getCollection().getSimilarityThreshold());
+        for (TitleSignatureRow row : cinemaRepository.findTitleSignaturesCreatedAfter(cutoffDate)) {
+            index.add(row.title(), TitleMinHash.fromBytes(row.titleMinHash()));
         }
-        
-        return false;
+        return index;
     }
     
-    private double calculateTitleSimilarity(String title1, String title2) {
-        String[] words1 = title1.toLowerCase().split("\\s+");
-        String[] words2 = title2.toLowerCase().split("\\s+");
-        
-        int commonWords = 0;
-        for (String word1 : words1) {
-            for (String word2 : words2) {
-                if (word1.equals(word2) && word1.length() > 2) {
-                    commonWords++;
-                    break;
-                }
-            }
-        }
-        
-        return (double) commonWords / Math.max(words1.length, words2.length);
+    private boolean isSimilarToExistingVideos(CinemaVideoData videoData, NearDuplicateIndex recentTitles) {
+        Optional<String> similar = recentTitles.findSimilar(videoData.title());
+        similar.ifPresent(title -> log.info("유사 영상 발견: {} vs {}", videoData.title(), title));
+        return similar.isPresent();
     }
 
     // ================================ 데이터 변환 ================================
@@ -435,6 +458,7 @@ public class CinemaService {
                 .publishedAt(videoData.publishedAt())
                 .summary(videoData.summary())
                 .hashtags(videoData.hashtags())
+                .titleMinHash(TitleMinHash.toBytes(TitleMinHash.signature(videoData.title())))
                 .build();
     }
 
@@ -492,49 +516,33 @@ public class CinemaService {
     }
     
     private String translateWithOpenAI(String englishText) {
-        if (openaiApiKey == null || openaiApiKey.trim().isEmpty()) {
+        if (!openAiClient.isConfigured()) {
             return null;
         }
         
-        try {
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.setBearerAuth(openaiApiKey);
+        String prompt = String.format("""
+            다음 영어 텍스트를 자연스럽고 정확한 한국어로 번역해주세요:
             
-            String prompt = String.format("""
-                다음 영어 텍스트를 자연스럽고 정확한 한국어로 번역해주세요:
-                
-                "%s"
-                
-                요구사항:
-                - 우주/과학 전문 용어는 정확하게 번역
-                - 자연스럽고 읽기 쉬운 한국어로 번역
-                - 번역문만 반환 (설명 없이)
-                """, englishText);
+            "%s"
             
-            OpenAiChatRequest requestBody = OpenAiChatRequest.builder()
-                .model("gpt-4o-mini")
-                .messages(List.of(OpenAiMessage.user(prompt)))
-                .maxTokens(200)
-                .temperature(0.3)
-                .build();
-
-            HttpEntity<OpenAiChatRequest> entity = new HttpEntity<>(requestBody, headers);
-            OpenAiChatResponse response = restTemplate.postForObject(
-                "https://api.openai.com/v1/chat/completions", entity, OpenAiChatResponse.class);
+            요구사항:
+            - 우주/과학 전문 용어는 정확하게 번역
+            - 자연스럽고 읽기 쉬운 한국어로 번역
+            - 번역문만 반환 (설명 없이)
+            """, englishText);
+        
+        OpenAiChatRequest requestBody = OpenAiChatRequest.builder()
+            .model("gpt-4o-mini")
+            .messages(List.of(OpenAiMessage.user(prompt)))
+            .maxTokens(200)
+            .temperature(0.3)
+            .build();
 
-            if (response != null) {
-                String translatedText = response.getFirstContent();
-                if (translatedText != null) {
-                    log.info("번역 성공: {} -> {}", englishText, translatedText);
-                    return translatedText.trim();
-                }
-            }
-        } catch (Exception e) {
-            log.warn("번역 실패: {}", englishText, e);
+        Optional<String> translated = openAiClient.completeCached(requestBody).map(String::trim);
+        if (translated.isEmpty()) {
+            log.warn("번역 실패: {}", englishText);
         }
-        
-        return null;
+        return translated.orElse(null);
     }
     
     private String generateSummary(String title) {
@@ -673,8 +681,9 @@ public class CinemaService {
         List<VideoDto> allVideos = new ArrayList<>();
         Set<String> videoIds = new HashSet<>();
 
-        for (int i = 0; i < 3; i++) {
-            List<VideoDto> videos = searchSpaceVideos();
+        // 서로 다른 무작위 키워드로 3회 동시 검색
+        List<List<VideoDto>> searches = ParallelUtils.mapBounded(List.of(1, 2, 3), 3, i -> searchSpaceVideos());
+        for (List<VideoDto> videos : searches) {
             for (VideoDto video : videos) {
                 String videoId = video.getVideoId();
                 if (videoId != null && !videoIds.contains(videoId)) {
@@ -725,9 +734,11 @@ public class CinemaService {
         Random random = new Random();
         Set<String> selectedKeywords = new HashSet<>();
         
-        while (selectedKeywords.size() < 3 && selectedKeywords.size() < KeywordConstants.KOREAN_KEYWORDS.length) {
-            int randomIndex = random.nextInt(KeywordConstants.KOREAN_KEYWORDS.length);
-            selectedKeywords.add(KeywordConstants.KOREAN_KEYWORDS[randomIndex]);
+        List<String> koreanKeywords = keywordMatchers.keywords(KeywordSet.CINEMA_SPACE_KO);
+        
+        while (selectedKeywords.size() < 3 && selectedKeywords.size() < koreanKeywords.size()) {
+            int randomIndex = random.nextInt(koreanKeywords.size());
+            selectedKeywords.add(koreanKeywords.get(randomIndex));
         }
         
         String query = String.join(" ", selectedKeywords);
@@ -789,7 +800,7 @@ public class CinemaService {
             return builder
                 .todayPosts(todayPosts)
                 .googleApiConfigured(googleApiKey != null && !googleApiKey.trim().isEmpty())
-                .openaiApiConfigured(openaiApiKey != null && !openaiApiKey.trim().isEmpty())
+                .openaiApiConfigured(openAiClient.isConfigured())
                 .systemConfig(systemConfig)
                 .statusMessage(statusMessage)
                 .build();
@@ -803,125 +814,4 @@ public class CinemaService {
                 .build();
         }
     }
-
-    // ================================ 내부 클래스 ================================
-    
-    private static class KeywordConstants {
-        static final String[] KOREAN_KEYWORDS = {"우주", "로켓", "위성", "화성", "달", "태양", "지구", "목성", "토성", "천왕성", "해왕성", "수성", "금성", "명왕성", "블랙홀", "은하", "별", "항성", "혜성", "소행성", "망원경", "천문", "항공우주", "우주선", "우주정거장", "우주비행사", "우주발사", "우주탐사", "성운", "퀘이사", "중성자별", "백색왜성", "적색거성", "초신성", "성단", "성간물질", "암흑물질", "암흑에너지", "빅뱅", "우주론", "외계행성", "외계생명", "SETI", "우주망원경", "허블", "제임스웹", "케플러", "스피처", "찬드라", "컴프턴", "국제우주정거장", "ISS", "아르테미스", "아폴로", "보이저", "카시니", "갈릴레오", "뉴호라이즌스", "파커", "주노", "화성탐사", "달탐사", "목성탐사", "토성탐사", "태양탐사", "소행성탐사", "혜성탐사", "우주쓰레기", "우주날씨", "태양풍", "자기권", "오로라", "일식", "월식", "유성우", "운석", "크레이터", "화산", "대기", "중력", "궤도", "공전", "자전", "조석", "라그랑주점", "중력파", "상대성이론", "양자역학", "끈이론", "다중우주", "우주배경복사", "적색편이", "도플러효과", "허블상수", "우주나이", "우주크기", "관측가능우주", "사건지평선", "특이점", "웜홀"};
-        static final String[] ENGLISH_KEYWORDS = {"space", "rocket", "satellite", "Mars", "Moon", "Sun", "Earth", "Jupiter", "Saturn", "Uranus", "Neptune", "Mercury", "Venus", "Pluto", "blackhole", "galaxy", "star", "stellar", "comet", "asteroid", "telescope", "astronomy", "aerospace", "spacecraft", "space station", "astronaut", "space launch", "space exploration", "nebula", "quasar", "neutron star", "white dwarf", "red giant", "supernova", "cluster", "interstellar", "dark matter", "dark energy", "big bang", "cosmology", "exoplanet", "extraterrestrial", "SETI", "space telescope", "Hubble", "James Webb", "Kepler", "Spitzer", "Chandra", "Compton", "ISS", "International Space Station", "Artemis", "Apollo", "Voyager", "Cassini", "Galileo", "New Horizons", "Parker", "Juno", "Mars exploration", "lunar exploration", "Jupiter mission", "Saturn mission", "solar mission", "asteroid mission", "comet mission", "space debris", "space weather", "solar wind", "magnetosphere", "aurora", "eclipse", "lunar eclipse", "meteor shower", "meteorite", "crater", "volcano", "atmosphere", "gravity", "orbit", "revolution", "rotation", "tidal", "Lagrange point", "gravitational wave", "relativity", "quantum mechanics", "string theory", "multiverse", "cosmic background", "redshift", "Doppler effect", "Hubble constant", "universe age", "universe size", "observable universe", "event horizon", "singularity", "wormhole"};
-    }
-    
-    private static class ContentFilter {
-        private static final String[] MUSIC_KEYWORDS = {"원위", "onewe", "bts", "blackpink", "twice", "red velvet", "aespa", "itzy", "ive", "newjeans", "stray kids", "seventeen", "nct", "exo", "bigbang", "2ne1", "girls generation", "snsd", "더 쇼", "the show", "music bank", "inkigayo", "m countdown", "show champion", "뮤직뱅크", "인기가요", "엠카운트다운", "쇼챔피언", "음악중심", "music core", "comeback", "컴백", "debut", "데뷔", "mv", "뮤직비디오", "music video", "live stage", "라이브", "performance", "퍼포먼스", "dance practice", "안무", "idol", "아이돌", "kpop", "k-pop", "케이팝", "한류", "hallyu", "가사", "lyrics", "노래", "song", "음악", "music", "앨범", "album", "미발매", "unreleased", "콘서트", "concert", "페스티벌", "festival", "칸타빌레", "cantabile", "더 시즌즈", "the seasons", "박보검", "샘 킴", "sam kim", "오현우", "ohHyunwoo", "일식", "eclipse", "[가사]", "[lyrics]", "kbs", "방송", "태양의 후예", "descendants of the sun", "ost", "사운드트랙", "soundtrack", "드라마", "drama", "영화", "movie", "시네마", "cinema", "배우", "actor", "actress", "여배우", "가수", "singer", "아티스트", "artist", "뮤지션", "musician", "밴드", "band", "그룹", "group", "솔로", "solo", "듀엣", "duet", "트리오", "trio", "보컬", "vocal", "래퍼", "rapper", "댄서", "dancer", "프로듀서", "producer", "작곡가", "composer", "작사가", "lyricist"};
-        
-        private static final String[] COMMERCIAL_KEYWORDS = {"쇼핑", "shopping", "구매", "buy", "판매", "sale", "할인", "discount", "특가", "세일", "광고", "ad", "advertisement", "홍보", "promotion", "캠페인", "campaign", "브랜드", "brand", "제품", "product", "상품", "item", "리뷰", "review", "언박싱", "unboxing", "추천", "recommend", "후기", "testimonial", "체험", "experience", "협찬", "sponsored", "파트너십", "partnership", "마케팅", "marketing"};
-        
-        private static final String[] DRAMA_ENTERTAINMENT_KEYWORDS = {
-            // 드라마 관련
-            "이 사랑에 이름을 붙인다면", "iss pyaar ko kya naam doon", "아르나브", "arnav", "쿠시", "khushi", 
-            "키스", "kiss", "로맨스", "romance", "사랑", "love story", "연애", "relationship", 
-            "시즌", "season", "에피소드", "episode", "시리즈", "series", "드라마", "drama", 
-            "생일 서프라이즈", "birthday surprise", "결혼", "wedding", "신혼", "honeymoon",
-            
-            // 인도 드라마/엔터테인먼트
-            "bollywood", "볼리우드", "hindi", "힌디", "indian", "인도", "telugu", "tamil", 
-            "zee tv", "star plus", "colors tv", "sony tv", "hotstar", "voot", 
-            
-            // 일반 엔터테인먼트
-            "예능", "variety", "토크쇼", "talk show", "리얼리티", "reality", "게임쇼", "game show",
-            "인터뷰", "interview", "behind the scenes", "비하인드", "메이킹", "making",
-            "셀럽", "celebrity", "스타", "star", "팬미팅", "fan meeting", "팬사인회", "fan sign"
-        };
-        
-        static boolean isKPopOrMusicContent(String titleLower, String descLower) {
-            return Arrays.stream(MUSIC_KEYWORDS)
-                    .anyMatch(keyword -> titleLower.contains(keyword) || descLower.contains(keyword));
-        }
-        
-        static boolean isCommercialContent(String titleLower, String descLower) {
-            return Arrays.stream(COMMERCIAL_KEYWORDS)
-                    .anyMatch(keyword -> titleLower.contains(keyword) || descLower.contains(keyword));
-        }
-        
-        static boolean isDramaOrEntertainmentContent(String titleLower, String descLower) {
-            return Arrays.stream(DRAMA_ENTERTAINMENT_KEYWORDS)
-                    .anyMatch(keyword -> titleLower.contains(keyword.toLowerCase()) || descLower.contains(keyword.toLowerCase()));
-        }
-    }
-    
-    private static class ContentValidator {
-        static boolean hasValidSpaceContent(String titleLower, String descLower) {
-            int spaceKeywordCount = 0;
-            List<String> foundKeywords = new ArrayList<>();
-            
-            // 정확한 키워드 매칭 (단어 경계 고려)
-            for (String keyword : KeywordConstants.KOREAN_KEYWORDS) {
-                if (containsExactKeyword(titleLower, keyword.toLowerCase()) || 
-                    containsExactKeyword(descLower, keyword.toLowerCase())) {
-                    spaceKeywordCount++;
-                    foundKeywords.add(keyword);
-                }
-            }
-            
-            for (String keyword : KeywordConstants.ENGLISH_KEYWORDS) {
-                if (containsExactKeyword(titleLower, keyword.toLowerCase()) || 
-                    containsExactKeyword(descLower, keyword.toLowerCase())) {
-                    spaceKeywordCount++;
-                    foundKeywords.add(keyword);
-                }
-            }
-            
-            // 최소 키워드 개수 증가 (더 엄격하게)
-            if (spaceKeywordCount < 3) {
-                return false;
-            }
-            
-            // "태양" 키워드 특별 처리 강화
-            if (foundKeywords.contains("태양") || foundKeywords.contains("sun")) {
-                if (titleLower.contains("태양의") || titleLower.contains("descendants") ||
-                    titleLower.contains("사랑") || titleLower.contains("love") ||
-                    titleLower.contains("드라마") || titleLower.contains("drama")) {
-                    return false;
-                }
-                
-                boolean hasOtherSpaceKeywords = foundKeywords.stream()
-                        .anyMatch(k -> !k.equals("태양") && !k.equals("sun"));
-                
-                if (!hasOtherSpaceKeywords) {
-                    return false;
-                }
-            }
-            
-            // 전문적인 우주 키워드 우선 체크
-            String[] professionalKeywords = {
-                "블랙홀", "blackhole", "중성자별", "neutron star", 
-                "초신성", "supernova", "우주망원경", "space telescope",
-                "허블", "hubble", "제임스웹", "james webb", "nasa", "spacex",
-                "화성탐사", "mars exploration", "달탐사", "lunar exploration",
-                "국제우주정거장", "international space station", "iss",
-                "아르테미스", "artemis", "아폴로", "apollo"
-            };
-            
-            boolean hasProfessionalKeyword = Arrays.stream(professionalKeywords)
-                    .anyMatch(k -> containsExactKeyword(titleLower, k) || containsExactKeyword(descLower, k));
-            
-            if (hasProfessionalKeyword) {
-                return true;
-            }
-            
-            // 일반 키워드는 더 많이 필요
-            return spaceKeywordCount >= 4;
-        }
-        
-        // 정확한 키워드 매칭을 위한 헬퍼 메서드
-        private static boolean containsExactKeyword(String text, String keyword) {
-            if (keyword.length() <= 2) {
-                // 짧은 키워드는 단어 경계로 체크
-                return text.matches(".*\\b" + keyword + "\\b.*");
-            } else {
-                // 긴 키워드는 포함 여부만 체크
-                return text.contains(keyword);
-            }
-        }
-    }
 }
\ No newline at end of file
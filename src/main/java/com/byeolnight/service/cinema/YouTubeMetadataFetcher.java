@@ -0,0 +1,124 @@
+package com.byeolnight.service.cinema;
+
+import com.byeolnight.dto.external.youtube.YouTubeVideoDetailItem;
+import com.byeolnight.dto.external.youtube.YouTubeVideoItem;
+import com.byeolnight.dto.external.youtube.YouTubeVideoListResponse;
+import com.byeolnight.infrastructure.util.ParallelUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * YouTube 영상 통계/상세 정보 일괄 조회
+ * - 후보 영상 id를 모아 videos.list 1회에 최대 50개씩 조회, 여러 묶음은 동시에 호출
+ * - 조회한 메타데이터는 영상 id 기준으로 TTL 동안 로컬 캐시 (재검색/재시도 시 같은 영상을 다시 조회하지 않음)
+ * - 히트율: cache.gets{cache=youtube.metadata, result=hit|miss}
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class YouTubeMetadataFetcher {
+
+    static final String CACHE_NAME = "youtube.metadata";
+    static final int MAX_IDS_PER_CALL = 50;
+    private static final String VIDEOS_URL =
+            "https://www.googleapis.com/youtube/v3/videos?part=statistics,contentDetails&id=%s&key=%s";
+
+    private final RestTemplate restTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.security.external-api.ai.google-api-key:}")
+    private String googleApiKey;
+
+    @Value("${cinema.metadata-cache.ttl-hours:6}")
+    private long ttlHours;
+
+    @Value("${cinema.metadata-cache.max-size:10000}")
+    private long maxSize;
+
+    @Value("${cinema.metadata.parallelism:4}")
+    private int parallelism;
+
+    private Cache<String, YouTubeVideoDetailItem> cache;
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofHours(ttlHours))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 검색 결과에 통계/상세 정보 반영 (조회 실패한 영상은 정보 없이 그대로 반환)
+     */
+    public List<YouTubeVideoItem> enrich(List<YouTubeVideoItem> videos) {
+        List<String> ids = videos.stream()
+                .map(video -> video.getId() != null ? video.getId().getVideoId() : null)
+                .filter(Objects::nonNull)
+                .toList();
+        Map<String, YouTubeVideoDetailItem> details = fetch(ids);
+
+        for (YouTubeVideoItem video : videos) {
+            YouTubeVideoDetailItem detail = video.getId() != null ? details.get(video.getId().getVideoId()) : null;
+            if (detail != null) {
+                video.setStatistics(detail.getStatistics());
+                video.setContentDetails(detail.getContentDetails());
+            }
+        }
+        return videos;
+    }
+
+    /**
+     * 영상 id별 메타데이터 조회 (캐시에 없는 id만 50개 단위로 API 호출)
+     */
+    public Map<String, YouTubeVideoDetailItem> fetch(Collection<String> videoIds) {
+        Map<String, YouTubeVideoDetailItem> result = new HashMap<>(cache.getAllPresent(new LinkedHashSet<>(videoIds)));
+        List<String> missing = videoIds.stream()
+                .filter(id -> !result.containsKey(id))
+                .distinct()
+                .toList();
+        if (missing.isEmpty()) {
+            return result;
+        }
+        int cached = result.size();
+
+        List<List<String>> chunks = new ArrayList<>();
+        for (int from = 0; from < missing.size(); from += MAX_IDS_PER_CALL) {
+            chunks.add(missing.subList(from, Math.min(from + MAX_IDS_PER_CALL, missing.size())));
+        }
+
+        for (List<YouTubeVideoDetailItem> items : ParallelUtils.mapBounded(chunks, parallelism, this::request)) {
+            for (YouTubeVideoDetailItem item : items) {
+                if (item.getId() == null) continue;
+                cache.put(item.getId(), item);
+                result.put(item.getId(), item);
+            }
+        }
+        log.debug("YouTube 메타데이터 조회: 캐시 {}개, 신규 {}개, API 호출 {}회", cached, missing.size(), chunks.size());
+        return result;
+    }
+
+    private List<YouTubeVideoDetailItem> request(List<String> ids) {
+        try {
+            String url = String.format(VIDEOS_URL, String.join(",", ids), googleApiKey);
+            YouTubeVideoListResponse response = restTemplate.getForObject(url, YouTubeVideoListResponse.class);
+            return response != null && response.getItems() != null ? response.getItems() : List.of();
+        } catch (Exception e) {
+            log.warn("영상 통계 조회 실패: {}개, error={}", ids.size(), e.getMessage());
+            return List.of();
+        }
+    }
+}
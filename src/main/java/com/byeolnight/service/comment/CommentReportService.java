@@ -3,21 +3,27 @@ package com.byeolnight.service.comment;
 import com.byeolnight.entity.comment.Comment;
 import com.byeolnight.entity.comment.CommentReport;
 import com.byeolnight.entity.user.User;
+import com.byeolnight.event.UserStatsChangedEvent;
 import com.byeolnight.repository.comment.CommentReportRepository;
 import com.byeolnight.repository.comment.CommentRepository;
 import com.byeolnight.repository.user.UserRepository;
+import com.byeolnight.dto.admin.ReportedTargetSummary;
 import com.byeolnight.dto.comment.CommentReportDto;
 import com.byeolnight.infrastructure.exception.NotFoundException;
 import com.byeolnight.service.certificate.CertificateService;
 import com.byeolnight.service.user.PointService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -29,6 +35,7 @@ public class CommentReportService {
     private final CertificateService certificateService;
     private final UserRepository userRepository;
     private final PointService pointService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 댓글 신고 - ID 기반 메서드
@@ -53,7 +60,9 @@ public class CommentReportService {
 
         comment.increaseReportCount();
         if (comment.getReportCount() >= 5) {
+            boolean wasCounted = comment.isCounted();
             comment.blind();
+            eventPublisher.publishEvent(UserStatsChangedEvent.commentVisibilityChanged(comment, wasCounted));
         }
 
         log.info("댓글 신고 처리 완료 - 댓글 ID: {}, 신고 수: {}", commentId, comment.getReportCount());
@@ -72,7 +81,9 @@ public class CommentReportService {
         
         if (approve) {
             // 댓글 블라인드 처리
+            boolean wasCounted = report.getComment().isCounted();
             report.getComment().blind();
+            eventPublisher.publishEvent(UserStatsChangedEvent.commentVisibilityChanged(report.getComment(), wasCounted));
             
             // 댓글 작성자 페널티 적용
             pointService.applyPenalty(report.getComment().getWriter(), "댓글 신고 승인", reportId.toString());
@@ -119,21 +130,22 @@ public class CommentReportService {
     
     /**
      * 관리자: 신고된 댓글 목록 조회
+     * - 댓글별 신고 수/최근 신고 시각을 GROUP BY로 집계하고 SQL에서 페이징
+     * - 신고 상세는 현재 페이지 댓글에 대해서만 한 번에 조회
      */
     @Transactional(readOnly = true)
-    public List<CommentReportDto> getReportedComments() {
-        // 신고 수가 1 이상인 댓글 조회
-        List<Comment> reportedComments = commentRepository.findByReportCountGreaterThanOrderByReportCountDesc(0);
-        
-        // 댓글별 신고 내역 매핑
-        Map<Comment, List<CommentReport>> commentReportsMap = new HashMap<>();
-        
-        for (Comment comment : reportedComments) {
-            List<CommentReport> reports = commentReportRepository.findByComment(comment);
-            commentReportsMap.put(comment, reports);
-        }
-        
-        // DTO 변환
-        return CommentReportDto.fromCommentReports(commentReportsMap);
+    public Page<CommentReportDto> getReportedComments(Pageable pageable) {
+        Page<ReportedTargetSummary> summaries = commentReportRepository.findReportedCommentSummaries(
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+
+        List<Long> commentIds = summaries.map(ReportedTargetSummary::targetId).getContent();
+        Map<Long, List<CommentReport>> reportsByComment = commentIds.isEmpty() ? Map.of()
+                : commentReportRepository.findAllWithDetailsByCommentIdIn(commentIds).stream()
+                        .collect(Collectors.groupingBy(report -> report.getComment().getId()));
+
+        return summaries.map(summary -> {
+            List<CommentReport> reports = reportsByComment.getOrDefault(summary.targetId(), List.of());
+            return CommentReportDto.from(reports.get(0).getComment(), reports);
+        });
     }
-}
\ No newline at end of file
+}
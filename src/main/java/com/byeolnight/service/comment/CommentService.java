@@ -4,21 +4,26 @@ import com.byeolnight.entity.Notification;
 import com.byeolnight.entity.comment.Comment;
 import com.byeolnight.entity.post.Post;
 import com.byeolnight.entity.user.User;
-import com.byeolnight.entity.comment.CommentLike;
+import com.byeolnight.entity.user.UserStats;
 import com.byeolnight.repository.comment.CommentLikeRepository;
 import com.byeolnight.repository.comment.CommentRepository;
 import com.byeolnight.repository.post.PostRepository;
 import com.byeolnight.dto.comment.CommentRequestDto;
 import com.byeolnight.dto.comment.CommentResponseDto;
 import com.byeolnight.dto.comment.CommentDto;
+import com.byeolnight.dto.comment.CommentPageDto;
 import com.byeolnight.repository.user.UserRepository;
 import com.byeolnight.service.assembler.CommentResponseAssembler;
-import com.byeolnight.service.certificate.CertificateService;
+import com.byeolnight.event.CommentChangedEvent;
+import com.byeolnight.event.CommentCreatedEvent;
+import com.byeolnight.event.UserStatsChangedEvent;
 import com.byeolnight.service.notification.NotificationService;
 import com.byeolnight.service.user.PointService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import com.byeolnight.infrastructure.exception.NotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -26,7 +31,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -34,9 +44,11 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class CommentService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
-    private final CertificateService certificateService;
+    private final ApplicationEventPublisher eventPublisher;
     private final PointService pointService;
     private final UserRepository userRepository;
     private final NotificationService notificationService;
@@ -69,12 +81,9 @@ public class CommentService {
         Comment savedComment = commentRepository.save(comment);
         Long commentId = savedComment.getId();
         
-        // 댓글 작성 인증서 발급 체크
-        try {
-            certificateService.checkAndIssueCertificates(user, CertificateService.CertificateCheckType.COMMENT_WRITE);
-        } catch (Exception e) {
-            // 인증서 발급 실패 무시 - 주요 기능 아님
-        }
+        // 댓글 작성 인증서는 커밋 이후 비동기로 평가
+        eventPublisher.publishEvent(new CommentCreatedEvent(user.getId(), post.getId()));
+        eventPublisher.publishEvent(UserStatsChangedEvent.increment(user.getId(), UserStats.Counter.COMMENT));
         
         // 댓글 작성 포인트 지급
         try {
@@ -131,6 +140,98 @@ public class CommentService {
         return commentResponseAssembler.toDtoList(comments, currentUser);
     }
 
+    /**
+     * 게시글 댓글 페이지 조회
+     * - 루트 댓글: id keyset 페이지
+     * - 답글: 페이지의 루트 댓글 전체에 대해 재귀 CTE 한 번으로 계층 ID를 구하고, 미리보기 분량만 한 번에 조회
+     * - 인기 댓글 TOP3: 첫 페이지에서만 조회
+     * - 작성자 인증서는 페이지 전체를 한 번에 배치 조회
+     */
+    @Transactional(readOnly = true)
+    public CommentPageDto getPageByPostId(Long postId, Long cursor, int size, int replySize, User currentUser) {
+        if (postId == null || postId <= 0) {
+            throw new IllegalArgumentException("유효하지 않은 게시글 ID입니다.");
+        }
+        if (!postRepository.existsById(postId)) {
+            throw new NotFoundException("게시글이 존재하지 않습니다.");
+        }
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        int previewSize = Math.clamp(replySize, 0, MAX_PAGE_SIZE);
+
+        List<Comment> roots = new ArrayList<>(commentRepository.findRootCommentsAfter(
+                postId, cursor != null ? cursor : 0L, PageRequest.of(0, pageSize + 1)));
+        boolean hasNext = roots.size() > pageSize;
+        if (hasNext) {
+            roots = roots.subList(0, pageSize);
+        }
+
+        Map<Long, List<Long>> replyIdsByRoot = findReplyIdsByRoot(roots.stream().map(Comment::getId).toList());
+        List<Long> previewIds = replyIdsByRoot.values().stream()
+                .flatMap(ids -> ids.stream().limit(previewSize))
+                .toList();
+        List<Comment> replies = previewIds.isEmpty() ? List.of() : commentRepository.findAllWithParentByIdIn(previewIds);
+        List<Comment> popular = cursor == null ? commentRepository.findTop3PopularCommentsByPostId(postId) : List.of();
+
+        // 인증서 배치 조회를 한 번으로 묶기 위해 한꺼번에 변환
+        List<Comment> all = new ArrayList<>(roots);
+        all.addAll(replies);
+        all.addAll(popular);
+        Map<Long, CommentResponseDto> dtoById = new HashMap<>();
+        commentResponseAssembler.toDtoList(all, currentUser).forEach(dto -> dtoById.put(dto.getId(), dto));
+
+        Map<Long, List<CommentResponseDto>> previewByRoot = new HashMap<>();
+        replyIdsByRoot.forEach((rootId, ids) -> previewByRoot.put(rootId,
+                ids.stream().limit(previewSize).map(dtoById::get).filter(Objects::nonNull).toList()));
+
+        List<CommentPageDto.RootComment> items = roots.stream()
+                .map(root -> {
+                    List<Long> ids = replyIdsByRoot.getOrDefault(root.getId(), List.of());
+                    List<CommentResponseDto> preview = previewByRoot.getOrDefault(root.getId(), List.of());
+                    Long nextReplyCursor = null;
+                    if (ids.size() > previewSize) {
+                        nextReplyCursor = previewSize == 0 ? 0L : ids.get(previewSize - 1);
+                    }
+                    return new CommentPageDto.RootComment(dtoById.get(root.getId()), preview, ids.size(), nextReplyCursor);
+                })
+                .toList();
+
+        Long nextCursor = hasNext ? roots.get(roots.size() - 1).getId() : null;
+        return new CommentPageDto(items, popular.stream().map(c -> dtoById.get(c.getId())).toList(), nextCursor, hasNext);
+    }
+
+    /**
+     * 답글 더보기 (루트 댓글 하위 계층을 id 순으로 커서 조회, 커서 이후 한 페이지만 DB에서 조회)
+     */
+    @Transactional(readOnly = true)
+    public CommentPageDto.Replies getReplies(Long rootId, Long cursor, int size, User currentUser) {
+        int pageSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        long afterId = cursor != null ? cursor : 0L;
+
+        List<Long> ids = commentRepository.findReplyIdsAfter(rootId, afterId, pageSize + 1).stream()
+                .map(Number::longValue)
+                .toList();
+        boolean hasNext = ids.size() > pageSize;
+        List<Long> pageIds = hasNext ? ids.subList(0, pageSize) : ids;
+
+        List<CommentResponseDto> replies = pageIds.isEmpty()
+                ? List.of()
+                : commentResponseAssembler.toDtoList(commentRepository.findAllWithParentByIdIn(pageIds), currentUser);
+        Long nextCursor = hasNext ? pageIds.get(pageIds.size() - 1) : null;
+        return new CommentPageDto.Replies(replies, nextCursor, hasNext);
+    }
+
+    private Map<Long, List<Long>> findReplyIdsByRoot(List<Long> rootIds) {
+        if (rootIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, List<Long>> replyIdsByRoot = new LinkedHashMap<>();
+        for (Object[] row : commentRepository.findReplyIdsByRootIds(rootIds)) {
+            replyIdsByRoot.computeIfAbsent(((Number) row[1]).longValue(), key -> new ArrayList<>())
+                    .add(((Number) row[0]).longValue());
+        }
+        return replyIdsByRoot;
+    }
+
     @Transactional
     public void update(Long commentId, CommentRequestDto dto, User user) {
         Comment comment = commentRepository.findById(commentId)
@@ -150,7 +251,10 @@ public class CommentService {
         if (!comment.getWriter().equals(user)) {
             throw new IllegalArgumentException("삭제 권한이 없습니다.");
         }
+        boolean wasCounted = comment.isCounted();
         comment.softDelete(); // soft delete로 변경
+        eventPublisher.publishEvent(UserStatsChangedEvent.commentVisibilityChanged(comment, wasCounted));
+        eventPublisher.publishEvent(new CommentChangedEvent(comment.getPost().getId()));
     }
 
     /**
@@ -198,35 +302,31 @@ public class CommentService {
         return commentResponseAssembler.toDtoList(comments, currentUser, true);
     }
     
-    // 댓글 좋아요/취소 (DB 유니크 제약조건 활용)
+    // 댓글 좋아요/취소 (엔티티 로딩 없이 DELETE 또는 INSERT ... SELECT 한 번 + 원자적 카운터 UPDATE)
     @Transactional
     public boolean toggleCommentLike(Long commentId, User user) {
-        Comment comment = commentRepository.findById(commentId)
-                .orElseThrow(() -> new NotFoundException("댓글이 존재하지 않습니다."));
+        if (commentLikeRepository.deleteByCommentIdAndUserId(commentId, user.getId()) > 0) {
+            commentRepository.decrementLikeCount(commentId);
+            return false;
+        }
 
-        boolean exists = commentLikeRepository.existsByCommentAndUser(comment, user);
+        int inserted;
+        try {
+            inserted = commentLikeRepository.insertIfAbsent(commentId, user.getId());
+        } catch (DataIntegrityViolationException e) {
+            // 동시 요청이 먼저 좋아요를 추가한 경우 (UNIQUE(comment_id, user_id)) - 트랜잭션은 롤백되므로 요청 실패로 응답
+            log.debug("중복 좋아요 시도: userId={}, commentId={}", user.getId(), commentId);
+            throw new IllegalArgumentException("이미 처리 중인 좋아요 요청입니다.");
+        }
 
-        if (exists) {
-            // 좋아요 취소
-            commentLikeRepository.deleteByCommentAndUser(comment, user);
-            comment.decreaseLikeCount();
-            return false;
-        } else {
-            // 좋아요 추가 - DB 유니크 제약조건(comment_id, user_id)이 중복 방지
-            try {
-                CommentLike like = CommentLike.builder()
-                        .comment(comment)
-                        .user(user)
-                        .build();
-                commentLikeRepository.save(like);
-                comment.increaseLikeCount();
-                return true;
-            } catch (DataIntegrityViolationException e) {
-                // 중복 좋아요 시도 - 이미 존재하는 것으로 간주
-                log.debug("중복 좋아요 시도: userId={}, commentId={}", user.getId(), commentId);
-                return true; // 이미 좋아요한 상태
+        if (inserted == 0) {
+            if (!commentRepository.existsById(commentId)) {
+                throw new NotFoundException("댓글이 존재하지 않습니다.");
             }
+            return true; // 동시 요청으로 이미 좋아요한 상태
         }
+        commentRepository.incrementLikeCount(commentId);
+        return true;
     }
 
     // 관리자 기능: 댓글 블라인드 처리
@@ -234,7 +334,9 @@ public class CommentService {
     public void blindComment(Long commentId) {
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new NotFoundException("댓글이 존재하지 않습니다."));
+        boolean wasCounted = comment.isCounted();
         comment.blind();
+        eventPublisher.publishEvent(UserStatsChangedEvent.commentVisibilityChanged(comment, wasCounted));
         
         // 규정 위반 페널티 적용
         pointService.applyPenalty(comment.getWriter(), "댓글 블라인드 처리", commentId.toString());
@@ -245,6 +347,8 @@ public class CommentService {
     public void unblindComment(Long commentId) {
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new NotFoundException("댓글이 존재하지 않습니다."));
+        boolean wasCounted = comment.isCounted();
         comment.unblind();
+        eventPublisher.publishEvent(UserStatsChangedEvent.commentVisibilityChanged(comment, wasCounted));
     }
 }
\ No newline at end of file
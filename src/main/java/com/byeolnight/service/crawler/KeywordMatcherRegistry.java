@@ -0,0 +1,114 @@
+package com.byeolnight.service.crawler;
+
+import com.byeolnight.infrastructure.config.KeywordFilterProperties;
+import com.byeolnight.infrastructure.util.AhoCorasickMatcher;
+import com.byeolnight.infrastructure.util.AhoCorasickMatcher.MatchMode;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 콘텐츠 필터 키워드 매칭기 모음
+ * - content.keywords.* 목록을 기동 시 1회 Aho-Corasick 매칭기로 컴파일 (후보/재시도마다 키워드 루프를 돌지 않음)
+ * - 설정 서버 갱신(/actuator/refresh, Bus)으로 content.keywords.* 가 바뀌면 다시 바인딩해 통째로 교체
+ * - 교체 전후 요청은 각각 이전/새 매칭기 한 벌을 일관되게 사용 (불변 스냅샷 교체)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class KeywordMatcherRegistry {
+
+    public enum KeywordSet {
+        NEWS_SPACE(KeywordFilterProperties::getNewsSpace),
+        NEWS_EXCLUDE(KeywordFilterProperties::getNewsExclude),
+        CINEMA_MUSIC(KeywordFilterProperties::getCinemaMusic),
+        CINEMA_COMMERCIAL(KeywordFilterProperties::getCinemaCommercial),
+        CINEMA_DRAMA(KeywordFilterProperties::getCinemaDrama),
+        CINEMA_SPACE_KO(KeywordFilterProperties::getCinemaSpaceKo),
+        CINEMA_SPACE_EN(KeywordFilterProperties::getCinemaSpaceEn),
+        CINEMA_PROFESSIONAL(KeywordFilterProperties::getCinemaProfessional);
+
+        private final Function<KeywordFilterProperties, List<String>> source;
+
+        KeywordSet(Function<KeywordFilterProperties, List<String>> source) {
+            this.source = source;
+        }
+    }
+
+    private record Snapshot(Map<KeywordSet, List<String>> keywords, Map<KeywordSet, AhoCorasickMatcher> matchers) {
+    }
+
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+
+    private volatile Snapshot snapshot;
+
+    @PostConstruct
+    public void init() {
+        snapshot = build(bind());
+        log.info("콘텐츠 필터 키워드 매칭기 구성: {}", sizes(snapshot));
+    }
+
+    /**
+     * 설정 서버 갱신 시 content.keywords.* 변경분이 있으면 재구성 (실패하면 기존 매칭기 유지)
+     */
+    @EventListener(EnvironmentChangeEvent.class)
+    public void onEnvironmentChange(EnvironmentChangeEvent event) {
+        boolean changed = event.getKeys().stream().anyMatch(key -> key.startsWith(KeywordFilterProperties.PREFIX));
+        if (!changed) {
+            return;
+        }
+        try {
+            snapshot = build(bind());
+            meterRegistry.counter("content.keywords.reloads", "outcome", "success").increment();
+            log.info("콘텐츠 필터 키워드 매칭기 재구성: {}", sizes(snapshot));
+        } catch (Exception e) {
+            meterRegistry.counter("content.keywords.reloads", "outcome", "failure").increment();
+            log.warn("콘텐츠 필터 키워드 재구성 실패, 기존 매칭기 유지: {}", e.getMessage());
+        }
+    }
+
+    public AhoCorasickMatcher matcher(KeywordSet set) {
+        return snapshot.matchers().get(set);
+    }
+
+    /**
+     * 설정된 원본 키워드 목록 (검색어 생성용)
+     */
+    public List<String> keywords(KeywordSet set) {
+        return snapshot.keywords().get(set);
+    }
+
+    private KeywordFilterProperties bind() {
+        // 리바인딩 순서에 의존하지 않도록 갱신된 Environment에서 직접 바인딩
+        return Binder.get(environment).bindOrCreate(KeywordFilterProperties.PREFIX, KeywordFilterProperties.class);
+    }
+
+    private static Snapshot build(KeywordFilterProperties properties) {
+        Map<KeywordSet, List<String>> keywords = new EnumMap<>(KeywordSet.class);
+        Map<KeywordSet, AhoCorasickMatcher> matchers = new EnumMap<>(KeywordSet.class);
+        for (KeywordSet set : KeywordSet.values()) {
+            List<String> list = List.copyOf(set.source.apply(properties));
+            keywords.put(set, list);
+            matchers.put(set, AhoCorasickMatcher.of(MatchMode.WORD, list));
+        }
+        return new Snapshot(keywords, matchers);
+    }
+
+    private static Map<KeywordSet, Integer> sizes(Snapshot snapshot) {
+        Map<KeywordSet, Integer> sizes = new EnumMap<>(KeywordSet.class);
+        snapshot.matchers().forEach((set, matcher) -> sizes.put(set, matcher.size()));
+        return sizes;
+    }
+}
@@ -1,15 +1,19 @@
 package com.byeolnight.service.crawler;
 
 import com.byeolnight.dto.ai.NewsApiResponseDto;
-import com.byeolnight.entity.News;
+import com.byeolnight.dto.crawler.TitleSignatureRow;
 import com.byeolnight.repository.NewsRepository;
 import com.byeolnight.infrastructure.config.NewsCollectionProperties;
+import com.byeolnight.infrastructure.util.NearDuplicateIndex;
+import com.byeolnight.infrastructure.util.TitleMinHash;
+import com.byeolnight.service.crawler.KeywordMatcherRegistry.KeywordSet;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
@@ -18,21 +22,30 @@ public class NewsContentValidator {
     
     private final NewsRepository newsRepository;
     private final NewsCollectionProperties newsConfig;
+    private final KeywordMatcherRegistry keywordMatchers;
     
-    private static final String[] SPACE_KEYWORDS = {
-        // 한국어 키워드
-        "우주", "로켓", "위성", "화성", "달", "태양", "지구", "목성", "토성", "블랙홀", "은하", "별", "항성", "혜성", "소행성", "망원경", "천문", "항공우주", "우주선", "우주정거장", "우주비행사", "우주탐사", "화성탐사", "달탐사",
-        // 영어 키워드 (소문자)
-        "nasa", "spacex", "space", "mars", "moon", "astronomy", "telescope", "satellite", "rocket", "planet", "solar", "lunar", "jupiter", "saturn", "venus", "mercury", "neptune", "uranus", "pluto", "galaxy", "nebula", "star", "comet", "asteroid", "meteor", "orbit", "spacecraft", "astronaut", "cosmology", "astrophysics", "observatory", "constellation", "eclipse", "aurora", "supernova", "quasar", "pulsar", "exoplanet", "milky way", "andromeda", "hubble", "webb", "iss", "international space station", "falcon", "dragon", "starship", "artemis", "apollo", "voyager", "cassini", "juno", "perseverance", "curiosity", "ingenuity", "parker solar probe", "james webb", "kepler", "spitzer", "chandra", "esa", "roscosmos", "jaxa", "isro", "cnsa"
-    };
-    private static final String[] EXCLUDE_KEYWORDS = {"trump", "biden", "정치", "선거", "경제", "주식", "코인", "bitcoin", "cryptocurrency", "sports", "football", "basketball", "soccer", "entertainment", "celebrity", "fashion", "food", "recipe", "cooking"};
     private static final String[] TRUSTED_SOURCES = {"nasa", "esa", "spacex", "science", "nature", "space", "astronomy", "reuters", "ap", "bbc", "cnn", "연합뉴스", "ytn", "kbs", "mbc", "sbs", "한국항공우주연구원", "kari", "과학기술정보통신부"};
     
-    public boolean isHighQualityNews(NewsApiResponseDto.Result result) {
+    /**
+     * 최근 뉴스 제목 유사 중복 인덱스 로드 (수집 회차마다 1회)
+     */
+    public NearDuplicateIndex loadRecentTitleIndex() {
+        LocalDateTime cutoffDate = LocalDateTime.now().minusDays(newsConfig.getCollection().getSimilarityCheckDays());
+        List<TitleSignatureRow> rows = newsRepository.findTitleSignaturesPublishedAfter(cutoffDate);
+        
+        NearDuplicateIndex index = new NearDuplicateIndex(newsConfig.getCollection().getSimilarityThreshold());
+        for (TitleSignatureRow row : rows) {
+            index.add(row.title(), TitleMinHash.fromBytes(row.titleMinHash()));
+        }
+        log.info("뉴스 유사 중복 인덱스 로드: {}건", index.size());
+        return index;
+    }
+    
+    public boolean isHighQualityNews(NewsApiResponseDto.Result result, NearDuplicateIndex recentTitles) {
         return hasMinimumLength(result) && 
                isSpaceRelated(result) && 
                isReliableSource(result) && 
-               !isSimilarToExisting(result);
+               !isSimilarToExisting(result, recentTitles);
     }
     
     private boolean hasMinimumLength(NewsApiResponseDto.Result result) {
@@ -43,20 +56,15 @@ public class NewsContentValidator {
     }
     
     private boolean isSpaceRelated(NewsApiResponseDto.Result result) {
-        String content = (result.getTitle() + " " + result.getDescription()).toLowerCase();
+        String content = result.getTitle() + " " + result.getDescription();
         
         // 비우주 키워드 체크
-        for (String exclude : EXCLUDE_KEYWORDS) {
-            if (content.contains(exclude)) return false;
+        if (keywordMatchers.matcher(KeywordSet.NEWS_EXCLUDE).containsAny(content)) {
+            return false;
         }
         
         // 우주 키워드 체크 (기준 완화: 3개 → 1개)
-        int keywordCount = 0;
-        for (String keyword : SPACE_KEYWORDS) {
-            if (content.contains(keyword.toLowerCase())) keywordCount++;
-        }
-        
-        return keywordCount >= 1;
+        return keywordMatchers.matcher(KeywordSet.NEWS_SPACE).containsAny(content);
     }
     
     private boolean isReliableSource(NewsApiResponseDto.Result result) {
@@ -79,38 +87,9 @@ public class NewsContentValidator {
         return true; // 기본적으로 통과
     }
     
-    private boolean isSimilarToExisting(NewsApiResponseDto.Result result) {
-        LocalDateTime cutoffDate = LocalDateTime.now().minusDays(7);
-        List<News> recentNews = newsRepository.findByPublishedAtAfter(cutoffDate);
-        
-        String newTitle = normalizeTitle(result.getTitle());
-        
-        return recentNews.stream()
-                .anyMatch(news -> calculateSimilarity(newTitle, normalizeTitle(news.getTitle())) > 0.7);
-    }
-    
-    private String normalizeTitle(String title) {
-        if (title == null) return "";
-        return title.toLowerCase()
-                .replaceAll("[^\\w\\s가-힣]", "")
-                .replaceAll("\\s+", " ")
-                .trim();
-    }
-    
-    private double calculateSimilarity(String title1, String title2) {
-        String[] words1 = title1.split("\\s+");
-        String[] words2 = title2.split("\\s+");
-        
-        int commonWords = 0;
-        for (String word1 : words1) {
-            for (String word2 : words2) {
-                if (word1.equals(word2) && word1.length() > 2) {
-                    commonWords++;
-                    break;
-                }
-            }
-        }
-        
-        return (double) commonWords / Math.max(words1.length, words2.length);
+    private boolean isSimilarToExisting(NewsApiResponseDto.Result result, NearDuplicateIndex recentTitles) {
+        Optional<String> similar = recentTitles.findSimilar(result.getTitle());
+        similar.ifPresent(title -> log.info("유사 뉴스 발견: {} vs {}", result.getTitle(), title));
+        return similar.isPresent();
     }
-}
\ No newline at end of file
+}
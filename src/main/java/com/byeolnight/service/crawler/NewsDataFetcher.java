@@ -0,0 +1,278 @@
+package com.byeolnight.service.crawler;
+
+import com.byeolnight.dto.ai.NewsApiResponseDto;
+import com.byeolnight.infrastructure.cache.RedissonCacheService;
+import com.byeolnight.infrastructure.util.ParallelUtils;
+import com.google.common.util.concurrent.RateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * NewsData.io 뉴스 수집기
+ * - 한국어/영어 검색을 동시에 호출, API 키마다 토큰 버킷(RateLimiter)으로 초당 호출 수 제한
+ * - 한도 초과 시 다음 키로 원자적 전환 (수집 회차마다 기본 키부터 다시 시작)
+ * - 언어별 커서(선별까지 마친 뉴스의 최신 발행 시각)를 Redis에 보관해 이후 발행된 뉴스만 전달
+ * - news.fetch.items{source, stage=fetched|new|kept|saved}로 수집 대비 채택 건수 집계
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NewsDataFetcher {
+
+    private static final String NEWS_API_URL = "https://newsdata.io/api/1/news";
+    private static final String CURSOR_KEY_PREFIX = "news:fetch:cursor:";
+    private static final Duration CURSOR_TTL = Duration.ofDays(30);
+    private static final int PAGE_SIZE = 10;
+    private static final int MAX_TIMEFRAME_HOURS = 48;
+    private static final DateTimeFormatter PUB_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private static final List<Source> SOURCES = List.of(
+            new Source("ko", List.of("NASA", "SpaceX", "우주"), new String[]{"우주", "로켓", "위성", "화성", "달", "NASA", "SpaceX", "우주탐사", "화성탐사", "달탐사", "태양", "지구", "목성", "토성", "블랙홀", "은하", "별", "항성", "혜성", "소행성", "망원경", "천문", "항공우주", "우주선", "우주정거장", "우주비행사"}),
+            new Source("en", List.of("NASA", "SpaceX", "space"), new String[]{"NASA", "SpaceX", "Mars", "Moon", "space exploration", "astronomy", "telescope", "satellite", "rocket", "space", "planet", "solar", "lunar", "jupiter", "saturn", "galaxy", "nebula", "star", "comet", "asteroid", "orbit", "spacecraft", "astronaut", "eclipse", "aurora", "supernova", "exoplanet", "hubble", "webb", "iss", "falcon", "dragon", "starship", "artemis", "apollo", "voyager", "perseverance", "curiosity"})
+    );
+
+    private final RestTemplate restTemplate;
+    private final RedissonCacheService cacheService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.security.external-api.ai.newsdata-api-key}")
+    private String primaryApiKey;
+
+    @Value("${app.newsdata.api-key-backup:}")
+    private String backupApiKey;
+
+    // API 키 1개당 초당 호출 수 (기존 200ms 간격 순차 호출과 같은 수준)
+    @Value("${news.fetch.requests-per-second:5}")
+    private double requestsPerSecond;
+
+    @Value("${news.fetch.calls-per-source:2}")
+    private int callsPerSource;
+
+    // 커서 이후 경과 시간을 timeframe(시간)으로 전송 (요금제에서 지원할 때만 활성화)
+    @Value("${news.fetch.use-timeframe:false}")
+    private boolean useTimeframe;
+
+    private final AtomicInteger activeKey = new AtomicInteger();
+    private List<ApiKey> apiKeys;
+
+    private record Source(String language, List<String> requiredKeywords, String[] keywords) {
+    }
+
+    private record ApiKey(String value, RateLimiter rateLimiter) {
+    }
+
+    private record FetchCall(Source source, String query, LocalDateTime cursor) {
+    }
+
+    private record FetchResult(String language, List<NewsApiResponseDto.Result> results) {
+    }
+
+    /**
+     * 수집 결과 + 뉴스 URL별 수집 언어 (커서 계산용)
+     */
+    public record Batch(List<NewsApiResponseDto.Result> results, Map<String, String> languages) {
+    }
+
+    @PostConstruct
+    public void init() {
+        List<ApiKey> keys = new ArrayList<>();
+        keys.add(new ApiKey(primaryApiKey, RateLimiter.create(requestsPerSecond)));
+        if (backupApiKey != null && !backupApiKey.isBlank()) {
+            keys.add(new ApiKey(backupApiKey, RateLimiter.create(requestsPerSecond)));
+        }
+        apiKeys = List.copyOf(keys);
+    }
+
+    public Batch fetchLatest() {
+        activeKey.set(0);
+
+        Map<String, LocalDateTime> cursors = new HashMap<>();
+        List<FetchCall> calls = new ArrayList<>();
+        for (Source source : SOURCES) {
+            LocalDateTime cursor = readCursor(source.language());
+            cursors.put(source.language(), cursor);
+            for (int i = 0; i < callsPerSource; i++) {
+                calls.add(new FetchCall(source, randomQuery(source), cursor));
+            }
+        }
+
+        List<FetchResult> responses = ParallelUtils.mapBounded(calls, calls.size(), this::fetch);
+
+        Set<String> seenUrls = new HashSet<>();
+        List<NewsApiResponseDto.Result> results = new ArrayList<>();
+        Map<String, String> languages = new HashMap<>();
+        for (FetchResult response : responses) {
+            String language = response.language();
+            int fetched = 0;
+            int fresh = 0;
+            for (NewsApiResponseDto.Result result : response.results()) {
+                fetched++;
+                if (result.getLink() == null || !seenUrls.add(result.getLink())) {
+                    continue;
+                }
+                LocalDateTime publishedAt = parsePubDate(result.getPubDate());
+                LocalDateTime cursor = cursors.get(language);
+                if (cursor != null && publishedAt != null && !publishedAt.isAfter(cursor)) {
+                    continue;
+                }
+                fresh++;
+                results.add(result);
+                languages.put(result.getLink(), language);
+            }
+            meterRegistry.counter("news.fetch.items", "source", language, "stage", "fetched").increment(fetched);
+            meterRegistry.counter("news.fetch.items", "source", language, "stage", "new").increment(fresh);
+        }
+        log.info("뉴스 수집 완료: 호출 {}회, 신규 {}건, 커서 {}", calls.size(), results.size(), cursors);
+        return new Batch(results, languages);
+    }
+
+    /**
+     * 선별/저장 건수 집계, 1건 이상 저장된 회차만 커서 전진 (실패 시 재시도 스케줄이 같은 구간을 다시 조회)
+     * - examined: 앞에서부터 선별을 마친 건수 (최대 저장 개수에 도달하면 나머지는 보지 않음)
+     * - 보지 않은 뉴스가 다음 회차에 다시 전달되도록, 그중 가장 먼저 발행된 시각 이전까지만 전진
+     */
+    public void complete(Batch batch, int examined, int kept, int saved) {
+        meterRegistry.counter("news.fetch.items", "source", "all", "stage", "kept").increment(kept);
+        meterRegistry.counter("news.fetch.items", "source", "all", "stage", "saved").increment(saved);
+        if (saved == 0) {
+            return;
+        }
+        nextCursors(batch, examined).forEach((language, cursor) -> {
+            try {
+                cacheService.set(CURSOR_KEY_PREFIX + language, cursor.format(PUB_DATE_FORMAT), CURSOR_TTL);
+            } catch (Exception e) {
+                log.warn("뉴스 수집 커서 저장 실패: source={}, error={}", language, e.getMessage());
+            }
+        });
+    }
+
+    static Map<String, LocalDateTime> nextCursors(Batch batch, int examined) {
+        List<NewsApiResponseDto.Result> results = batch.results();
+        Map<String, LocalDateTime> unexamined = new HashMap<>();
+        for (NewsApiResponseDto.Result result : results.subList(Math.min(examined, results.size()), results.size())) {
+            LocalDateTime publishedAt = parsePubDate(result.getPubDate());
+            if (publishedAt != null) {
+                unexamined.merge(batch.languages().get(result.getLink()), publishedAt, (a, b) -> a.isBefore(b) ? a : b);
+            }
+        }
+
+        Map<String, LocalDateTime> nextCursors = new HashMap<>();
+        for (NewsApiResponseDto.Result result : results.subList(0, Math.min(examined, results.size()))) {
+            String language = batch.languages().get(result.getLink());
+            LocalDateTime publishedAt = parsePubDate(result.getPubDate());
+            LocalDateTime floor = unexamined.get(language);
+            if (publishedAt != null && (floor == null || publishedAt.isBefore(floor))) {
+                nextCursors.merge(language, publishedAt, (a, b) -> a.isAfter(b) ? a : b);
+            }
+        }
+        return nextCursors;
+    }
+
+    private FetchResult fetch(FetchCall call) {
+        return new FetchResult(call.source().language(), request(call));
+    }
+
+    private List<NewsApiResponseDto.Result> request(FetchCall call) {
+        for (int attempt = 0; attempt < apiKeys.size(); attempt++) {
+            int keyIndex = activeKey.get();
+            ApiKey apiKey = apiKeys.get(keyIndex);
+            apiKey.rateLimiter().acquire();
+            try {
+                NewsApiResponseDto response = restTemplate.getForObject(buildUrl(call, apiKey), NewsApiResponseDto.class);
+                if (response == null || !"success".equals(response.getStatus()) || response.getResults() == null) {
+                    log.warn("{} 뉴스 수집 실패: {}", call.source().language(), response != null ? response.getStatus() : "null response");
+                    return List.of();
+                }
+                return response.getResults();
+            } catch (Exception e) {
+                if (isQuotaExceededError(e) && rotateKey(keyIndex)) {
+                    continue;
+                }
+                log.error("{} NewsData.io API 호출 중 오류 발생: {}", call.source().language(), e.getMessage());
+                return List.of();
+            }
+        }
+        return List.of();
+    }
+
+    /**
+     * 한도 초과한 키에서만 다음 키로 전환 (다른 스레드가 이미 전환했으면 그대로 재시도)
+     */
+    private boolean rotateKey(int failedIndex) {
+        if (failedIndex + 1 >= apiKeys.size()) {
+            return false;
+        }
+        if (activeKey.compareAndSet(failedIndex, failedIndex + 1)) {
+            meterRegistry.counter("news.fetch.key.rotations").increment();
+            log.warn("NewsData.io API 키 한도 초과, 다음 키로 전환합니다. ({} → {})", failedIndex, failedIndex + 1);
+        }
+        return true;
+    }
+
+    private String buildUrl(FetchCall call, ApiKey apiKey) {
+        UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(NEWS_API_URL)
+                .queryParam("apikey", apiKey.value())
+                .queryParam("language", call.source().language())
+                .queryParam("q", call.query())
+                .queryParam("category", "science")
+                .queryParam("size", String.valueOf(PAGE_SIZE));
+        if (useTimeframe && call.cursor() != null) {
+            long hours = Duration.between(call.cursor(), LocalDateTime.now()).toHours() + 1;
+            builder.queryParam("timeframe", String.valueOf(Math.max(1, Math.min(MAX_TIMEFRAME_HOURS, hours))));
+        }
+        return builder.build().toUriString();
+    }
+
+    private String randomQuery(Source source) {
+        Set<String> selected = new LinkedHashSet<>(source.requiredKeywords());
+        String[] keywords = source.keywords();
+        while (selected.size() < 3 && selected.size() < keywords.length) {
+            selected.add(keywords[ThreadLocalRandom.current().nextInt(keywords.length)]);
+        }
+        return String.join(" OR ", selected);
+    }
+
+    private LocalDateTime readCursor(String language) {
+        try {
+            String cursor = cacheService.get(CURSOR_KEY_PREFIX + language);
+            return cursor != null ? LocalDateTime.parse(cursor, PUB_DATE_FORMAT) : null;
+        } catch (Exception e) {
+            log.warn("뉴스 수집 커서 조회 실패 (전체 조회): source={}, error={}", language, e.getMessage());
+            return null;
+        }
+    }
+
+    private static LocalDateTime parsePubDate(String pubDate) {
+        if (pubDate == null) return null;
+        try {
+            return LocalDateTime.parse(pubDate, PUB_DATE_FORMAT);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static boolean isQuotaExceededError(Exception e) {
+        if (e instanceof HttpClientErrorException.TooManyRequests) {
+            return true;
+        }
+        String errorMessage = e.getMessage() != null ? e.getMessage().toLowerCase() : "";
+        return errorMessage.contains("quota") ||
+               errorMessage.contains("limit") ||
+               errorMessage.contains("exceeded") ||
+               errorMessage.contains("429");
+    }
+}
@@ -9,13 +9,13 @@ import com.byeolnight.repository.post.PostRepository;
 import com.byeolnight.repository.user.UserRepository;
 import com.byeolnight.dto.ai.NewsApiResponseDto;
 import com.byeolnight.infrastructure.config.NewsCollectionProperties;
+import com.byeolnight.infrastructure.util.NearDuplicateIndex;
+import com.byeolnight.infrastructure.util.ParallelUtils;
+import com.byeolnight.infrastructure.util.TitleMinHash;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
-import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -29,30 +29,27 @@ public class SpaceNewsService {
     private final NewsRepository newsRepository;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
-    private final RestTemplate restTemplate;
+    private final NewsDataFetcher newsDataFetcher;
     private final NewsCollectionProperties newsConfig;
     private final NewsContentValidator validator;
     private final NewsTranslationService translationService;
     private final NewsContentFormatter formatter;
+    private final TransactionTemplate transactionTemplate;
     
-    @Value("${app.security.external-api.ai.newsdata-api-key}")
-    private String primaryApiKey;
+    private static final int ENRICH_PARALLELISM = 4;
     
-    @Value("${app.newsdata.api-key-backup:}")
-    private String backupApiKey;
-    
-    private boolean usingBackupKey = false;
-    private static final String NEWS_API_URL = "https://newsdata.io/api/1/news";
-    private static final String[] KOREAN_KEYWORDS = {"우주", "로켓", "위성", "화성", "달", "NASA", "SpaceX", "우주탐사", "화성탐사", "달탐사", "태양", "지구", "목성", "토성", "블랙홀", "은하", "별", "항성", "혜성", "소행성", "망원경", "천문", "항공우주", "우주선", "우주정거장", "우주비행사"};
-    private static final String[] ENGLISH_KEYWORDS = {"NASA", "SpaceX", "Mars", "Moon", "space exploration", "astronomy", "telescope", "satellite", "rocket", "space", "planet", "solar", "lunar", "jupiter", "saturn", "galaxy", "nebula", "star", "comet", "asteroid", "orbit", "spacecraft", "astronaut", "eclipse", "aurora", "supernova", "exoplanet", "hubble", "webb", "iss", "falcon", "dragon", "starship", "artemis", "apollo", "voyager", "perseverance", "curiosity"};
-    
-    @Transactional
+    /**
+     * 뉴스 수집 파이프라인
+     * - 수집/선별 → 번역·AI 분석(트랜잭션 밖, 병렬) → 저장(짧은 트랜잭션 1회)
+     * - OpenAI 응답을 기다리는 동안 DB 커넥션을 점유하지 않음
+     */
     public void collectAndSaveSpaceNews() {
         log.info("한국어 우주 뉴스 수집 시작");
         
-        NewsApiResponseDto response = fetchKoreanSpaceNews();
-        if (response == null || response.getResults() == null) {
-            log.warn("뉴스 데이터를 가져올 수 없습니다");
+        NewsDataFetcher.Batch batch = newsDataFetcher.fetchLatest();
+        if (batch.results().isEmpty()) {
+            log.warn("새로 수집된 뉴스가 없습니다");
+            newsDataFetcher.complete(batch, 0, 0, 0);
             return;
         }
         
@@ -60,60 +57,92 @@ public class SpaceNewsService {
         User newsBot = userRepository.findByEmail("newsbot@byeolnight.com")
                 .orElseThrow(() -> new RuntimeException("뉴스봇 사용자를 찾을 수 없습니다"));
         
-        List<Post> savedPosts = new ArrayList<>();
-        int actualDuplicateCount = 0;
+        // 1. 중복/품질 필터 후 최대 저장 개수만큼 후보 선별
+        CandidateSelection selection = selectCandidates(batch.results());
+        
+        // 2. 번역/AI 분석 (트랜잭션 밖에서 후보별 병렬 처리)
+        List<EnrichedNews> enriched = ParallelUtils.mapBounded(selection.candidates(), ENRICH_PARALLELISM,
+                result -> enrich(result, newsBot));
+        
+        // 3. 일괄 저장
+        List<Post> savedPosts = enriched.isEmpty()
+                ? List.of()
+                : transactionTemplate.execute(status -> persist(enriched));
+        savedPosts.forEach(post -> log.info("새 뉴스 게시글 저장: {}", post.getTitle()));
+        newsDataFetcher.complete(batch, selection.examined(), selection.candidates().size(), savedPosts.size());
+        
+        log.info("우주 뉴스 수집 완료 - 수집: {}개, 저장: {}건 (하루 최대 {}), 실제 중복: {}건, 필터링: {}건", 
+                batch.results().size(), savedPosts.size(), newsConfig.getCollection().getMaxPosts(),
+                selection.duplicateCount(), selection.filteredCount());
+        
+        // 뉴스 수집과 토론 주제 생성을 분리
+        // 토론 주제는 별도 스케줄러에서 매일 오전 8시에 생성
+        log.info("뉴스 수집 완료 - 토론 주제는 스케줄러에서 별도 처리");
+    }
+    
+    private record CandidateSelection(List<NewsApiResponseDto.Result> candidates, int examined, int duplicateCount, int filteredCount) {
+    }
+    
+    private record EnrichedNews(News news, Post post) {
+    }
+    
+    private CandidateSelection selectCandidates(List<NewsApiResponseDto.Result> results) {
+        List<String> urls = results.stream()
+                .map(NewsApiResponseDto.Result::getLink)
+                .filter(Objects::nonNull)
+                .toList();
+        Set<String> existingUrls = new HashSet<>(urls.isEmpty() ? List.of() : newsRepository.findUrlsByUrlIn(urls));
+        NearDuplicateIndex recentTitles = validator.loadRecentTitleIndex();
+        int maxPosts = newsConfig.getCollection().getMaxPosts();
+        
+        List<NewsApiResponseDto.Result> candidates = new ArrayList<>();
+        int examined = 0;
+        int duplicateCount = 0;
         int filteredCount = 0;
         
-        for (NewsApiResponseDto.Result result : response.getResults()) {
+        for (NewsApiResponseDto.Result result : results) {
             log.info("\n========== 뉴스 처리 시작 ==========\n제목: {}\nURL: {}", result.getTitle(), result.getLink());
             
-            if (isDuplicateNews(result)) {
-                actualDuplicateCount++;
+            // 이미 저장된 뉴스 + 같은 수집 회차 내 중복(한국어/영어 검색 결과 겹침)
+            if (!existingUrls.add(result.getLink())) {
+                examined++;
+                duplicateCount++;
                 log.info("중복으로 스킵됨");
                 continue;
             }
             
-            if (!validator.isHighQualityNews(result)) {
+            if (!validator.isHighQualityNews(result, recentTitles)) {
+                examined++;
                 filteredCount++;
                 log.info("품질 기준 미달로 스킵됨");
                 continue;
             }
             
             // 설정된 최대 개수만 저장 (하루에 1개만 저장)
-            if (savedPosts.size() >= newsConfig.getCollection().getMaxPosts()) {
-                log.info("이미 {}개 뉴스를 저장했으므로 종료 (하루 1개 제한)", newsConfig.getCollection().getMaxPosts());
+            if (candidates.size() >= maxPosts) {
+                log.info("이미 {}개 뉴스를 선별했으므로 종료 (하루 {}개 제한)", maxPosts, maxPosts);
                 break;
             }
-            
-            log.info("저장 진행 중... ({}/1)", savedPosts.size() + 1);
-            
-            // News 엔티티에 저장
-            News news = convertToNews(result);
-            newsRepository.save(news);
-            
-            // Post 엔티티로 변환하여 게시판에 표시
-            Post post = convertToPost(result, newsBot);
-            Post savedPost = postRepository.save(post);
-            savedPosts.add(savedPost);
-            
-            log.info("새 뉴스 게시글 저장: {}", savedPost.getTitle());
+            examined++;
+            candidates.add(result);
+            recentTitles.add(result.getTitle());
         }
-        
-        log.info("우주 뉴스 수집 완료 - 수집: {}개, 저장: {}건 (하루 최대 {}), 실제 중복: {}건, 필터링: {}건", 
-                response.getResults().size(), savedPosts.size(), newsConfig.getCollection().getMaxPosts(), actualDuplicateCount, filteredCount);
-        
-        // 뉴스 수집과 토론 주제 생성을 분리
-        // 토론 주제는 별도 스케줄러에서 매일 오전 8시에 생성
-        log.info("뉴스 수집 완료 - 토론 주제는 스케줄러에서 별도 처리");
+        return new CandidateSelection(candidates, examined, duplicateCount, filteredCount);
+    }
+    
+    private EnrichedNews enrich(NewsApiResponseDto.Result result, User writer) {
+        String title = translationService.translateTitle(result.getTitle());
+        return new EnrichedNews(convertToNews(result, title), convertToPost(result, title, writer));
     }
     
-    private boolean isDuplicateNews(NewsApiResponseDto.Result result) {
-        return newsRepository.existsByUrl(result.getLink());
+    private List<Post> persist(List<EnrichedNews> enriched) {
+        newsRepository.saveAll(enriched.stream().map(EnrichedNews::news).toList());
+        return postRepository.saveAll(enriched.stream().map(EnrichedNews::post).toList());
     }
 
-    private Post convertToPost(NewsApiResponseDto.Result result, User writer) {
+    private Post convertToPost(NewsApiResponseDto.Result result, String translatedTitle, User writer) {
         String content = formatter.formatNewsContent(result);
-        String title = translationService.translateTitle(result.getTitle());
+        String title = translatedTitle;
         
         if (title.length() > 100) {
             title = title.substring(0, 97) + "...";
@@ -127,9 +156,7 @@ public class SpaceNewsService {
                 .build();
     }
 
-    private News convertToNews(NewsApiResponseDto.Result result) {
-        String title = translationService.translateTitle(result.getTitle());
-        
+    private News convertToNews(NewsApiResponseDto.Result result, String title) {
         return News.builder()
                 .title(title)
                 .description(result.getDescription())
@@ -139,6 +166,7 @@ public class SpaceNewsService {
                 .hashtags(formatter.generateHashtags(result.getTitle(), result.getDescription()))
                 .source(result.getSourceName() != null ? result.getSourceName() : "Unknown")
                 .summary(generateSummary(result))
+                .titleMinHash(TitleMinHash.toBytes(TitleMinHash.signature(title)))
                 .build();
     }
     
@@ -165,152 +193,6 @@ public class SpaceNewsService {
         return translationService.generateAIAnalysis(result.getTitle(), result.getDescription());
     }
     
-    // NewsDataService에서 이동된 메서드들
-    public NewsApiResponseDto fetchKoreanSpaceNews() {
-        try {
-            int callCount = 4;
-            
-            String koreanQuery = "NASA OR SpaceX OR 우주탐사 OR 화성탐사 OR 달탐사";
-            log.info("한국어 뉴스 수집 키워드: {}", koreanQuery);
-            NewsApiResponseDto koreanNews = fetchMultipleNewsByLanguage("ko", koreanQuery, callCount / 2);
-            
-            String englishQuery = "NASA OR SpaceX OR Mars OR Moon OR space exploration OR astronomy";
-            log.info("영어 뉴스 수집 키워드: {}", englishQuery);
-            NewsApiResponseDto englishNews = fetchMultipleNewsByLanguage("en", englishQuery, callCount / 2);
-            
-            NewsApiResponseDto combinedNews = new NewsApiResponseDto();
-            combinedNews.setStatus("success");
-            combinedNews.setResults(new java.util.ArrayList<>());
-            
-            if (koreanNews != null && koreanNews.getResults() != null) {
-                combinedNews.getResults().addAll(koreanNews.getResults());
-            }
-            if (englishNews != null && englishNews.getResults() != null) {
-                combinedNews.getResults().addAll(englishNews.getResults());
-            }
-            
-            combinedNews.setTotalResults(combinedNews.getResults().size());
-            log.info("총 {}+{} = {}개 뉴스 수집 완료", 
-                    koreanNews != null ? koreanNews.getResults().size() : 0,
-                    englishNews != null ? englishNews.getResults().size() : 0,
-                    combinedNews.getResults().size());
-            
-            return combinedNews;
-            
-        } catch (Exception e) {
-            log.error("NewsData.io API 호출 중 오류 발생", e);
-            return null;
-        }
-    }
-    
-    private NewsApiResponseDto fetchNewsByLanguage(String language, String query, int size) {
-        try {
-            String url = UriComponentsBuilder.fromHttpUrl(NEWS_API_URL)
-                    .queryParam("apikey", getCurrentApiKey())
-                    .queryParam("language", language)
-                    .queryParam("q", query)
-                    .queryParam("category", "science")
-                    .queryParam("size", String.valueOf(size))
-                    .build()
-                    .toUriString();
-            
-            log.info("NewsData.io API 호출 ({}): {}", language, url);
-            
-            NewsApiResponseDto response = restTemplate.getForObject(url, NewsApiResponseDto.class);
-            
-            if (response != null && "success".equals(response.getStatus())) {
-                log.info("{} 뉴스 수집 성공: {}개", language, response.getResults().size());
-                return response;
-            } else {
-                log.warn("{} 뉴스 수집 실패: {}", language, response != null ? response.getStatus() : "null response");
-                return null;
-            }
-            
-        } catch (Exception e) {
-            log.error("{} NewsData.io API 호출 중 오류 발생: {}", language, e.getMessage());
-            
-            if (isQuotaExceededError(e) && !usingBackupKey && !backupApiKey.isEmpty()) {
-                log.warn("기본 API 키 한도 초과, 백업 키로 재시도합니다.");
-                usingBackupKey = true;
-                return fetchNewsByLanguage(language, query, size);
-            }
-            
-            return null;
-        }
-    }
-    
-    private NewsApiResponseDto fetchMultipleNewsByLanguage(String language, String query, int callCount) {
-        NewsApiResponseDto combinedResponse = new NewsApiResponseDto();
-        combinedResponse.setStatus("success");
-        combinedResponse.setResults(new java.util.ArrayList<>());
-        java.util.Set<String> seenUrls = new java.util.HashSet<>();
-        
-        for (int i = 0; i < callCount; i++) {
-            try {
-                String[] keywords = language.equals("ko") ? KOREAN_KEYWORDS : ENGLISH_KEYWORDS;
-                String randomQuery = getRandomSpaceKeywords(keywords, 3);
-                
-                NewsApiResponseDto response = fetchNewsByLanguage(language, randomQuery, 10);
-                if (response != null && response.getResults() != null) {
-                    for (NewsApiResponseDto.Result result : response.getResults()) {
-                        if (result.getLink() != null && !seenUrls.contains(result.getLink())) {
-                            seenUrls.add(result.getLink());
-                            combinedResponse.getResults().add(result);
-                        }
-                    }
-                }
-                
-                if (i < callCount - 1) {
-                    Thread.sleep(200);
-                }
-            } catch (Exception e) {
-                log.warn("{} 뉴스 {}번째 호출 실패", language, i + 1, e);
-            }
-        }
-        
-        combinedResponse.setTotalResults(combinedResponse.getResults().size());
-        log.info("{} 뉴스 {}번 호출 완료: {}개 수집", language, callCount, combinedResponse.getResults().size());
-        return combinedResponse;
-    }
-    
-    private String getRandomSpaceKeywords(String[] keywords, int count) {
-        java.util.Random random = new java.util.Random();
-        java.util.Set<String> selectedKeywords = new java.util.HashSet<>();
-        
-        // 필수 키워드 추가 (NASA, SpaceX, 우주 등)
-        if (keywords == KOREAN_KEYWORDS) {
-            selectedKeywords.add("NASA");
-            selectedKeywords.add("SpaceX");
-            selectedKeywords.add("우주");
-        } else {
-            selectedKeywords.add("NASA");
-            selectedKeywords.add("SpaceX");
-            selectedKeywords.add("space");
-        }
-        
-        while (selectedKeywords.size() < count && selectedKeywords.size() < keywords.length) {
-            int randomIndex = random.nextInt(keywords.length);
-            selectedKeywords.add(keywords[randomIndex]);
-        }
-        
-        return String.join(" OR ", selectedKeywords);
-    }
-    
-    private String getCurrentApiKey() {
-        String currentKey = usingBackupKey ? backupApiKey : primaryApiKey;
-        log.debug("현재 사용 중인 API 키: {} (백업 키 사용: {})", 
-                currentKey.substring(0, Math.min(10, currentKey.length())) + "...", usingBackupKey);
-        return currentKey;
-    }
-    
-    private boolean isQuotaExceededError(Exception e) {
-        String errorMessage = e.getMessage().toLowerCase();
-        return errorMessage.contains("quota") || 
-               errorMessage.contains("limit") || 
-               errorMessage.contains("exceeded") ||
-               errorMessage.contains("429");
-    }
-    
     public long getTodayNewsCount() {
         LocalDateTime todayStart = LocalDateTime.now().withHour(0).withMinute(0).withSecond(0).withNano(0);
         
@@ -6,12 +6,14 @@ import com.byeolnight.entity.user.User;
 import com.byeolnight.repository.post.PostRepository;
 import com.byeolnight.dto.post.PostResponseDto;
 import com.byeolnight.service.assembler.PostResponseAssembler;
+import com.byeolnight.service.assembler.WriterProfileLoader;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -42,9 +44,10 @@ public class DiscussionService {
      */
     public Page<PostResponseDto> getOpinionPosts(Long topicId, Pageable pageable) {
         Page<Post> opinionPosts = postRepository.findRelatedOpinionPosts(topicId, pageable);
+        WriterProfileLoader.Batch writers = postResponseAssembler.prime(opinionPosts.getContent());
 
         return opinionPosts.map(post ->
-            postResponseAssembler.toDto(post, false, post.getLikeCount(), false, 0)
+            postResponseAssembler.toDto(post, false, post.getLikeCount(), false, 0, writers)
         );
     }
 
@@ -62,9 +65,10 @@ public class DiscussionService {
         Page<Post> discussionPosts = postRepository.findByCategoryAndDiscussionTopicFalseAndIsDeletedFalse(
             Post.Category.DISCUSSION, sortedPageable
         );
+        WriterProfileLoader.Batch writers = postResponseAssembler.prime(discussionPosts.getContent());
 
         return discussionPosts.map(post ->
-            postResponseAssembler.toDto(post, false, post.getLikeCount(), false, 0)
+            postResponseAssembler.toDto(post, false, post.getLikeCount(), false, 0, writers)
         );
     }
 
@@ -84,9 +88,9 @@ public class DiscussionService {
     }
 
     /**
-     * 관리자 수동 토론 주제 생성
+     * 관리자 수동 토론 주제 생성 (GPT 호출 동안 커넥션을 잡지 않도록 트랜잭션 없이 위임)
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void generateDiscussionTopicManually(User admin) {
         discussionTopicScheduler.generateDailyDiscussionTopic();
     }
@@ -10,7 +10,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -25,12 +25,15 @@ public class DiscussionTopicScheduler {
     private final NewsBasedDiscussionService newsBasedDiscussionService;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
 
     @Value("${system.password.system}")
     private String systemRawPassword;
 
+    /**
+     * 뉴스 기반 주제 생성(GPT 호출)은 트랜잭션 밖에서 수행하고, 기존 주제 비활성화와 새 주제 저장만 한 트랜잭션으로 처리
+     */
     @Scheduled(cron = "0 5 8 * * *", zone = "Asia/Seoul") // 매일 오전 8시 (한국 시간)
-    @Transactional
     public void generateDailyDiscussionTopic() {
         log.info("일일 토론 주제 생성 시작 - {}", java.time.LocalDateTime.now());
 
@@ -39,12 +42,6 @@ public class DiscussionTopicScheduler {
                 log.error("NewsBasedDiscussionService가 주입되지 않았습니다!");
                 return;
             }
-            // 기존 토론 주제 비활성화
-            deactivateOldTopics();
-
-            // 시스템 사용자 조회 (토론봇)
-            User systemUser = getSystemUser();
-
             // 새 토론 주제 생성 (뉴스 기반)
             String topicContent = generateUniqueTopicWithRetry();
             
@@ -53,16 +50,21 @@ public class DiscussionTopicScheduler {
             String title = parsed[0];
             String content = parsed[1];
 
-            // 토론 주제 게시글 생성
-            Post discussionPost = Post.builder()
-                    .title(title)
-                    .content(content)
-                    .category(Post.Category.DISCUSSION)
-                    .writer(systemUser)
-                    .build();
-            
-            discussionPost.setAsDiscussionTopic();
-            postRepository.save(discussionPost);
+            transactionTemplate.executeWithoutResult(status -> {
+                // 기존 토론 주제 비활성화
+                deactivateOldTopics();
+
+                // 토론 주제 게시글 생성 (시스템 사용자)
+                Post discussionPost = Post.builder()
+                        .title(title)
+                        .content(content)
+                        .category(Post.Category.DISCUSSION)
+                        .writer(getSystemUser())
+                        .build();
+
+                discussionPost.setAsDiscussionTopic();
+                postRepository.save(discussionPost);
+            });
 
             log.info("새로운 토론 주제 생성 완료: {} - {}", title, java.time.LocalDateTime.now());
 
@@ -0,0 +1,101 @@
+package com.byeolnight.service.file;
+
+import software.amazon.awssdk.services.cloudfront.CloudFrontUtilities;
+import software.amazon.awssdk.services.cloudfront.model.CannedSignerRequest;
+
+import java.io.ByteArrayOutputStream;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * CloudFront Canned Policy URL 서명기
+ * - Private Key는 생성 시 한 번만 파싱해 메모리에 보관 (임시 파일 미사용)
+ * - 스레드 안전하며 여러 요청에서 재사용
+ */
+public class CloudFrontUrlSigner {
+
+    /** AlgorithmIdentifier { rsaEncryption, NULL } (PKCS#1 → PKCS#8 변환용) */
+    private static final byte[] RSA_ALGORITHM_ID = {
+            0x30, 0x0d, 0x06, 0x09, 0x2a, (byte) 0x86, 0x48, (byte) 0x86,
+            (byte) 0xf7, 0x0d, 0x01, 0x01, 0x01, 0x05, 0x00
+    };
+
+    private final CloudFrontUtilities utilities = CloudFrontUtilities.create();
+    private final String cloudFrontDomain;
+    private final String keyPairId;
+    private final PrivateKey privateKey;
+
+    public CloudFrontUrlSigner(String cloudFrontDomain, String keyPairId, PrivateKey privateKey) {
+        this.cloudFrontDomain = cloudFrontDomain;
+        this.keyPairId = keyPairId;
+        this.privateKey = privateKey;
+    }
+
+    public String sign(String s3Key, Instant expiration) {
+        CannedSignerRequest signerRequest = CannedSignerRequest.builder()
+                .resourceUrl(String.format("https://%s/%s", cloudFrontDomain, s3Key))
+                .privateKey(privateKey)
+                .keyPairId(keyPairId)
+                .expirationDate(expiration)
+                .build();
+        return utilities.getSignedUrlWithCannedPolicy(signerRequest).url();
+    }
+
+    /**
+     * PEM(또는 헤더 없는 Base64) 형식의 RSA Private Key 파싱
+     * - PKCS#8 (BEGIN PRIVATE KEY), PKCS#1 (BEGIN RSA PRIVATE KEY) 모두 지원
+     */
+    public static PrivateKey parsePrivateKey(String keyContent) throws GeneralSecurityException {
+        String normalized = keyContent.replace("\\n", "\n");
+        boolean pkcs1 = normalized.contains("BEGIN RSA PRIVATE KEY");
+        String base64 = normalized
+                .replaceAll("-----(BEGIN|END)[A-Z ]*-----", "")
+                .replaceAll("\\s", "");
+
+        byte[] der;
+        try {
+            der = Base64.getDecoder().decode(base64);
+        } catch (IllegalArgumentException e) {
+            throw new GeneralSecurityException("Private Key가 올바른 Base64 형식이 아닙니다.", e);
+        }
+        if (pkcs1) {
+            der = wrapPkcs1(der);
+        }
+        return KeyFactory.getInstance("RSA").generatePrivate(new PKCS8EncodedKeySpec(der));
+    }
+
+    /**
+     * PKCS#1 RSAPrivateKey를 PKCS#8 PrivateKeyInfo로 감싸기
+     */
+    private static byte[] wrapPkcs1(byte[] pkcs1) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        body.writeBytes(new byte[]{0x02, 0x01, 0x00}); // version
+        body.writeBytes(RSA_ALGORITHM_ID);
+        body.write(0x04); // OCTET STRING
+        body.writeBytes(derLength(pkcs1.length));
+        body.writeBytes(pkcs1);
+
+        ByteArrayOutputStream info = new ByteArrayOutputStream();
+        info.write(0x30); // SEQUENCE
+        info.writeBytes(derLength(body.size()));
+        info.writeBytes(body.toByteArray());
+        return info.toByteArray();
+    }
+
+    private static byte[] derLength(int length) {
+        if (length < 0x80) {
+            return new byte[]{(byte) length};
+        }
+        int byteCount = (Integer.SIZE - Integer.numberOfLeadingZeros(length) + 7) / 8;
+        byte[] encoded = new byte[byteCount + 1];
+        encoded[0] = (byte) (0x80 | byteCount);
+        for (int i = 0; i < byteCount; i++) {
+            encoded[byteCount - i] = (byte) (length >>> (8 * i));
+        }
+        return encoded;
+    }
+}
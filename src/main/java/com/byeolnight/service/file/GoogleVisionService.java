@@ -3,6 +3,7 @@ package com.byeolnight.service.file;
 import com.byeolnight.dto.external.vision.VisionRequest;
 import com.byeolnight.dto.external.vision.VisionResponse;
 import com.byeolnight.dto.external.vision.VisionResponse.SafeSearchAnnotation;
+import com.byeolnight.infrastructure.exception.FileProcessingException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
@@ -13,7 +14,7 @@ import java.util.Base64;
 
 @Slf4j
 @Service
-public class GoogleVisionService {
+public class GoogleVisionService implements VisionClient {
     
     private RestTemplate restTemplate;
 
@@ -27,11 +28,23 @@ public class GoogleVisionService {
     
     private static final String VISION_API_URL = "https://vision.googleapis.com/v1/images:annotate";
     
+    /**
+     * 이미지 검열 (판정 불가 시 부적절로 처리)
+     */
     public boolean isImageSafe(byte[] imageBytes) {
+        try {
+            return inspect(imageBytes);
+        } catch (Exception e) {
+            return false; // 판정할 수 없으면 안전하지 않다고 판단
+        }
+    }
+
+    @Override
+    public boolean inspect(byte[] imageBytes) {
         // API 키 검증
         if (googleApiKey == null || googleApiKey.trim().isEmpty()) {
             log.error("🚫 Google API 키가 설정되지 않았습니다. 이미지 검열을 수행할 수 없습니다.");
-            return false; // API 키가 없으면 안전하지 않다고 판단
+            throw new FileProcessingException("Google API 키가 설정되지 않았습니다.");
         }
         
         try {
@@ -55,7 +68,7 @@ public class GoogleVisionService {
                 return analyzeSafeSearchResult(response.getBody());
             } else {
                 log.error("❌ Google Vision API 호출 실패 - 상태코드: {}", response.getStatusCode());
-                return false;
+                throw new FileProcessingException("Google Vision API 호출 실패: " + response.getStatusCode());
             }
             
         } catch (org.springframework.web.client.HttpClientErrorException e) {
@@ -67,10 +80,12 @@ public class GoogleVisionService {
             } else {
                 log.error("🚫 Google Vision API HTTP 오류 ({}): {}", e.getStatusCode(), e.getMessage());
             }
-            return false;
+            throw new FileProcessingException("Google Vision API 오류: " + e.getStatusCode(), e);
+        } catch (FileProcessingException e) {
+            throw e;
         } catch (Exception e) {
             log.error("🚫 이미지 검열 중 예상치 못한 오류 발생", e);
-            return false;
+            throw new FileProcessingException("이미지 검열 중 오류가 발생했습니다.", e);
         }
     }
     
@@ -0,0 +1,163 @@
+package com.byeolnight.service.file;
+
+import com.byeolnight.dto.file.ImageModerationJob;
+import com.byeolnight.dto.file.ModerationResultDto;
+import com.byeolnight.entity.file.File;
+import com.byeolnight.entity.file.ModerationStatus;
+import com.byeolnight.infrastructure.cache.RedissonCacheService;
+import com.byeolnight.infrastructure.exception.FileProcessingException;
+import com.byeolnight.repository.file.FileRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+
+/**
+ * 업로드 이미지 비동기 검열 서비스
+ *
+ * 플로우:
+ * 1. 업로드 완료 후 검열 요청 → Redis 큐에 적재하고 즉시 "pending" 응답
+ * 2. ImageModerationWorker가 S3에서 이미지를 스트리밍으로 읽어(최대 10MB) SHA-256 계산
+ * 3. 같은 해시의 검열 결과가 캐시에 있으면 재사용, 없으면 Vision API 호출
+ * 4. File.moderationStatus를 APPROVED/REJECTED로 갱신 (REJECTED는 S3 객체 삭제)
+ * 5. 프론트엔드는 moderation-status로 결과를 폴링
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageModerationService {
+
+    public static final String QUEUE = "queue:image-moderation";
+    static final String VERDICT_CACHE = "image-moderation:verdicts";
+    static final int MAX_IMAGE_BYTES = 10 * 1024 * 1024;
+    private static final Duration VERDICT_TTL = Duration.ofDays(30);
+
+    private final FileRepository fileRepository;
+    private final RedissonCacheService cacheService;
+    private final S3Service s3Service;
+    private final S3DeletionQueue s3DeletionQueue;
+    private final VisionClient visionClient;
+
+    /**
+     * 검열 요청 (큐 적재만 하고 즉시 반환)
+     */
+    public ModerationResultDto requestModeration(String s3Key) {
+        File file = fileRepository.findByS3Key(s3Key)
+                .orElseThrow(() -> new IllegalArgumentException("업로드된 파일을 찾을 수 없습니다."));
+
+        if (file.getModerationStatus() == ModerationStatus.APPROVED || file.getModerationStatus() == ModerationStatus.REJECTED) {
+            return toResult(file.getModerationStatus());
+        }
+        cacheService.enqueue(QUEUE, ImageModerationJob.of(s3Key));
+        log.info("이미지 검열 요청 적재: s3Key={}", s3Key);
+        return ModerationResultDto.pending("이미지 검열이 진행 중입니다.");
+    }
+
+    /**
+     * 검열 결과 조회 (폴링용)
+     */
+    @Transactional(readOnly = true)
+    public ModerationResultDto getResult(String s3Key) {
+        return fileRepository.findByS3Key(s3Key)
+                .map(file -> toResult(file.getModerationStatus()))
+                .orElseGet(() -> ModerationResultDto.completed(false, "이미지를 찾을 수 없습니다."));
+    }
+
+    /**
+     * 이미지 판정 (워커 스레드에서 호출)
+     * - 해시 캐시 적중 시 Vision API를 호출하지 않음
+     * - 판정할 수 없으면 예외 (재시도 대상)
+     */
+    public Verdict inspect(String s3Key) {
+        byte[] imageBytes;
+        try {
+            imageBytes = readImage(s3Key);
+        } catch (ImageTooLargeException e) {
+            log.warn("이미지 크기 초과로 검열 거부: s3Key={}", s3Key);
+            return new Verdict(null, false);
+        }
+
+        String contentHash = sha256(imageBytes);
+        Boolean cached = cacheService.getFromMap(VERDICT_CACHE, contentHash);
+        if (cached != null) {
+            log.debug("이미지 검열 캐시 적중: s3Key={}, hash={}", s3Key, contentHash);
+            return new Verdict(contentHash, cached);
+        }
+
+        boolean safe = visionClient.inspect(imageBytes);
+        cacheService.putToMap(VERDICT_CACHE, contentHash, safe, VERDICT_TTL);
+        return new Verdict(contentHash, safe);
+    }
+
+    /**
+     * 판정 결과 반영 (부적절하면 S3 객체 삭제 예약)
+     */
+    @Transactional
+    public void applyVerdict(String s3Key, Verdict verdict) {
+        fileRepository.findByS3Key(s3Key).ifPresent(file -> {
+            if (verdict.safe()) {
+                file.approveModeration(verdict.contentHash());
+            } else {
+                file.rejectModeration(verdict.contentHash());
+            }
+        });
+        if (!verdict.safe()) {
+            s3DeletionQueue.enqueue(s3Key);
+        }
+        log.info("이미지 검열 완료: s3Key={} -> {}", s3Key, verdict.safe() ? "안전" : "부적절");
+    }
+
+    private byte[] readImage(String s3Key) {
+        try (ResponseInputStream<GetObjectResponse> in = s3Service.openObject(s3Key)) {
+            Long contentLength = in.response().contentLength();
+            if (contentLength != null && contentLength > MAX_IMAGE_BYTES) {
+                in.abort();
+                throw new ImageTooLargeException();
+            }
+            byte[] bytes = in.readNBytes(MAX_IMAGE_BYTES + 1);
+            if (bytes.length > MAX_IMAGE_BYTES) {
+                in.abort();
+                throw new ImageTooLargeException();
+            }
+            return bytes;
+        } catch (IOException e) {
+            throw new FileProcessingException("이미지를 읽을 수 없습니다: " + s3Key, e);
+        }
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static ModerationResultDto toResult(ModerationStatus status) {
+        // 상태가 없으면(검열 도입 이전/검열 요청 전 파일) 통과로 보지 않고 검열 대기로 응답
+        if (status == ModerationStatus.APPROVED) {
+            return ModerationResultDto.completed(true, "이미지 검증이 완료되었습니다.");
+        }
+        if (status == ModerationStatus.REJECTED) {
+            return ModerationResultDto.completed(false, "부적절한 이미지가 감지되어 삭제되었습니다.");
+        }
+        return ModerationResultDto.pending("이미지 검열이 진행 중입니다.");
+    }
+
+    /**
+     * @param contentHash 이미지 SHA-256 (크기 초과로 읽지 않은 경우 null)
+     */
+    public record Verdict(String contentHash, boolean safe) {
+    }
+
+    private static class ImageTooLargeException extends RuntimeException {
+    }
+}
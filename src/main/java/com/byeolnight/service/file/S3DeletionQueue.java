@@ -0,0 +1,65 @@
+package com.byeolnight.service.file;
+
+import com.byeolnight.dto.file.S3DeleteJob;
+import com.byeolnight.infrastructure.cache.RedissonCacheService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * S3 객체 비동기 삭제 요청 큐
+ * - 요청 스레드에서 S3를 직접 호출하지 않고 삭제할 키만 Redis 큐에 적재
+ * - 트랜잭션 안에서 호출되면 커밋 이후에 적재 (롤백 시 파일 유지)
+ * - 실제 삭제는 S3DeletionWorker가 DeleteObjects로 일괄 처리
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class S3DeletionQueue {
+
+    public static final String QUEUE = "queue:s3-delete";
+    public static final String DLQ = "queue:s3-delete:dlq";
+
+    private final RedissonCacheService cacheService;
+
+    public void enqueue(String s3Key) {
+        enqueue(List.of(s3Key));
+    }
+
+    public void enqueue(Collection<String> s3Keys) {
+        List<S3DeleteJob> jobs = s3Keys.stream()
+                .filter(key -> key != null && !key.isBlank())
+                .distinct()
+                .map(S3DeleteJob::of)
+                .toList();
+        if (jobs.isEmpty()) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    push(jobs);
+                }
+            });
+        } else {
+            push(jobs);
+        }
+    }
+
+    private void push(List<S3DeleteJob> jobs) {
+        try {
+            cacheService.enqueueAll(QUEUE, jobs);
+            log.debug("S3 삭제 작업 적재: {}개", jobs.size());
+        } catch (Exception e) {
+            // 적재 실패한 키는 PENDING 고아 파일 정리 대상이 아니므로 로그로 추적
+            log.error("S3 삭제 작업 적재 실패: keys={}", jobs.stream().map(S3DeleteJob::getS3Key).toList(), e);
+        }
+    }
+}
@@ -13,9 +13,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
-import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
-import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
@@ -27,9 +25,12 @@ import com.byeolnight.dto.file.PresignedUrlResponseDto;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 /**
  * AWS S3 파일 업로드/관리 핵심 서비스
@@ -41,7 +42,8 @@ import java.util.stream.Collectors;
  * 주요 기능:
  * - Presigned URL 생성 (10분 유효)
  * - Google Vision API 이미지 검열
- * - 고아 파일 자동 정리
+ * - 고아 파일 자동 정리 (DeleteObjects 일괄 삭제)
+ * - S3Client/S3Presigner는 S3Config의 공유 빈 사용 (요청마다 생성하지 않음)
  * - S3 연결 상태 모니터링
  * 
  * @author byeolnight
@@ -56,20 +58,29 @@ public class S3Service {
     private final CommentRepository commentRepository;
     private final FileRepository fileRepository;
     private final SecurityProperties securityProperties;
+    private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
 
     @Autowired
     public S3Service(GoogleVisionService googleVisionService,
                     @Lazy PostRepository postRepository,
                     @Lazy CommentRepository commentRepository,
                     @Lazy FileRepository fileRepository,
-                    SecurityProperties securityProperties) {
+                    SecurityProperties securityProperties,
+                    S3Client s3Client,
+                    S3Presigner s3Presigner) {
         this.googleVisionService = googleVisionService;
         this.postRepository = postRepository;
         this.commentRepository = commentRepository;
         this.fileRepository = fileRepository;
         this.securityProperties = securityProperties;
+        this.s3Client = s3Client;
+        this.s3Presigner = s3Presigner;
     }
 
+    /** DeleteObjects API 한 번에 삭제 가능한 최대 키 수 */
+    public static final int MAX_DELETE_BATCH = 1000;
+
     @Value("${cloud.aws.s3.bucket}")
     private String bucketName;
     
@@ -120,12 +131,6 @@ public class S3Service {
             throw new IllegalArgumentException("지원하지 않는 파일 형식입니다. (jpg, jpeg, png, gif, webp, svg, bmp 형식만 허용)");
         }
         try {
-            AwsBasicCredentials credentials = AwsBasicCredentials.create(getAccessKey(), getSecretKey());
-            S3Presigner presigner = S3Presigner.builder()
-                    .region(Region.of(getRegion()))
-                    .credentialsProvider(StaticCredentialsProvider.create(credentials))
-                    .build();
-
             String s3Key = generateS3Key(originalFilename);
             String contentType = contentTypeParam != null ? contentTypeParam : getContentType(originalFilename);
 
@@ -138,7 +143,7 @@ public class S3Service {
                     )
                     .build();
 
-            PresignedPutObjectRequest presignedRequest = presigner.presignPutObject(presignRequest);
+            PresignedPutObjectRequest presignedRequest = s3Presigner.presignPutObject(presignRequest);
             String presignedUrl = presignedRequest.url().toString();
 
             // CloudFront URL 사용 (S3 직접 접근 차단으로 인한 AccessDenied 방지)
@@ -169,7 +174,6 @@ public class S3Service {
      */
     public void deleteObject(String s3Key) {
         try {
-            S3Client s3Client = createS3Client();
             s3Client.deleteObject(builder -> builder
                     .bucket(getBucketName())
                     .key(s3Key)
@@ -180,6 +184,57 @@ public class S3Service {
         }
     }
 
+    /**
+     * S3 객체 스트림 열기 (호출 측에서 close 필요)
+     *
+     * @param s3Key S3 객체 키
+     */
+    public ResponseInputStream<GetObjectResponse> openObject(String s3Key) {
+        return s3Client.getObject(builder -> builder
+                .bucket(getBucketName())
+                .key(s3Key)
+        );
+    }
+
+    /**
+     * S3 객체 일괄 삭제 (DeleteObjects, 호출당 최대 1000개)
+     *
+     * @param s3Keys 삭제할 S3 객체 키 목록
+     * @return 삭제에 실패한 키 목록 (재시도 대상)
+     */
+    public List<String> deleteObjects(Collection<String> s3Keys) {
+        List<String> keys = s3Keys.stream()
+                .filter(key -> key != null && !key.isBlank())
+                .distinct()
+                .toList();
+        List<String> failedKeys = new ArrayList<>();
+
+        for (int from = 0; from < keys.size(); from += MAX_DELETE_BATCH) {
+            List<String> batch = keys.subList(from, Math.min(from + MAX_DELETE_BATCH, keys.size()));
+            try {
+                DeleteObjectsResponse response = s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                        .bucket(getBucketName())
+                        .delete(Delete.builder()
+                                .objects(batch.stream()
+                                        .map(key -> ObjectIdentifier.builder().key(key).build())
+                                        .toList())
+                                .quiet(true) // 실패한 키만 응답
+                                .build())
+                        .build());
+
+                response.errors().forEach(error -> {
+                    log.warn("S3 객체 삭제 실패: key={}, code={}, message={}", error.key(), error.code(), error.message());
+                    failedKeys.add(error.key());
+                });
+                log.info("S3 객체 일괄 삭제 완료: 요청 {}개, 실패 {}개", batch.size(), response.errors().size());
+            } catch (Exception e) {
+                log.error("S3 객체 일괄 삭제 요청 실패: {}개", batch.size(), e);
+                failedKeys.addAll(batch);
+            }
+        }
+        return failedKeys;
+    }
+
     /**
      * 업로드된 이미지 검열 (Google Vision API)
      * 
@@ -233,26 +288,13 @@ public class S3Service {
                 return 0;
             }
 
-            S3Client s3Client = createS3Client();
-            int deletedCount = 0;
-
-            for (File orphanFile : orphanFiles) {
-                try {
-                    // S3에서 파일 삭제
-                    s3Client.deleteObject(DeleteObjectRequest.builder()
-                            .bucket(getBucketName())
-                            .key(orphanFile.getS3Key())
-                            .build());
-
-                    // DB에서 파일 레코드 삭제
-                    fileRepository.delete(orphanFile);
-
-                    deletedCount++;
-                    log.info("🗑️ 고아 이미지 삭제: {} (id={})", orphanFile.getS3Key(), orphanFile.getId());
-                } catch (Exception e) {
-                    log.error("삭제 실패: {} (id={})", orphanFile.getS3Key(), orphanFile.getId(), e);
-                }
-            }
+            // S3 일괄 삭제 후 성공한 파일만 DB에서 제거
+            Set<String> failedKeys = new HashSet<>(deleteObjects(orphanFiles.stream().map(File::getS3Key).toList()));
+            List<File> deletedFiles = orphanFiles.stream()
+                    .filter(file -> !failedKeys.contains(file.getS3Key()))
+                    .toList();
+            fileRepository.deleteAllInBatch(deletedFiles);
+            int deletedCount = deletedFiles.size();
 
             log.info("고아 이미지 정리 완료: {}개 삭제", deletedCount);
             return deletedCount;
@@ -320,9 +362,7 @@ public class S3Service {
                         .build();
             }
             
-            // S3 클라이언트로 실제 연결 테스트
-            S3Client s3Client = createS3Client();
-            
+            // 공유 S3 클라이언트로 실제 연결 테스트
             // 버킷 존재 여부 확인
             try {
                 HeadBucketRequest headBucketRequest = HeadBucketRequest.builder()
@@ -401,24 +441,6 @@ public class S3Service {
         return statusBuilder.build();
     }
 
-    /**
-     * S3 클라이언트 생성
-     * 
-     * @return 설정된 자격 증명과 리전으로 생성된 S3 클라이언트
-     */
-    private S3Client createS3Client() {
-        try {
-            AwsBasicCredentials credentials = AwsBasicCredentials.create(getAccessKey(), getSecretKey());
-            return S3Client.builder()
-                    .region(Region.of(getRegion()))
-                    .credentialsProvider(StaticCredentialsProvider.create(credentials))
-                    .build();
-        } catch (Exception e) {
-            log.error("S3 클라이언트 생성 실패", e);
-            throw new FileProcessingException("S3 연결에 실패했습니다: " + e.getMessage(), e);
-        }
-    }
-
     private String generateS3Key(String originalFilename) {
         String extension = "";
         int lastDotIndex = originalFilename.lastIndexOf('.');
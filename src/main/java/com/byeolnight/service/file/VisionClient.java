@@ -0,0 +1,15 @@
+package com.byeolnight.service.file;
+
+/**
+ * 이미지 안전성 판정 클라이언트
+ * - 운영: GoogleVisionService (Google Vision SafeSearch)
+ * - 테스트: 로컬 스텁 구현으로 대체
+ */
+public interface VisionClient {
+
+    /**
+     * @return true: 안전한 이미지, false: 부적절한 이미지
+     * @throws RuntimeException 판정할 수 없는 경우 (API 키 누락, 호출 실패 등)
+     */
+    boolean inspect(byte[] imageBytes);
+}
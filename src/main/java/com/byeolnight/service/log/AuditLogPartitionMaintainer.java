@@ -0,0 +1,148 @@
+package com.byeolnight.service.log;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 감사 로그 월 파티션 관리 (MySQL RANGE 파티션)
+ * - 파티션 전환은 db/audit-log-partitioning.sql로 1회 수동 적용, 파티션이 없는 테이블(H2 포함)은 건너뜀
+ * - Redisson 분산락으로 여러 노드 중 하나만 ALTER TABLE 실행 (동시 REORGANIZE/DROP 방지)
+ * - 앞으로 2개월치 파티션을 pmax에서 분할해 미리 생성
+ * - 상한이 보존기간 이전인 파티션은 DELETE 대신 DROP PARTITION으로 즉시 제거
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuditLogPartitionMaintainer {
+
+    static final List<String> TABLES = List.of("audit_login_log", "audit_refresh_token_log", "audit_signup_log");
+
+    private static final String MAX_PARTITION = "pmax";
+    private static final int MONTHS_AHEAD = 2;
+    private static final long TO_DAYS_EPOCH_OFFSET = 719_528L; // MySQL TO_DAYS('1970-01-01')
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+    private static final String LOCK_KEY = "lock:audit-log-partition";
+    private static final long LOCK_LEASE_MINUTES = 30;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RedissonClient redissonClient;
+
+    @Value("${audit.log.retention-days:365}")
+    private int retentionDays;
+
+    record Partition(String name, Long lessThanDays) {
+
+        boolean isMax() {
+            return lessThanDays == null;
+        }
+    }
+
+    /**
+     * 파티션 추가/만료 파티션 삭제 (다른 노드가 실행 중이면 건너뜀)
+     */
+    public void maintain(LocalDate today) {
+        RLock lock = redissonClient.getLock(LOCK_KEY);
+
+        boolean acquired;
+        try {
+            acquired = lock.tryLock(0, LOCK_LEASE_MINUTES, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        if (!acquired) {
+            log.info("감사 로그 파티션 관리 건너뜀 (다른 노드 실행 중)");
+            return;
+        }
+
+        try {
+            maintainTables(today);
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void maintainTables(LocalDate today) {
+        for (String table : TABLES) {
+            try {
+                List<Partition> partitions = findPartitions(table);
+                if (partitions.isEmpty()) {
+                    continue;
+                }
+                addUpcomingPartitions(table, partitions, today);
+                dropExpiredPartitions(table, partitions, today.minusDays(retentionDays));
+            } catch (DataAccessException e) {
+                log.warn("감사 로그 파티션 관리 건너뜀: table={}, reason={}", table, e.getMessage());
+            }
+        }
+    }
+
+    private List<Partition> findPartitions(String table) {
+        return jdbcTemplate.query("""
+                SELECT PARTITION_NAME, PARTITION_DESCRIPTION FROM information_schema.PARTITIONS
+                WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL
+                ORDER BY PARTITION_ORDINAL_POSITION
+                """,
+                (rs, rowNum) -> {
+                    String description = rs.getString(2);
+                    Long lessThan = "MAXVALUE".equalsIgnoreCase(description) ? null : Long.parseLong(description);
+                    return new Partition(rs.getString(1), lessThan);
+                },
+                table);
+    }
+
+    private void addUpcomingPartitions(String table, List<Partition> partitions, LocalDate today) {
+        if (partitions.stream().noneMatch(p -> MAX_PARTITION.equals(p.name()))) {
+            log.warn("감사 로그 파티션 추가 불가 (pmax 없음): table={}", table);
+            return;
+        }
+        long lastBound = partitions.stream()
+                .filter(p -> !p.isMax())
+                .mapToLong(Partition::lessThanDays)
+                .max()
+                .orElse(toDays(YearMonth.from(today).atDay(1)));
+
+        YearMonth target = YearMonth.from(today).plusMonths(MONTHS_AHEAD);
+        YearMonth month = YearMonth.from(fromDays(lastBound));
+        while (!month.isAfter(target)) {
+            LocalDate upper = month.plusMonths(1).atDay(1);
+            jdbcTemplate.execute("ALTER TABLE " + table + " REORGANIZE PARTITION " + MAX_PARTITION + " INTO ("
+                    + "PARTITION " + month.format(PARTITION_NAME) + " VALUES LESS THAN (" + toDays(upper) + "), "
+                    + "PARTITION " + MAX_PARTITION + " VALUES LESS THAN MAXVALUE)");
+            log.info("감사 로그 파티션 추가: table={}, partition={}", table, month.format(PARTITION_NAME));
+            month = month.plusMonths(1);
+        }
+    }
+
+    private void dropExpiredPartitions(String table, List<Partition> partitions, LocalDate threshold) {
+        long thresholdDays = toDays(threshold);
+        for (Partition partition : partitions) {
+            if (!partition.isMax() && partition.lessThanDays() <= thresholdDays) {
+                jdbcTemplate.execute("ALTER TABLE " + table + " DROP PARTITION " + partition.name());
+                log.info("감사 로그 만료 파티션 삭제: table={}, partition={}", table, partition.name());
+            }
+        }
+    }
+
+    static long toDays(LocalDate date) {
+        return date.toEpochDay() + TO_DAYS_EPOCH_OFFSET;
+    }
+
+    static LocalDate fromDays(long days) {
+        return LocalDate.ofEpochDay(days - TO_DAYS_EPOCH_OFFSET);
+    }
+}
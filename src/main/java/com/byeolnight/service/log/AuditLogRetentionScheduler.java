@@ -0,0 +1,39 @@
+package com.byeolnight.service.log;
+
+import com.byeolnight.service.retention.AuditLoginLogRetentionPolicy;
+import com.byeolnight.service.retention.AuditRefreshTokenLogRetentionPolicy;
+import com.byeolnight.service.retention.AuditSignupLogRetentionPolicy;
+import com.byeolnight.service.retention.RetentionExecutor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuditLogRetentionScheduler {
+
+    private final AuditLogPartitionMaintainer partitionMaintainer;
+    private final RetentionExecutor retentionExecutor;
+    private final AuditLoginLogRetentionPolicy auditLoginLogRetentionPolicy;
+    private final AuditRefreshTokenLogRetentionPolicy auditRefreshTokenLogRetentionPolicy;
+    private final AuditSignupLogRetentionPolicy auditSignupLogRetentionPolicy;
+
+    @Scheduled(cron = "0 30 4 * * *") // 매일 새벽 4시 30분
+    public void cleanupAuditLogs() {
+        log.info("감사 로그 보존기간 정리 작업 시작");
+
+        try {
+            // 파티션 테이블은 만료 파티션 DROP + 다음 달 파티션 생성 → 남은 행은 청크 단위 일괄 삭제
+            partitionMaintainer.maintain(LocalDate.now());
+            retentionExecutor.execute(auditLoginLogRetentionPolicy);
+            retentionExecutor.execute(auditRefreshTokenLogRetentionPolicy);
+            retentionExecutor.execute(auditSignupLogRetentionPolicy);
+        } catch (Exception e) {
+            log.error("감사 로그 정리 작업 중 오류 발생", e);
+        }
+    }
+}
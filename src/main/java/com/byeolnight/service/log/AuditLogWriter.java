@@ -0,0 +1,170 @@
+package com.byeolnight.service.log;
+
+import com.byeolnight.dto.log.AuditLogJob;
+import com.byeolnight.repository.log.AuditLogBatchRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 로그인/토큰 재발급/가입 감사 로그 비동기 배치 기록기
+ * - 인증 요청 스레드는 고정 크기 버퍼에 넣기만 함 (DB 트랜잭션 없음)
+ * - 주기마다 최대 batch-size건씩 꺼내 테이블별 JDBC 배치 INSERT (밀려 있으면 같은 주기에 연속 처리)
+ * - 버퍼에 batch-size건이 쌓이면 주기를 기다리지 않고 스케줄러 스레드에서 바로 비움
+ * - 배치 INSERT가 실패하면 다음 비우기에서 한 번 더 시도하고, 다시 실패하면 버리고 audit.log.failed로 집계
+ * - 버퍼가 가득 차면 버리고 audit.log.dropped로 집계, 종료 시 남은 로그를 모두 기록
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuditLogWriter {
+
+    private final AuditLogBatchRepository auditLogBatchRepository;
+    private final MeterRegistry meterRegistry;
+    private final TaskScheduler taskScheduler;
+
+    @Value("${audit.log.buffer-capacity:10000}")
+    private int bufferCapacity;
+
+    @Value("${audit.log.batch-size:500}")
+    private int batchSize;
+
+    private final ReentrantLock flushLock = new ReentrantLock(); // 주기 실행과 종료 시 flush 직렬화 (JDBC 중 캐리어 고정 방지)
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final Queue<FailedBatch> retries = new ConcurrentLinkedQueue<>();
+    private BlockingQueue<AuditLogJob> buffer;
+
+    private record FailedBatch(AuditLogJob.Type type, List<AuditLogJob> jobs) {
+    }
+
+    @PostConstruct
+    public void init() {
+        buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        Gauge.builder("audit.log.buffer.size", buffer, BlockingQueue::size).register(meterRegistry);
+    }
+
+    public void login(String email, String ipAddress, String userAgent) {
+        offer(AuditLogJob.login(email, ipAddress, userAgent));
+    }
+
+    public void refresh(String email, String ipAddress, String userAgent) {
+        offer(AuditLogJob.refresh(email, ipAddress, userAgent));
+    }
+
+    public void signupSuccess(String email, String ipAddress) {
+        offer(AuditLogJob.signupSuccess(email, ipAddress));
+    }
+
+    public void signupFailure(String email, String ipAddress, String reason) {
+        offer(AuditLogJob.signupFailure(email, ipAddress, reason));
+    }
+
+    private void offer(AuditLogJob job) {
+        if (!buffer.offer(job)) {
+            meterRegistry.counter("audit.log.dropped", "type", job.type().name()).increment();
+            log.warn("감사 로그 버퍼 초과로 누락: type={}, email={}", job.type(), job.email());
+            return;
+        }
+        if (buffer.size() >= batchSize && flushScheduled.compareAndSet(false, true)) {
+            try {
+                taskScheduler.schedule(this::flush, Instant.now());
+            } catch (TaskRejectedException e) {
+                flushScheduled.set(false); // 종료 중이면 주기/종료 시 flush가 처리
+            }
+        }
+    }
+
+    /**
+     * 주기마다 버퍼 비우기 (기본 500ms, batch-size건이 쌓이면 즉시)
+     */
+    @Scheduled(fixedDelayString = "${audit.log.flush-interval-ms:500}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushScheduled.set(false);
+            retryFailed();
+            List<AuditLogJob> batch = new ArrayList<>(batchSize);
+            while (buffer.drainTo(batch, batchSize) > 0) {
+                write(batch);
+                if (batch.size() < batchSize) {
+                    return;
+                }
+                batch.clear();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+        flushLock.lock();
+        try {
+            retryFailed(); // 마지막 flush에서 실패한 배치의 재시도 기회
+        } finally {
+            flushLock.unlock();
+        }
+        log.info("감사 로그 기록기 종료 - 남은 로그 기록 완료");
+    }
+
+    private void write(List<AuditLogJob> batch) {
+        Map<AuditLogJob.Type, List<AuditLogJob>> byType = batch.stream()
+                .collect(Collectors.groupingBy(AuditLogJob::type));
+        byType.forEach((type, jobs) -> insert(type, jobs, true));
+    }
+
+    private void retryFailed() {
+        FailedBatch failed;
+        while ((failed = retries.poll()) != null) {
+            insert(failed.type(), failed.jobs(), false);
+        }
+    }
+
+    private void insert(AuditLogJob.Type type, List<AuditLogJob> jobs, boolean retryOnFailure) {
+        try {
+            inserter(type).accept(jobs);
+            meterRegistry.counter("audit.log.written", "type", type.name()).increment(jobs.size());
+        } catch (Exception e) {
+            if (retryOnFailure) {
+                // 일시 장애(커넥션 획득 실패 등)는 다음 비우기에서 한 번 더 시도
+                retries.add(new FailedBatch(type, List.copyOf(jobs)));
+                meterRegistry.counter("audit.log.retried", "type", type.name()).increment(jobs.size());
+                log.warn("감사 로그 배치 기록 실패, 다음 주기에 재시도: type={}, size={}, error={}", type, jobs.size(), e.getMessage());
+                return;
+            }
+            // 감사 로그 실패가 버퍼를 막지 않도록 건너뛰고 집계만 남김
+            meterRegistry.counter("audit.log.failed", "type", type.name()).increment(jobs.size());
+            log.error("감사 로그 배치 기록 실패: type={}, size={}", type, jobs.size(), e);
+        }
+    }
+
+    private Consumer<List<AuditLogJob>> inserter(AuditLogJob.Type type) {
+        return switch (type) {
+            case LOGIN -> auditLogBatchRepository::batchInsertLogins;
+            case REFRESH -> auditLogBatchRepository::batchInsertRefreshes;
+            case SIGNUP -> auditLogBatchRepository::batchInsertSignups;
+        };
+    }
+}
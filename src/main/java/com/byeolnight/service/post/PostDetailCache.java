@@ -0,0 +1,207 @@
+package com.byeolnight.service.post;
+
+import com.byeolnight.dto.post.PostResponseDto;
+import com.byeolnight.event.CommentChangedEvent;
+import com.byeolnight.event.CommentCreatedEvent;
+import com.byeolnight.event.PostChangedEvent;
+import com.byeolnight.event.PostLikedEvent;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 게시글 상세 로컬 캐시 (Caffeine)
+ * - 작성자 표시 정보/첨부 파일/추천·댓글 수까지 조립된 불변 스냅샷 보관 (likedByMe는 항상 false로 저장)
+ * - 수정/삭제/블라인드: 커밋 직후 로컬 무효화 + Redis 토픽으로 다른 노드 무효화
+ * - 추천/댓글 수 변경: 1초 단위로 모아 한 번에 무효화 (인기 게시글이 매 추천마다 재조립되지 않도록)
+ * - 히트율: cache.gets{cache=post.detail, result=hit|miss}
+ * - 조립은 캐시 맵 잠금 밖에서 수행 (동기 Cache.get의 compute 안에서 DB를 읽으면 가상 스레드가 캐리어에 고정됨)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostDetailCache {
+
+    static final String CACHE_NAME = "post.detail";
+    static final String INVALIDATION_TOPIC = "topic:post-detail:invalidate";
+
+    private final RedissonClient redissonClient;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${post.detail-cache.max-size:5000}")
+    private long maxSize;
+
+    @Value("${post.detail-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    private final Set<Long> pendingCountChanges = ConcurrentHashMap.newKeySet();
+
+    private AsyncCache<Long, Entry> cache;
+    private RTopic topic;
+    private Integer listenerId;
+
+    /**
+     * 캐시된 스냅샷 + 스냅샷 적재 이후 이 노드에서 발생한 조회수
+     */
+    public static final class Entry {
+        private final PostResponseDto post;
+        private final LongAdder viewsSinceLoad = new LongAdder();
+
+        Entry(PostResponseDto post) {
+            this.post = post;
+        }
+
+        public PostResponseDto post() {
+            return post;
+        }
+
+        /**
+         * 조회 1회 기록 후 화면에 표시할 조회수 반환
+         */
+        public long recordView() {
+            viewsSinceLoad.increment();
+            return post.getViewCount() + viewsSinceLoad.sum();
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), CACHE_NAME);
+
+        try {
+            topic = redissonClient.getTopic(INVALIDATION_TOPIC);
+            listenerId = topic.addListener(List.class, (channel, postIds) -> invalidateLocal(postIds));
+        } catch (Exception e) {
+            // 구독 실패 시 다른 노드 변경은 TTL 만료로 반영
+            log.warn("게시글 상세 캐시 무효화 토픽 구독 실패", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (topic != null && listenerId != null) {
+            try {
+                topic.removeListener(listenerId);
+            } catch (Exception e) {
+                log.debug("게시글 상세 캐시 무효화 토픽 구독 해제 실패", e);
+            }
+        }
+    }
+
+    /**
+     * 스냅샷 조회 (없으면 loader로 조립, 같은 게시글 동시 미스는 한 번만 조립)
+     */
+    public Entry get(Long postId, Function<Long, PostResponseDto> loader) {
+        CompletableFuture<Entry> cached = cache.getIfPresent(postId);
+        if (cached == null) {
+            CompletableFuture<Entry> loading = new CompletableFuture<>();
+            cached = cache.asMap().putIfAbsent(postId, loading);
+            if (cached == null) {
+                return load(postId, loader, loading);
+            }
+        }
+        try {
+            return cached.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.postId() != null) {
+            invalidate(List.of(event.postId()));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostLiked(PostLikedEvent event) {
+        markCountsChanged(event.postId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCommentCreated(CommentCreatedEvent event) {
+        markCountsChanged(event.postId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCommentChanged(CommentChangedEvent event) {
+        markCountsChanged(event.postId());
+    }
+
+    /**
+     * 1초마다 추천/댓글 수가 바뀐 게시글 일괄 무효화
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void flushCountChanges() {
+        if (pendingCountChanges.isEmpty()) {
+            return;
+        }
+        List<Long> postIds = new ArrayList<>(pendingCountChanges);
+        pendingCountChanges.removeAll(postIds);
+        invalidate(postIds);
+    }
+
+    /**
+     * 선점한 자리에서 호출 스레드가 직접 조립 (실패하면 Caffeine이 완료된 future를 제거 → 다음 요청이 다시 조립)
+     */
+    private Entry load(Long postId, Function<Long, PostResponseDto> loader, CompletableFuture<Entry> loading) {
+        try {
+            Entry entry = new Entry(loader.apply(postId));
+            loading.complete(entry);
+            return entry;
+        } catch (RuntimeException e) {
+            loading.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private void markCountsChanged(Long postId) {
+        if (postId != null) {
+            pendingCountChanges.add(postId);
+        }
+    }
+
+    private void invalidate(List<Long> postIds) {
+        cache.synchronous().invalidateAll(postIds);
+        if (topic == null) {
+            return;
+        }
+        try {
+            topic.publish(new ArrayList<>(postIds));
+        } catch (Exception e) {
+            log.warn("게시글 상세 캐시 무효화 전파 실패: postIds={}", postIds, e);
+        }
+    }
+
+    private void invalidateLocal(List<?> postIds) {
+        postIds.forEach(id -> cache.synchronous().invalidate(((Number) id).longValue()));
+    }
+}
@@ -0,0 +1,113 @@
+package com.byeolnight.service.post;
+
+import com.byeolnight.event.PostLikedEvent;
+import com.byeolnight.repository.post.PostLikeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사용자별 추천 게시글 Redis 집합
+ * - 게시글 상세의 likedByMe 판정을 DB 조회 없이 처리
+ * - 적재 여부는 집합 존재가 아니라 마커로 판단: 최초 조회 시 DB 목록 + 마커를 스크립트 한 번으로 합쳐 넣음
+ * - 추천 커밋 시에는 적재 여부와 관계없이 추가 → DB 조회와 적재 사이에 커밋된 추천도 빠지지 않음 (추천 취소 기능은 없음)
+ * - Redis 장애 시 DB 조회로 대체
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostLikeIndex {
+
+    private static final String LIKED_PREFIX = "post:liked:";
+    private static final String LOADED_MARKER = "_";
+    private static final Duration LIKED_TTL = Duration.ofDays(1);
+
+    // 적재 전이면 -1, 적재 후면 포함 여부(0/1) (ARGV: 마커, 대상)
+    private static final String CHECK_SCRIPT = """
+        if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 0 then
+            return -1
+        end
+        return redis.call('SISMEMBER', KEYS[1], ARGV[2])
+        """;
+
+    // 마커 + DB 목록을 합쳐 넣고 포함 여부 반환 (ARGV: 대상, TTL(ms), 마커, 추천 목록...)
+    // unpack은 Lua 스택 한도(약 8천 개)를 넘으면 실패하므로 청크 단위로 SADD
+    private static final String LOAD_SCRIPT = """
+        for i = 3, #ARGV, 1000 do
+            redis.call('SADD', KEYS[1], unpack(ARGV, i, math.min(i + 999, #ARGV)))
+        end
+        redis.call('PEXPIRE', KEYS[1], ARGV[2])
+        return redis.call('SISMEMBER', KEYS[1], ARGV[1])
+        """;
+
+    // 적재 전 집합에 먼저 들어간 항목도 TTL로 정리되도록 만료가 없을 때만 설정 (ARGV: 대상, TTL(ms))
+    private static final String ADD_SCRIPT = """
+        redis.call('SADD', KEYS[1], ARGV[1])
+        if redis.call('PTTL', KEYS[1]) < 0 then
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+        end
+        return 0
+        """;
+
+    private final RedissonClient redissonClient;
+    private final PostLikeRepository postLikeRepository;
+
+    public boolean isLiked(Long userId, Long postId) {
+        try {
+            String key = LIKED_PREFIX + userId;
+            Long cached = script().eval(RScript.Mode.READ_ONLY, CHECK_SCRIPT, RScript.ReturnType.INTEGER,
+                    List.of(key), LOADED_MARKER, String.valueOf(postId));
+            if (cached != null && cached >= 0) {
+                return cached == 1L;
+            }
+            List<Object> args = new ArrayList<>();
+            args.add(String.valueOf(postId));
+            args.add(String.valueOf(LIKED_TTL.toMillis()));
+            args.add(LOADED_MARKER);
+            postLikeRepository.findPostIdsByUserId(userId).forEach(id -> args.add(String.valueOf(id)));
+            Long loaded = script().eval(RScript.Mode.READ_WRITE, LOAD_SCRIPT, RScript.ReturnType.INTEGER,
+                    List.of(key), args.toArray());
+            return loaded != null && loaded == 1L;
+        } catch (Exception e) {
+            log.warn("추천 집합 조회 실패, DB 조회로 대체: userId={}", userId, e);
+            return postLikeRepository.existsByUserIdAndPostId(userId, postId);
+        }
+    }
+
+    /**
+     * 추천 커밋 이후 집합에 추가
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostLiked(PostLikedEvent event) {
+        try {
+            script().eval(RScript.Mode.READ_WRITE, ADD_SCRIPT, RScript.ReturnType.INTEGER,
+                    List.of(LIKED_PREFIX + event.userId()), String.valueOf(event.postId()),
+                    String.valueOf(LIKED_TTL.toMillis()));
+        } catch (Exception e) {
+            // 갱신 실패 시 집합을 버려 다음 조회에서 DB 기준으로 재적재
+            log.warn("추천 집합 갱신 실패: userId={}, postId={}", event.userId(), event.postId(), e);
+            deleteQuietly(event.userId());
+        }
+    }
+
+    private RScript script() {
+        return redissonClient.getScript(StringCodec.INSTANCE);
+    }
+
+    private void deleteQuietly(Long userId) {
+        try {
+            redissonClient.getSet(LIKED_PREFIX + userId, StringCodec.INSTANCE).delete();
+        } catch (Exception ignored) {
+            // TTL 만료로 복구
+        }
+    }
+}
@@ -8,9 +8,11 @@ import com.byeolnight.repository.post.PostBlindLogRepository;
 import com.byeolnight.repository.post.PostReportRepository;
 import com.byeolnight.repository.post.PostRepository;
 import com.byeolnight.repository.user.UserRepository;
+import com.byeolnight.event.PostChangedEvent;
 import com.byeolnight.infrastructure.exception.NotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +25,7 @@ public class PostReportService {
     private final UserRepository userRepository;
     private final PostReportRepository postReportRepository;
     private final PostBlindLogRepository postBlindLogRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void reportPost(Long userId, Long postId, String reason, String description) {
@@ -45,6 +48,7 @@ public class PostReportService {
         // 신고 수 5개 이상이면 자동 블라인드 (포인트 지급은 관리자 승인 후)
         if (post.getReportCount() >= 5 && !post.isBlinded()) {
             post.blind();
+            eventPublisher.publishEvent(new PostChangedEvent(postId));
             log.info("신고 자동 블라인드 처리: postId={}, blindType={}", postId, post.getBlindType());
             if (!postBlindLogRepository.existsByPostId(post.getId())) {
                 postBlindLogRepository.save(PostBlindLog.of(post, PostBlindLog.Reason.REPORT));
@@ -4,8 +4,8 @@ import com.byeolnight.dto.file.FileDto;
 import com.byeolnight.entity.file.File;
 import com.byeolnight.entity.post.Post;
 import com.byeolnight.entity.post.Post.Category;
-import com.byeolnight.entity.post.PostLike;
 import com.byeolnight.entity.user.User;
+import com.byeolnight.entity.user.UserStats;
 import com.byeolnight.entity.comment.Comment;
 import com.byeolnight.repository.comment.CommentRepository;
 import com.byeolnight.repository.file.FileRepository;
@@ -18,12 +18,20 @@ import com.byeolnight.dto.post.PostResponseDto;
 import com.byeolnight.dto.post.PostDto;
 import com.byeolnight.infrastructure.exception.NotFoundException;
 import com.byeolnight.service.assembler.PostResponseAssembler;
-import com.byeolnight.service.certificate.CertificateService;
-import com.byeolnight.service.file.S3Service;
+import com.byeolnight.service.assembler.WriterProfileLoader;
+import com.byeolnight.event.PostCreatedEvent;
+import com.byeolnight.service.file.S3DeletionQueue;
 import com.byeolnight.service.notification.NotificationService;
 import com.byeolnight.service.user.PointService;
 import com.byeolnight.service.log.DeleteLogService;
 import com.byeolnight.entity.log.DeleteLog;
+import com.byeolnight.event.CommentChangedEvent;
+import com.byeolnight.event.PostChangedEvent;
+import com.byeolnight.event.PostDeletedEvent;
+import com.byeolnight.event.PostLikedEvent;
+import com.byeolnight.event.PostRestoredEvent;
+import com.byeolnight.event.UserStatsChangedEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
@@ -35,6 +43,7 @@ import org.springframework.web.util.HtmlUtils;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.Set;
 
 @Slf4j
@@ -46,13 +55,16 @@ public class PostService {
     private final PostLikeRepository postLikeRepository;
     private final FileRepository fileRepository;
     private final UserRepository userRepository;
-    private final S3Service s3Service;
-    private final CertificateService certificateService;
+    private final S3DeletionQueue s3DeletionQueue;
     private final PointService pointService;
     private final CommentRepository commentRepository;
     private final NotificationService notificationService;
     private final DeleteLogService deleteLogService;
     private final PostResponseAssembler postResponseAssembler;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PostDetailCache postDetailCache;
+    private final PostLikeIndex postLikeIndex;
+    private final PostViewCountBuffer postViewCountBuffer;
 
     @Transactional
     public Long createPost(PostRequestDto dto, User user) {
@@ -79,6 +91,7 @@ public class PostService {
         }
 
         postRepository.save(post);
+        eventPublisher.publishEvent(new PostChangedEvent(post.getId()));
 
         // 이미지 파일 처리: PENDING 상태 파일을 CONFIRMED로 변경하거나 새로 생성
         dto.getImages().forEach(image -> {
@@ -93,21 +106,12 @@ public class PostService {
             }
         });
 
-        certificateService.checkAndIssueCertificates(user, CertificateService.CertificateCheckType.POST_WRITE);
-
-        if (dto.getCategory() == Post.Category.IMAGE) {
-            certificateService.checkAndIssueCertificates(user, CertificateService.CertificateCheckType.IMAGE_UPLOAD);
-        }
+        // 작성/이미지 인증서는 커밋 이후 비동기로 평가 (포인트 달성은 PointService가 이벤트 발행)
+        eventPublisher.publishEvent(new PostCreatedEvent(user.getId(), dto.getCategory()));
+        eventPublisher.publishEvent(UserStatsChangedEvent.increment(user.getId(), UserStats.Counter.POST));
 
         pointService.awardPostWritePoints(user, post.getId(), dto.getContent());
 
-        // 포인트 달성 인증서 체크
-        try {
-            certificateService.checkAndIssueCertificates(user, CertificateService.CertificateCheckType.POINT_ACHIEVEMENT);
-        } catch (Exception e) {
-            log.warn("포인트 인증서 발급 실패: {}", e.getMessage());
-        }
-
         if (dto.getCategory() == Post.Category.NOTICE) {
             try {
                 notificationService.notifyNewNotice(post.getId(), dto.getTitle());
@@ -134,6 +138,7 @@ public class PostService {
         String decodedContent = HtmlUtils.htmlUnescape(dto.getContent());
 
         post.update(decodedTitle, decodedContent, dto.getCategory());
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
 
         // 기존 파일 목록 조회
         List<File> oldFiles = fileRepository.findAllByPost(post);
@@ -147,10 +152,9 @@ public class PostService {
                 .filter(file -> !newImageUrls.contains(file.getUrl()))
                 .toList();
         
-        filesToDelete.forEach(file -> {
-            s3Service.deleteObject(file.getS3Key());
-            fileRepository.delete(file);
-        });
+        // S3 삭제는 커밋 이후 워커가 일괄 처리
+        s3DeletionQueue.enqueue(filesToDelete.stream().map(File::getS3Key).toList());
+        fileRepository.deleteAll(filesToDelete);
         
         // 기존 파일 URL 목록
         Set<String> existingUrls = oldFiles.stream()
@@ -177,12 +181,39 @@ public class PostService {
                 });
     }
 
-    @Transactional
+    /**
+     * 게시글 상세 조회
+     * - 조립된 스냅샷은 PostDetailCache에서 재사용, 요청마다 남는 작업은 likedByMe 판정(Redis 집합)뿐
+     * - 조회수는 버퍼에 모아 주기적으로 반영
+     */
     public PostResponseDto getPostById(Long postId, User currentUser) {
         if (postId == null || postId <= 0) {
             throw new IllegalArgumentException("유효하지 않은 게시글 ID입니다.");
         }
-        
+
+        PostDetailCache.Entry entry = postDetailCache.get(postId, this::loadPostDetail);
+        PostResponseDto snapshot = entry.post();
+
+        // 블라인드 처리된 게시글은 관리자만 접근 가능
+        boolean isAdmin = currentUser != null && currentUser.getRole() == User.Role.ADMIN;
+        if (snapshot.isBlinded() && !isAdmin) {
+            throw new NotFoundException("블라인드 처리된 게시글입니다.");
+        }
+
+        postViewCountBuffer.increment(postId);
+        long viewCount = entry.recordView();
+        boolean likedByMe = currentUser != null && postLikeIndex.isLiked(currentUser.getId(), postId);
+
+        return snapshot.toBuilder()
+                .viewCount(viewCount)
+                .likedByMe(likedByMe)
+                .build();
+    }
+
+    /**
+     * 상세 스냅샷 조립 (캐시 미스 시에만 호출)
+     */
+    private PostResponseDto loadPostDetail(Long postId) {
         Post post = postRepository.findWithWriterById(postId)
                 .orElseThrow(() -> new NotFoundException("존재하지 않는 게시글입니다."));
 
@@ -190,21 +221,12 @@ public class PostService {
         if (post.isDeleted()) {
             throw new NotFoundException("삭제된 게시글입니다.");
         }
-        
-        // 블라인드 처리된 게시글은 관리자만 접근 가능
-        boolean isAdmin = currentUser != null && currentUser.getRole() == User.Role.ADMIN;
-        if (post.isBlinded() && !isAdmin) {
-            throw new NotFoundException("블라인드 처리된 게시글입니다.");
-        }
-
-        post.increaseViewCount();
 
-        boolean likedByMe = currentUser != null && postLikeRepository.existsByUserAndPost(currentUser, post);
         long likeCount = postLikeRepository.countByPost(post);
         long commentCount = commentRepository.countByPostId(postId);
         List<File> files = fileRepository.findAllByPost(post);
 
-        return postResponseAssembler.toDto(post, likedByMe, likeCount, false, commentCount, files);
+        return postResponseAssembler.toDto(post, false, likeCount, false, commentCount, files);
     }
 
     @Transactional(readOnly = true)
@@ -237,12 +259,14 @@ public class PostService {
 
                 Set<Long> hotIds = hotPosts.stream().map(Post::getId).collect(Collectors.toSet());
                 List<PostResponseDto> combined = new ArrayList<>();
+                WriterProfileLoader.Batch writers = postResponseAssembler.prime(
+                        Stream.concat(hotPosts.stream(), recentPosts.getContent().stream()).toList());
 
                 // HOT 게시글 처리 (이미 작성자 존재 확인된 데이터)
                 hotPosts.forEach(p -> {
                     long actualLikeCount = postLikeRepository.countByPost(p);
                     long commentCount = commentRepository.countByPostId(p.getId());
-                    combined.add(postResponseAssembler.toDto(p, false, actualLikeCount, true, commentCount));
+                    combined.add(postResponseAssembler.toDto(p, false, actualLikeCount, true, commentCount, writers));
                 });
 
                 // 최신 게시글 처리 (이미 작성자 존재 확인된 데이터)
@@ -251,7 +275,7 @@ public class PostService {
                         .forEach(p -> {
                             long actualLikeCount = postLikeRepository.countByPost(p);
                             long commentCount = commentRepository.countByPostId(p.getId());
-                            combined.add(postResponseAssembler.toDto(p, false, actualLikeCount, false, commentCount));
+                            combined.add(postResponseAssembler.toDto(p, false, actualLikeCount, false, commentCount, writers));
                         });
 
                 return new PageImpl<>(combined, pageable, combined.size());
@@ -259,11 +283,12 @@ public class PostService {
 
             case POPULAR -> {
                 Page<Post> popularPosts = postRepository.findByIsDeletedFalseAndCategoryOrderByLikeCountDesc(categoryEnum, pageable);
+                WriterProfileLoader.Batch writers = postResponseAssembler.prime(popularPosts.getContent());
                 List<PostResponseDto> dtos = popularPosts.getContent().stream()
                         .map(p -> {
                             long actualLikeCount = postLikeRepository.countByPost(p);
                             long commentCount = commentRepository.countByPostId(p.getId());
-                            return postResponseAssembler.toDto(p, false, actualLikeCount, false, commentCount);
+                            return postResponseAssembler.toDto(p, false, actualLikeCount, false, commentCount, writers);
                         })
                         .toList();
 
@@ -289,12 +314,13 @@ public class PostService {
 
         // QueryDSL 동적 검색 사용
         Page<Post> searchResults = postRepository.searchPosts(keyword, categoryEnum, searchType, pageable);
+        WriterProfileLoader.Batch writers = postResponseAssembler.prime(searchResults.getContent());
 
         List<PostResponseDto> dtos = searchResults.getContent().stream()
                 .map(p -> {
                     long actualLikeCount = postLikeRepository.countByPost(p);
                     long commentCount = commentRepository.countByPostId(p.getId());
-                    return postResponseAssembler.toDto(p, false, actualLikeCount, false, commentCount);
+                    return postResponseAssembler.toDto(p, false, actualLikeCount, false, commentCount, writers);
                 })
                 .collect(Collectors.toList());
 
@@ -313,12 +339,13 @@ public class PostService {
 
         // 전체 카테고리 HOT 게시글은 일반 사용자도 볼 수 있으므로 블라인드 제외
         List<Post> hotPosts = postRepository.findHotPosts(null, threshold, 5, size, false);
+        WriterProfileLoader.Batch writers = postResponseAssembler.prime(hotPosts);
 
         return hotPosts.stream()
                 .map(p -> {
                     long actualLikeCount = postLikeRepository.countByPost(p);
                     long commentCount = commentRepository.countByPostId(p.getId());
-                    return postResponseAssembler.toDto(p, false, actualLikeCount, true, commentCount);
+                    return postResponseAssembler.toDto(p, false, actualLikeCount, true, commentCount, writers);
                 })
                 .toList();
     }
@@ -331,6 +358,11 @@ public class PostService {
             throw new IllegalArgumentException("본인이 작성한 글만 삭제할 수 있습니다.");
         }
 
+        // 중복 삭제 시 삭제 로그/활동 집계 차감이 두 번 반영되지 않도록 차단
+        if (post.isDeleted()) {
+            throw new NotFoundException("이미 삭제된 게시글입니다.");
+        }
+
         validateAdminCategoryWrite(post.getCategory(), user);
 
         // 삭제 로그 기록
@@ -344,33 +376,40 @@ public class PostService {
         );
 
         List<File> files = fileRepository.findAllByPost(post);
-        files.forEach(file -> s3Service.deleteObject(file.getS3Key()));
+        s3DeletionQueue.enqueue(files.stream().map(File::getS3Key).toList());
         fileRepository.deleteAllByPost(post);
 
         post.softDelete();
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
+        eventPublisher.publishEvent(UserStatsChangedEvent.decrement(user.getId(), UserStats.Counter.POST));
+        eventPublisher.publishEvent(new PostDeletedEvent(user.getId(), post.getCategory()));
     }
 
+    /**
+     * 게시글 추천
+     * - INSERT ... SELECT 한 번으로 중복/존재 여부를 함께 처리하고 추천 수는 원자적 UPDATE
+     * - 포인트/인증서 보상은 PostLikedEvent로 커밋 이후 워커가 일괄 처리
+     */
     @Transactional
     public void likePost(Long userId, Long postId) {
-        Post post = getPostOrThrow(postId);
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException("사용자를 찾을 수 없습니다."));
-
-        // DB 유니크 제약조건(user_id, post_id)이 중복 방지
-        // DataIntegrityViolationException 발생 시 이미 추천한 것으로 처리
+        int inserted;
         try {
-            PostLike like = PostLike.of(user, post);
-            postLikeRepository.save(like);
-
-            post.increaseLikeCount();
-            postRepository.save(post);
-
-            pointService.awardGiveLikePoints(user, postId.toString());
-            pointService.awardReceiveLikePoints(post.getWriter(), postId.toString());
+            inserted = postLikeRepository.insertIfAbsent(userId, postId);
         } catch (DataIntegrityViolationException e) {
+            // 동시 요청이 먼저 추천을 추가한 경우 (UNIQUE(user_id, post_id))
+            inserted = 0;
+        }
+
+        if (inserted == 0) {
+            if (!postRepository.existsById(postId)) {
+                throw new NotFoundException("해당 게시글을 찾을 수 없습니다.");
+            }
             log.debug("중복 추천 시도: userId={}, postId={}", userId, postId);
             throw new IllegalArgumentException("이미 추천한 글입니다.");
         }
+
+        postRepository.incrementLikeCount(postId);
+        eventPublisher.publishEvent(new PostLikedEvent(userId, postId));
     }
 
     private Post getPostOrThrow(Long postId) {
@@ -390,10 +429,12 @@ public class PostService {
     // 블라인드 게시글 리스트 조회(관리자용)
     @Transactional(readOnly = true)
     public List<PostResponseDto> getBlindedPostsList() {
-        return postRepository.findByIsDeletedFalseAndBlindedTrueOrderByCreatedAtDesc().stream()
+        List<Post> blindedPosts = postRepository.findByIsDeletedFalseAndBlindedTrueOrderByCreatedAtDesc();
+        WriterProfileLoader.Batch writers = postResponseAssembler.prime(blindedPosts);
+        return blindedPosts.stream()
                 .map(p -> {
                     long commentCount = commentRepository.countByPostId(p.getId());
-                    return postResponseAssembler.toDtoSimple(p, false, commentCount);
+                    return postResponseAssembler.toDtoSimple(p, false, commentCount, writers);
                 })
                 .toList();
     }
@@ -415,6 +456,7 @@ public class PostService {
         
         post.blindByAdmin(adminId);
         postRepository.save(post);
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
         log.info("관리자 블라인드 처리: postId={}, blindType={}", postId, post.getBlindType());
         
         // 뉴스봇이나 시스템 계정은 페널티 제외
@@ -436,6 +478,7 @@ public class PostService {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new NotFoundException("게시글이 존재하지 않습니다."));
         post.unblind();
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
     }
 
     private void validateAdminCategoryWrite(Post.Category category, User user) {
@@ -487,14 +530,23 @@ public class PostService {
     public void restorePost(Long postId) {
         Post post = postRepository.findById(postId)
                 .orElseThrow(() -> new NotFoundException("게시글을 찾을 수 없습니다."));
+        boolean wasDeleted = post.isDeleted();
         post.restore();
+        eventPublisher.publishEvent(new PostChangedEvent(postId));
+        if (wasDeleted && post.getWriter() != null) {
+            eventPublisher.publishEvent(UserStatsChangedEvent.increment(post.getWriter().getId(), UserStats.Counter.POST));
+            eventPublisher.publishEvent(new PostRestoredEvent(post.getWriter().getId(), post.getCategory()));
+        }
     }
 
     @Transactional
     public void restoreComment(Long commentId) {
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new NotFoundException("댓글을 찾을 수 없습니다."));
+        boolean wasCounted = comment.isCounted();
         comment.restore();
+        eventPublisher.publishEvent(UserStatsChangedEvent.commentVisibilityChanged(comment, wasCounted));
+        eventPublisher.publishEvent(new CommentChangedEvent(comment.getPost().getId()));
     }
 
     @Transactional
@@ -510,6 +562,7 @@ public class PostService {
             Post post = postRepository.findById(postId)
                     .orElseThrow(() -> new NotFoundException("게시글을 찾을 수 없습니다: " + postId));
             post.update(post.getTitle(), post.getContent(), category);
+            eventPublisher.publishEvent(new PostChangedEvent(postId));
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,60 @@
+package com.byeolnight.service.post;
+
+import com.byeolnight.repository.post.PostRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 조회수 쓰기 버퍼
+ * - 상세 조회마다 행 UPDATE를 하지 않고 메모리에 합산한 뒤 주기적으로 게시글별 1회 가산
+ * - 인기 게시글 행 잠금 경합과 캐시 히트 시 DB 쓰기를 제거
+ * - 가산과 꺼내기 모두 맵의 원자 연산(merge/remove)이므로 꺼낸 뒤 더해지는 조회수 없이 항목을 지움
+ *   (맵에는 마지막 반영 이후 조회된 게시글만 남음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostViewCountBuffer {
+
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<Long, Long> pending = new ConcurrentHashMap<>();
+
+    public void increment(Long postId) {
+        pending.merge(postId, 1L, Long::sum);
+    }
+
+    /**
+     * 5초마다 누적 조회수 반영 (반영한 항목은 맵에서 제거)
+     */
+    @Scheduled(fixedDelay = 5000)
+    public void flush() {
+        for (Long postId : pending.keySet()) {
+            Long removed = pending.remove(postId);
+            if (removed == null) {
+                continue;
+            }
+            int delta = removed.intValue();
+            try {
+                transactionTemplate.executeWithoutResult(status -> postRepository.addViewCount(postId, delta));
+            } catch (Exception e) {
+                // 다음 주기에 재시도
+                pending.merge(postId, removed, Long::sum);
+                log.warn("조회수 반영 실패: postId={}, delta={}", postId, delta, e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+}
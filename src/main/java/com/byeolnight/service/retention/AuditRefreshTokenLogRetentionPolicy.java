@@ -0,0 +1,48 @@
+package com.byeolnight.service.retention;
+
+import com.byeolnight.repository.log.AuditRefreshTokenLogRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 토큰 재발급 감사 로그 보존기간 정리 정책
+ * - 월 파티션 테이블이면 만료 파티션은 AuditLogPartitionMaintainer가 먼저 DROP하고, 여기서는 남은 행만 삭제
+ */
+@Component
+@RequiredArgsConstructor
+public class AuditRefreshTokenLogRetentionPolicy implements RetentionPolicy {
+
+    private final AuditRefreshTokenLogRepository auditRefreshTokenLogRepository;
+
+    @Value("${audit.log.retention-days:365}")
+    private int retentionDays;
+
+    @Override
+    public String name() {
+        return "audit-refresh-token-logs";
+    }
+
+    @Override
+    public List<Long> findExpiredIds(long afterId, int limit) {
+        return auditRefreshTokenLogRepository.findExpiredIds(threshold(), afterId, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public int purge(List<Long> ids) {
+        return auditRefreshTokenLogRepository.bulkDeleteByIds(ids);
+    }
+
+    @Override
+    public long countExpired() {
+        return auditRefreshTokenLogRepository.countExpired(threshold());
+    }
+
+    private LocalDateTime threshold() {
+        return LocalDateTime.now().minusDays(retentionDays);
+    }
+}
@@ -0,0 +1,45 @@
+package com.byeolnight.service.retention;
+
+import com.byeolnight.repository.comment.CommentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 삭제 후 30일이 지난 댓글 정리 정책
+ */
+@Component
+@RequiredArgsConstructor
+public class ExpiredCommentRetentionPolicy implements RetentionPolicy {
+
+    static final int RETENTION_DAYS = 30;
+
+    private final CommentRepository commentRepository;
+
+    @Override
+    public String name() {
+        return "expired-comments";
+    }
+
+    @Override
+    public List<Long> findExpiredIds(long afterId, int limit) {
+        return commentRepository.findExpiredDeletedCommentIds(threshold(), afterId, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public int purge(List<Long> ids) {
+        return commentRepository.bulkDeleteByIds(ids);
+    }
+
+    @Override
+    public long countExpired() {
+        return commentRepository.countExpiredDeletedComments(threshold());
+    }
+
+    private LocalDateTime threshold() {
+        return LocalDateTime.now().minusDays(RETENTION_DAYS);
+    }
+}
@@ -0,0 +1,60 @@
+package com.byeolnight.service.retention;
+
+import com.byeolnight.entity.Message;
+import com.byeolnight.entity.log.DeleteLog;
+import com.byeolnight.repository.MessageRepository;
+import com.byeolnight.service.log.DeleteLogService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 양쪽 모두 삭제 후 3년이 지난 쪽지 영구 삭제 정책
+ * - 청크 단위로 삭제 로그를 남긴 뒤 일괄 삭제
+ */
+@Component
+@RequiredArgsConstructor
+public class ExpiredMessageRetentionPolicy implements RetentionPolicy {
+
+    static final int RETENTION_YEARS = 3;
+
+    private final MessageRepository messageRepository;
+    private final DeleteLogService deleteLogService;
+
+    @Override
+    public String name() {
+        return "expired-messages";
+    }
+
+    @Override
+    public List<Long> findExpiredIds(long afterId, int limit) {
+        return messageRepository.findIdsEligibleForPermanentDeletion(threshold(), afterId, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public int purge(List<Long> ids) {
+        for (Message message : messageRepository.findAllById(ids)) {
+            deleteLogService.logDeletion(
+                message.getId(),
+                DeleteLog.TargetType.MESSAGE,
+                DeleteLog.ActionType.PERMANENT_DELETE,
+                null, // 시스템 자동 삭제
+                "3년 경과 후 자동 영구 삭제",
+                message.getTitle() + ": " + message.getContent()
+            );
+        }
+        return messageRepository.bulkDeleteByIds(ids);
+    }
+
+    @Override
+    public long countExpired() {
+        return messageRepository.countEligibleForPermanentDeletion(threshold());
+    }
+
+    private LocalDateTime threshold() {
+        return LocalDateTime.now().minusYears(RETENTION_YEARS);
+    }
+}
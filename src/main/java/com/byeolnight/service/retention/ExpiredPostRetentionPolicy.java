@@ -0,0 +1,57 @@
+package com.byeolnight.service.retention;
+
+import com.byeolnight.entity.file.File;
+import com.byeolnight.repository.file.FileRepository;
+import com.byeolnight.repository.post.PostRepository;
+import com.byeolnight.service.file.S3DeletionQueue;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 삭제 후 30일이 지난 게시글 정리 정책
+ * - 첨부 파일(S3 객체 + 파일 레코드)을 먼저 정리한 뒤 게시글을 일괄 삭제
+ */
+@Component
+@RequiredArgsConstructor
+public class ExpiredPostRetentionPolicy implements RetentionPolicy {
+
+    static final int RETENTION_DAYS = 30;
+
+    private final PostRepository postRepository;
+    private final FileRepository fileRepository;
+    private final S3DeletionQueue s3DeletionQueue;
+
+    @Override
+    public String name() {
+        return "expired-posts";
+    }
+
+    @Override
+    public List<Long> findExpiredIds(long afterId, int limit) {
+        return postRepository.findExpiredDeletedPostIds(threshold(), afterId, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public int purge(List<Long> ids) {
+        List<File> files = fileRepository.findAllByPostIdIn(ids);
+        if (!files.isEmpty()) {
+            // 청크 트랜잭션 커밋 이후 S3 삭제 큐에 적재
+            s3DeletionQueue.enqueue(files.stream().map(File::getS3Key).toList());
+            fileRepository.bulkDeleteByPostIds(ids);
+        }
+        return postRepository.bulkDeleteByIds(ids);
+    }
+
+    @Override
+    public long countExpired() {
+        return postRepository.countExpiredDeletedPosts(threshold());
+    }
+
+    private LocalDateTime threshold() {
+        return LocalDateTime.now().minusDays(RETENTION_DAYS);
+    }
+}
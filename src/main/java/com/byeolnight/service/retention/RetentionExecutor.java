@@ -0,0 +1,152 @@
+package com.byeolnight.service.retention;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 보존기간 정리 실행기
+ * - Redisson 분산락으로 여러 노드 중 하나만 실행
+ * - 만료 대상을 keyset 청크(최대 500건)로 조회하고 청크마다 별도 트랜잭션으로 일괄 삭제 후 커밋
+ * - 청크 일괄 삭제가 실패하면 해당 청크만 건별 삭제로 재시도
+ * - 진행 상황은 retention.* 메트릭과 마지막 실행 결과로 제공
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RetentionExecutor {
+
+    static final int CHUNK_SIZE = 500;
+    private static final String LOCK_PREFIX = "lock:retention:";
+    private static final long LOCK_LEASE_MINUTES = 30;
+
+    private final RedissonClient redissonClient;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, AtomicLong> progress = new ConcurrentHashMap<>();
+    private final Map<String, RetentionResult> lastResults = new ConcurrentHashMap<>();
+
+    /**
+     * 정책 실행 (다른 노드가 실행 중이면 건너뜀)
+     */
+    public RetentionResult execute(RetentionPolicy policy) {
+        String name = policy.name();
+        RLock lock = redissonClient.getLock(LOCK_PREFIX + name);
+
+        boolean acquired;
+        try {
+            acquired = lock.tryLock(0, LOCK_LEASE_MINUTES, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return RetentionResult.skipped(name);
+        }
+        if (!acquired) {
+            log.info("보존기간 정리 건너뜀 (다른 노드 실행 중): policy={}", name);
+            meterRegistry.counter("retention.skipped", "policy", name).increment();
+            return RetentionResult.skipped(name);
+        }
+
+        try {
+            RetentionResult result = runChunks(policy);
+            lastResults.put(name, result);
+            return result;
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 정책별 마지막 실행 결과 (관리자 상태 조회용)
+     */
+    public Map<String, RetentionResult> getLastResults() {
+        return Map.copyOf(lastResults);
+    }
+
+    private RetentionResult runChunks(RetentionPolicy policy) {
+        String name = policy.name();
+        AtomicLong deletedSoFar = progressGauge(name);
+        deletedSoFar.set(0);
+
+        long startedAt = System.currentTimeMillis();
+        long afterId = 0L;
+        int chunks = 0;
+        int deleted = 0;
+        int failed = 0;
+
+        log.info("보존기간 정리 시작: policy={}", name);
+        while (true) {
+            List<Long> ids = policy.findExpiredIds(afterId, CHUNK_SIZE);
+            if (ids.isEmpty()) {
+                break;
+            }
+            afterId = ids.get(ids.size() - 1);
+            chunks++;
+
+            ChunkOutcome outcome = purgeChunk(policy, ids);
+            deleted += outcome.deleted();
+            failed += outcome.failed();
+            deletedSoFar.addAndGet(outcome.deleted());
+
+            meterRegistry.counter("retention.deleted", "policy", name).increment(outcome.deleted());
+            meterRegistry.counter("retention.failed", "policy", name).increment(outcome.failed());
+            meterRegistry.counter("retention.chunks", "policy", name).increment();
+            log.debug("보존기간 정리 진행: policy={}, chunk={}, deleted={}, lastId={}", name, chunks, deleted, afterId);
+
+            if (ids.size() < CHUNK_SIZE) {
+                break;
+            }
+        }
+
+        long elapsedMs = System.currentTimeMillis() - startedAt;
+        meterRegistry.timer("retention.run", "policy", name).record(elapsedMs, TimeUnit.MILLISECONDS);
+        log.info("보존기간 정리 완료: policy={}, chunks={}, deleted={}, failed={}, elapsed={}ms",
+                name, chunks, deleted, failed, elapsedMs);
+        return new RetentionResult(name, false, chunks, deleted, failed, elapsedMs, LocalDateTime.now());
+    }
+
+    private ChunkOutcome purgeChunk(RetentionPolicy policy, List<Long> ids) {
+        try {
+            Integer deleted = transactionTemplate.execute(status -> policy.purge(ids));
+            return new ChunkOutcome(deleted != null ? deleted : 0, 0);
+        } catch (Exception e) {
+            log.warn("청크 일괄 삭제 실패 - 건별 재시도: policy={}, size={}, error={}",
+                    policy.name(), ids.size(), e.getMessage());
+        }
+
+        int deleted = 0;
+        int failed = 0;
+        for (Long id : ids) {
+            try {
+                Integer count = transactionTemplate.execute(status -> policy.purge(List.of(id)));
+                deleted += count != null ? count : 0;
+            } catch (Exception e) {
+                failed++;
+                log.error("보존기간 정리 삭제 실패: policy={}, id={}, error={}", policy.name(), id, e.getMessage());
+            }
+        }
+        return new ChunkOutcome(deleted, failed);
+    }
+
+    private AtomicLong progressGauge(String name) {
+        return progress.computeIfAbsent(name, key ->
+                meterRegistry.gauge("retention.progress", Tags.of("policy", key), new AtomicLong()));
+    }
+
+    private record ChunkOutcome(int deleted, int failed) {
+    }
+}
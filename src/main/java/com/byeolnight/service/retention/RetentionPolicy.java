@@ -0,0 +1,31 @@
+package com.byeolnight.service.retention;
+
+import java.util.List;
+
+/**
+ * 보존기간 정리 정책
+ * - 만료 대상 ID를 keyset(id 오름차순)으로 청크 단위 조회
+ * - 청크 단위 일괄 삭제는 RetentionExecutor가 청크마다 별도 트랜잭션으로 호출
+ */
+public interface RetentionPolicy {
+
+    /**
+     * 정책 이름 (분산락 키 및 메트릭 태그로 사용)
+     */
+    String name();
+
+    /**
+     * afterId 이후의 만료 대상 ID를 최대 limit개 조회
+     */
+    List<Long> findExpiredIds(long afterId, int limit);
+
+    /**
+     * 주어진 ID들을 일괄 삭제하고 삭제된 행 수 반환 (트랜잭션 내부에서 호출됨)
+     */
+    int purge(List<Long> ids);
+
+    /**
+     * 현재 만료 대상 수 (COUNT 쿼리)
+     */
+    long countExpired();
+}
@@ -0,0 +1,20 @@
+package com.byeolnight.service.retention;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보존기간 정리 실행 결과
+ */
+public record RetentionResult(
+        String policy,
+        boolean skipped,
+        int chunks,
+        int deleted,
+        int failed,
+        long elapsedMs,
+        LocalDateTime finishedAt
+) {
+    public static RetentionResult skipped(String policy) {
+        return new RetentionResult(policy, true, 0, 0, 0, 0, LocalDateTime.now());
+    }
+}
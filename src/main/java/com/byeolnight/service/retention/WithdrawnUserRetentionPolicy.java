@@ -0,0 +1,48 @@
+package com.byeolnight.service.retention;
+
+import com.byeolnight.entity.user.User;
+import com.byeolnight.repository.user.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 탈퇴/밴 후 2년이 지난 계정 완전 삭제 정책
+ */
+@Component
+@RequiredArgsConstructor
+public class WithdrawnUserRetentionPolicy implements RetentionPolicy {
+
+    static final int RETENTION_YEARS = 2;
+    private static final List<User.UserStatus> TARGET_STATUSES =
+            List.of(User.UserStatus.WITHDRAWN, User.UserStatus.BANNED);
+
+    private final UserRepository userRepository;
+
+    @Override
+    public String name() {
+        return "withdrawn-users";
+    }
+
+    @Override
+    public List<Long> findExpiredIds(long afterId, int limit) {
+        return userRepository.findExpiredWithdrawnUserIds(threshold(), TARGET_STATUSES, afterId, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public int purge(List<Long> ids) {
+        return userRepository.bulkDeleteByIds(ids);
+    }
+
+    @Override
+    public long countExpired() {
+        return userRepository.countByWithdrawnAtBeforeAndStatusIn(threshold(), TARGET_STATUSES);
+    }
+
+    private LocalDateTime threshold() {
+        return LocalDateTime.now().minusYears(RETENTION_YEARS);
+    }
+}
@@ -0,0 +1,126 @@
+package com.byeolnight.service.shop;
+
+import com.byeolnight.entity.shop.StellaIcon;
+import com.byeolnight.repository.shop.StellaIconRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 스텔라 아이콘 카탈로그 인메모리 인덱스
+ * - 아이콘 데이터는 시드 이후 거의 변하지 않으므로 불변 스냅샷(id → 아이콘, 구매 가능 목록)으로 보관
+ * - 최초 접근 시 로드, 초기화/관리자 변경 커밋 후 refresh, 다중 인스턴스 대비 10분마다 재적재
+ * - 스냅샷 내용으로 만든 버전 해시를 카탈로그 응답 ETag로 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StellaIconCatalog {
+
+    private final StellaIconRepository stellaIconRepository;
+
+    private final ReentrantLock loadLock = new ReentrantLock(); // 최초 적재(DB 조회) 중 캐리어 고정 방지
+    private volatile Snapshot snapshot;
+
+    private record Snapshot(Map<Long, StellaIcon> byId, List<StellaIcon> available, String version) {
+    }
+
+    public List<StellaIcon> getAvailableIcons() {
+        return snapshot().available();
+    }
+
+    public Optional<StellaIcon> findById(Long iconId) {
+        if (iconId == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(snapshot().byId().get(iconId));
+    }
+
+    /**
+     * 카탈로그 내용 버전 (아이콘 속성이 바뀌면 달라짐)
+     */
+    public String version() {
+        return snapshot().version();
+    }
+
+    /**
+     * DB에서 다시 읽어 스냅샷 교체
+     */
+    public void refresh() {
+        List<StellaIcon> icons = stellaIconRepository.findAll().stream()
+                .sorted(Comparator.comparing(StellaIcon::getId))
+                .toList();
+
+        Map<Long, StellaIcon> byId = icons.stream()
+                .collect(Collectors.toUnmodifiableMap(StellaIcon::getId, Function.identity()));
+        List<StellaIcon> available = icons.stream()
+                .filter(StellaIcon::isAvailable)
+                .toList();
+
+        snapshot = new Snapshot(byId, available, versionOf(icons));
+        log.info("스텔라 아이콘 카탈로그 적재: 전체 {}개, 구매 가능 {}개", byId.size(), available.size());
+    }
+
+    /**
+     * 현재 트랜잭션 커밋 이후 refresh (트랜잭션 밖이면 즉시)
+     */
+    public void refreshAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    refresh();
+                }
+            });
+        } else {
+            refresh();
+        }
+    }
+
+    @Scheduled(fixedDelay = 600_000, initialDelay = 600_000)
+    public void scheduledRefresh() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.warn("스텔라 아이콘 카탈로그 재적재 실패, 기존 스냅샷 유지: {}", e.getMessage());
+        }
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            loadLock.lock();
+            try {
+                if (snapshot == null) {
+                    refresh();
+                }
+                current = snapshot;
+            } finally {
+                loadLock.unlock();
+            }
+        }
+        return current;
+    }
+
+    private String versionOf(List<StellaIcon> icons) {
+        String content = icons.stream()
+                .map(icon -> icon.getId() + "|" + icon.getName() + "|" + icon.getDescription() + "|" + icon.getIconUrl()
+                        + "|" + icon.getPrice() + "|" + icon.getGrade() + "|" + icon.getType() + "|" + icon.isAvailable()
+                        + "|" + icon.getAnimationClass())
+                .collect(Collectors.joining("\n"));
+        return DigestUtils.md5DigestAsHex(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -3,6 +3,9 @@ package com.byeolnight.service.shop;
 import com.byeolnight.entity.shop.StellaIcon;
 import com.byeolnight.entity.shop.UserIcon;
 import com.byeolnight.entity.user.User;
+import com.byeolnight.entity.user.UserStats;
+import com.byeolnight.event.UserProfileChangedEvent;
+import com.byeolnight.event.UserStatsChangedEvent;
 import com.byeolnight.repository.shop.StellaIconRepository;
 import com.byeolnight.repository.shop.UserIconRepository;
 import com.byeolnight.repository.user.UserRepository;
@@ -16,8 +19,11 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -32,15 +38,21 @@ public class StellaShopService {
     private final UserRepository userRepository;
     private final PointService pointService;
     private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StellaIconCatalog stellaIconCatalog;
 
     /**
-     * 상점 아이콘 목록 조회
+     * 상점 아이콘 목록 조회 (인메모리 카탈로그)
      */
-    @Transactional(readOnly = true)
     public List<StellaIcon> getShopIcons() {
-        List<StellaIcon> icons = stellaIconRepository.findByAvailableTrueOrderById();
-        log.info("상점 아이콘 조회 결과: {} 개", icons.size());
-        return icons;
+        return stellaIconCatalog.getAvailableIcons();
+    }
+
+    /**
+     * 상점 카탈로그 버전 (ETag 생성용)
+     */
+    public String getCatalogVersion() {
+        return stellaIconCatalog.version();
     }
     
     /**
@@ -72,6 +84,7 @@ public class StellaShopService {
             // 보관함에 추가 (DB UNIQUE 제약조건으로 중복 방지)
             UserIcon userIcon = UserIcon.of(user, icon, icon.getPrice());
             userIconRepository.save(userIcon);
+            eventPublisher.publishEvent(UserStatsChangedEvent.increment(user.getId(), UserStats.Counter.ICON));
 
         } catch (org.springframework.dao.DataIntegrityViolationException e) {
             // DB 제약조건 위반 = 이미 보유한 아이콘
@@ -79,6 +92,14 @@ public class StellaShopService {
         }
     }
 
+    /**
+     * 사용자가 보유한 아이콘 ID 목록 (상점 목록의 보유 여부 표시용)
+     */
+    @Transactional(readOnly = true)
+    public Set<Long> getOwnedIconIds(User user) {
+        return new HashSet<>(userIconRepository.findStellaIconIdsByUserId(user.getId()));
+    }
+
     /**
      * 사용자 보관함 조회
      */
@@ -109,6 +130,7 @@ public class StellaShopService {
 
         userIcon.equip();
         managedUser.equipIcon(iconId, iconToEquip.getIconUrl());
+        eventPublisher.publishEvent(new UserProfileChangedEvent(managedUser.getId()));
     }
 
     /**
@@ -125,14 +147,14 @@ public class StellaShopService {
                 .ifPresent(UserIcon::unequip);
 
         managedUser.unequipIcon();
+        eventPublisher.publishEvent(new UserProfileChangedEvent(managedUser.getId()));
     }
 
     /**
      * 장착된 아이콘 정보 조회
      */
-    @Transactional(readOnly = true)
     public com.byeolnight.dto.shop.EquippedIconDto getEquippedIconInfo(Long iconId) {
-        StellaIcon icon = stellaIconRepository.findById(iconId)
+        StellaIcon icon = stellaIconCatalog.findById(iconId)
                 .orElse(null);
         
         if (icon == null) {
@@ -169,6 +191,7 @@ public class StellaShopService {
                 .collect(Collectors.toList());
             
             stellaIconRepository.saveAll(defaultIcons);
+            stellaIconCatalog.refreshAfterCommit();
             log.info("스텔라 아이콘 초기화 완료: {} 개 아이콘 생성", defaultIcons.size());
             
         } catch (Exception e) {
@@ -0,0 +1,319 @@
+package com.byeolnight.service.sitemap;
+
+import com.byeolnight.dto.post.PostSitemapRow;
+import com.byeolnight.event.PostChangedEvent;
+import com.byeolnight.repository.post.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 사이트맵 생성 및 캐시 서비스
+ * - 게시글은 (id, 수정일) 프로젝션만 keyset 방식으로 조회 (OFFSET 스캔 없음)
+ * - 게시글 사이트맵 페이지마다 id 구간을 고정하고, 변경된 구간의 페이지만 다시 생성
+ * - 생성된 XML과 GZIP 바이트를 로컬 메모리에 캐시 (1시간 TTL + 게시글 변경 시 무효화)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SitemapService {
+
+    public static final int PAGE_SIZE = 1000; // 한 페이지당 URL 수
+
+    private static final Duration CACHE_TTL = Duration.ofHours(1);
+    private static final DateTimeFormatter LASTMOD_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final String XML_HEADER = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n";
+    private static final String URLSET_OPEN = "<urlset xmlns=\"http://www.sitemaps.org/schemas/sitemap/0.9\">\n";
+    private static final String URLSET_CLOSE = "</urlset>";
+    private static final String INDEX_KEY = "index";
+    private static final String MAIN_KEY = "main";
+    private static final String POSTS_KEY_PREFIX = "posts-";
+
+    private final PostRepository postRepository;
+
+    @Value("${site.base-url:https://byeolnight.com}")
+    private String baseUrl;
+
+    private final Map<String, CachedSitemap> cache = new ConcurrentHashMap<>();
+    private final List<PageRange> ranges = new ArrayList<>(); // lock으로 보호
+    private final ReentrantLock lock = new ReentrantLock();
+    private volatile boolean tailDirty = true;
+    private volatile Instant rangesBuiltAt = Instant.EPOCH;
+
+    /**
+     * 사이트맵 인덱스 (메인 + 게시글 페이지 목록, 페이지별 lastmod 포함)
+     */
+    public byte[] getIndex(boolean gzip) {
+        CachedSitemap cached = cache.get(INDEX_KEY);
+        if (cached == null || cached.isExpired()) {
+            lock.lock();
+            try {
+                List<PageRange> current = ensureRanges();
+                cached = render(writer -> {
+                    writer.write(XML_HEADER);
+                    writer.write("<sitemapindex xmlns=\"http://www.sitemaps.org/schemas/sitemap/0.9\">\n");
+                    writeIndexEntry(writer, "/sitemap-main.xml", null);
+                    for (int i = 0; i < current.size(); i++) {
+                        writeIndexEntry(writer, "/sitemap-posts-" + i + ".xml", current.get(i).lastModified());
+                    }
+                    writer.write("</sitemapindex>");
+                }, null);
+                cache.put(INDEX_KEY, cached);
+            } finally {
+                lock.unlock();
+            }
+        }
+        return cached.bytes(gzip);
+    }
+
+    /**
+     * 메인 페이지와 주요 페이지들을 위한 사이트맵
+     */
+    public byte[] getMainSitemap(boolean gzip) {
+        return cache.computeIfAbsent(MAIN_KEY, key -> render(writer -> {
+            writer.write(XML_HEADER);
+            writer.write(URLSET_OPEN);
+            writeUrl(writer, "", null, "daily", "1.0");
+            writeUrl(writer, "/news", null, "weekly", "0.8");
+            writeUrl(writer, "/community", null, "daily", "0.9");
+            writeUrl(writer, "/cinema", null, "weekly", "0.8");
+            writeUrl(writer, "/discussion", null, "daily", "0.8");
+            writeUrl(writer, "/shop", null, "monthly", "0.7");
+            writer.write(URLSET_CLOSE);
+        }, null)).bytes(gzip);
+    }
+
+    /**
+     * 게시글 사이트맵 페이지
+     * - 범위를 벗어난 페이지는 빈 urlset 반환
+     */
+    public byte[] getPostsSitemap(int page, boolean gzip) {
+        CachedSitemap cached = cache.get(POSTS_KEY_PREFIX + page);
+        if (cached == null || cached.isExpired()) {
+            lock.lock();
+            try {
+                List<PageRange> current = ensureRanges();
+                if (page < 0 || page >= current.size()) {
+                    return renderPosts(List.of()).bytes(gzip);
+                }
+                cached = cache.get(POSTS_KEY_PREFIX + page);
+                if (cached == null || cached.isExpired()) {
+                    cached = rebuildPage(page);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+        return cached.bytes(gzip);
+    }
+
+    /**
+     * 게시글 변경 시 해당 id가 속한 페이지와 인덱스만 무효화
+     * - 마지막 페이지 이후의 id(신규 게시글)는 꼬리 구간 재탐색으로 처리
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.postId() == null) {
+            return;
+        }
+        lock.lock();
+        try {
+            cache.remove(INDEX_KEY);
+            int page = findPage(event.postId());
+            if (page < 0) {
+                tailDirty = true;
+            } else {
+                cache.remove(POSTS_KEY_PREFIX + page);
+            }
+            log.debug("사이트맵 캐시 무효화: postId={}, page={}", event.postId(), page);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 매일 새벽 전체 재생성 (삭제로 비어버린 구간 정리)
+     */
+    @Scheduled(cron = "0 30 4 * * *")
+    public void resetCache() {
+        lock.lock();
+        try {
+            ranges.clear();
+            cache.clear();
+            tailDirty = true;
+            log.info("사이트맵 캐시 초기화 완료");
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 페이지 id 구간 확보 (lock 보유 상태에서 호출)
+     * - TTL이 지나면 전체 재구성, 꼬리 구간이 더러우면 마지막 페이지부터 keyset으로 이어서 탐색
+     */
+    private List<PageRange> ensureRanges() {
+        if (Instant.now().isAfter(rangesBuiltAt.plus(CACHE_TTL))) {
+            ranges.clear();
+            cache.clear();
+            tailDirty = true;
+            rangesBuiltAt = Instant.now();
+        }
+        if (tailDirty) {
+            extendTail();
+            tailDirty = false;
+        }
+        return List.copyOf(ranges);
+    }
+
+    private void extendTail() {
+        long afterId = 0L;
+        if (!ranges.isEmpty()) {
+            int tailIndex = ranges.size() - 1;
+            afterId = ranges.remove(tailIndex).afterId();
+            cache.remove(POSTS_KEY_PREFIX + tailIndex);
+        }
+
+        while (true) {
+            List<PostSitemapRow> rows = postRepository.findSitemapRowsAfter(afterId, PageRequest.of(0, PAGE_SIZE));
+            if (rows.isEmpty()) {
+                break;
+            }
+            long lastId = rows.get(rows.size() - 1).id();
+            CachedSitemap rendered = renderPosts(rows);
+            cache.put(POSTS_KEY_PREFIX + ranges.size(), rendered);
+            ranges.add(new PageRange(afterId, lastId, rendered.lastModified()));
+            if (rows.size() < PAGE_SIZE) {
+                break;
+            }
+            afterId = lastId;
+        }
+        log.debug("사이트맵 구간 갱신: 총 {}페이지", ranges.size());
+    }
+
+    private CachedSitemap rebuildPage(int page) {
+        PageRange range = ranges.get(page);
+        CachedSitemap rendered = renderPosts(postRepository.findSitemapRowsBetween(range.afterId(), range.lastId()));
+        ranges.set(page, new PageRange(range.afterId(), range.lastId(), rendered.lastModified()));
+        cache.put(POSTS_KEY_PREFIX + page, rendered);
+        cache.remove(INDEX_KEY);
+        return rendered;
+    }
+
+    private int findPage(Long postId) {
+        for (int i = 0; i < ranges.size(); i++) {
+            PageRange range = ranges.get(i);
+            if (postId > range.afterId() && postId <= range.lastId()) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private CachedSitemap renderPosts(List<PostSitemapRow> rows) {
+        LocalDateTime lastModified = rows.stream()
+                .map(PostSitemapRow::updatedAt)
+                .filter(Objects::nonNull)
+                .max(LocalDateTime::compareTo)
+                .orElse(null);
+
+        return render(writer -> {
+            writer.write(XML_HEADER);
+            writer.write(URLSET_OPEN);
+            for (PostSitemapRow row : rows) {
+                if (row.id() != null && row.updatedAt() != null) {
+                    writeUrl(writer, "/posts/" + row.id(), row.updatedAt(), "monthly", "0.6");
+                }
+            }
+            writer.write(URLSET_CLOSE);
+        }, lastModified);
+    }
+
+    private void writeIndexEntry(Writer writer, String path, LocalDateTime lastModified) throws IOException {
+        writer.write("  <sitemap>\n");
+        writer.write("    <loc>" + baseUrl + path + "</loc>\n");
+        if (lastModified != null) {
+            writer.write("    <lastmod>" + lastModified.format(LASTMOD_FORMAT) + "</lastmod>\n");
+        }
+        writer.write("  </sitemap>\n");
+    }
+
+    private void writeUrl(Writer writer, String path, LocalDateTime lastModified,
+                          String changeFreq, String priority) throws IOException {
+        writer.write("  <url>\n");
+        writer.write("    <loc>" + baseUrl + path + "</loc>\n");
+        if (lastModified != null) {
+            writer.write("    <lastmod>" + lastModified.format(LASTMOD_FORMAT) + "</lastmod>\n");
+        }
+        writer.write("    <changefreq>" + changeFreq + "</changefreq>\n");
+        writer.write("    <priority>" + priority + "</priority>\n");
+        writer.write("  </url>\n");
+    }
+
+    /**
+     * XML을 버퍼에 바로 기록하고 GZIP 버전을 함께 만들어 캐시 엔트리 생성
+     */
+    private CachedSitemap render(XmlBody body, LocalDateTime lastModified) {
+        try {
+            ByteArrayOutputStream xml = new ByteArrayOutputStream(64 * 1024);
+            try (Writer writer = new OutputStreamWriter(xml, StandardCharsets.UTF_8)) {
+                body.write(writer);
+            }
+            byte[] xmlBytes = xml.toByteArray();
+
+            ByteArrayOutputStream gzip = new ByteArrayOutputStream(xmlBytes.length / 4 + 64);
+            try (GZIPOutputStream out = new GZIPOutputStream(gzip)) {
+                out.write(xmlBytes);
+            }
+            return new CachedSitemap(xmlBytes, gzip.toByteArray(), lastModified, Instant.now().plus(CACHE_TTL));
+        } catch (IOException e) {
+            throw new UncheckedIOException("사이트맵 생성 실패", e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface XmlBody {
+        void write(Writer writer) throws IOException;
+    }
+
+    /**
+     * 게시글 사이트맵 페이지의 고정 id 구간 (afterId, lastId]
+     */
+    private record PageRange(long afterId, long lastId, LocalDateTime lastModified) {
+    }
+
+    /**
+     * 캐시된 사이트맵 (원본 XML + GZIP + 페이지 lastmod)
+     */
+    private record CachedSitemap(byte[] xml, byte[] gzip, LocalDateTime lastModified, Instant expiresAt) {
+        byte[] bytes(boolean compressed) {
+            return compressed ? gzip : xml;
+        }
+
+        boolean isExpired() {
+            return Instant.now().isAfter(expiresAt);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.byeolnight.service.user;
+
+import com.byeolnight.entity.user.PointHistory.PointType;
+import com.byeolnight.infrastructure.cache.RedissonCacheService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+/**
+ * 포인트 유형별 일일 지급 한도 카운터
+ * - Redis INCR 카운터 (KST 자정에 만료), point_history COUNT 조회 대체
+ * - 한도를 넘긴 요청도 카운터는 증가하지만 지급되지 않으므로 결과에 영향 없음
+ * - 지급 트랜잭션이 롤백되면 증가분을 되돌림 (롤백된 요청이 한도를 소모하지 않도록)
+ * - Redis 장애 시에는 지급하지 않음 (한도 확인 없이 무제한 적립되지 않도록, 본 요청은 그대로 진행)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DailyPointQuota {
+
+    static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final String KEY_PREFIX = "point:quota:";
+
+    private final RedissonCacheService cacheService;
+
+    /**
+     * 오늘 한도 내이면 1회 사용 처리 후 true
+     */
+    public boolean tryAcquire(Long userId, PointType type, int dailyLimit) {
+        LocalDate today = LocalDate.now(KST);
+        String key = KEY_PREFIX + today + ":" + userId + ":" + type.name();
+        long used;
+        try {
+            used = cacheService.incrementAndGet(key, untilMidnight(today));
+        } catch (Exception e) {
+            log.warn("일일 포인트 한도 카운터 조회 실패 - 지급 거부: userId={}, type={}, error={}", userId, type, e.getMessage());
+            return false;
+        }
+        releaseOnRollback(key);
+        return used <= dailyLimit;
+    }
+
+    private void releaseOnRollback(String key) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_ROLLED_BACK) {
+                    return;
+                }
+                try {
+                    cacheService.decrementIfExists(key);
+                } catch (Exception e) {
+                    log.warn("일일 포인트 한도 카운터 복구 실패: key={}, error={}", key, e.getMessage());
+                }
+            }
+        });
+    }
+
+    static Duration untilMidnight(LocalDate today) {
+        ZonedDateTime midnight = today.plusDays(1).atStartOfDay(KST);
+        Duration remaining = Duration.between(ZonedDateTime.now(KST), midnight);
+        return remaining.toSeconds() < 1 ? Duration.ofSeconds(1) : remaining;
+    }
+}
@@ -0,0 +1,39 @@
+package com.byeolnight.service.user;
+
+import com.byeolnight.dto.user.LikePointJob;
+import com.byeolnight.event.PostLikedEvent;
+import com.byeolnight.infrastructure.cache.RedissonCacheService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 게시글 추천 이벤트 → 추천 보상 작업 변환
+ * - 커밋 이후 Redis 큐에 적재만 하고, 포인트 적립(및 포인트 달성 인증서 평가)은 LikePointWorker가 일괄 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikePointEventListener {
+
+    public static final String LIKE_POINT_QUEUE = "queue:like-points";
+    public static final String LIKE_POINT_DLQ = "queue:like-points:dlq";
+
+    private final RedissonCacheService cacheService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostLiked(PostLikedEvent event) {
+        try {
+            cacheService.enqueueAll(LIKE_POINT_QUEUE, List.of(
+                    LikePointJob.give(event.userId(), event.postId()),
+                    LikePointJob.receive(event.postId())));
+        } catch (Exception e) {
+            // 추천 자체는 커밋됨 - 보상 누락만 로그로 추적
+            log.error("추천 보상 작업 적재 실패: userId={}, postId={}", event.userId(), event.postId(), e);
+        }
+    }
+}
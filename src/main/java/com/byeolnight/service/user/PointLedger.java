@@ -0,0 +1,124 @@
+package com.byeolnight.service.user;
+
+import com.byeolnight.dto.user.PointHistoryJob;
+import com.byeolnight.entity.user.PointHistory.PointType;
+import com.byeolnight.entity.user.User;
+import com.byeolnight.infrastructure.cache.RedissonCacheService;
+import com.byeolnight.infrastructure.exception.NotFoundException;
+import com.byeolnight.repository.user.UserRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 포인트 원장
+ * - 잔액은 UPDATE ... SET points = points ± ? 원자적 갱신 (엔티티 read-modify-write로 인한 갱신 유실 방지)
+ * - 히스토리는 커밋 이후 Redis 큐에 적재하고 PointHistoryWorker가 일괄 INSERT
+ * - 영속성 컨텍스트에 이미 로딩된 User가 있으면 갱신된 잔액으로 동기화 (이후 flush 시 덮어쓰기 방지)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PointLedger {
+
+    public static final String HISTORY_QUEUE = "queue:point-history";
+    public static final String HISTORY_DLQ = "queue:point-history:dlq";
+
+    private final UserRepository userRepository;
+    private final RedissonCacheService cacheService;
+    private final EntityManager entityManager;
+
+    /**
+     * 적립
+     * @return 적립 후 잔액
+     */
+    @Transactional
+    public int credit(Long userId, PointType type, int amount, String reason, String referenceId) {
+        if (amount < 0) {
+            throw new IllegalArgumentException("증가할 포인트는 0 이상이어야 합니다.");
+        }
+        if (userRepository.addPoints(userId, amount, Integer.MAX_VALUE - amount) == 0) {
+            requireUser(userId);
+            throw new IllegalArgumentException("포인트 오버플로우가 발생할 수 있습니다.");
+        }
+        return record(userId, type, amount, reason, referenceId);
+    }
+
+    /**
+     * 차감 (잔액 부족 시 IllegalArgumentException)
+     * @return 차감 후 잔액
+     */
+    @Transactional
+    public int debit(Long userId, PointType type, int amount, String reason, String referenceId) {
+        if (amount < 0) {
+            throw new IllegalArgumentException("차감할 포인트는 0 이상이어야 합니다.");
+        }
+        if (userRepository.deductPoints(userId, amount) == 0) {
+            int balance = requireUser(userId);
+            throw new IllegalArgumentException("포인트가 부족합니다. 필요: " + amount + ", 보유: " + balance);
+        }
+        return record(userId, type, -amount, reason, referenceId);
+    }
+
+    /**
+     * 페널티 차감 (잔액이 부족하면 0으로 맞추고 히스토리에는 원래 금액 기록)
+     * @return 차감 후 잔액
+     */
+    @Transactional
+    public int penalize(Long userId, PointType type, int amount, String reason, String referenceId) {
+        if (userRepository.deductPointsFloorZero(userId, amount) == 0) {
+            requireUser(userId);
+        }
+        return record(userId, type, -amount, reason, referenceId);
+    }
+
+    private int record(Long userId, PointType type, int amount, String reason, String referenceId) {
+        enqueueHistory(PointHistoryJob.of(userId, amount, type, reason, referenceId));
+        return syncBalance(userId);
+    }
+
+    /**
+     * 갱신 후 잔액 조회 - 로딩된 엔티티는 refresh, 아니면 스칼라 조회
+     */
+    private int syncBalance(Long userId) {
+        User loaded = entityManager.getReference(User.class, userId);
+        if (Hibernate.isInitialized(loaded)) {
+            entityManager.refresh(loaded);
+            return loaded.getPoints();
+        }
+        return requireUser(userId);
+    }
+
+    private int requireUser(Long userId) {
+        return userRepository.findPointsById(userId)
+                .orElseThrow(() -> new NotFoundException("사용자를 찾을 수 없습니다."));
+    }
+
+    private void enqueueHistory(PointHistoryJob job) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    push(job);
+                }
+            });
+        } else {
+            push(job);
+        }
+    }
+
+    private void push(PointHistoryJob job) {
+        try {
+            cacheService.enqueue(HISTORY_QUEUE, job);
+        } catch (Exception e) {
+            // 잔액은 이미 커밋됨 - 히스토리 누락은 로그로 추적
+            log.error("포인트 히스토리 적재 실패: userId={}, type={}, amount={}, ref={}",
+                    job.getUserId(), job.getType(), job.getAmount(), job.getReferenceId(), e);
+        }
+    }
+}
@@ -1,15 +1,16 @@
 package com.byeolnight.service.user;
 
 import com.byeolnight.dto.user.UserSignUpRequestDto;
-import com.byeolnight.entity.log.AuditSignupLog;
 import com.byeolnight.entity.log.NicknameChangeHistory;
 import com.byeolnight.entity.shop.StellaIcon;
 import com.byeolnight.entity.shop.UserIcon;
 import com.byeolnight.entity.token.PasswordResetToken;
 import com.byeolnight.entity.user.User;
+import com.byeolnight.entity.user.UserStats;
+import com.byeolnight.event.UserProfileChangedEvent;
+import com.byeolnight.event.UserStatsChangedEvent;
 import com.byeolnight.infrastructure.exception.*;
 import com.byeolnight.repository.PasswordResetTokenRepository;
-import com.byeolnight.repository.log.AuditSignupLogRepository;
 import com.byeolnight.repository.log.NicknameChangeHistoryRepository;
 import com.byeolnight.repository.shop.StellaIconRepository;
 import com.byeolnight.repository.shop.UserIconRepository;
@@ -17,8 +18,10 @@ import com.byeolnight.repository.user.UserRepository;
 import com.byeolnight.service.auth.EmailAuthService;
 import com.byeolnight.service.auth.GmailEmailService;
 import com.byeolnight.service.auth.SocialRevokeService;
+import com.byeolnight.service.log.AuditLogWriter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -38,7 +41,6 @@ public class UserAccountService {
 
     private final UserRepository userRepository;
     private final NicknameChangeHistoryRepository nicknameChangeHistoryRepository;
-    private final AuditSignupLogRepository auditSignupLogRepository;
     private final PasswordResetTokenRepository passwordResetTokenRepository;
     private final StellaIconRepository stellaIconRepository;
     private final UserIconRepository userIconRepository;
@@ -47,6 +49,8 @@ public class UserAccountService {
     private final EmailAuthService emailAuthService;
     private final UserQueryService userQueryService;
     private final SocialRevokeService socialRevokeService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AuditLogWriter auditLogWriter;
 
     @Transactional
     public Long register(UserSignUpRequestDto dto, String ipAddress) {
@@ -55,31 +59,31 @@ public class UserAccountService {
             if (existingUser.isPresent()) {
                 User user = existingUser.get();
                 if (user.isSocialUser()) {
-                    auditSignupLogRepository.save(AuditSignupLog.failure(dto.getEmail(), ipAddress, "소셜 계정 존재"));
+                    auditLogWriter.signupFailure(dto.getEmail(), ipAddress, "소셜 계정 존재");
                     throw new DuplicateEmailException("해당 이메일로 소셜 계정(" + user.getSocialProviderName() + ")이 존재합니다. 소셜 로그인을 이용해주세요.");
                 } else {
-                    auditSignupLogRepository.save(AuditSignupLog.failure(dto.getEmail(), ipAddress, "중복된 이메일"));
+                    auditLogWriter.signupFailure(dto.getEmail(), ipAddress, "중복된 이메일");
                     throw new DuplicateEmailException("이미 사용 중인 이메일입니다.");
                 }
             }
             
             if (isNicknameDuplicated(dto.getNickname())) {
-                auditSignupLogRepository.save(AuditSignupLog.failure(dto.getEmail(), ipAddress, "중복된 닉네임"));
+                auditLogWriter.signupFailure(dto.getEmail(), ipAddress, "중복된 닉네임");
                 throw new DuplicateNicknameException("이미 사용 중인 닉네임입니다.");
             }
             
             if (!dto.getPassword().equals(dto.getConfirmPassword())) {
-                auditSignupLogRepository.save(AuditSignupLog.failure(dto.getEmail(), ipAddress, "비밀번호 불일치"));
+                auditLogWriter.signupFailure(dto.getEmail(), ipAddress, "비밀번호 불일치");
                 throw new PasswordMismatchException("비밀번호가 일치하지 않습니다.");
             }
             
             if (!userSecurityService.isValidPassword(dto.getPassword())) {
-                auditSignupLogRepository.save(AuditSignupLog.failure(dto.getEmail(), ipAddress, "비밀번호 정책 위반"));
+                auditLogWriter.signupFailure(dto.getEmail(), ipAddress, "비밀번호 정책 위반");
                 throw new IllegalArgumentException("비밀번호는 8자 이상이며, 영문/숫자/특수문자를 포함해야 합니다.");
             }
             
             if (!emailAuthService.isAlreadyVerified(dto.getEmail())) {
-                auditSignupLogRepository.save(AuditSignupLog.failure(dto.getEmail(), ipAddress, "이메일 인증 미완료"));
+                auditLogWriter.signupFailure(dto.getEmail(), ipAddress, "이메일 인증 미완료");
                 throw new IllegalArgumentException("이메일 인증을 완료해주세요.");
             }
 
@@ -99,7 +103,7 @@ public class UserAccountService {
             grantDefaultAsteroidIcon(savedUser);
             emailAuthService.clearAllEmailData(dto.getEmail());
             
-            auditSignupLogRepository.save(AuditSignupLog.success(dto.getEmail(), ipAddress));
+            auditLogWriter.signupSuccess(dto.getEmail(), ipAddress);
             return user.getId();
         } catch (RuntimeException e) {
             if (!(e instanceof DuplicateEmailException || e instanceof DuplicateNicknameException
@@ -108,8 +112,7 @@ public class UserAccountService {
                 if (errorMessage != null && errorMessage.length() > 450) {
                     errorMessage = errorMessage.substring(0, 450) + "...";
                 }
-                auditSignupLogRepository.save(
-                        AuditSignupLog.failure(dto.getEmail(), ipAddress, "기타 오류: " + errorMessage));
+                auditLogWriter.signupFailure(dto.getEmail(), ipAddress, "기타 오류: " + errorMessage);
             }
             throw e;
         }
@@ -137,6 +140,7 @@ public class UserAccountService {
         user.updateNickname(newNickname, LocalDateTime.now());
         NicknameChangeHistory history = NicknameChangeHistory.create(user, previousNickname, newNickname, ipAddress);
         nicknameChangeHistoryRepository.save(history);
+        eventPublisher.publishEvent(new UserProfileChangedEvent(userId));
     }
 
     @Transactional
@@ -259,6 +263,7 @@ public class UserAccountService {
                         .purchasePrice(0)
                         .build();
                 userIconRepository.save(userIcon);
+                eventPublisher.publishEvent(UserStatsChangedEvent.increment(user.getId(), UserStats.Counter.ICON));
                 log.info("사용자 {}에게 기본 소행성 아이콘 부여 완료", user.getNickname());
             }
             
@@ -1,11 +1,15 @@
 package com.byeolnight.service.user;
 
-import com.byeolnight.dto.user.UserSummaryDto;
+import com.byeolnight.dto.user.UserDirectoryCondition;
+import com.byeolnight.dto.user.UserDirectoryDto;
 import com.byeolnight.entity.user.User;
 import com.byeolnight.infrastructure.exception.NotFoundException;
 import com.byeolnight.repository.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,11 +27,23 @@ public class UserAdminService {
     private final UserQueryService userQueryService;
     private final UserSecurityService userSecurityService;
 
-    public List<UserSummaryDto> getAllUserSummaries() {
-        return userRepository.findAll().stream()
-                .filter(user -> user.getRole() != User.Role.ADMIN)
-                .map(UserSummaryDto::from)
-                .toList();
+    /**
+     * 관리자 사용자 디렉터리 (DB 필터 + 페이징)
+     */
+    @Transactional(readOnly = true)
+    public Page<UserDirectoryDto> getUserDirectory(UserDirectoryCondition condition, Pageable pageable) {
+        return userRepository.searchDirectory(condition, pageable);
+    }
+
+    /**
+     * 닉네임 부분 일치 조회 (닉네임 디버깅용, 최대 limit건)
+     */
+    @Transactional(readOnly = true)
+    public List<String> findSimilarNicknames(String nickname, int limit) {
+        if (nickname == null || nickname.isBlank()) {
+            return List.of();
+        }
+        return userRepository.findNicknamesContaining(nickname.trim(), PageRequest.of(0, limit));
     }
 
     @Transactional
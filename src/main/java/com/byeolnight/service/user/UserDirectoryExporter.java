@@ -0,0 +1,153 @@
+package com.byeolnight.service.user;
+
+import com.byeolnight.dto.user.UserDirectoryCondition;
+import com.byeolnight.dto.user.UserDirectoryDto;
+import com.byeolnight.repository.user.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 관리자 사용자 목록 내보내기 (CSV / NDJSON)
+ * - JDBC fetch size 단위 커서 조회로 전체 사용자를 일정한 메모리로 스트리밍
+ * - MySQL은 JDBC URL에 useCursorFetch=true가 있어야 fetch size가 서버 커서로 동작
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserDirectoryExporter {
+
+    private static final String[] CSV_HEADER = {
+            "id", "email", "nickname", "role", "status", "accountLocked",
+            "points", "socialProvider", "createdAt", "lastLoginAt"
+    };
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+    private static final int FLUSH_INTERVAL = 1_000;
+
+    private final UserRepository userRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${admin.user-export.fetch-size:1000}")
+    private int fetchSize;
+
+    public enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String contentType() {
+            return contentType;
+        }
+
+        public String extension() {
+            return extension;
+        }
+
+        public static Format from(String value) {
+            if (value == null || value.isBlank()) {
+                return CSV;
+            }
+            try {
+                return Format.valueOf(value.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + value);
+            }
+        }
+    }
+
+    /**
+     * 조건에 맞는 사용자를 out에 순서대로 기록하고 기록한 행 수를 반환
+     */
+    @Transactional(readOnly = true)
+    public long export(UserDirectoryCondition condition, Format format, OutputStream out) {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        long count = 0;
+
+        try (Stream<UserDirectoryDto> rows = userRepository.streamDirectory(condition, fetchSize)) {
+            if (format == Format.CSV) {
+                writer.write('\uFEFF'); // 엑셀 한글 깨짐 방지 BOM
+                writeCsvLine(writer, CSV_HEADER);
+            }
+
+            Iterator<UserDirectoryDto> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                UserDirectoryDto row = iterator.next();
+                if (format == Format.CSV) {
+                    writeCsvLine(writer, toCsvValues(row));
+                } else {
+                    writer.write(objectMapper.writeValueAsString(row));
+                    writer.write('\n');
+                }
+
+                // projection이라 영속성 컨텍스트에 쌓이지 않음 → 출력 버퍼만 주기적으로 내보냄
+                if (++count % FLUSH_INTERVAL == 0) {
+                    writer.flush();
+                }
+            }
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("사용자 목록 내보내기 중 오류가 발생했습니다.", e);
+        }
+
+        log.info("사용자 목록 내보내기 완료 - format: {}, rows: {}", format, count);
+        return count;
+    }
+
+    private String[] toCsvValues(UserDirectoryDto row) {
+        return new String[]{
+                String.valueOf(row.id()),
+                row.email(),
+                row.nickname(),
+                row.role() != null ? row.role().name() : null,
+                row.status() != null ? row.status().name() : null,
+                String.valueOf(row.accountLocked()),
+                String.valueOf(row.points()),
+                row.socialProvider(),
+                row.createdAt() != null ? row.createdAt().format(DATE_TIME) : null,
+                row.lastLoginAt() != null ? row.lastLoginAt().format(DATE_TIME) : null
+        };
+    }
+
+    private void writeCsvLine(Writer writer, String[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    static String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        // 스프레드시트 수식 주입 방지
+        String safe = !value.isEmpty() && "=+-@".indexOf(value.charAt(0)) >= 0 ? "'" + value : value;
+        if (safe.contains(",") || safe.contains("\"") || safe.contains("\n") || safe.contains("\r")) {
+            return "\"" + safe.replace("\"", "\"\"") + "\"";
+        }
+        return safe;
+    }
+}
@@ -0,0 +1,70 @@
+package com.byeolnight.service.user;
+
+import com.byeolnight.dto.user.UserProfileDto;
+import com.byeolnight.event.UserProfileChangedEvent;
+import com.byeolnight.event.UserStatsChangedEvent;
+import com.byeolnight.infrastructure.cache.RedissonCacheService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * 공개 프로필 스냅샷 캐시
+ * - 프로필 조회는 캐시 1회 조회로 처리
+ * - 집계/표시 정보 변경 이벤트 커밋 후 무효화 (Redis 장애 시 DB 조회로 폴백)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserProfileCache {
+
+    private static final String KEY_PREFIX = "profile:user:";
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private final RedissonCacheService cacheService;
+
+    public UserProfileDto get(Long userId) {
+        try {
+            return cacheService.get(key(userId));
+        } catch (Exception e) {
+            log.warn("프로필 캐시 조회 실패 - userId: {}, error: {}", userId, e.getMessage());
+            return null;
+        }
+    }
+
+    public void put(UserProfileDto profile) {
+        try {
+            cacheService.set(key(profile.getId()), profile, TTL);
+        } catch (Exception e) {
+            log.warn("프로필 캐시 저장 실패 - userId: {}, error: {}", profile.getId(), e.getMessage());
+        }
+    }
+
+    public void evict(Long userId) {
+        try {
+            cacheService.delete(key(userId));
+        } catch (Exception e) {
+            log.warn("프로필 캐시 삭제 실패 - userId: {}, error: {}", userId, e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStatsChanged(UserStatsChangedEvent event) {
+        if (!event.isNoop()) {
+            evict(event.userId());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProfileChanged(UserProfileChangedEvent event) {
+        evict(event.userId());
+    }
+
+    private String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
@@ -10,19 +10,21 @@ import com.byeolnight.dto.user.UserProfileDto;
 import com.byeolnight.entity.certificate.UserCertificate;
 import com.byeolnight.entity.shop.StellaIcon;
 import com.byeolnight.entity.user.User;
+import com.byeolnight.entity.user.UserStats;
+import com.byeolnight.event.UserProfileChangedEvent;
 import com.byeolnight.infrastructure.exception.NotFoundException;
 import com.byeolnight.infrastructure.exception.PasswordMismatchException;
-import com.byeolnight.repository.comment.CommentRepository;
-import com.byeolnight.repository.post.PostRepository;
-import com.byeolnight.repository.shop.StellaIconRepository;
-import com.byeolnight.repository.shop.UserIconRepository;
 import com.byeolnight.repository.user.UserRepository;
 import com.byeolnight.service.certificate.CertificateService;
 import com.byeolnight.service.comment.CommentService;
 import com.byeolnight.service.message.MessageService;
 import com.byeolnight.service.post.PostService;
+import com.byeolnight.service.shop.StellaIconCatalog;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -32,6 +34,8 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * 사용자 프로필 조회/수정 서비스
@@ -42,17 +46,17 @@ import java.util.List;
 public class UserProfileService {
 
     private final UserRepository userRepository;
-    private final PostRepository postRepository;
-    private final CommentRepository commentRepository;
-    private final StellaIconRepository stellaIconRepository;
-    private final UserIconRepository userIconRepository;
+    private final StellaIconCatalog stellaIconCatalog;
     private final CertificateService certificateService;
     private final PostService postService;
     private final CommentService commentService;
     private final MessageService messageService;
-    private final PointService pointService;
     private final UserSecurityService userSecurityService;
     private final UserQueryService userQueryService;
+    private final UserStatsService userStatsService;
+    private final UserProfileCache userProfileCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AsyncTaskExecutor applicationTaskExecutor;
 
     public UserProfileDto getUserProfileByNickname(String nickname) {
         User user = userRepository.findByNickname(nickname)
@@ -60,27 +64,20 @@ public class UserProfileService {
         return getUserProfile(user.getId());
     }
 
+    /**
+     * 공개 프로필 조회
+     * - 캐시 적중 시 Redis 1회 조회, 미스 시 사용자 + 집계 행 + 인증서로 스냅샷 생성
+     */
     public UserProfileDto getUserProfile(Long userId) {
-        User user = userQueryService.findById(userId);
+        UserProfileDto cached = userProfileCache.get(userId);
+        if (cached != null) {
+            return cached;
+        }
 
+        User user = userQueryService.findById(userId);
+        UserStats stats = userStatsService.getOrCreate(user);
         List<CertificateDto.Response> certificates = certificateService.getUserPublicCertificates(userId, 4);
-        long postCount = postRepository.countByWriterAndIsDeletedFalse(user);
-        long commentCount = commentRepository.countByWriterAndDeletedFalseAndBlindedFalse(user);
-        int totalIconCount = (int) userIconRepository.countByUserId(userId);
-        
-        int attendanceCount;
-        try {
-            attendanceCount = pointService.getUserAttendanceCount(user);
-        } catch (Exception e) {
-            long daysSinceJoined = java.time.temporal.ChronoUnit.DAYS.between(
-                user.getCreatedAt().toLocalDate(), 
-                LocalDateTime.now().toLocalDate()
-            );
-            attendanceCount = (int) Math.min(daysSinceJoined, 365);
-        }
-        
-        com.byeolnight.dto.shop.EquippedIconDto equippedIcon = getUserEquippedIcon(userId);
-        
+
         List<String> representativeCertificates = new ArrayList<>();
         try {
             UserCertificate repCert = certificateService.getRepresentativeCertificate(user);
@@ -90,19 +87,21 @@ public class UserProfileService {
         } catch (Exception e) {
             log.warn("대표 인증서 조회 실패: {}", e.getMessage());
         }
-        
-        return UserProfileDto.builder()
+
+        UserProfileDto profile = UserProfileDto.builder()
                 .id(user.getId())
                 .nickname(user.getNickname())
                 .equippedIcon(user.getEquippedIconName())
                 .representativeCertificates(representativeCertificates)
                 .certificates(certificates)
-                .iconCount(totalIconCount)
-                .postCount((int) postCount)
-                .commentCount((int) commentCount)
-                .attendanceCount(attendanceCount)
+                .iconCount(stats.getIconCount())
+                .postCount(stats.getPostCount())
+                .commentCount(stats.getCommentCount())
+                .attendanceCount(stats.getAttendanceCount())
                 .joinedAt(user.getCreatedAt())
                 .build();
+        userProfileCache.put(profile);
+        return profile;
     }
 
     public com.byeolnight.dto.shop.EquippedIconDto getUserEquippedIcon(Long userId) {
@@ -112,7 +111,7 @@ public class UserProfileService {
             return null;
         }
 
-        StellaIcon icon = stellaIconRepository.findById(user.getEquippedIconId()).orElse(null);
+        StellaIcon icon = stellaIconCatalog.findById(user.getEquippedIconId()).orElse(null);
         if (icon == null) {
             return null;
         }
@@ -124,58 +123,65 @@ public class UserProfileService {
                 .build();
     }
 
+    /**
+     * 내 활동 내역 조회
+     * - 게시글/댓글/받은 쪽지/보낸 쪽지는 서로 독립적이므로 공용 applicationTaskExecutor에서 동시에 조회 (실행 모드를 따름)
+     * - 각 조회는 자체 읽기 전용 트랜잭션에서 실행
+     */
     public MyActivityDto getMyActivity(Long userId, int page, int size) {
         User user = userQueryService.findById(userId);
         log.debug("내 활동 내역 조회 시작 - userId: {}, nickname: {}", userId, user.getNickname());
 
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
 
-        try {
-            org.springframework.data.domain.Page<PostDto.Response> postsPage = postService.getMyPosts(userId, pageable);
-            log.debug("내 게시글 조회 완료: {}개", postsPage.getContent().size());
-
-            org.springframework.data.domain.Page<CommentDto.Response> commentsPage = commentService.getMyComments(userId, pageable);
-            log.debug("내 댓글 조회 완료: {}개", commentsPage.getContent().size());
-
-            MessageDto.ListResponse receivedMessages = messageService.getReceivedMessages(userId, pageable);
-            log.debug("받은 쪽지 조회 완료: {}개", receivedMessages.getMessages().size());
-
-            MessageDto.ListResponse sentMessages = messageService.getSentMessages(userId, pageable);
-            log.debug("보낸 쪽지 조회 완료: {}개", sentMessages.getMessages().size());
-
-            long totalPostCount = postRepository.countByWriterAndIsDeletedFalse(user);
-            long totalCommentCount = commentRepository.countByWriter(user);
-
-            log.debug("전체 게시글 수: {}, 전체 댓글 수: {}", totalPostCount, totalCommentCount);
-
-            MyActivityDto result = MyActivityDto.builder()
-                    .myPosts(postsPage.getContent())
-                    .myComments(commentsPage.getContent())
-                    .receivedMessages(receivedMessages)
-                    .sentMessages(sentMessages)
-                    .totalPostCount(totalPostCount)
-                    .totalCommentCount(totalCommentCount)
-                    .totalReceivedMessageCount(receivedMessages.getTotalCount())
-                    .totalSentMessageCount(sentMessages.getTotalCount())
-                    // 게시글 페이징 정보
-                    .postsCurrentPage(postsPage.getNumber())
-                    .postsTotalPages(postsPage.getTotalPages())
-                    .postsHasNext(postsPage.hasNext())
-                    .postsHasPrevious(postsPage.hasPrevious())
-                    // 댓글 페이징 정보
-                    .commentsCurrentPage(commentsPage.getNumber())
-                    .commentsTotalPages(commentsPage.getTotalPages())
-                    .commentsHasNext(commentsPage.hasNext())
-                    .commentsHasPrevious(commentsPage.hasPrevious())
-                    .build();
-
-            log.debug("내 활동 내역 조회 완료");
-            return result;
+        CompletableFuture<Page<PostDto.Response>> postsFuture =
+                CompletableFuture.supplyAsync(() -> postService.getMyPosts(userId, pageable), applicationTaskExecutor);
+        CompletableFuture<Page<CommentDto.Response>> commentsFuture =
+                CompletableFuture.supplyAsync(() -> commentService.getMyComments(userId, pageable), applicationTaskExecutor);
+        CompletableFuture<MessageDto.ListResponse> receivedFuture =
+                CompletableFuture.supplyAsync(() -> messageService.getReceivedMessages(userId, pageable), applicationTaskExecutor);
+        CompletableFuture<MessageDto.ListResponse> sentFuture =
+                CompletableFuture.supplyAsync(() -> messageService.getSentMessages(userId, pageable), applicationTaskExecutor);
 
-        } catch (Exception e) {
-            log.error("내 활동 내역 조회 중 오류 발생: {}", e.getMessage(), e);
+        try {
+            CompletableFuture.allOf(postsFuture, commentsFuture, receivedFuture, sentFuture).join();
+        } catch (CompletionException e) {
+            log.error("내 활동 내역 조회 중 오류 발생: {}", e.getCause().getMessage(), e.getCause());
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
             throw e;
         }
+
+        Page<PostDto.Response> postsPage = postsFuture.join();
+        Page<CommentDto.Response> commentsPage = commentsFuture.join();
+        MessageDto.ListResponse receivedMessages = receivedFuture.join();
+        MessageDto.ListResponse sentMessages = sentFuture.join();
+
+        MyActivityDto result = MyActivityDto.builder()
+                .myPosts(postsPage.getContent())
+                .myComments(commentsPage.getContent())
+                .receivedMessages(receivedMessages)
+                .sentMessages(sentMessages)
+                // 전체 개수는 페이지 count 쿼리 결과를 그대로 사용 (게시글: 삭제 제외, 댓글: 전체)
+                .totalPostCount(postsPage.getTotalElements())
+                .totalCommentCount(commentsPage.getTotalElements())
+                .totalReceivedMessageCount(receivedMessages.getTotalCount())
+                .totalSentMessageCount(sentMessages.getTotalCount())
+                // 게시글 페이징 정보
+                .postsCurrentPage(postsPage.getNumber())
+                .postsTotalPages(postsPage.getTotalPages())
+                .postsHasNext(postsPage.hasNext())
+                .postsHasPrevious(postsPage.hasPrevious())
+                // 댓글 페이징 정보
+                .commentsCurrentPage(commentsPage.getNumber())
+                .commentsTotalPages(commentsPage.getTotalPages())
+                .commentsHasNext(commentsPage.hasNext())
+                .commentsHasPrevious(commentsPage.hasPrevious())
+                .build();
+
+        log.debug("내 활동 내역 조회 완료");
+        return result;
     }
 
     @Transactional
@@ -201,6 +207,7 @@ public class UserProfileService {
             }
             
             user.updateNickname(dto.getNickname(), LocalDateTime.now());
+            eventPublisher.publishEvent(new UserProfileChangedEvent(userId));
         }
     }
 }
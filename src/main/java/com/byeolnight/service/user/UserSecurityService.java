@@ -1,8 +1,7 @@
 package com.byeolnight.service.user;
 
-import com.byeolnight.entity.log.AuditSignupLog;
 import com.byeolnight.entity.user.User;
-import com.byeolnight.repository.log.AuditSignupLogRepository;
+import com.byeolnight.service.log.AuditLogWriter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationContext;
@@ -20,9 +19,9 @@ import java.time.Duration;
 @RequiredArgsConstructor
 public class UserSecurityService {
 
-    private final AuditSignupLogRepository auditSignupLogRepository;
     private final StringRedisTemplate redisTemplate;
     private final ApplicationContext applicationContext;
+    private final AuditLogWriter auditLogWriter;
 
     @Value("${app.security.max-login-attempts:10}")
     private int maxLoginAttempts;
@@ -61,9 +60,7 @@ public class UserSecurityService {
                 reason = "로그인 실패 경고";
             }
 
-            auditSignupLogRepository.save(
-                    AuditSignupLog.failure(email, ipAddress, reason)
-            );
+            auditLogWriter.signupFailure(email, ipAddress, reason);
         }
 
         // IP 차단 처리 (15회 실패 시)
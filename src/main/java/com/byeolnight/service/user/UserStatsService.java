@@ -0,0 +1,105 @@
+package com.byeolnight.service.user;
+
+import com.byeolnight.entity.user.User;
+import com.byeolnight.entity.user.UserStats;
+import com.byeolnight.event.UserStatsChangedEvent;
+import com.byeolnight.repository.comment.CommentRepository;
+import com.byeolnight.repository.post.PostRepository;
+import com.byeolnight.repository.shop.UserIconRepository;
+import com.byeolnight.repository.user.DailyAttendanceRepository;
+import com.byeolnight.repository.user.UserRepository;
+import com.byeolnight.repository.user.UserStatsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 사용자 활동 집계 서비스
+ * - 쓰기 서비스가 발행한 UserStatsChangedEvent를 같은 트랜잭션에서 원자적 UPDATE로 반영
+ * - 집계 행이 없으면 원본 테이블 COUNT로 행을 INSERT (변경 트랜잭션 안이면 이번 변경까지 포함된 값)
+ *   다른 트랜잭션이 먼저 INSERT했으면(PK 충돌) 그 행을 기준으로 증감/재조회 → 생성과 증감 사이에 빠지는 변경 없음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserStatsService {
+
+    private final UserStatsRepository userStatsRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final UserIconRepository userIconRepository;
+    private final DailyAttendanceRepository dailyAttendanceRepository;
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener
+    @Transactional
+    public void onStatsChanged(UserStatsChangedEvent event) {
+        if (event.isNoop()) {
+            return;
+        }
+        if (add(event) > 0) {
+            return;
+        }
+        // 행 없음: 이 트랜잭션에서 센 값(이번 변경 포함)으로 생성, 먼저 생성된 행이 있으면 그 행에 증감
+        if (!insertIfAbsent(count(userRepository.getReferenceById(event.userId())))) {
+            add(event);
+        }
+    }
+
+    /**
+     * 집계 조회 (없으면 원본 테이블 COUNT로 생성)
+     * - 호출자 트랜잭션 밖에서 실행, 동시 생성/증감으로 PK 충돌 시 저장된 행을 다시 읽어 반환
+     */
+    public UserStats getOrCreate(User user) {
+        return userStatsRepository.findById(user.getId())
+                .orElseGet(() -> {
+                    UserStats counted = count(user);
+                    if (insertIfAbsent(counted)) {
+                        return counted;
+                    }
+                    log.debug("집계 행 동시 생성 - userId: {}", user.getId());
+                    return userStatsRepository.findById(user.getId()).orElse(counted);
+                });
+    }
+
+    private int add(UserStatsChangedEvent event) {
+        return switch (event.counter()) {
+            case POST -> userStatsRepository.addPostCount(event.userId(), event.delta());
+            case COMMENT -> userStatsRepository.addCommentCount(event.userId(), event.delta());
+            case ICON -> userStatsRepository.addIconCount(event.userId(), event.delta());
+            case ATTENDANCE -> userStatsRepository.addAttendanceCount(event.userId(), event.delta());
+        };
+    }
+
+    private UserStats count(User user) {
+        return UserStats.of(
+                user.getId(),
+                (int) postRepository.countByWriterAndIsDeletedFalse(user),
+                (int) commentRepository.countByWriterAndDeletedFalseAndBlindedFalse(user),
+                (int) userIconRepository.countByUserId(user.getId()),
+                (int) dailyAttendanceRepository.countByUser(user));
+    }
+
+    /**
+     * 집계 행 INSERT (이미 있으면 false)
+     * - JDBC로 직접 실행해 PK 충돌이 JPA 세션/감싼 트랜잭션을 롤백 전용으로 만들지 않음 (실패한 문장만 취소)
+     */
+    private boolean insertIfAbsent(UserStats stats) {
+        try {
+            jdbcTemplate.update("""
+                    INSERT INTO user_stats (user_id, post_count, comment_count, icon_count, attendance_count, updated_at)
+                    VALUES (?, ?, ?, ?, ?, CURRENT_TIMESTAMP)
+                    """,
+                    stats.getUserId(), stats.getPostCount(), stats.getCommentCount(),
+                    stats.getIconCount(), stats.getAttendanceCount());
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+}
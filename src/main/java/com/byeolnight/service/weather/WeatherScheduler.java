@@ -3,6 +3,8 @@ package com.byeolnight.service.weather;
 import com.byeolnight.config.WeatherCityConfig;
 import com.byeolnight.dto.external.weather.OpenWeatherResponse;
 import com.byeolnight.dto.weather.WeatherResponse;
+import com.byeolnight.infrastructure.http.OutboundHttpClients;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -25,9 +27,12 @@ import static com.byeolnight.infrastructure.util.CoordinateUtils.generateCacheKe
 @RequiredArgsConstructor
 public class WeatherScheduler {
 
+    static final String UPSTREAM = "openweather";
+
     private final WeatherLocalCacheService cacheService;
     private final WeatherCityConfig cityConfig;
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final OutboundHttpClients outboundHttpClients;
+    private RestTemplate restTemplate;
 
     @Value("${weather.api.key}")
     private String apiKey;
@@ -35,6 +40,11 @@ public class WeatherScheduler {
     @Value("${weather.api.url:https://api.openweathermap.org/data/2.5}")
     private String apiUrl;
 
+    @PostConstruct
+    public void init() {
+        restTemplate = outboundHttpClients.restTemplate(UPSTREAM);
+    }
+
     /**
      * 30분마다 주요 도시 날씨 수집
      * - 초기 지연: 10초
@@ -2,8 +2,10 @@ package com.byeolnight.service.weather;
 
 import com.byeolnight.dto.external.weather.OpenWeatherResponse;
 import com.byeolnight.dto.weather.WeatherResponse;
+import com.byeolnight.infrastructure.http.OutboundHttpClients;
 import com.byeolnight.infrastructure.util.CoordinateUtils;
 import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -17,7 +19,7 @@ import java.util.Optional;
  * 날씨 서비스
  * - 로컬 캐시에서 날씨 데이터 제공
  * - 30분마다 스케줄러가 주요 도시 날씨 자동 수집
- * - 캐시에 없으면 실시간 API 호출
+ * - 캐시에 없으면 실시간 API 호출 (타임아웃/서킷 오픈 시 fallback 응답)
  */
 @Service
 @Slf4j
@@ -25,7 +27,8 @@ public class WeatherService {
 
     private final WeatherLocalCacheService localCacheService;
     private final MeterRegistry meterRegistry;
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final OutboundHttpClients outboundHttpClients;
+    private RestTemplate restTemplate;
 
     @Value("${weather.api.key}")
     private String apiKey;
@@ -33,9 +36,16 @@ public class WeatherService {
     @Value("${weather.api.url:https://api.openweathermap.org/data/2.5}")
     private String apiUrl;
 
-    public WeatherService(WeatherLocalCacheService localCacheService, MeterRegistry meterRegistry) {
+    public WeatherService(WeatherLocalCacheService localCacheService, MeterRegistry meterRegistry,
+                          OutboundHttpClients outboundHttpClients) {
         this.localCacheService = localCacheService;
         this.meterRegistry = meterRegistry;
+        this.outboundHttpClients = outboundHttpClients;
+    }
+
+    @PostConstruct
+    public void init() {
+        restTemplate = outboundHttpClients.restTemplate(WeatherScheduler.UPSTREAM);
     }
 
     /**
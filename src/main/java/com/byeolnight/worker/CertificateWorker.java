@@ -0,0 +1,54 @@
+package com.byeolnight.worker;
+
+import com.byeolnight.dto.certificate.CertificateJob;
+import com.byeolnight.infrastructure.cache.RedissonCacheService;
+import com.byeolnight.service.certificate.CertificateService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Redis 큐 기반 인증서 평가 워커
+ * - 도메인 이벤트로 적재된 평가 작업을 요청 경로 밖에서 처리
+ * - 실패 시 재시도 (최대 3회), 이후 폐기 (다음 이벤트에서 다시 평가됨)
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class CertificateWorker {
+
+    private static final int BATCH_SIZE = 200;
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final RedissonCacheService cacheService;
+    private final CertificateService certificateService;
+
+    /**
+     * 1초마다 평가 작업 처리
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void processCertificateJobs() {
+        try {
+            List<CertificateJob> jobs = cacheService.dequeueBatch(CertificateService.CERTIFICATE_QUEUE, BATCH_SIZE);
+            jobs.forEach(this::processJob);
+        } catch (Exception e) {
+            log.error("인증서 워커 실행 실패", e);
+        }
+    }
+
+    private void processJob(CertificateJob job) {
+        try {
+            certificateService.evaluate(job);
+        } catch (Exception e) {
+            if (job.getAttempt() + 1 >= MAX_ATTEMPTS) {
+                log.error("인증서 평가 최종 실패: userId={}, type={}, error={}", job.getUserId(), job.getCheckType(), e.getMessage());
+            } else {
+                log.warn("인증서 평가 실패 - 재시도: userId={}, type={}, attempt={}", job.getUserId(), job.getCheckType(), job.getAttempt() + 1);
+                cacheService.enqueue(CertificateService.CERTIFICATE_QUEUE, job.withRetry(e.getMessage()));
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.byeolnight.worker;
+
+import com.byeolnight.dto.file.ImageModerationJob;
+import com.byeolnight.infrastructure.cache.RedissonCacheService;
+import com.byeolnight.service.file.ImageModerationService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Redis 큐 기반 이미지 검열 워커
+ * - 큐에서 작업을 꺼내 전용 스레드 풀(4개)에서 병렬 검열
+ * - 실패 시 재시도 (최대 3회)
+ * - 3회 실패 시 검열 불가로 REJECTED 처리
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ImageModerationWorker {
+
+    private static final int POOL_SIZE = 4;
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final RedissonCacheService cacheService;
+    private final ImageModerationService moderationService;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(POOL_SIZE, runnable -> {
+        Thread thread = new Thread(runnable, "image-moderation");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 0.5초마다 검열 작업 처리
+     */
+    @Scheduled(fixedDelay = 500)
+    public void processModerationJobs() {
+        try {
+            List<ImageModerationJob> jobs = cacheService.dequeueBatch(ImageModerationService.QUEUE, POOL_SIZE * 2);
+            if (jobs.isEmpty()) {
+                return;
+            }
+            CompletableFuture.allOf(jobs.stream()
+                    .map(job -> CompletableFuture.runAsync(() -> processJob(job), executor))
+                    .toArray(CompletableFuture[]::new))
+                    .join();
+        } catch (Exception e) {
+            log.error("이미지 검열 워커 실행 실패", e);
+        }
+    }
+
+    private void processJob(ImageModerationJob job) {
+        try {
+            ImageModerationService.Verdict verdict = moderationService.inspect(job.getS3Key());
+            moderationService.applyVerdict(job.getS3Key(), verdict);
+        } catch (Exception e) {
+            log.warn("이미지 검열 실패: s3Key={}, attempt={}/{}, error={}",
+                    job.getS3Key(), job.getAttempt() + 1, MAX_ATTEMPTS, e.getMessage());
+            handleRetry(job, e.getMessage());
+        }
+    }
+
+    private void handleRetry(ImageModerationJob job, String errorMessage) {
+        if (job.getAttempt() + 1 >= MAX_ATTEMPTS) {
+            log.error("이미지 검열 최종 실패 - 거부 처리: s3Key={}", job.getS3Key());
+            moderationService.applyVerdict(job.getS3Key(), new ImageModerationService.Verdict(null, false));
+        } else {
+            cacheService.enqueue(ImageModerationService.QUEUE, job.withRetry(errorMessage));
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
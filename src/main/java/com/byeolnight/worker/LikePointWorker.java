@@ -0,0 +1,107 @@
+package com.byeolnight.worker;
+
+import com.byeolnight.dto.user.LikePointJob;
+import com.byeolnight.infrastructure.cache.RedissonCacheService;
+import com.byeolnight.repository.post.PostRepository;
+import com.byeolnight.service.user.LikePointEventListener;
+import com.byeolnight.service.user.PointService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Redis 큐 기반 추천 보상 워커
+ * - 최대 500건씩 가져와 게시글 작성자를 한 번에 조회
+ * - 추천 받음 보상은 게시글별로 합산해 한 번만 적립 (인기 게시글 작성자 행 UPDATE 경합 감소)
+ * - 실패 시 재시도 (최대 3회), 이후 DLQ로 이동
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class LikePointWorker {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final RedissonCacheService cacheService;
+    private final PostRepository postRepository;
+    private final PointService pointService;
+
+    /**
+     * 1초마다 추천 보상 처리
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void processLikePoints() {
+        List<LikePointJob> jobs;
+        try {
+            jobs = cacheService.dequeueBatch(LikePointEventListener.LIKE_POINT_QUEUE, BATCH_SIZE);
+        } catch (Exception e) {
+            log.error("추천 보상 큐 조회 실패", e);
+            return;
+        }
+        if (jobs.isEmpty()) {
+            return;
+        }
+
+        Map<LikePointJob.Kind, List<LikePointJob>> byKind = jobs.stream()
+                .collect(Collectors.groupingBy(LikePointJob::getKind));
+        byKind.getOrDefault(LikePointJob.Kind.GIVE, List.of()).forEach(this::processGive);
+        processReceive(byKind.getOrDefault(LikePointJob.Kind.RECEIVE, List.of()));
+    }
+
+    private void processGive(LikePointJob job) {
+        try {
+            pointService.awardGiveLikePoints(job.getUserId(), job.getPostId().toString());
+        } catch (Exception e) {
+            retry(job, e);
+        }
+    }
+
+    private void processReceive(List<LikePointJob> jobs) {
+        if (jobs.isEmpty()) {
+            return;
+        }
+
+        Map<Long, List<LikePointJob>> byPost = jobs.stream()
+                .collect(Collectors.groupingBy(LikePointJob::getPostId));
+        Map<Long, Long> writerIds;
+        try {
+            writerIds = postRepository.findWriterIdsByIds(byPost.keySet()).stream()
+                    .filter(row -> row[1] != null)
+                    .collect(Collectors.toMap(row -> (Long) row[0], row -> (Long) row[1]));
+        } catch (Exception e) {
+            jobs.forEach(job -> retry(job, e));
+            return;
+        }
+
+        byPost.forEach((postId, postJobs) -> {
+            Long writerId = writerIds.get(postId);
+            if (writerId == null) {
+                log.debug("추천 받음 보상 건너뜀 (게시글/작성자 없음): postId={}", postId);
+                return;
+            }
+            try {
+                pointService.awardReceiveLikePoints(writerId, postId.toString(), postJobs.size());
+            } catch (Exception e) {
+                postJobs.forEach(job -> retry(job, e));
+            }
+        });
+    }
+
+    private void retry(LikePointJob job, Exception e) {
+        LikePointJob retried = job.withRetry(e.getMessage());
+        if (retried.getAttempt() >= MAX_ATTEMPTS) {
+            log.error("추천 보상 최종 실패 - DLQ 이동: kind={}, userId={}, postId={}, error={}",
+                    job.getKind(), job.getUserId(), job.getPostId(), e.getMessage());
+            cacheService.enqueue(LikePointEventListener.LIKE_POINT_DLQ, retried);
+        } else {
+            log.warn("추천 보상 실패 - 재시도: kind={}, postId={}, attempt={}", job.getKind(), job.getPostId(), retried.getAttempt());
+            cacheService.enqueue(LikePointEventListener.LIKE_POINT_QUEUE, retried);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.byeolnight.worker;
+
+import com.byeolnight.dto.user.PointHistoryJob;
+import com.byeolnight.infrastructure.cache.RedissonCacheService;
+import com.byeolnight.repository.user.PointHistoryBatchRepository;
+import com.byeolnight.service.user.PointLedger;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Redis 큐 기반 포인트 히스토리 적재 워커
+ * - 최대 500건씩 모아 JDBC 배치 INSERT (한 트랜잭션 - 중간 행이 실패하면 앞선 행까지 롤백되어 건별 재시도에서 중복 적재되지 않음)
+ * - 배치 실패 시 건별 INSERT로 재시도하고, 그래도 실패한 건만 재시도 큐에 적재 (최대 5회) 후 DLQ로 이동
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class PointHistoryWorker {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_ATTEMPTS = 5;
+
+    private final RedissonCacheService cacheService;
+    private final PointHistoryBatchRepository pointHistoryBatchRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 1초마다 히스토리 일괄 적재
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void flushPointHistory() {
+        List<PointHistoryJob> jobs;
+        try {
+            jobs = cacheService.dequeueBatch(PointLedger.HISTORY_QUEUE, BATCH_SIZE);
+        } catch (Exception e) {
+            log.error("포인트 히스토리 큐 조회 실패", e);
+            return;
+        }
+        if (jobs.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> pointHistoryBatchRepository.batchInsert(jobs));
+            log.debug("포인트 히스토리 일괄 적재: {}건", jobs.size());
+        } catch (Exception e) {
+            log.warn("포인트 히스토리 일괄 적재 실패 - 건별 재시도: size={}, error={}", jobs.size(), e.getMessage());
+            jobs.forEach(this::insertSingle);
+        }
+    }
+
+    private void insertSingle(PointHistoryJob job) {
+        try {
+            pointHistoryBatchRepository.batchInsert(List.of(job));
+        } catch (Exception e) {
+            retry(job, e.getMessage());
+        }
+    }
+
+    private void retry(PointHistoryJob job, String errorMessage) {
+        PointHistoryJob retried = job.withRetry(errorMessage);
+        if (retried.getAttempt() >= MAX_ATTEMPTS) {
+            log.error("포인트 히스토리 적재 최종 실패 - DLQ 이동: userId={}, type={}, amount={}",
+                    job.getUserId(), job.getType(), job.getAmount());
+            cacheService.enqueue(PointLedger.HISTORY_DLQ, retried);
+        } else {
+            cacheService.enqueue(PointLedger.HISTORY_QUEUE, retried);
+        }
+    }
+}
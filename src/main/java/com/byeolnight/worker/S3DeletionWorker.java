@@ -0,0 +1,90 @@
+package com.byeolnight.worker;
+
+import com.byeolnight.dto.file.S3DeleteJob;
+import com.byeolnight.infrastructure.cache.RedissonCacheService;
+import com.byeolnight.service.file.S3DeletionQueue;
+import com.byeolnight.service.file.S3Service;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Redis 큐 기반 S3 객체 일괄 삭제 워커
+ * - 큐에서 최대 1000개 키를 꺼내 DeleteObjects 한 번으로 삭제
+ * - 실패한 키는 30초부터 두 배씩 늘어나는 간격 뒤에 재시도 (최대 5회)
+ * - 다음 시도 시각 전인 작업은 삭제하지 않고 큐 뒤로 되돌림
+ * - 5회 실패 시 DLQ로 이동
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class S3DeletionWorker {
+
+    private static final int MAX_ATTEMPTS = 5;
+    private static final Duration BASE_RETRY_DELAY = Duration.ofSeconds(30);
+
+    private final RedissonCacheService cacheService;
+    private final S3Service s3Service;
+
+    /**
+     * 2초마다 삭제 작업 처리
+     */
+    @Scheduled(fixedDelay = 2000)
+    public void processDeleteJobs() {
+        try {
+            List<S3DeleteJob> jobs = cacheService.dequeueBatch(S3DeletionQueue.QUEUE, S3Service.MAX_DELETE_BATCH);
+            if (!jobs.isEmpty()) {
+                processBatch(jobs);
+            }
+        } catch (Exception e) {
+            log.error("S3 삭제 워커 실행 실패", e);
+        }
+    }
+
+    /**
+     * 배치 처리 (성공 시 큐에서 이미 제거됨)
+     */
+    void processBatch(List<S3DeleteJob> batch) {
+        Instant now = Instant.now();
+        Map<Boolean, List<S3DeleteJob>> byDue = batch.stream()
+                .collect(Collectors.partitioningBy(job -> job.isDue(now)));
+        if (!byDue.get(false).isEmpty()) {
+            cacheService.enqueueAll(S3DeletionQueue.QUEUE, byDue.get(false));
+        }
+        List<S3DeleteJob> jobs = byDue.get(true);
+        if (jobs.isEmpty()) {
+            return;
+        }
+
+        Set<String> failedKeys = new HashSet<>(s3Service.deleteObjects(
+                jobs.stream().map(S3DeleteJob::getS3Key).toList()));
+
+        for (S3DeleteJob job : jobs) {
+            if (failedKeys.contains(job.getS3Key())) {
+                handleRetry(job);
+            }
+        }
+        log.info("S3 삭제 작업 처리: 요청 {}개, 실패 {}개", jobs.size(), failedKeys.size());
+    }
+
+    private void handleRetry(S3DeleteJob job) {
+        int newAttempt = job.getAttempt() + 1;
+
+        if (newAttempt >= MAX_ATTEMPTS) {
+            cacheService.enqueue(S3DeletionQueue.DLQ, job.withFinalFailure("DeleteObjects 실패"));
+            log.error("S3 삭제 최종 실패 - DLQ로 이동: key={}", job.getS3Key());
+        } else {
+            Duration delay = BASE_RETRY_DELAY.multipliedBy(1L << job.getAttempt());
+            cacheService.enqueue(S3DeletionQueue.QUEUE, job.withRetry("DeleteObjects 실패", delay));
+        }
+    }
+}
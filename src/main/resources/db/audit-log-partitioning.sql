@@ -0,0 +1,38 @@
+-- ============================================
+-- 감사 로그 테이블 월 단위 RANGE 파티션 전환 (MySQL, 1회 수동 적용)
+-- - 파티션 키는 PK에 포함되어야 하므로 (id, 시각) 복합 PK로 변경
+-- - 이후 파티션 추가/만료 파티션 삭제는 AuditLogPartitionMaintainer가 매일 처리
+-- - 아래 p{yyyyMM}은 적용 시점 기준으로 조정 (현재 월까지 만들어 두면 이후 월은 자동 생성)
+-- ============================================
+
+ALTER TABLE audit_login_log
+    MODIFY logged_in_at DATETIME(6) NOT NULL,
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id, logged_in_at);
+
+ALTER TABLE audit_login_log
+    PARTITION BY RANGE (TO_DAYS(logged_in_at)) (
+        PARTITION p202610 VALUES LESS THAN (TO_DAYS('2026-11-01')),
+        PARTITION pmax VALUES LESS THAN MAXVALUE
+    );
+
+ALTER TABLE audit_refresh_token_log
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id, issued_at);
+
+ALTER TABLE audit_refresh_token_log
+    PARTITION BY RANGE (TO_DAYS(issued_at)) (
+        PARTITION p202610 VALUES LESS THAN (TO_DAYS('2026-11-01')),
+        PARTITION pmax VALUES LESS THAN MAXVALUE
+    );
+
+ALTER TABLE audit_signup_log
+    MODIFY created_at DATETIME(6) NOT NULL,
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id, created_at);
+
+ALTER TABLE audit_signup_log
+    PARTITION BY RANGE (TO_DAYS(created_at)) (
+        PARTITION p202610 VALUES LESS THAN (TO_DAYS('2026-11-01')),
+        PARTITION pmax VALUES LESS THAN MAXVALUE
+    );
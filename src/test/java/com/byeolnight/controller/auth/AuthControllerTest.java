@@ -7,13 +7,13 @@ import com.byeolnight.infrastructure.security.JwtAuthenticationFilter;
 import com.byeolnight.infrastructure.security.JwtTokenProvider;
 import com.byeolnight.infrastructure.security.SecurityConfig;
 import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
-import com.byeolnight.repository.log.AuditRefreshTokenLogRepository;
 import com.byeolnight.service.auth.AuthService;
 import com.byeolnight.service.auth.EmailAuthService;
 import com.byeolnight.service.auth.PasswordResetService;
 import com.byeolnight.service.auth.SocialAccountCleanupService;
 import com.byeolnight.service.auth.TokenService;
 import com.byeolnight.service.certificate.CertificateService;
+import com.byeolnight.service.log.AuditLogWriter;
 import com.byeolnight.service.user.UserAccountService;
 import com.byeolnight.service.user.UserQueryService;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -65,7 +65,7 @@ class AuthControllerTest {
     @MockBean EmailAuthService emailAuthService;
     @MockBean PasswordResetService passwordResetService;
     @MockBean CertificateService certificateService;
-    @MockBean AuditRefreshTokenLogRepository auditRefreshTokenLogRepository;
+    @MockBean AuditLogWriter auditLogWriter;
     @MockBean SocialAccountCleanupService socialAccountCleanupService;
 
     private final User mockUser = User.builder()
@@ -0,0 +1,80 @@
+package com.byeolnight.infrastructure.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ExecutionConfig 스케줄러 테스트")
+class ExecutionConfigTest {
+
+    private final ExecutionConfig executionConfig = new ExecutionConfig();
+    private ThreadPoolTaskScheduler scheduler;
+
+    @AfterEach
+    void tearDown() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("한 작업이 멈춰 있어도 다른 fixedDelay 작업은 계속 실행된다")
+    void isolatesBlockedJob() throws Exception {
+        // given
+        scheduler = scheduler(new MockEnvironment());
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger runs = new AtomicInteger();
+
+        // when - 첫 작업은 release 전까지 워커를 점유
+        scheduler.scheduleWithFixedDelay(() -> awaitQuietly(release), Duration.ofMillis(10));
+        scheduler.scheduleWithFixedDelay(runs::incrementAndGet, Duration.ofMillis(10));
+        Thread.sleep(300);
+        release.countDown();
+
+        // then
+        assertThat(runs.get()).isGreaterThan(5);
+    }
+
+    @Test
+    @DisplayName("가상 스레드 모드에서는 스케줄 작업이 가상 스레드 워커에서 실행된다")
+    void runsOnVirtualThreadsWhenEnabled() throws Exception {
+        // given
+        scheduler = scheduler(new MockEnvironment().withProperty("spring.threads.virtual.enabled", "true"));
+        CompletableFuture<Thread> worker = new CompletableFuture<>();
+
+        // when
+        scheduler.schedule(() -> worker.complete(Thread.currentThread()), Instant.now());
+
+        // then
+        Thread thread = worker.get(5, TimeUnit.SECONDS);
+        assertThat(thread.isVirtual()).isTrue();
+        assertThat(thread.getName()).startsWith(ExecutionConfig.SCHEDULER_THREAD_PREFIX);
+    }
+
+    private ThreadPoolTaskScheduler scheduler(MockEnvironment environment) {
+        ThreadPoolTaskScheduler taskScheduler = executionConfig.taskScheduler(environment,
+                new ThreadPoolTaskSchedulerBuilder().poolSize(4).threadNamePrefix("scheduling-"));
+        taskScheduler.initialize();
+        return taskScheduler;
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.byeolnight.infrastructure.execution;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("VirtualThreadPinningMonitor 테스트")
+class VirtualThreadPinningMonitorTest {
+
+    private final Object monitor = new Object();
+    private final ReentrantLock lock = new ReentrantLock();
+    private SimpleMeterRegistry meterRegistry;
+    private VirtualThreadPinningMonitor pinningMonitor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        pinningMonitor = new VirtualThreadPinningMonitor(meterRegistry, new MockEnvironment());
+        ReflectionTestUtils.setField(pinningMonitor, "enabled", true);
+        ReflectionTestUtils.setField(pinningMonitor, "thresholdMs", 10L);
+        pinningMonitor.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        pinningMonitor.shutdown();
+    }
+
+    @Test
+    @DisplayName("synchronized 안에서 블로킹한 가상 스레드만 고정 지점 프레임으로 집계된다")
+    void recordsOnlySynchronizedBlocking() throws Exception {
+        // when - ReentrantLock 먼저, synchronized 나중 (이벤트는 시간순 전달)
+        Thread.ofVirtual().start(this::sleepHoldingLock).join();
+        Thread.ofVirtual().start(this::sleepHoldingMonitor).join();
+
+        // then
+        Timer pinned = awaitTimer("VirtualThreadPinningMonitorTest.sleepHoldingMonitor");
+        assertThat(pinned.count()).isEqualTo(1);
+        assertThat(pinned.totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(40);
+        assertThat(meterRegistry.find(VirtualThreadPinningMonitor.METRIC_NAME)
+                .tag("frame", "VirtualThreadPinningMonitorTest.sleepHoldingLock").timer()).isNull();
+    }
+
+    @Test
+    @DisplayName("대표 프레임은 가장 가까운 애플리케이션 프레임, 없으면 첫 라이브러리 프레임이다")
+    void picksRepresentativeFrame() {
+        assertThat(VirtualThreadPinningMonitor.pinnedFrame(List.of(
+                "java.lang.VirtualThread.parkOnCarrierThread",
+                "com.mysql.cj.protocol.ReadAheadInputStream.read",
+                "com.byeolnight.service.post.PostService.loadPostDetail")))
+                .isEqualTo("PostService.loadPostDetail");
+        assertThat(VirtualThreadPinningMonitor.pinnedFrame(List.of(
+                "java.lang.VirtualThread.parkOnCarrierThread",
+                "com.mysql.cj.protocol.ReadAheadInputStream.read")))
+                .isEqualTo("com.mysql.cj.protocol.ReadAheadInputStream.read");
+        assertThat(VirtualThreadPinningMonitor.pinnedFrame(List.of())).isEqualTo("unknown");
+    }
+
+    @Test
+    @DisplayName("명시하지 않으면 가상 스레드 모드에서만 JFR 스트림을 연다")
+    void followsExecutionModeByDefault() {
+        // given
+        VirtualThreadPinningMonitor platform = new VirtualThreadPinningMonitor(meterRegistry, new MockEnvironment());
+        VirtualThreadPinningMonitor virtual = new VirtualThreadPinningMonitor(meterRegistry,
+                new MockEnvironment().withProperty("spring.threads.virtual.enabled", "true"));
+        ReflectionTestUtils.setField(virtual, "thresholdMs", 10L);
+
+        // when
+        platform.init();
+        virtual.init();
+
+        // then
+        try {
+            assertThat(ReflectionTestUtils.getField(platform, "stream")).isNull();
+            assertThat(ReflectionTestUtils.getField(virtual, "stream")).isNotNull();
+        } finally {
+            platform.shutdown();
+            virtual.shutdown();
+        }
+    }
+
+    private Timer awaitTimer(String frame) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() < deadline) {
+            Timer timer = meterRegistry.find(VirtualThreadPinningMonitor.METRIC_NAME).tag("frame", frame).timer();
+            if (timer != null) {
+                return timer;
+            }
+            Thread.sleep(100);
+        }
+        throw new AssertionError("고정 이벤트가 집계되지 않음: " + frame);
+    }
+
+    // Thread.sleep을 직접 호출해야 고정 지점의 첫 애플리케이션 프레임이 이 메서드가 됨
+    private void sleepHoldingMonitor() {
+        synchronized (monitor) {
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void sleepHoldingLock() {
+        lock.lock();
+        try {
+            Thread.sleep(50);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.byeolnight.infrastructure.http;
+
+import com.byeolnight.dto.weather.WeatherResponse;
+import com.byeolnight.infrastructure.config.OutboundHttpProperties;
+import com.byeolnight.service.weather.WeatherLocalCacheService;
+import com.byeolnight.service.weather.WeatherService;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 외부 API 장애 주입 테스트
+ * - 로컬 스텁 서버: /slow (지연 응답), /slow-body (헤더 먼저, 본문 지연), /fail (500), /weather (지연 응답 → 타임아웃)
+ * - 업스트림 stub: 응답 타임아웃 300ms, 동시 호출 2개, 최근 4회 중 50% 실패 시 서킷 오픈
+ */
+@DisplayName("OutboundHttpClients 장애 주입 테스트")
+class OutboundHttpClientsTest {
+
+    private final AtomicInteger slowCalls = new AtomicInteger();
+    private final AtomicInteger failCalls = new AtomicInteger();
+    private HttpServer stubServer;
+    private String baseUrl;
+    private SimpleMeterRegistry meterRegistry;
+    private OutboundHttpClients clients;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stubServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stubServer.createContext("/slow", exchange -> {
+            slowCalls.incrementAndGet();
+            sleep(Long.parseLong(exchange.getRequestURI().getQuery().replace("ms=", "")));
+            respond(exchange, 200, "{}");
+        });
+        stubServer.createContext("/slow-body", exchange -> {
+            slowCalls.incrementAndGet();
+            byte[] bytes = "{}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, bytes.length);
+            sleep(200);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+        stubServer.createContext("/fail", exchange -> {
+            failCalls.incrementAndGet();
+            respond(exchange, 500, "{\"error\":\"boom\"}");
+        });
+        stubServer.createContext("/weather", exchange -> {
+            sleep(2_000);
+            respond(exchange, 200, "{}");
+        });
+        stubServer.setExecutor(Executors.newCachedThreadPool());
+        stubServer.start();
+        baseUrl = "http://127.0.0.1:" + stubServer.getAddress().getPort();
+
+        OutboundHttpProperties properties = new OutboundHttpProperties();
+        properties.getUpstreams().put("stub", upstream(List.of("127.0.0.1")));
+        properties.getUpstreams().put("openweather", upstream(List.of()));
+
+        meterRegistry = new SimpleMeterRegistry();
+        clients = new OutboundHttpClients(properties, meterRegistry);
+        clients.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubServer.stop(0);
+    }
+
+    @Test
+    @DisplayName("5xx가 이어지면 서킷이 열리고, 이후 호출은 스텁 서버에 도달하지 않고 즉시 거절된다")
+    void opensCircuitAfterFailures() {
+        // given - 호스트로 업스트림 선택
+        RestTemplate restTemplate = clients.restTemplate();
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> restTemplate.getForObject(baseUrl + "/fail", String.class))
+                    .isInstanceOf(HttpServerErrorException.class);
+        }
+
+        // then
+        assertThatThrownBy(() -> restTemplate.getForObject(baseUrl + "/fail", String.class))
+                .isInstanceOf(CallNotPermittedException.class);
+        assertThat(failCalls.get()).isEqualTo(4);
+        assertThat(meterRegistry.timer(OutboundHttpClients.TIMER_NAME, "upstream", "stub", "outcome", "server_error").count()).isEqualTo(4);
+        assertThat(meterRegistry.timer(OutboundHttpClients.TIMER_NAME, "upstream", "stub", "outcome", "open").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("느린 업스트림은 동시 호출 상한을 넘는 요청을 즉시 거절하고, 응답 타임아웃으로 호출 스레드를 오래 붙잡지 않는다")
+    void bulkheadRejectsAndTimeoutBoundsSlowCalls() throws Exception {
+        // given
+        RestTemplate restTemplate = clients.restTemplate("stub");
+        int requests = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Class<?>>> futures = new ArrayList<>();
+
+        // when - 1초 지연 엔드포인트에 동시 4회 (상한 2)
+        long started = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    restTemplate.getForObject(baseUrl + "/slow?ms=1000", String.class);
+                    return null;
+                } catch (Exception e) {
+                    return e.getClass();
+                }
+            }));
+        }
+        start.countDown();
+        List<Class<?>> failures = new ArrayList<>();
+        for (Future<Class<?>> future : futures) {
+            failures.add(future.get(5, TimeUnit.SECONDS));
+        }
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        executor.shutdown();
+
+        // then - 2건 거절, 2건은 300ms 타임아웃 (1초 응답을 기다리지 않음)
+        assertThat(failures).filteredOn(BulkheadFullException.class::equals).hasSize(2);
+        assertThat(failures).filteredOn(type -> type != null && !BulkheadFullException.class.equals(type)).hasSize(2);
+        assertThat(slowCalls.get()).isEqualTo(2);
+        assertThat(elapsedMs).isLessThan(1_000);
+        assertThat(meterRegistry.timer(OutboundHttpClients.TIMER_NAME, "upstream", "stub", "outcome", "rejected").count()).isEqualTo(2);
+        assertThat(meterRegistry.timer(OutboundHttpClients.TIMER_NAME, "upstream", "stub", "outcome", "timeout").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("벌크헤드 permit은 헤더 수신이 아니라 본문까지 읽고 응답을 닫을 때 반환된다")
+    void holdsBulkheadUntilBodyIsRead() throws Exception {
+        // given
+        RestTemplate restTemplate = clients.restTemplate("stub");
+        int requests = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(requests);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Class<?>>> futures = new ArrayList<>();
+
+        // when - 헤더는 즉시, 본문은 200ms 뒤에 오는 엔드포인트에 동시 4회 (상한 2)
+        for (int i = 0; i < requests; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    restTemplate.getForObject(baseUrl + "/slow-body", String.class);
+                    return null;
+                } catch (Exception e) {
+                    return e.getClass();
+                }
+            }));
+        }
+        start.countDown();
+        List<Class<?>> failures = new ArrayList<>();
+        for (Future<Class<?>> future : futures) {
+            failures.add(future.get(5, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+
+        // then - 본문을 기다리는 2건이 permit을 쥐고 있어 나머지 2건은 거절
+        assertThat(failures).filteredOn(BulkheadFullException.class::equals).hasSize(2);
+        assertThat(slowCalls.get()).isEqualTo(2);
+        Timer success = meterRegistry.timer(OutboundHttpClients.TIMER_NAME, "upstream", "stub", "outcome", "success");
+        assertThat(success.count()).isEqualTo(2);
+        assertThat(success.max(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("날씨 API가 응답하지 않으면 타임아웃 후 fallback 응답을 반환한다")
+    void weatherFallsBackOnTimeout() {
+        // given
+        WeatherService weatherService = new WeatherService(mock(WeatherLocalCacheService.class), meterRegistry, clients);
+        ReflectionTestUtils.setField(weatherService, "apiKey", "test-key");
+        ReflectionTestUtils.setField(weatherService, "apiUrl", baseUrl);
+        weatherService.init();
+
+        // when
+        long started = System.nanoTime();
+        WeatherResponse response = weatherService.getObservationConditions(37.5665, 126.9780);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        // then
+        assertThat(response.getObservationQuality()).isEqualTo("UNKNOWN");
+        assertThat(elapsedMs).isLessThan(1_500);
+        assertThat(meterRegistry.timer(OutboundHttpClients.TIMER_NAME, "upstream", "openweather", "outcome", "timeout").count()).isEqualTo(1);
+    }
+
+    private static OutboundHttpProperties.Upstream upstream(List<String> hosts) {
+        OutboundHttpProperties.Upstream upstream = new OutboundHttpProperties.Upstream();
+        upstream.setHosts(hosts);
+        upstream.setReadTimeoutMs(300);
+        upstream.setMaxConcurrentCalls(2);
+        upstream.setSlidingWindowSize(4);
+        upstream.setMinimumNumberOfCalls(4);
+        upstream.setOpenStateWaitMs(60_000);
+        return upstream;
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
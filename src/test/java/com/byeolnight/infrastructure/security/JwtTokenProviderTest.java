@@ -0,0 +1,65 @@
+package com.byeolnight.infrastructure.security;
+
+import com.byeolnight.entity.user.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JwtTokenProvider 테스트")
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "testSecretKeyForJWT12345678901234567890";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = new JwtTokenProvider(SECRET, 100, null);
+        user = User.builder()
+                .id(42L)
+                .email("user@test.com")
+                .nickname("user")
+                .role(User.Role.USER)
+                .build();
+    }
+
+    @Test
+    @DisplayName("한 번의 검증으로 사용자 ID/이메일/권한/만료 시각을 모두 얻고, 반복 검증도 같은 결과를 반환한다")
+    void verifyReturnsClaims() {
+        // given
+        String token = jwtTokenProvider.createAccessToken(user);
+
+        // when
+        JwtClaims first = jwtTokenProvider.verify(token).orElseThrow();
+        JwtClaims second = jwtTokenProvider.verify(token).orElseThrow();
+
+        // then
+        assertThat(first.userId()).isEqualTo(42L);
+        assertThat(first.email()).isEqualTo("user@test.com");
+        assertThat(first.role()).isEqualTo("USER");
+        assertThat(first.isRefresh()).isFalse();
+        assertThat(first.isExpired()).isFalse();
+        assertThat(second).isEqualTo(first);
+        assertThat(jwtTokenProvider.validateRefreshToken(jwtTokenProvider.createRefreshToken(user))).isTrue();
+    }
+
+    @Test
+    @DisplayName("검증된 토큰이 캐시되어 있어도 서명이 변조된 토큰은 거부한다")
+    void rejectsTamperedTokenAfterCaching() {
+        // given
+        String token = jwtTokenProvider.createAccessToken(user);
+        jwtTokenProvider.verify(token);
+        String tampered = token.substring(0, token.length() - 2)
+                + (token.endsWith("AA") ? "BB" : "AA");
+
+        // when & then
+        assertThat(jwtTokenProvider.verify(tampered)).isEmpty();
+        assertThat(jwtTokenProvider.verify("not-a-jwt")).isEmpty();
+        assertThatThrownBy(() -> jwtTokenProvider.getUserIdFromToken(tampered))
+                .isInstanceOf(io.jsonwebtoken.JwtException.class);
+    }
+}
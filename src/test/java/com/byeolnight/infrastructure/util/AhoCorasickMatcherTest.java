@@ -0,0 +1,76 @@
+package com.byeolnight.infrastructure.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Aho-Corasick 다중 키워드 매칭 테스트
+ */
+class AhoCorasickMatcherTest {
+
+    @Test
+    @DisplayName("겹치거나 포함 관계인 키워드도 모두 찾고, 대소문자를 구분하지 않는다")
+    void findsOverlappingKeywords() {
+        // Given
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.of("he", "she", "hers", "우주", "우주정거장", "OST");
+
+        // When & Then
+        assertThat(matcher.findAll("ushers")).containsExactlyInAnyOrder("he", "she", "hers");
+        assertThat(matcher.findAll("국제우주정거장 도킹")).containsExactlyInAnyOrder("우주", "우주정거장");
+        assertThat(matcher.containsAny("드라마 ost 모음")).isTrue();
+        assertThat(matcher.containsAny("블랙홀 관측")).isFalse();
+        assertThat(matcher.containsAny(null)).isFalse();
+        assertThat(AhoCorasickMatcher.of().containsAny("anything")).isFalse();
+    }
+
+    @Test
+    @DisplayName("단어 모드: 영문은 단어 단위(복수형/한글 조사 허용), 한 글자 한글은 단독 단어 또는 조사까지만 인정한다")
+    void wordModeRespectsBoundaries() {
+        // Given
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.of(AhoCorasickMatcher.MatchMode.WORD,
+                List.of("ISS", "star", "k-pop", "달", "우주정거장"));
+
+        // When & Then
+        assertThat(matcher.findAll("ＩＳＳ에서 본 stars, K-POP 무대")).containsExactly("iss", "star", "k pop");
+        assertThat(matcher.containsAny("NASA mission issue, starship test")).isFalse();
+        assertThat(matcher.containsAny("오늘 밤 달이 밝다")).isTrue();
+        assertThat(matcher.containsAny("환율 1달러, 기술 발달")).isFalse();
+        assertThat(matcher.containsAny("국제우주정거장에 도킹")).isTrue();
+    }
+
+    @Test
+    @DisplayName("무작위 입력에서 키워드별 contains 반복과 같은 결과를 낸다")
+    void matchesNaiveContains() {
+        // Given
+        Random random = new Random(7);
+        String[] keywords = IntStream.range(0, 300).mapToObj(i -> randomText(random, 1 + random.nextInt(4))).toArray(String[]::new);
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.of(keywords);
+
+        for (int i = 0; i < 2_000; i++) {
+            String text = randomText(random, random.nextInt(16));
+
+            // When
+            boolean expected = false;
+            for (String keyword : keywords) {
+                expected |= text.contains(keyword);
+            }
+
+            // Then
+            assertThat(matcher.containsAny(text)).as(text).isEqualTo(expected);
+        }
+    }
+
+    private static String randomText(Random random, int length) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            text.append((char) ('a' + random.nextInt(5)));
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,49 @@
+package com.byeolnight.infrastructure.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 제목 유사 중복 인덱스 테스트
+ * - MinHash + LSH 후보 조회 후 Jaccard 유사도로 최종 판정
+ */
+class NearDuplicateIndexTest {
+
+    private static final String TITLE = "NASA 제임스 웹 망원경, 가장 먼 은하 발견";
+
+    @Test
+    @DisplayName("조사/문장부호만 다른 제목은 유사 중복으로 찾고, 다른 주제 제목은 통과시킨다")
+    void findsNearDuplicateAmongManyTitles() {
+        // Given
+        NearDuplicateIndex index = new NearDuplicateIndex(0.7);
+        IntStream.range(0, 1_000).forEach(i -> index.add("우주 관측 소식 " + i + "호 위성 궤도 진입"));
+        index.add(TITLE);
+
+        // When & Then
+        assertThat(index.findSimilar("NASA 제임스 웹 망원경이 가장 먼 은하 발견")).contains(TITLE);
+        assertThat(index.findSimilar("SpaceX 스타십 5차 시험 비행 성공")).isEmpty();
+        assertThat(index.findSimilar("")).isEmpty();
+        assertThat(index.size()).isEqualTo(1_001);
+    }
+
+    @Test
+    @DisplayName("DB에 저장한 서명으로 등록해도 제목으로 계산한 것과 같이 동작한다")
+    void storedSignatureRoundTrip() {
+        // Given
+        byte[] stored = TitleMinHash.toBytes(TitleMinHash.signature(TITLE));
+        NearDuplicateIndex index = new NearDuplicateIndex(0.7);
+
+        // When
+        index.add(TITLE, TitleMinHash.fromBytes(stored));
+
+        // Then
+        assertThat(stored).hasSize(TitleMinHash.NUM_HASHES * Integer.BYTES);
+        assertThat(TitleMinHash.fromBytes(stored)).containsExactly(TitleMinHash.signature(TITLE));
+        assertThat(TitleMinHash.fromBytes(new byte[3])).isNull();
+        assertThat(index.findSimilar("NASA 제임스 웹 망원경 가장 먼 은하 발견!")).contains(TITLE);
+    }
+}
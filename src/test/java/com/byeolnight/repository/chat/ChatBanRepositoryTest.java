@@ -0,0 +1,62 @@
+package com.byeolnight.repository.chat;
+
+import com.byeolnight.entity.chat.ChatBan;
+import com.byeolnight.infrastructure.common.OffsetPageRequest;
+import com.byeolnight.infrastructure.config.QueryDslConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(QueryDslConfig.class)
+@DisplayName("ChatBanRepository 제재 목록 페이징 테스트")
+class ChatBanRepositoryTest {
+
+    @Autowired ChatBanRepository chatBanRepository;
+
+    @BeforeEach
+    void setUp() {
+        chatBanRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("offset이 limit의 배수가 아니어도 offset 위치부터 limit건을 조회한다")
+    void pagesByExactOffset() {
+        // given - 최근 제재 순: user6 ~ user0
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 7; i++) {
+            chatBanRepository.save(ChatBan.builder()
+                    .username("user" + i)
+                    .bannedBy(1L)
+                    .bannedAt(now.minusMinutes(10 - i))
+                    .bannedUntil(now.plusDays(1))
+                    .build());
+        }
+
+        // when
+        List<ChatBan> bans = chatBanRepository.findActiveBans(now, OffsetPageRequest.of(3, 2));
+
+        // then
+        assertThat(bans).extracting(ChatBan::getUsername).containsExactly("user3", "user2");
+    }
+
+    @Test
+    @DisplayName("limit이 1보다 작으면 조회 전에 거부한다")
+    void rejectsNonPositiveLimit() {
+        assertThatThrownBy(() -> OffsetPageRequest.of(0, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,121 @@
+package com.byeolnight.repository.post;
+
+import com.byeolnight.dto.admin.ReportedTargetSummary;
+import com.byeolnight.entity.post.Post;
+import com.byeolnight.entity.post.PostReport;
+import com.byeolnight.entity.user.User;
+import com.byeolnight.infrastructure.config.QueryDslConfig;
+import com.byeolnight.repository.user.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(QueryDslConfig.class)
+@DisplayName("PostReportRepository 신고 큐 집계 테스트")
+class PostReportRepositoryTest {
+
+    @Autowired PostReportRepository postReportRepository;
+    @Autowired PostRepository postRepository;
+    @Autowired UserRepository userRepository;
+
+    private User writer;
+    private List<User> reporters;
+
+    @BeforeEach
+    void setUp() {
+        postReportRepository.deleteAll();
+        postRepository.deleteAll();
+        userRepository.deleteAll();
+
+        writer = saveUser("writer@test.com", "작성자");
+        reporters = List.of(
+                saveUser("r1@test.com", "신고자1"),
+                saveUser("r2@test.com", "신고자2"),
+                saveUser("r3@test.com", "신고자3"));
+    }
+
+    @Test
+    @DisplayName("게시글별 신고 수로 집계해 신고 수 많은 순으로 SQL 페이징한다")
+    void summariesAreGroupedAndPaged() {
+        // given - A: 신고 3건, B: 신고 1건, C: 신고 2건
+        Post a = savePost("게시글 A");
+        Post b = savePost("게시글 B");
+        Post c = savePost("게시글 C");
+        report(a, 3);
+        report(b, 1);
+        report(c, 2);
+
+        // when
+        Page<ReportedTargetSummary> first = postReportRepository.findReportedPostSummaries(null, null, PageRequest.of(0, 2));
+        Page<ReportedTargetSummary> second = postReportRepository.findReportedPostSummaries(null, null, PageRequest.of(1, 2));
+
+        // then
+        assertThat(first.getTotalElements()).isEqualTo(3);
+        assertThat(first.getContent()).extracting(ReportedTargetSummary::targetId).containsExactly(a.getId(), c.getId());
+        assertThat(first.getContent()).extracting(ReportedTargetSummary::reportCount).containsExactly(3L, 2L);
+        assertThat(second.getContent()).extracting(ReportedTargetSummary::targetId).containsExactly(b.getId());
+    }
+
+    @Test
+    @DisplayName("제목 검색과 삭제 게시글 제외가 집계 쿼리에 적용되고 상세는 페이지 게시글만 조회한다")
+    void titleFilterAndDetailsForPage() {
+        // given
+        Post matched = savePost("별자리 관측");
+        Post other = savePost("망원경 추천");
+        Post deleted = savePost("별자리 삭제됨");
+        deleted.softDelete();
+        postRepository.save(deleted);
+        report(matched, 2);
+        report(other, 3);
+        report(deleted, 1);
+
+        // when
+        Page<ReportedTargetSummary> page = postReportRepository.findReportedPostSummaries("별자리", null, PageRequest.of(0, 10));
+        List<PostReport> details = postReportRepository.findAllWithDetailsByPostIdIn(
+                page.map(ReportedTargetSummary::targetId).getContent());
+
+        // then
+        assertThat(page.getContent()).extracting(ReportedTargetSummary::targetId).containsExactly(matched.getId());
+        assertThat(details).hasSize(2)
+                .allSatisfy(report -> assertThat(report.getPost().getId()).isEqualTo(matched.getId()));
+    }
+
+    private void report(Post post, int count) {
+        for (int i = 0; i < count; i++) {
+            postReportRepository.save(PostReport.of(reporters.get(i), post, "스팸", null));
+        }
+    }
+
+    private User saveUser(String email, String nickname) {
+        return userRepository.save(User.builder()
+                .email(email)
+                .nickname(nickname)
+                .password("encoded")
+                .role(User.Role.USER)
+                .status(User.UserStatus.ACTIVE)
+                .build());
+    }
+
+    private Post savePost(String title) {
+        return postRepository.save(Post.builder()
+                .title(title)
+                .content("내용입니다.")
+                .category(Post.Category.FREE)
+                .writer(writer)
+                .build());
+    }
+}
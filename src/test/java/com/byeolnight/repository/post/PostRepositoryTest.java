@@ -327,7 +327,7 @@ class PostRepositoryTest {
     // ──────────────────────────────────────────────
 
     @Nested
-    @DisplayName("만료된 삭제 게시글 조회 (findExpiredDeletedPosts)")
+    @DisplayName("만료된 삭제 게시글 ID 조회 (findExpiredDeletedPostIds)")
     class FindExpiredDeletedPosts {
 
         @Test
@@ -344,10 +344,9 @@ class PostRepositoryTest {
             // threshold = 현재 기준 (오래된 게시글은 deletedAt이 방금이라 threshold보다 이전이 없음)
             // 실제로는 deletedAt을 직접 조작할 수 없으므로 threshold를 미래로 설정해서 테스트
             LocalDateTime futureThreshold = LocalDateTime.now().plusSeconds(10);
-            List<Post> result = postRepository.findExpiredDeletedPosts(futureThreshold);
+            List<Long> result = postRepository.findExpiredDeletedPostIds(futureThreshold, 0L, PageRequest.of(0, 10));
 
-            assertThat(result).hasSize(2);
-            assertThat(result).allMatch(Post::isDeleted);
+            assertThat(result).containsExactly(oldDeleted.getId(), recentDeleted.getId());
         }
 
         @Test
@@ -356,7 +355,7 @@ class PostRepositoryTest {
             savePost("활성 게시글", Post.Category.FREE);
 
             LocalDateTime futureThreshold = LocalDateTime.now().plusSeconds(10);
-            List<Post> result = postRepository.findExpiredDeletedPosts(futureThreshold);
+            List<Long> result = postRepository.findExpiredDeletedPostIds(futureThreshold, 0L, PageRequest.of(0, 10));
 
             assertThat(result).isEmpty();
         }
@@ -0,0 +1,124 @@
+package com.byeolnight.repository.user;
+
+import com.byeolnight.dto.user.UserDirectoryCondition;
+import com.byeolnight.dto.user.UserDirectoryDto;
+import com.byeolnight.entity.user.User;
+import com.byeolnight.infrastructure.config.QueryDslConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(QueryDslConfig.class)
+@DisplayName("UserRepository 관리자 디렉터리 조회 테스트")
+class UserDirectoryRepositoryTest {
+
+    @Autowired UserRepository userRepository;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.deleteAll();
+
+        saveUser("admin@test.com", "관리자", User.Role.ADMIN, null, User.UserStatus.ACTIVE);
+        saveUser("star1@test.com", "별지기1", User.Role.USER, null, User.UserStatus.ACTIVE);
+        saveUser("star2@test.com", "별지기2", User.Role.USER, "google", User.UserStatus.ACTIVE);
+        saveUser("moon@test.com", "달지기", User.Role.USER, "kakao", User.UserStatus.BANNED);
+    }
+
+    @Test
+    @DisplayName("조건 없이 조회하면 관리자를 제외하고 최신 가입 순으로 페이지를 반환한다")
+    void searchDirectoryExcludesAdminsAndPages() {
+        // when
+        Page<UserDirectoryDto> page = userRepository.searchDirectory(UserDirectoryCondition.empty(), PageRequest.of(0, 2));
+
+        // then
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getContent()).extracting(UserDirectoryDto::email)
+                .containsExactly("moon@test.com", "star2@test.com");
+    }
+
+    @Test
+    @DisplayName("상태, 소셜 제공자, 키워드 조건으로 필터링한다")
+    void searchDirectoryFilters() {
+        // given
+        UserDirectoryCondition local = new UserDirectoryCondition(null, null, "local", null, null, null);
+        UserDirectoryCondition social = new UserDirectoryCondition(null, null, "social", null, null, null);
+        UserDirectoryCondition banned = new UserDirectoryCondition(User.UserStatus.BANNED, null, null, null, null, null);
+        UserDirectoryCondition keyword = new UserDirectoryCondition(null, null, null, null, null, "별지기");
+
+        // when & then
+        assertThat(userRepository.searchDirectory(local, PageRequest.of(0, 10)).getContent())
+                .extracting(UserDirectoryDto::email).containsExactly("star1@test.com");
+        assertThat(userRepository.searchDirectory(social, PageRequest.of(0, 10)).getContent())
+                .extracting(UserDirectoryDto::email).containsExactlyInAnyOrder("star2@test.com", "moon@test.com");
+        assertThat(userRepository.searchDirectory(banned, PageRequest.of(0, 10)).getContent())
+                .extracting(UserDirectoryDto::email).containsExactly("moon@test.com");
+        assertThat(userRepository.searchDirectory(keyword, PageRequest.of(0, 10)).getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("ACTIVE 조건은 탈퇴하지 않은 사용자를 모두 반환한다")
+    void activeConditionExcludesOnlyWithdrawn() {
+        // given
+        saveUser("gone@test.com", "떠난별", User.Role.USER, null, User.UserStatus.WITHDRAWN);
+        UserDirectoryCondition active = new UserDirectoryCondition(User.UserStatus.ACTIVE, null, null, null, null, null);
+
+        // when
+        List<String> emails;
+        try (Stream<UserDirectoryDto> rows = userRepository.streamDirectory(active, 10)) {
+            emails = rows.map(UserDirectoryDto::email).toList();
+        }
+
+        // then - 차단된 사용자 포함
+        assertThat(userRepository.searchDirectory(active, PageRequest.of(0, 10)).getContent())
+                .extracting(UserDirectoryDto::email)
+                .containsExactlyInAnyOrder("star1@test.com", "star2@test.com", "moon@test.com");
+        assertThat(emails).containsExactly("star1@test.com", "star2@test.com", "moon@test.com");
+    }
+
+    @Test
+    @DisplayName("내보내기 스트림은 조건에 맞는 전체 사용자를 id 순으로 반환한다")
+    void streamDirectoryReturnsAllRowsInIdOrder() {
+        // when
+        List<String> emails;
+        try (Stream<UserDirectoryDto> rows = userRepository.streamDirectory(UserDirectoryCondition.empty(), 2)) {
+            emails = rows.map(UserDirectoryDto::email).toList();
+        }
+
+        // then
+        assertThat(emails).containsExactly("star1@test.com", "star2@test.com", "moon@test.com");
+    }
+
+    @Test
+    @DisplayName("닉네임 부분 일치 조회는 LIKE로 최대 건수만 닉네임 순으로 반환한다")
+    void findNicknamesContaining() {
+        // when & then
+        assertThat(userRepository.findNicknamesContaining("지기", PageRequest.of(0, 2)))
+                .containsExactly("달지기", "별지기1");
+        assertThat(userRepository.findNicknamesContaining("없는닉네임", PageRequest.of(0, 2))).isEmpty();
+    }
+
+    private void saveUser(String email, String nickname, User.Role role, String socialProvider, User.UserStatus status) {
+        userRepository.save(User.builder()
+                .email(email)
+                .nickname(nickname)
+                .role(role)
+                .socialProvider(socialProvider)
+                .status(status)
+                .build());
+    }
+}
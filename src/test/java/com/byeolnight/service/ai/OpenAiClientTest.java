@@ -0,0 +1,162 @@
+package com.byeolnight.service.ai;
+
+import com.byeolnight.dto.external.openai.OpenAiChatRequest;
+import com.byeolnight.dto.external.openai.OpenAiMessage;
+import com.byeolnight.infrastructure.cache.RedissonCacheService;
+import com.byeolnight.infrastructure.config.OutboundHttpProperties;
+import com.byeolnight.infrastructure.http.OutboundHttpClients;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+
+/**
+ * OpenAI 공용 클라이언트 테스트
+ * - 로컬 스텁 서버(/v1/chat/completions)로 실제 HTTP 호출, Redis 캐시는 메모리 맵으로 대체
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OpenAiClient 테스트")
+class OpenAiClientTest {
+
+    private static final String RESPONSE = """
+            {"choices":[{"index":0,"message":{"role":"assistant","content":" 제임스 웹 망원경 "}}],
+             "usage":{"prompt_tokens":100,"completion_tokens":50}}
+            """;
+
+    @Mock
+    private RedissonCacheService cacheService;
+
+    private final Map<String, Object> store = new ConcurrentHashMap<>();
+    private final AtomicInteger stubCalls = new AtomicInteger();
+    private SimpleMeterRegistry meterRegistry;
+    private HttpServer stubServer;
+    private OpenAiClient openAiClient;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stubServer = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        stubServer.createContext("/v1/chat/completions", exchange -> {
+            stubCalls.incrementAndGet();
+            try {
+                Thread.sleep(300);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = RESPONSE.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        stubServer.setExecutor(Executors.newCachedThreadPool());
+        stubServer.start();
+
+        lenient().when(cacheService.get(anyString())).thenAnswer(invocation -> store.get(invocation.<String>getArgument(0)));
+        lenient().doAnswer(invocation -> store.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(cacheService).set(anyString(), any(), any(Duration.class));
+
+        meterRegistry = new SimpleMeterRegistry();
+        OutboundHttpClients outboundHttpClients = new OutboundHttpClients(new OutboundHttpProperties(), meterRegistry);
+        outboundHttpClients.init();
+        openAiClient = new OpenAiClient(cacheService, meterRegistry, outboundHttpClients);
+        ReflectionTestUtils.setField(openAiClient, "apiKey", "test-key");
+        ReflectionTestUtils.setField(openAiClient, "baseUrl", "http://127.0.0.1:" + stubServer.getAddress().getPort());
+        ReflectionTestUtils.setField(openAiClient, "cacheTtlDays", 30L);
+        ReflectionTestUtils.setField(openAiClient, "inputPricePerMillion", 0.15);
+        ReflectionTestUtils.setField(openAiClient, "outputPricePerMillion", 0.60);
+        openAiClient.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stubServer.stop(0);
+    }
+
+    @Test
+    @DisplayName("같은 요청을 다시 보내면 스텁 서버를 호출하지 않고 캐시 결과를 쓰며, 절약한 토큰과 비용을 집계한다")
+    void reusesCachedCompletion() {
+        // given
+        OpenAiChatRequest request = request("James Webb Space Telescope");
+
+        // when
+        Optional<String> first = openAiClient.completeCached(request);
+        Optional<String> second = openAiClient.completeCached(request);
+        openAiClient.completeCached(request("Mars rover"));
+
+        // then
+        assertThat(first).contains(" 제임스 웹 망원경 ");
+        assertThat(second).isEqualTo(first);
+        assertThat(stubCalls.get()).isEqualTo(2);
+        assertThat(meterRegistry.counter("ai.openai.cache", "result", "hit").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("ai.openai.tokens", "source", "saved", "type", "prompt").count()).isEqualTo(100);
+        assertThat(meterRegistry.counter("ai.openai.tokens", "source", "saved", "type", "completion").count()).isEqualTo(50);
+        assertThat(meterRegistry.counter("ai.openai.cost.usd", "source", "saved").count())
+                .isCloseTo((100 * 0.15 + 50 * 0.60) / 1_000_000, within(1e-12));
+    }
+
+    @Test
+    @DisplayName("같은 요청이 동시에 들어오면 한 번만 호출하고 나머지는 그 결과를 함께 받는다")
+    void deduplicatesInFlightRequests() throws Exception {
+        // given
+        int threads = 8;
+        OpenAiChatRequest request = request("Artemis II crew announced");
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Optional<String>>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < threads; i++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                return openAiClient.completeCached(request);
+            }));
+        }
+        start.countDown();
+
+        // then
+        for (Future<Optional<String>> future : futures) {
+            assertThat(future.get()).contains(" 제임스 웹 망원경 ");
+        }
+        executor.shutdown();
+        assertThat(stubCalls.get()).isEqualTo(1);
+        assertThat(meterRegistry.counter("ai.openai.calls", "outcome", "success").count()).isEqualTo(1);
+    }
+
+    private OpenAiChatRequest request(String text) {
+        return OpenAiChatRequest.builder()
+                .model("gpt-4o-mini")
+                .messages(List.of(OpenAiMessage.user("번역: " + text)))
+                .maxTokens(100)
+                .temperature(0.3)
+                .build();
+    }
+}
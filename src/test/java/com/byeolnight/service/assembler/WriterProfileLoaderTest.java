@@ -0,0 +1,111 @@
+package com.byeolnight.service.assembler;
+
+import com.byeolnight.dto.user.WriterSummary;
+import com.byeolnight.entity.certificate.Certificate;
+import com.byeolnight.repository.certificate.UserCertificateRepository;
+import com.byeolnight.repository.user.UserRepository;
+import com.byeolnight.service.assembler.WriterProfileLoader.WriterProfile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WriterProfileLoader 배치 조회 테스트")
+class WriterProfileLoaderTest {
+
+    @Mock private UserRepository userRepository;
+    @Mock private UserCertificateRepository userCertificateRepository;
+
+    @InjectMocks
+    private WriterProfileLoader writerProfileLoader;
+
+    @BeforeEach
+    void setUp() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("prime한 작성자들은 종류별 IN 쿼리 1회로 조회되고 요청 안에서 재사용된다")
+    void resolvesPrimedWritersInOneQueryPerType() {
+        // given
+        given(userRepository.findWriterSummariesByIdIn(Set.of(1L, 2L, 3L))).willReturn(List.of(
+                new WriterSummary(1L, "별지기", "star.svg"),
+                new WriterSummary(2L, "달지기", null),
+                new WriterSummary(3L, "해지기", null)));
+        given(userCertificateRepository.findRepresentativeTypesByUserIdIn(Set.of(1L, 2L, 3L))).willReturn(List.<Object[]>of(
+                new Object[]{1L, Certificate.CertificateType.STARLIGHT_EXPLORER}));
+
+        // when
+        writerProfileLoader.batch().prime(List.of(1L, 2L, 3L));
+        WriterProfile first = writerProfileLoader.batch().get(1L);
+        WriterProfile second = writerProfileLoader.batch().get(2L);
+        writerProfileLoader.batch().get(3L);
+        writerProfileLoader.batch().get(1L);
+
+        // then
+        assertThat(first.nickname()).isEqualTo("별지기");
+        assertThat(first.equippedIconName()).isEqualTo("star.svg");
+        assertThat(first.representativeCertificate()).isEqualTo(Certificate.CertificateType.STARLIGHT_EXPLORER.getName());
+        assertThat(second.representativeCertificate()).isNull();
+        verify(userRepository, times(1)).findWriterSummariesByIdIn(anyCollection());
+        verify(userCertificateRepository, times(1)).findRepresentativeTypesByUserIdIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("없는 사용자도 메모이즈되어 다시 조회하지 않는다")
+    void memoizesMissingWriters() {
+        // given
+        given(userRepository.findWriterSummariesByIdIn(Set.of(9L))).willReturn(List.of());
+
+        // when
+        WriterProfile missing = writerProfileLoader.batch().get(9L);
+        writerProfileLoader.batch().get(9L);
+
+        // then
+        assertThat(missing).isNull();
+        assertThat(writerProfileLoader.batch().get(null)).isNull();
+        verify(userRepository, times(1)).findWriterSummariesByIdIn(anyCollection());
+    }
+
+    @Test
+    @DisplayName("웹 요청 밖에서도 같은 batch로 prime/get하면 종류별 IN 쿼리 1회로 조회된다")
+    void batchesOutsideRequest() {
+        // given - 스케줄러/워커 스레드처럼 요청 속성이 없음
+        RequestContextHolder.resetRequestAttributes();
+        given(userRepository.findWriterSummariesByIdIn(Set.of(1L, 2L))).willReturn(List.of(
+                new WriterSummary(1L, "별지기", null),
+                new WriterSummary(2L, "달지기", null)));
+        given(userCertificateRepository.findRepresentativeTypesByUserIdIn(Set.of(1L, 2L))).willReturn(List.of());
+
+        // when
+        WriterProfileLoader.Batch writers = writerProfileLoader.batch().prime(List.of(1L, 2L));
+        writers.get(1L);
+        writers.get(2L);
+
+        // then
+        verify(userRepository, times(1)).findWriterSummariesByIdIn(anyCollection());
+        verify(userCertificateRepository, times(1)).findRepresentativeTypesByUserIdIn(anyCollection());
+    }
+}
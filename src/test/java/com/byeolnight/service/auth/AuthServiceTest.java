@@ -1,13 +1,10 @@
 package com.byeolnight.service.auth;
 
 import com.byeolnight.dto.user.LoginRequestDto;
-import com.byeolnight.entity.log.AuditLoginLog;
-import com.byeolnight.entity.log.AuditSignupLog;
 import com.byeolnight.entity.user.User;
 import com.byeolnight.infrastructure.security.JwtTokenProvider;
-import com.byeolnight.repository.log.AuditLoginLogRepository;
-import com.byeolnight.repository.log.AuditSignupLogRepository;
 import com.byeolnight.service.certificate.CertificateService;
+import com.byeolnight.service.log.AuditLogWriter;
 import com.byeolnight.service.user.UserAccountService;
 import com.byeolnight.service.user.UserAdminService;
 import com.byeolnight.service.user.UserQueryService;
@@ -54,10 +51,7 @@ class AuthServiceTest {
     private JwtTokenProvider jwtTokenProvider;
 
     @Mock
-    private AuditLoginLogRepository auditLoginLogRepository;
-
-    @Mock
-    private AuditSignupLogRepository auditSignupLogRepository;
+    private AuditLogWriter auditLogWriter;
 
     @Mock
     private UserSecurityService userSecurityService;
@@ -119,7 +113,7 @@ class AuthServiceTest {
             assertThat(result.getRefreshTokenValidity()).isEqualTo(7 * 24 * 60 * 60 * 1000L);
 
             verify(userAdminService).resetLoginFailCount(testUser);
-            verify(auditLoginLogRepository).save(any(AuditLoginLog.class));
+            verify(auditLogWriter).login(eq("test@example.com"), eq(TestMockConfig.getTestIp()), any());
             verify(certificateService).checkAndIssueCertificates(testUser, CertificateService.CertificateCheckType.LOGIN);
         }
     }
@@ -140,7 +134,7 @@ class AuthServiceTest {
                     .isInstanceOf(BadCredentialsException.class)
                     .hasMessage("존재하지 않는 아이디입니다.");
 
-            verify(auditSignupLogRepository).save(any(AuditSignupLog.class));
+            verify(auditLogWriter).signupFailure("test@example.com", TestMockConfig.getTestIp(), "존재하지 않는 이메일");
         }
 
         @Test
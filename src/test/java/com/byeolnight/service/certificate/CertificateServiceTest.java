@@ -0,0 +1,117 @@
+package com.byeolnight.service.certificate;
+
+import com.byeolnight.dto.certificate.CertificateJob;
+import com.byeolnight.entity.certificate.Certificate;
+import com.byeolnight.entity.certificate.UserCertificate;
+import com.byeolnight.entity.user.User;
+import com.byeolnight.repository.certificate.UserCertificateRepository;
+import com.byeolnight.repository.comment.CommentRepository;
+import com.byeolnight.repository.post.PostRepository;
+import com.byeolnight.repository.user.UserRepository;
+import com.byeolnight.service.certificate.CertificateProgressStore.Metric;
+import com.byeolnight.service.certificate.CertificateService.CertificateCheckType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.OptionalLong;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CertificateService 평가 테스트")
+class CertificateServiceTest {
+
+    @Mock private UserCertificateRepository userCertificateRepository;
+    @Mock private CommentRepository commentRepository;
+    @Mock private PostRepository postRepository;
+    @Mock private UserRepository userRepository;
+    @Mock private CertificateProgressStore progressStore;
+    @Mock private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private CertificateService certificateService;
+
+    @Test
+    @DisplayName("이미 보유한 인증서는 진행도/COUNT 조회 없이 건너뛴다")
+    void skipsOwnedCertificate() {
+        // given
+        given(progressStore.isOwned(eq(1L), eq(Certificate.CertificateType.GALAXY_COMMUNICATOR), any())).willReturn(true);
+
+        // when
+        certificateService.evaluate(CertificateJob.of(1L, CertificateCheckType.COMMENT_WRITE, null));
+
+        // then
+        verify(progressStore, never()).get(anyLong(), any());
+        verifyNoInteractions(commentRepository, userCertificateRepository);
+    }
+
+    @Test
+    @DisplayName("진행도 카운터가 조건에 도달하면 인증서를 발급하고 보유 집합에 추가한다")
+    void issuesWhenCounterReachesThreshold() {
+        // given
+        User user = User.builder().nickname("tester").build();
+        ReflectionTestUtils.setField(user, "id", 1L);
+        given(userRepository.getReferenceById(1L)).willReturn(user);
+        given(progressStore.isOwned(eq(1L), eq(Certificate.CertificateType.GALAXY_COMMUNICATOR), any())).willReturn(false);
+        given(progressStore.get(1L, Metric.COMMENTS)).willReturn(OptionalLong.of(10L));
+
+        // when
+        certificateService.evaluate(CertificateJob.of(1L, CertificateCheckType.COMMENT_WRITE, null));
+
+        // then
+        verify(userCertificateRepository).save(any(UserCertificate.class));
+        verify(progressStore).markOwned(1L, Certificate.CertificateType.GALAXY_COMMUNICATOR);
+        verifyNoInteractions(commentRepository); // 카운터가 있으므로 COUNT 쿼리 없음
+    }
+
+    @Test
+    @DisplayName("진행도 카운터가 없으면 커밋된 댓글 수로 평가하고 카운터는 바꾸지 않는다")
+    void fallsBackToCountWithoutTouchingCounter() {
+        // given
+        User user = User.builder().nickname("tester").build();
+        ReflectionTestUtils.setField(user, "id", 1L);
+        given(userRepository.getReferenceById(1L)).willReturn(user);
+        given(progressStore.isOwned(eq(1L), eq(Certificate.CertificateType.GALAXY_COMMUNICATOR), any())).willReturn(false);
+        given(progressStore.get(1L, Metric.COMMENTS)).willReturn(OptionalLong.empty());
+        given(commentRepository.countByWriter(user)).willReturn(9L);
+
+        // when - 같은 작업을 두 번 처리해도 결과가 같아야 함 (재시도 안전)
+        certificateService.evaluate(CertificateJob.of(1L, CertificateCheckType.COMMENT_WRITE, null));
+        certificateService.evaluate(CertificateJob.of(1L, CertificateCheckType.COMMENT_WRITE, null));
+
+        // then
+        verify(userCertificateRepository, never()).save(any());
+        verify(progressStore, never()).seed(anyLong(), any(), any());
+        verify(progressStore, never()).add(anyLong(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("진행도 변경 시 카운터는 (DB 값 - 이번 변경분)으로 생성하고 변경분을 더한다")
+    void seedsWithCountMinusOwnDelta() {
+        // given - 삭제 트랜잭션 안에서는 이미 삭제가 반영된 게시글 수가 보임
+        User user = User.builder().nickname("tester").build();
+        ReflectionTestUtils.setField(user, "id", 1L);
+        given(userRepository.getReferenceById(1L)).willReturn(user);
+        given(postRepository.countByWriterAndIsDeletedFalse(user)).willReturn(4L);
+
+        // when
+        certificateService.trackProgress(1L, Metric.POSTS, -1);
+
+        // then - 변경 전 값 5로 생성, 이후 -1 반영
+        ArgumentCaptor<LongSupplier> initial = ArgumentCaptor.forClass(LongSupplier.class);
+        verify(progressStore).seed(eq(1L), eq(Metric.POSTS), initial.capture());
+        assertThat(initial.getValue().getAsLong()).isEqualTo(5L);
+        verify(progressStore).add(1L, Metric.POSTS, -1);
+    }
+}
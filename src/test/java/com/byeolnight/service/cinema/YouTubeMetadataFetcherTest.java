@@ -0,0 +1,92 @@
+package com.byeolnight.service.cinema;
+
+import com.byeolnight.dto.external.youtube.YouTubeVideoDetailItem;
+import com.byeolnight.dto.external.youtube.YouTubeVideoListResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("YouTubeMetadataFetcher 테스트")
+class YouTubeMetadataFetcherTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    private final List<List<String>> requestedChunks = new CopyOnWriteArrayList<>();
+    private YouTubeMetadataFetcher fetcher;
+
+    @BeforeEach
+    void setUp() {
+        fetcher = new YouTubeMetadataFetcher(restTemplate, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(fetcher, "googleApiKey", "test-key");
+        ReflectionTestUtils.setField(fetcher, "ttlHours", 6L);
+        ReflectionTestUtils.setField(fetcher, "maxSize", 1_000L);
+        ReflectionTestUtils.setField(fetcher, "parallelism", 4);
+        fetcher.init();
+
+        // videos.list 스텁: 요청한 id마다 조회수 = id 번호
+        given(restTemplate.getForObject(anyString(), eq(YouTubeVideoListResponse.class))).willAnswer(invocation -> {
+            String url = invocation.getArgument(0);
+            String ids = url.substring(url.indexOf("&id=") + 4, url.indexOf("&key="));
+            List<String> chunk = Arrays.asList(ids.split(","));
+            requestedChunks.add(chunk);
+            String items = chunk.stream()
+                    .map(id -> "{\"id\":\"%s\",\"statistics\":{\"viewCount\":\"%s\"},\"contentDetails\":{\"duration\":\"PT10M\"}}"
+                            .formatted(id, id.substring(1)))
+                    .collect(Collectors.joining(","));
+            return objectMapper.readValue("{\"items\":[" + items + "]}", YouTubeVideoListResponse.class);
+        });
+    }
+
+    @Test
+    @DisplayName("후보 id를 50개 단위로 묶어 조회하고, 한 번 조회한 영상은 캐시에서 꺼낸다")
+    void fetchesInChunksOfFiftyAndCachesById() {
+        // given - 120개 + 중복 10개
+        List<String> ids = new ArrayList<>(IntStream.range(0, 120).mapToObj(i -> "v" + i).toList());
+        ids.addAll(ids.subList(0, 10));
+
+        // when
+        Map<String, YouTubeVideoDetailItem> first = fetcher.fetch(ids);
+
+        // then
+        assertThat(first).hasSize(120);
+        assertThat(first.get("v42").getStatistics().getViewCountAsLong()).isEqualTo(42);
+        assertThat(first.get("v42").getContentDetails().getDuration()).isEqualTo("PT10M");
+        assertThat(requestedChunks).hasSize(3)
+                .allSatisfy(chunk -> assertThat(chunk).hasSizeLessThanOrEqualTo(YouTubeMetadataFetcher.MAX_IDS_PER_CALL));
+        assertThat(requestedChunks.stream().mapToInt(List::size).sum()).isEqualTo(120);
+
+        // when - 기존 120개 + 신규 1개
+        requestedChunks.clear();
+        List<String> again = new ArrayList<>(ids);
+        again.add("v999");
+        Map<String, YouTubeVideoDetailItem> second = fetcher.fetch(again);
+
+        // then - 신규 id만 호출
+        assertThat(second).hasSize(121);
+        assertThat(requestedChunks).containsExactly(List.of("v999"));
+    }
+}
@@ -1,25 +1,36 @@
 package com.byeolnight.service.comment;
 
+import com.byeolnight.dto.comment.CommentPageDto;
 import com.byeolnight.dto.comment.CommentRequestDto;
+import com.byeolnight.dto.comment.CommentResponseDto;
 import com.byeolnight.entity.comment.Comment;
+import com.byeolnight.event.CommentChangedEvent;
 import com.byeolnight.entity.post.Post;
 import com.byeolnight.entity.user.User;
 import com.byeolnight.repository.comment.CommentLikeRepository;
 import com.byeolnight.repository.comment.CommentRepository;
 import com.byeolnight.repository.post.PostRepository;
+import com.byeolnight.service.assembler.CommentResponseAssembler;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,6 +42,10 @@ class CommentServiceTest {
     private PostRepository postRepository;
     @Mock
     private CommentLikeRepository commentLikeRepository;
+    @Mock
+    private CommentResponseAssembler commentResponseAssembler;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
     private CommentService commentService;
@@ -82,13 +97,16 @@ class CommentServiceTest {
     @DisplayName("댓글 삭제 성공")
     void delete_Success() {
         User user = User.builder().email("test@test.com").build();
-        Comment comment = Comment.builder().writer(user).content("test").build();
+        Post post = Post.builder().title("test").build();
+        ReflectionTestUtils.setField(post, "id", 10L);
+        Comment comment = Comment.builder().writer(user).post(post).content("test").build();
         
         given(commentRepository.findById(1L)).willReturn(Optional.of(comment));
 
         commentService.delete(1L, user);
 
         verify(commentRepository).findById(1L);
+        verify(eventPublisher).publishEvent(new CommentChangedEvent(10L)); // 상세 캐시 댓글 수 무효화
     }
 
     @Test
@@ -103,4 +121,99 @@ class CommentServiceTest {
         assertThatThrownBy(() -> commentService.delete(1L, other))
                 .hasMessage("삭제 권한이 없습니다.");
     }
+
+    @Test
+    @DisplayName("댓글 페이지 조회 - 루트 keyset 페이지와 루트별 답글 미리보기/더보기 커서")
+    void getPageByPostId_GroupsRepliesByRoot() {
+        // given - 루트 3개 중 2개만 페이지에 포함, 루트 1의 답글 3개(답글의 답글 포함)
+        Comment root1 = Comment.builder().id(1L).content("root1").build();
+        Comment root2 = Comment.builder().id(2L).content("root2").build();
+        Comment root3 = Comment.builder().id(3L).content("root3").build();
+        given(postRepository.existsById(10L)).willReturn(true);
+        given(commentRepository.findRootCommentsAfter(eq(10L), eq(0L), any(Pageable.class)))
+                .willReturn(List.of(root1, root2, root3));
+        given(commentRepository.findReplyIdsByRootIds(List.of(1L, 2L)))
+                .willReturn(List.of(new Object[]{4L, 1L}, new Object[]{5L, 1L}, new Object[]{6L, 1L}));
+        given(commentRepository.findAllWithParentByIdIn(List.of(4L, 5L)))
+                .willReturn(List.of(Comment.builder().id(4L).parent(root1).content("r").build(),
+                        Comment.builder().id(5L).parent(root1).content("r").build()));
+        given(commentRepository.findTop3PopularCommentsByPostId(10L)).willReturn(List.of());
+        given(commentResponseAssembler.toDtoList(anyList(), any())).willAnswer(invocation ->
+                invocation.<List<Comment>>getArgument(0).stream()
+                        .map(c -> CommentResponseDto.builder().id(c.getId()).build())
+                        .toList());
+
+        // when
+        CommentPageDto page = commentService.getPageByPostId(10L, null, 2, 2, null);
+
+        // then
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.nextCursor()).isEqualTo(2L);
+        assertThat(page.comments()).hasSize(2);
+
+        CommentPageDto.RootComment first = page.comments().get(0);
+        assertThat(first.replies()).extracting(CommentResponseDto::getId).containsExactly(4L, 5L);
+        assertThat(first.replyCount()).isEqualTo(3);
+        assertThat(first.nextReplyCursor()).isEqualTo(5L);
+
+        CommentPageDto.RootComment second = page.comments().get(1);
+        assertThat(second.replies()).isEmpty();
+        assertThat(second.nextReplyCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("답글 더보기 - 커서 이후 한 페이지(+1)만 DB에서 조회하고 다음 커서를 계산")
+    void getReplies_QueriesOnlyPageAfterCursor() {
+        // given
+        given(commentRepository.findReplyIdsAfter(1L, 5L, 3)).willReturn(List.of(6L, 7L, 8L));
+        given(commentRepository.findAllWithParentByIdIn(List.of(6L, 7L)))
+                .willReturn(List.of(Comment.builder().id(6L).content("r").build(),
+                        Comment.builder().id(7L).content("r").build()));
+        given(commentResponseAssembler.toDtoList(anyList(), any())).willAnswer(invocation ->
+                invocation.<List<Comment>>getArgument(0).stream()
+                        .map(c -> CommentResponseDto.builder().id(c.getId()).build())
+                        .toList());
+
+        // when
+        CommentPageDto.Replies replies = commentService.getReplies(1L, 5L, 2, null);
+
+        // then
+        assertThat(replies.replies()).extracting(CommentResponseDto::getId).containsExactly(6L, 7L);
+        assertThat(replies.nextCursor()).isEqualTo(7L);
+        assertThat(replies.hasNext()).isTrue();
+        verify(commentRepository, never()).findReplyIdsByRootIds(anyList());
+    }
+
+    @Test
+    @DisplayName("댓글 좋아요 - 기존 좋아요가 없으면 INSERT 후 좋아요 수를 원자적으로 증가")
+    void toggleCommentLike_Like() {
+        // given
+        User user = User.builder().id(1L).email("test@test.com").nickname("tester").build();
+        given(commentLikeRepository.deleteByCommentIdAndUserId(10L, 1L)).willReturn(0);
+        given(commentLikeRepository.insertIfAbsent(10L, 1L)).willReturn(1);
+
+        // when
+        boolean liked = commentService.toggleCommentLike(10L, user);
+
+        // then
+        assertThat(liked).isTrue();
+        verify(commentRepository).incrementLikeCount(10L);
+        verify(commentRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("댓글 좋아요 취소 - DELETE 한 번 후 좋아요 수를 원자적으로 감소")
+    void toggleCommentLike_Unlike() {
+        // given
+        User user = User.builder().id(1L).email("test@test.com").nickname("tester").build();
+        given(commentLikeRepository.deleteByCommentIdAndUserId(10L, 1L)).willReturn(1);
+
+        // when
+        boolean liked = commentService.toggleCommentLike(10L, user);
+
+        // then
+        assertThat(liked).isFalse();
+        verify(commentRepository).decrementLikeCount(10L);
+        verify(commentLikeRepository, never()).insertIfAbsent(any(), any());
+    }
 }
@@ -0,0 +1,63 @@
+package com.byeolnight.service.crawler;
+
+import com.byeolnight.service.crawler.KeywordMatcherRegistry.KeywordSet;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("KeywordMatcherRegistry 테스트")
+class KeywordMatcherRegistryTest {
+
+    private MockEnvironment environment;
+    private SimpleMeterRegistry meterRegistry;
+    private KeywordMatcherRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        environment = new MockEnvironment();
+        meterRegistry = new SimpleMeterRegistry();
+        registry = new KeywordMatcherRegistry(environment, meterRegistry);
+        registry.init();
+    }
+
+    @Test
+    @DisplayName("설정이 없으면 기본 키워드 목록으로 매칭기를 구성한다")
+    void buildsDefaultsWithoutProperties() {
+        // when & then
+        assertThat(registry.matcher(KeywordSet.NEWS_SPACE).containsAny("NASA's Artemis II crew")).isTrue();
+        assertThat(registry.matcher(KeywordSet.NEWS_EXCLUDE).containsAny("Bitcoin 가격 급등")).isTrue();
+        assertThat(registry.matcher(KeywordSet.CINEMA_MUSIC).containsAny("BLACKPINK 컴백 무대")).isTrue();
+        assertThat(registry.keywords(KeywordSet.CINEMA_SPACE_KO)).contains("우주", "블랙홀");
+    }
+
+    @Test
+    @DisplayName("설정 서버 갱신으로 content.keywords 가 바뀌면 재시작 없이 매칭기를 교체하고, 다른 키 변경은 무시한다")
+    void reloadsOnEnvironmentChange() {
+        // given
+        assertThat(registry.matcher(KeywordSet.NEWS_EXCLUDE).containsAny("달 착륙선 관련주 상승")).isFalse();
+        environment.setProperty("content.keywords.news-exclude[0]", "관련주");
+        environment.setProperty("content.keywords.news-exclude[1]", "공모주");
+
+        // when - 다른 설정만 바뀐 경우
+        registry.onEnvironmentChange(new EnvironmentChangeEvent(Set.of("news.fetch.calls-per-source")));
+
+        // then
+        assertThat(registry.matcher(KeywordSet.NEWS_EXCLUDE).containsAny("달 착륙선 관련주 상승")).isFalse();
+
+        // when
+        registry.onEnvironmentChange(new EnvironmentChangeEvent(Set.of("content.keywords.news-exclude[0]")));
+
+        // then - 목록 교체, 다른 목록은 기본값 유지
+        assertThat(registry.matcher(KeywordSet.NEWS_EXCLUDE).containsAny("달 착륙선 관련주 상승")).isTrue();
+        assertThat(registry.matcher(KeywordSet.NEWS_EXCLUDE).containsAny("Bitcoin 가격 급등")).isFalse();
+        assertThat(registry.matcher(KeywordSet.NEWS_SPACE).containsAny("달 착륙선")).isTrue();
+        assertThat(meterRegistry.counter("content.keywords.reloads", "outcome", "success").count()).isEqualTo(1);
+    }
+}
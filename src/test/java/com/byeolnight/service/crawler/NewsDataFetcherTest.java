@@ -0,0 +1,144 @@
+package com.byeolnight.service.crawler;
+
+import com.byeolnight.dto.ai.NewsApiResponseDto;
+import com.byeolnight.infrastructure.cache.RedissonCacheService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("NewsDataFetcher 테스트")
+class NewsDataFetcherTest {
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    @Mock
+    private RedissonCacheService cacheService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private NewsDataFetcher newsDataFetcher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        newsDataFetcher = new NewsDataFetcher(restTemplate, cacheService, meterRegistry);
+        ReflectionTestUtils.setField(newsDataFetcher, "primaryApiKey", "primary");
+        ReflectionTestUtils.setField(newsDataFetcher, "backupApiKey", "backup");
+        ReflectionTestUtils.setField(newsDataFetcher, "requestsPerSecond", 100.0);
+        ReflectionTestUtils.setField(newsDataFetcher, "callsPerSource", 2);
+        newsDataFetcher.init();
+    }
+
+    @Test
+    @DisplayName("언어별 커서 이후 발행된 뉴스만 전달하고, 저장에 성공한 회차에만 커서를 전진한다")
+    void returnsOnlyItemsAfterCursor() {
+        // given - ko 커서 10:00, en 커서 없음
+        given(cacheService.get("news:fetch:cursor:ko")).willReturn("2025-01-15 10:00:00");
+        given(cacheService.get("news:fetch:cursor:en")).willReturn(null);
+        given(restTemplate.getForObject(anyString(), eq(NewsApiResponseDto.class))).willAnswer(invocation -> {
+            String url = invocation.getArgument(0);
+            return url.contains("language=ko")
+                    ? response(result("ko-old", "2025-01-15 09:00:00"), result("ko-new", "2025-01-15 11:00:00"))
+                    : response(result("en-1", "2025-01-14 08:00:00"));
+        });
+
+        // when
+        NewsDataFetcher.Batch batch = newsDataFetcher.fetchLatest();
+        newsDataFetcher.complete(batch, 2, 1, 0);
+
+        // then - 호출마다 같은 결과가 와도 URL 기준 1건씩만
+        assertThat(batch.results()).extracting(NewsApiResponseDto.Result::getLink)
+                .containsExactly("https://news.test/ko-new", "https://news.test/en-1");
+        assertThat(meterRegistry.counter("news.fetch.items", "source", "ko", "stage", "fetched").count()).isEqualTo(4);
+        assertThat(meterRegistry.counter("news.fetch.items", "source", "ko", "stage", "new").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("news.fetch.items", "source", "all", "stage", "kept").count()).isEqualTo(1);
+        verify(cacheService, never()).set(anyString(), any(), any(Duration.class));
+
+        // when - 저장 성공
+        newsDataFetcher.complete(batch, 2, 1, 1);
+
+        // then
+        verify(cacheService).set(eq("news:fetch:cursor:ko"), eq("2025-01-15 11:00:00"), any(Duration.class));
+        verify(cacheService).set(eq("news:fetch:cursor:en"), eq("2025-01-14 08:00:00"), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("최대 저장 개수에 걸려 보지 않은 뉴스가 있으면 그보다 먼저 발행된 시각까지만 커서를 전진한다")
+    void keepsUnexaminedItemsAfterCursor() {
+        // given - 앞의 2건만 선별을 마침
+        NewsDataFetcher.Batch batch = new NewsDataFetcher.Batch(
+                List.of(result("a", "2025-01-15 11:00:00"), result("b", "2025-01-15 10:30:00"),
+                        result("c", "2025-01-15 10:45:00"), result("d", "2025-01-15 09:00:00")),
+                Map.of("https://news.test/a", "ko", "https://news.test/b", "ko",
+                        "https://news.test/c", "ko", "https://news.test/d", "en"));
+
+        // when
+        Map<String, LocalDateTime> cursors = NewsDataFetcher.nextCursors(batch, 2);
+
+        // then - c(10:45) 이전인 b까지만, 본 적 없는 언어는 그대로
+        assertThat(cursors).containsExactly(entry("ko", LocalDateTime.of(2025, 1, 15, 10, 30)));
+        assertThat(NewsDataFetcher.nextCursors(batch, 1)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("동시 호출 중 기본 키가 한도 초과되면 한 번만 백업 키로 전환하고 모든 호출이 백업 키로 성공한다")
+    void rotatesToBackupKeyOnce() {
+        // given
+        List<String> usedKeys = new CopyOnWriteArrayList<>();
+        given(restTemplate.getForObject(anyString(), eq(NewsApiResponseDto.class))).willAnswer(invocation -> {
+            String url = invocation.getArgument(0);
+            if (url.contains("apikey=primary")) {
+                throw new HttpClientErrorException(HttpStatus.TOO_MANY_REQUESTS);
+            }
+            usedKeys.add("backup");
+            return response(result(url.contains("language=ko") ? "ko" : "en", "2025-01-15 11:00:00"));
+        });
+
+        // when
+        NewsDataFetcher.Batch batch = newsDataFetcher.fetchLatest();
+
+        // then
+        assertThat(usedKeys).hasSize(4);
+        assertThat(batch.results()).hasSize(2);
+        assertThat(meterRegistry.counter("news.fetch.key.rotations").count()).isEqualTo(1);
+    }
+
+    private NewsApiResponseDto response(NewsApiResponseDto.Result... results) {
+        NewsApiResponseDto response = new NewsApiResponseDto();
+        response.setStatus("success");
+        response.setResults(List.of(results));
+        return response;
+    }
+
+    private NewsApiResponseDto.Result result(String id, String pubDate) {
+        NewsApiResponseDto.Result result = new NewsApiResponseDto.Result();
+        result.setTitle("우주 뉴스 " + id);
+        result.setLink("https://news.test/" + id);
+        result.setPubDate(pubDate);
+        return result;
+    }
+}
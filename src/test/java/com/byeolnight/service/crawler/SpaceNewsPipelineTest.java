@@ -0,0 +1,157 @@
+package com.byeolnight.service.crawler;
+
+import com.byeolnight.dto.ai.NewsApiResponseDto;
+import com.byeolnight.entity.user.User;
+import com.byeolnight.infrastructure.config.BaseCollectionProperties;
+import com.byeolnight.infrastructure.config.NewsCollectionProperties;
+import com.byeolnight.infrastructure.config.QueryDslConfig;
+import com.byeolnight.infrastructure.util.NearDuplicateIndex;
+import com.byeolnight.repository.NewsRepository;
+import com.byeolnight.repository.post.PostRepository;
+import com.byeolnight.repository.user.UserRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 뉴스 수집 파이프라인 커넥션 점유 테스트
+ * - 커넥션 풀 사용량을 보기 위해 내장 DB 대신 Hikari 풀 + H2 메모리 DB 사용
+ * - 수집 메서드가 직접 트랜잭션을 나누므로 테스트 트랜잭션은 사용하지 않음
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:space-news-pipeline;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect"
+})
+@Import({QueryDslConfig.class, SpaceNewsService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SpaceNewsPipelineTest {
+
+    private static final int MAX_POSTS = 3;
+    private static final long AI_LATENCY_MS = 300;
+
+    @Autowired
+    private SpaceNewsService spaceNewsService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private NewsRepository newsRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockBean
+    private NewsDataFetcher newsDataFetcher;
+
+    @MockBean
+    private NewsCollectionProperties newsConfig;
+
+    @MockBean
+    private NewsContentValidator validator;
+
+    @MockBean
+    private NewsTranslationService translationService;
+
+    @MockBean
+    private NewsContentFormatter formatter;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.save(User.builder()
+                .email("newsbot@byeolnight.com")
+                .nickname("newsbot")
+                .role(User.Role.ADMIN)
+                .build());
+
+        BaseCollectionProperties.Collection collection = new BaseCollectionProperties.Collection();
+        collection.setMaxPosts(MAX_POSTS);
+        given(newsConfig.getCollection()).willReturn(collection);
+        given(validator.loadRecentTitleIndex()).willReturn(new NearDuplicateIndex(0.7));
+        given(validator.isHighQualityNews(any(), any())).willReturn(true);
+        given(formatter.formatNewsContent(any())).willReturn("본문");
+        given(translationService.translateTitle(anyString())).willAnswer(invocation -> invocation.getArgument(0));
+        given(newsDataFetcher.fetchLatest()).willReturn(new NewsDataFetcher.Batch(
+                Stream.concat(results("ko"), results("en")).toList(), Map.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        postRepository.deleteAllInBatch();
+        newsRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("AI 분석을 기다리는 동안 DB 커넥션을 점유하지 않고, 후보별로 동시에 분석한 뒤 한 번에 저장한다")
+    void enrichesWithoutHoldingConnections() {
+        // given
+        HikariDataSource hikari = (HikariDataSource) dataSource;
+        List<Integer> activeDuringAiCall = new CopyOnWriteArrayList<>();
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger peakInFlight = new AtomicInteger();
+        given(translationService.generateAIAnalysis(anyString(), any())).willAnswer(invocation -> {
+            peakInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            activeDuringAiCall.add(hikari.getHikariPoolMXBean().getActiveConnections());
+            Thread.sleep(AI_LATENCY_MS);
+            inFlight.decrementAndGet();
+            return "AI 분석";
+        });
+
+        // when
+        spaceNewsService.collectAndSaveSpaceNews();
+
+        // then
+        assertThat(activeDuringAiCall).hasSize(MAX_POSTS).containsOnly(0);
+        assertThat(peakInFlight.get()).isGreaterThan(1);
+        assertThat(newsRepository.count()).isEqualTo(MAX_POSTS);
+        assertThat(postRepository.count()).isEqualTo(MAX_POSTS);
+        verify(newsDataFetcher).complete(any(), eq(MAX_POSTS), eq(MAX_POSTS), eq(MAX_POSTS)); // 최대 개수에 도달한 뒤 1건은 보지 않음
+    }
+
+    private Stream<NewsApiResponseDto.Result> results(String language) {
+        return IntStream.range(0, 2)
+                .mapToObj(i -> {
+                    NewsApiResponseDto.Result result = new NewsApiResponseDto.Result();
+                    result.setTitle("우주 뉴스 " + language + i);
+                    result.setDescription("설명");
+                    result.setLink("https://news.test/" + language + "/" + i);
+                    result.setPubDate("2025-01-15 12:30:45");
+                    return result;
+                });
+    }
+}
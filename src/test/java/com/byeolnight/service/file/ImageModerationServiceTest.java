@@ -0,0 +1,123 @@
+package com.byeolnight.service.file;
+
+import com.byeolnight.entity.file.File;
+import com.byeolnight.entity.file.ModerationStatus;
+import com.byeolnight.infrastructure.cache.RedissonCacheService;
+import com.byeolnight.repository.file.FileRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("ImageModerationService 테스트")
+class ImageModerationServiceTest {
+
+    @Mock private FileRepository fileRepository;
+    @Mock private RedissonCacheService cacheService;
+    @Mock private S3Service s3Service;
+    @Mock private S3DeletionQueue s3DeletionQueue;
+
+    private StubVisionClient visionClient;
+    private ImageModerationService moderationService;
+
+    @BeforeEach
+    void setUp() {
+        visionClient = new StubVisionClient("UNSAFE".getBytes(StandardCharsets.UTF_8));
+        moderationService = new ImageModerationService(fileRepository, cacheService, s3Service, s3DeletionQueue, visionClient);
+
+        // 검열 결과 캐시를 메모리 맵으로 대체
+        Map<Object, Object> verdicts = new HashMap<>();
+        given(cacheService.getFromMap(eq(ImageModerationService.VERDICT_CACHE), any()))
+                .willAnswer(invocation -> verdicts.get(invocation.getArgument(1)));
+        willAnswer(invocation -> verdicts.put(invocation.getArgument(1), invocation.getArgument(2)))
+                .given(cacheService).putToMap(eq(ImageModerationService.VERDICT_CACHE), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("같은 내용의 이미지는 해시 캐시를 사용해 Vision API를 한 번만 호출한다")
+    void reusesVerdictForSameContent() {
+        // given
+        givenObject("a.png", "safe-image".getBytes(StandardCharsets.UTF_8));
+        givenObject("b.png", "safe-image".getBytes(StandardCharsets.UTF_8));
+
+        // when
+        ImageModerationService.Verdict first = moderationService.inspect("a.png");
+        ImageModerationService.Verdict second = moderationService.inspect("b.png");
+
+        // then
+        assertThat(first.safe()).isTrue();
+        assertThat(second.contentHash()).isEqualTo(first.contentHash());
+        assertThat(visionClient.calls()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("크기 제한을 넘는 이미지는 Vision API 호출 없이 거부한다")
+    void rejectsOversizedImage() {
+        // given
+        givenObject("big.png", new byte[ImageModerationService.MAX_IMAGE_BYTES + 1]);
+
+        // when
+        ImageModerationService.Verdict verdict = moderationService.inspect("big.png");
+
+        // then
+        assertThat(verdict.safe()).isFalse();
+        assertThat(visionClient.calls()).isZero();
+    }
+
+    @Test
+    @DisplayName("부적절한 이미지는 REJECTED로 기록하고 S3 삭제를 예약한다")
+    void rejectsUnsafeImage() {
+        // given
+        File file = File.createPending("bad.png", "bad.png", "https://cdn/bad.png");
+        given(fileRepository.findByS3Key("bad.png")).willReturn(Optional.of(file));
+        givenObject("bad.png", "...UNSAFE...".getBytes(StandardCharsets.UTF_8));
+
+        // when
+        moderationService.applyVerdict("bad.png", moderationService.inspect("bad.png"));
+
+        // then
+        assertThat(file.getModerationStatus()).isEqualTo(ModerationStatus.REJECTED);
+        assertThat(file.getContentHash()).hasSize(64);
+        verify(s3DeletionQueue).enqueue("bad.png");
+    }
+
+    @Test
+    @DisplayName("검열 상태가 없는 파일은 통과로 보지 않고 검열 대기로 응답하며, 검열 요청 시 큐에 적재한다")
+    void treatsMissingStatusAsPending() {
+        // given - 검열 도입 이전 방식으로 생성된 파일
+        File file = File.of(null, "legacy.png", "legacy.png", "https://cdn/legacy.png");
+        given(fileRepository.findByS3Key("legacy.png")).willReturn(Optional.of(file));
+
+        // when & then
+        assertThat(moderationService.getResult("legacy.png").getStatus()).isEqualTo("pending");
+        assertThat(moderationService.requestModeration("legacy.png").getStatus()).isEqualTo("pending");
+        verify(cacheService).enqueue(eq(ImageModerationService.QUEUE), any());
+    }
+
+    private void givenObject(String s3Key, byte[] bytes) {
+        given(s3Service.openObject(s3Key)).willAnswer(invocation -> new ResponseInputStream<>(
+                GetObjectResponse.builder().contentLength((long) bytes.length).build(),
+                AbortableInputStream.create(new ByteArrayInputStream(bytes))));
+    }
+}
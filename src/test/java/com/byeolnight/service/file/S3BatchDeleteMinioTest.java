@@ -0,0 +1,77 @@
+package com.byeolnight.service.file;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.MinIOContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MinIO 컨테이너로 DeleteObjects 일괄 삭제를 검증 (Docker 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("S3 일괄 삭제 MinIO 통합 테스트")
+class S3BatchDeleteMinioTest {
+
+    private static final String BUCKET = "test-bucket";
+
+    @Container
+    static final MinIOContainer MINIO = new MinIOContainer("minio/minio:RELEASE.2023-09-04T19-57-37Z");
+
+    private static S3Client s3Client;
+    private static S3Service s3Service;
+
+    @BeforeAll
+    static void setUp() {
+        s3Client = S3Client.builder()
+                .endpointOverride(URI.create(MINIO.getS3URL()))
+                .forcePathStyle(true)
+                .region(Region.US_EAST_1)
+                .credentialsProvider(StaticCredentialsProvider.create(
+                        AwsBasicCredentials.create(MINIO.getUserName(), MINIO.getPassword())))
+                .build();
+        s3Client.createBucket(builder -> builder.bucket(BUCKET));
+
+        s3Service = new S3Service(null, null, null, null, null, s3Client, null);
+        ReflectionTestUtils.setField(s3Service, "bucketName", BUCKET);
+    }
+
+    @AfterAll
+    static void tearDown() {
+        s3Client.close();
+    }
+
+    @Test
+    @DisplayName("1000개를 넘는 키를 DeleteObjects 배치로 나눠 모두 삭제한다")
+    void deletesMoreThanOneBatch() {
+        // given
+        List<String> keys = new ArrayList<>();
+        IntStream.range(0, 1500).forEach(i -> {
+            String key = "uploads/image-" + i + ".png";
+            s3Client.putObject(builder -> builder.bucket(BUCKET).key(key), RequestBody.fromString("x"));
+            keys.add(key);
+        });
+
+        // when
+        List<String> failedKeys = s3Service.deleteObjects(keys);
+
+        // then
+        assertThat(failedKeys).isEmpty();
+        assertThat(s3Client.listObjectsV2(builder -> builder.bucket(BUCKET)).keyCount()).isZero();
+    }
+}
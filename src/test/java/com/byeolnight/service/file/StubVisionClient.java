@@ -0,0 +1,37 @@
+package com.byeolnight.service.file;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 로컬 Vision 스텁
+ * - 외부 API 호출 없이 지정한 바이트 패턴이 포함된 이미지만 부적절로 판정
+ */
+class StubVisionClient implements VisionClient {
+
+    private final byte[] unsafeMarker;
+    private final AtomicInteger calls = new AtomicInteger();
+
+    StubVisionClient(byte[] unsafeMarker) {
+        this.unsafeMarker = unsafeMarker;
+    }
+
+    @Override
+    public boolean inspect(byte[] imageBytes) {
+        calls.incrementAndGet();
+        return !contains(imageBytes, unsafeMarker);
+    }
+
+    int calls() {
+        return calls.get();
+    }
+
+    private static boolean contains(byte[] source, byte[] marker) {
+        for (int i = 0; i + marker.length <= source.length; i++) {
+            if (Arrays.equals(source, i, i + marker.length, marker, 0, marker.length)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,75 @@
+package com.byeolnight.service.log;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuditLogPartitionMaintainer 테스트")
+class AuditLogPartitionMaintainerTest {
+
+    @Mock private JdbcTemplate jdbcTemplate;
+    @Mock private RedissonClient redissonClient;
+    @Mock private RLock lock;
+
+    private AuditLogPartitionMaintainer partitionMaintainer;
+
+    @BeforeEach
+    void setUp() {
+        partitionMaintainer = new AuditLogPartitionMaintainer(jdbcTemplate, redissonClient);
+        given(redissonClient.getLock("lock:audit-log-partition")).willReturn(lock);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 락을 잡고 있으면 파티션을 건드리지 않는다")
+    void skipsWhenLockHeldByOtherNode() throws InterruptedException {
+        // given
+        given(lock.tryLock(eq(0L), anyLong(), eq(TimeUnit.MINUTES))).willReturn(false);
+
+        // when
+        partitionMaintainer.maintain(LocalDate.of(2026, 10, 19));
+
+        // then
+        verifyNoInteractions(jdbcTemplate);
+        verify(lock, never()).unlock();
+    }
+
+    @Test
+    @DisplayName("락을 잡으면 모든 감사 로그 테이블을 점검하고 락을 해제한다")
+    void maintainsAllTablesUnderLock() throws InterruptedException {
+        // given - 파티션이 없는 테이블 (H2 등)
+        given(lock.tryLock(eq(0L), anyLong(), eq(TimeUnit.MINUTES))).willReturn(true);
+        given(lock.isHeldByCurrentThread()).willReturn(true);
+        given(jdbcTemplate.query(anyString(), any(RowMapper.class), anyString())).willReturn(List.of());
+
+        // when
+        partitionMaintainer.maintain(LocalDate.of(2026, 10, 19));
+
+        // then
+        verify(jdbcTemplate, times(AuditLogPartitionMaintainer.TABLES.size()))
+                .query(anyString(), any(RowMapper.class), anyString());
+        verify(jdbcTemplate, never()).execute(anyString());
+        verify(lock).unlock();
+    }
+}
@@ -0,0 +1,152 @@
+package com.byeolnight.service.log;
+
+import com.byeolnight.dto.log.AuditLogJob;
+import com.byeolnight.entity.log.AuditSignupLog;
+import com.byeolnight.repository.log.AuditLogBatchRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuditLogWriter 테스트")
+class AuditLogWriterTest {
+
+    @Mock
+    private AuditLogBatchRepository auditLogBatchRepository;
+
+    @Mock
+    private TaskScheduler taskScheduler;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AuditLogWriter auditLogWriter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        auditLogWriter = new AuditLogWriter(auditLogBatchRepository, meterRegistry, taskScheduler);
+        ReflectionTestUtils.setField(auditLogWriter, "bufferCapacity", 5);
+        ReflectionTestUtils.setField(auditLogWriter, "batchSize", 2);
+        auditLogWriter.init();
+    }
+
+    @Test
+    @DisplayName("요청 스레드에서는 버퍼에만 쌓고, 비울 때 배치 크기 단위로 테이블별 일괄 INSERT 한다")
+    void flushesInBatchesByType() {
+        // given
+        auditLogWriter.login("a@test.com", "1.1.1.1", "agent");
+        auditLogWriter.login("b@test.com", "1.1.1.1", "agent");
+        auditLogWriter.signupFailure("c@test.com", "2.2.2.2", "존재하지 않는 이메일");
+        verifyNoInteractions(auditLogBatchRepository);
+
+        // when
+        auditLogWriter.flush();
+
+        // then - 2건 + 1건 두 배치
+        ArgumentCaptor<List<AuditLogJob>> logins = ArgumentCaptor.forClass(List.class);
+        verify(auditLogBatchRepository).batchInsertLogins(logins.capture());
+        assertThat(logins.getValue()).extracting(AuditLogJob::email).containsExactly("a@test.com", "b@test.com");
+
+        ArgumentCaptor<List<AuditLogJob>> signups = ArgumentCaptor.forClass(List.class);
+        verify(auditLogBatchRepository).batchInsertSignups(signups.capture());
+        assertThat(signups.getValue()).singleElement()
+                .satisfies(job -> {
+                    assertThat(job.result()).isEqualTo(AuditSignupLog.Result.FAILURE);
+                    assertThat(job.failureReason()).isEqualTo("존재하지 않는 이메일");
+                });
+        verify(auditLogBatchRepository, never()).batchInsertRefreshes(anyList());
+        assertThat(meterRegistry.counter("audit.log.written", "type", "LOGIN").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 초과분은 버리고 집계하며, 종료 시 남은 로그를 모두 기록한다")
+    void countsOverflowAndFlushesOnShutdown() {
+        // given - 용량 5
+        for (int i = 0; i < 7; i++) {
+            auditLogWriter.refresh("user" + i + "@test.com", "1.1.1.1", "agent");
+        }
+
+        // when
+        auditLogWriter.shutdown();
+
+        // then
+        assertThat(meterRegistry.counter("audit.log.dropped", "type", "REFRESH").count()).isEqualTo(2);
+        verify(auditLogBatchRepository, times(3)).batchInsertRefreshes(anyList());
+        assertThat(meterRegistry.counter("audit.log.written", "type", "REFRESH").count()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("버퍼에 배치 크기만큼 쌓이면 주기를 기다리지 않고 비우기를 한 번만 예약한다")
+    void schedulesFlushWhenBatchIsFull() {
+        // when - 배치 크기 2
+        auditLogWriter.login("a@test.com", "1.1.1.1", "agent");
+        verify(taskScheduler, never()).schedule(any(Runnable.class), any(Instant.class));
+        auditLogWriter.login("b@test.com", "1.1.1.1", "agent");
+        auditLogWriter.login("c@test.com", "1.1.1.1", "agent");
+
+        // then - 예약된 비우기가 실행되기 전에는 다시 예약하지 않음
+        ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler).schedule(task.capture(), any(Instant.class));
+
+        task.getValue().run();
+        verify(auditLogBatchRepository, times(2)).batchInsertLogins(anyList());
+        assertThat(meterRegistry.counter("audit.log.written", "type", "LOGIN").count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("배치 INSERT가 실패하면 다음 비우기에서 한 번 재시도한다")
+    void retriesFailedBatchOnNextFlush() {
+        // given - 첫 시도만 실패
+        willThrow(new IllegalStateException("connection refused"))
+                .willDoNothing()
+                .given(auditLogBatchRepository).batchInsertSignups(anyList());
+        auditLogWriter.signupSuccess("a@test.com", "1.1.1.1");
+
+        // when
+        auditLogWriter.flush();
+        auditLogWriter.flush();
+
+        // then
+        verify(auditLogBatchRepository, times(2)).batchInsertSignups(anyList());
+        assertThat(meterRegistry.counter("audit.log.retried", "type", "SIGNUP").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("audit.log.written", "type", "SIGNUP").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("audit.log.failed", "type", "SIGNUP").count()).isZero();
+    }
+
+    @Test
+    @DisplayName("재시도도 실패하면 버리고 실패로 집계한다")
+    void dropsBatchAfterRetryFails() {
+        // given
+        willThrow(new IllegalStateException("connection refused"))
+                .given(auditLogBatchRepository).batchInsertSignups(anyList());
+        auditLogWriter.signupFailure("a@test.com", "1.1.1.1", "비밀번호 불일치");
+
+        // when - 세 번째 비우기에서는 더 시도하지 않음
+        auditLogWriter.flush();
+        auditLogWriter.flush();
+        auditLogWriter.flush();
+
+        // then
+        verify(auditLogBatchRepository, times(2)).batchInsertSignups(anyList());
+        assertThat(meterRegistry.counter("audit.log.failed", "type", "SIGNUP").count()).isEqualTo(1);
+        assertThat(meterRegistry.counter("audit.log.written", "type", "SIGNUP").count()).isZero();
+    }
+}
@@ -0,0 +1,125 @@
+package com.byeolnight.service.post;
+
+import com.byeolnight.dto.post.PostResponseDto;
+import com.byeolnight.event.CommentChangedEvent;
+import com.byeolnight.event.CommentCreatedEvent;
+import com.byeolnight.event.PostChangedEvent;
+import com.byeolnight.event.PostLikedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostDetailCache 테스트")
+class PostDetailCacheTest {
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RTopic topic;
+
+    private SimpleMeterRegistry meterRegistry;
+    private PostDetailCache postDetailCache;
+    private AtomicInteger loads;
+    private Function<Long, PostResponseDto> loader;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        postDetailCache = new PostDetailCache(redissonClient, meterRegistry);
+        ReflectionTestUtils.setField(postDetailCache, "maxSize", 100L);
+        ReflectionTestUtils.setField(postDetailCache, "ttlSeconds", 60L);
+        given(redissonClient.getTopic(PostDetailCache.INVALIDATION_TOPIC)).willReturn(topic);
+        given(topic.addListener(eq(List.class), any())).willReturn(1);
+        postDetailCache.init();
+
+        loads = new AtomicInteger();
+        loader = id -> {
+            loads.incrementAndGet();
+            return PostResponseDto.builder().id(id).title("제목").viewCount(10).build();
+        };
+    }
+
+    @Test
+    @DisplayName("같은 게시글은 한 번만 조립하고 조회수는 스냅샷 이후 조회분을 더해 보여준다")
+    void reusesSnapshotAndCountsHits() {
+        // when
+        PostDetailCache.Entry first = postDetailCache.get(1L, loader);
+        long firstView = first.recordView();
+        PostDetailCache.Entry second = postDetailCache.get(1L, loader);
+        long secondView = second.recordView();
+
+        // then
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(second).isSameAs(first);
+        assertThat(firstView).isEqualTo(11);
+        assertThat(secondView).isEqualTo(12);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "post.detail").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "post.detail").tag("result", "miss")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("내용 변경은 즉시, 추천/댓글 수 변경은 모아서 무효화하고 다른 노드에 전파한다")
+    void invalidatesOnChanges() {
+        // given
+        postDetailCache.get(1L, loader);
+        postDetailCache.get(2L, loader);
+
+        // when - 추천/댓글은 플러시 전까지 스냅샷 유지
+        postDetailCache.onPostLiked(new PostLikedEvent(7L, 2L));
+        postDetailCache.onCommentCreated(new CommentCreatedEvent(7L, 2L));
+        postDetailCache.get(2L, loader);
+
+        // then
+        assertThat(loads.get()).isEqualTo(2);
+        verify(topic, never()).publish(any());
+
+        // when - 플러시 / 게시글 수정
+        postDetailCache.flushCountChanges();
+        postDetailCache.onPostChanged(new PostChangedEvent(1L));
+        postDetailCache.get(1L, loader);
+        postDetailCache.get(2L, loader);
+
+        // then
+        assertThat(loads.get()).isEqualTo(4);
+        verify(topic).publish(List.of(2L));
+        verify(topic).publish(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("댓글 삭제/복구도 댓글 수 변경으로 모아서 무효화한다")
+    void invalidatesOnCommentChanged() {
+        // given
+        postDetailCache.get(3L, loader);
+
+        // when
+        postDetailCache.onCommentChanged(new CommentChangedEvent(3L));
+        postDetailCache.flushCountChanges();
+        postDetailCache.get(3L, loader);
+
+        // then
+        assertThat(loads.get()).isEqualTo(2);
+        verify(topic).publish(List.of(3L));
+    }
+}
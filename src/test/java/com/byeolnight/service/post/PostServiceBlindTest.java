@@ -9,8 +9,8 @@ import com.byeolnight.repository.post.PostLikeRepository;
 import com.byeolnight.repository.post.PostRepository;
 import com.byeolnight.repository.user.UserRepository;
 import com.byeolnight.service.assembler.PostResponseAssembler;
-import com.byeolnight.service.certificate.CertificateService;
-import com.byeolnight.service.file.S3Service;
+import com.byeolnight.service.assembler.WriterProfileLoader;
+import com.byeolnight.service.file.S3DeletionQueue;
 import com.byeolnight.service.log.DeleteLogService;
 import com.byeolnight.service.notification.NotificationService;
 import com.byeolnight.service.user.PointService;
@@ -53,10 +53,7 @@ class PostServiceBlindTest {
     private UserRepository userRepository;
 
     @Mock
-    private S3Service s3Service;
-
-    @Mock
-    private CertificateService certificateService;
+    private S3DeletionQueue s3DeletionQueue;
 
     @Mock
     private PointService pointService;
@@ -157,7 +154,7 @@ class PostServiceBlindTest {
         when(postRepository.findHotPosts(any(), any(), anyInt(), anyInt(), eq(false))).thenReturn(List.of());
         when(postLikeRepository.countByPost(any())).thenReturn(0L);
         when(commentRepository.countByPostId(any())).thenReturn(0L);
-        when(postResponseAssembler.toDto(eq(normalPost), anyBoolean(), anyLong(), anyBoolean(), anyLong()))
+        when(postResponseAssembler.toDto(eq(normalPost), anyBoolean(), anyLong(), anyBoolean(), anyLong(), nullable(WriterProfileLoader.Batch.class)))
                 .thenReturn(normalPostDto);
 
         // when
@@ -193,9 +190,9 @@ class PostServiceBlindTest {
         when(postRepository.findHotPosts(any(), any(), anyInt(), anyInt(), eq(true))).thenReturn(List.of());
         when(postLikeRepository.countByPost(any())).thenReturn(0L);
         when(commentRepository.countByPostId(any())).thenReturn(0L);
-        when(postResponseAssembler.toDto(eq(normalPost), anyBoolean(), anyLong(), anyBoolean(), anyLong()))
+        when(postResponseAssembler.toDto(eq(normalPost), anyBoolean(), anyLong(), anyBoolean(), anyLong(), nullable(WriterProfileLoader.Batch.class)))
                 .thenReturn(normalPostDto);
-        when(postResponseAssembler.toDto(eq(blindedPost), anyBoolean(), anyLong(), anyBoolean(), anyLong()))
+        when(postResponseAssembler.toDto(eq(blindedPost), anyBoolean(), anyLong(), anyBoolean(), anyLong(), nullable(WriterProfileLoader.Batch.class)))
                 .thenReturn(blindedPostDto);
 
         // when
@@ -225,7 +222,7 @@ class PostServiceBlindTest {
         when(postRepository.findHotPosts(any(), any(), anyInt(), anyInt(), eq(false))).thenReturn(List.of());
         when(postLikeRepository.countByPost(any())).thenReturn(0L);
         when(commentRepository.countByPostId(any())).thenReturn(0L);
-        when(postResponseAssembler.toDto(eq(normalPost), anyBoolean(), anyLong(), anyBoolean(), anyLong()))
+        when(postResponseAssembler.toDto(eq(normalPost), anyBoolean(), anyLong(), anyBoolean(), anyLong(), nullable(WriterProfileLoader.Batch.class)))
                 .thenReturn(normalPostDto);
 
         // when
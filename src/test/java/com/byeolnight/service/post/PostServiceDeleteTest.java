@@ -0,0 +1,72 @@
+package com.byeolnight.service.post;
+
+import com.byeolnight.entity.post.Post;
+import com.byeolnight.entity.user.User;
+import com.byeolnight.infrastructure.exception.NotFoundException;
+import com.byeolnight.repository.file.FileRepository;
+import com.byeolnight.repository.post.PostRepository;
+import com.byeolnight.service.file.S3DeletionQueue;
+import com.byeolnight.service.log.DeleteLogService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostService 게시글 삭제 테스트")
+class PostServiceDeleteTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private FileRepository fileRepository;
+
+    @Mock
+    private S3DeletionQueue s3DeletionQueue;
+
+    @Mock
+    private DeleteLogService deleteLogService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private PostService postService;
+
+    @Test
+    @DisplayName("이미 삭제된 게시글은 삭제 로그/파일 정리/이벤트 발행 없이 거부한다")
+    void deletePost_AlreadyDeleted() {
+        // given
+        User writer = User.builder()
+                .email("user@test.com")
+                .nickname("작성자")
+                .role(User.Role.USER)
+                .build();
+        ReflectionTestUtils.setField(writer, "id", 1L);
+        Post post = Post.builder()
+                .title("삭제된 게시글")
+                .content("내용")
+                .category(Post.Category.FREE)
+                .writer(writer)
+                .build();
+        post.softDelete();
+        given(postRepository.findById(10L)).willReturn(Optional.of(post));
+
+        // when & then
+        assertThatThrownBy(() -> postService.deletePost(10L, writer))
+                .isInstanceOf(NotFoundException.class)
+                .hasMessage("이미 삭제된 게시글입니다.");
+        verifyNoInteractions(deleteLogService, fileRepository, s3DeletionQueue, eventPublisher);
+    }
+}
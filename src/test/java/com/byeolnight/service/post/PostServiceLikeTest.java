@@ -0,0 +1,72 @@
+package com.byeolnight.service.post;
+
+import com.byeolnight.event.PostLikedEvent;
+import com.byeolnight.repository.post.PostLikeRepository;
+import com.byeolnight.repository.post.PostRepository;
+import com.byeolnight.service.user.PointService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostService 게시글 추천 테스트")
+class PostServiceLikeTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private PostLikeRepository postLikeRepository;
+
+    @Mock
+    private PointService pointService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private PostService postService;
+
+    @Test
+    @DisplayName("추천 시 엔티티 로딩 없이 INSERT 후 추천 수를 원자적으로 증가시키고 보상은 이벤트로 넘긴다")
+    void likePost_InsertsAndPublishesEvent() {
+        // given
+        given(postLikeRepository.insertIfAbsent(1L, 10L)).willReturn(1);
+
+        // when
+        postService.likePost(1L, 10L);
+
+        // then
+        verify(postRepository).incrementLikeCount(10L);
+        verify(postRepository, never()).findById(anyLong());
+        verify(eventPublisher).publishEvent(new PostLikedEvent(1L, 10L));
+        verifyNoInteractions(pointService);
+    }
+
+    @Test
+    @DisplayName("이미 추천한 게시글이면 추천 수와 보상이 변하지 않는다")
+    void likePost_Duplicate() {
+        // given
+        given(postLikeRepository.insertIfAbsent(1L, 10L)).willReturn(0);
+        given(postRepository.existsById(10L)).willReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> postService.likePost(1L, 10L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("이미 추천한 글입니다.");
+        verify(postRepository, never()).incrementLikeCount(anyLong());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+}
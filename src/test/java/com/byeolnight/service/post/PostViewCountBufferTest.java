@@ -0,0 +1,87 @@
+package com.byeolnight.service.post;
+
+import com.byeolnight.repository.post.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PostViewCountBuffer 테스트")
+class PostViewCountBufferTest {
+
+    @Mock private PostRepository postRepository;
+    @Mock private TransactionTemplate transactionTemplate;
+
+    private PostViewCountBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        buffer = new PostViewCountBuffer(postRepository, transactionTemplate);
+        willAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).given(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    @DisplayName("게시글별 누적 조회수를 한 번에 반영하고 반영한 항목은 버퍼에서 지운다")
+    void flushesAndPrunesEntries() {
+        // given
+        buffer.increment(1L);
+        buffer.increment(1L);
+        buffer.increment(2L);
+
+        // when
+        buffer.flush();
+        buffer.flush();
+
+        // then - 두 번째 flush는 반영할 항목이 없음
+        verify(postRepository).addViewCount(1L, 2);
+        verify(postRepository).addViewCount(2L, 1);
+        verify(postRepository, times(2)).addViewCount(anyLong(), anyInt());
+        assertThat(pending()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 조회수는 버퍼에 남겨 다음 주기에 새 조회수와 합쳐 반영한다")
+    void keepsFailedDeltaForNextFlush() {
+        // given
+        buffer.increment(1L);
+        willThrow(new IllegalStateException("lock wait timeout"))
+                .willDoNothing()
+                .given(postRepository).addViewCount(anyLong(), anyInt());
+
+        // when
+        buffer.flush();
+        buffer.increment(1L);
+        buffer.flush();
+
+        // then - 실패한 1 + 새 조회 1
+        verify(postRepository).addViewCount(1L, 1);
+        verify(postRepository).addViewCount(1L, 2);
+        assertThat(pending()).isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, Long> pending() {
+        return (Map<Long, Long>) ReflectionTestUtils.getField(buffer, "pending");
+    }
+}
@@ -0,0 +1,115 @@
+package com.byeolnight.service.retention;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@DisplayName("RetentionExecutor 테스트")
+class RetentionExecutorTest {
+
+    @Mock private RedissonClient redissonClient;
+    @Mock private RLock lock;
+    @Mock private TransactionTemplate transactionTemplate;
+    @Mock private RetentionPolicy policy;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RetentionExecutor retentionExecutor;
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        meterRegistry = new SimpleMeterRegistry();
+        retentionExecutor = new RetentionExecutor(redissonClient, transactionTemplate, meterRegistry);
+
+        given(policy.name()).willReturn("test-policy");
+        given(redissonClient.getLock("lock:retention:test-policy")).willReturn(lock);
+        given(lock.tryLock(eq(0L), anyLong(), eq(TimeUnit.MINUTES))).willReturn(true);
+        given(lock.isHeldByCurrentThread()).willReturn(true);
+        given(transactionTemplate.execute(any())).willAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("만료 대상을 keyset 청크로 조회해 청크마다 일괄 삭제한다")
+    void purgesInKeysetChunks() {
+        // given - 500건(꽉 찬 청크) + 3건
+        List<Long> firstChunk = ids(1, RetentionExecutor.CHUNK_SIZE);
+        List<Long> secondChunk = ids(RetentionExecutor.CHUNK_SIZE + 1, RetentionExecutor.CHUNK_SIZE + 3);
+        given(policy.findExpiredIds(0L, RetentionExecutor.CHUNK_SIZE)).willReturn(firstChunk);
+        given(policy.findExpiredIds(RetentionExecutor.CHUNK_SIZE, RetentionExecutor.CHUNK_SIZE)).willReturn(secondChunk);
+        given(policy.purge(anyList())).willAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+
+        // when
+        RetentionResult result = retentionExecutor.execute(policy);
+
+        // then
+        assertThat(result.skipped()).isFalse();
+        assertThat(result.chunks()).isEqualTo(2);
+        assertThat(result.deleted()).isEqualTo(RetentionExecutor.CHUNK_SIZE + 3);
+        verify(policy).purge(firstChunk);
+        verify(policy).purge(secondChunk);
+        verify(transactionTemplate, times(2)).execute(any());
+        assertThat(meterRegistry.counter("retention.deleted", "policy", "test-policy").count())
+                .isEqualTo(RetentionExecutor.CHUNK_SIZE + 3);
+        assertThat(retentionExecutor.getLastResults()).containsKey("test-policy");
+        verify(lock).unlock();
+    }
+
+    @Test
+    @DisplayName("다른 노드가 락을 보유 중이면 실행하지 않는다")
+    void skipsWhenLockHeldElsewhere() throws InterruptedException {
+        // given
+        given(lock.tryLock(eq(0L), anyLong(), eq(TimeUnit.MINUTES))).willReturn(false);
+
+        // when
+        RetentionResult result = retentionExecutor.execute(policy);
+
+        // then
+        assertThat(result.skipped()).isTrue();
+        verify(policy, never()).findExpiredIds(anyLong(), anyInt());
+        verify(lock, never()).unlock();
+    }
+
+    @Test
+    @DisplayName("청크 일괄 삭제가 실패하면 건별로 재시도하고 실패 건수를 집계한다")
+    void fallsBackToSingleDeletes() {
+        // given
+        given(policy.findExpiredIds(0L, RetentionExecutor.CHUNK_SIZE)).willReturn(List.of(1L, 2L, 3L));
+        willThrow(new IllegalStateException("FK 제약 위반")).given(policy).purge(List.of(1L, 2L, 3L));
+        willThrow(new IllegalStateException("FK 제약 위반")).given(policy).purge(List.of(2L));
+        given(policy.purge(List.of(1L))).willReturn(1);
+        given(policy.purge(List.of(3L))).willReturn(1);
+
+        // when
+        RetentionResult result = retentionExecutor.execute(policy);
+
+        // then
+        assertThat(result.deleted()).isEqualTo(2);
+        assertThat(result.failed()).isEqualTo(1);
+    }
+
+    private List<Long> ids(long from, long to) {
+        return LongStream.rangeClosed(from, to).boxed().toList();
+    }
+}
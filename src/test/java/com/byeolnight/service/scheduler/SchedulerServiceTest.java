@@ -6,6 +6,9 @@ import com.byeolnight.repository.post.PostRepository;
 import com.byeolnight.repository.user.UserRepository;
 import com.byeolnight.service.PostCleanupScheduler;
 import com.byeolnight.service.discussion.DiscussionTopicScheduler;
+import com.byeolnight.service.retention.ExpiredCommentRetentionPolicy;
+import com.byeolnight.service.retention.ExpiredPostRetentionPolicy;
+import com.byeolnight.service.retention.RetentionExecutor;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,7 +16,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Optional;
@@ -28,22 +30,24 @@ class SchedulerServiceTest {
 
     @Mock private PostRepository postRepository;
     @Mock private UserRepository userRepository;
+    @Mock private RetentionExecutor retentionExecutor;
+    @Mock private ExpiredPostRetentionPolicy expiredPostRetentionPolicy;
+    @Mock private ExpiredCommentRetentionPolicy expiredCommentRetentionPolicy;
     
     @InjectMocks private PostCleanupScheduler postCleanupScheduler;
     @InjectMocks private DiscussionTopicScheduler discussionTopicScheduler;
 
     @Test
-    @DisplayName("게시글 정리 스케줄러 - 만료된 게시글 없을 때")
-    void testPostCleanupWithNoExpiredPosts() {
-        // Given
-        when(postRepository.findExpiredDeletedPosts(any(LocalDateTime.class)))
-                .thenReturn(Collections.emptyList());
-        
+    @DisplayName("게시글 정리 스케줄러 - 게시글/댓글 보존기간 정책을 순서대로 실행")
+    void testPostCleanupRunsRetentionPolicies() {
         // When & Then
         assertThatCode(() -> postCleanupScheduler.cleanupExpiredPosts())
                 .doesNotThrowAnyException();
         
-        verify(postRepository).findExpiredDeletedPosts(any(LocalDateTime.class));
+        var inOrder = inOrder(retentionExecutor);
+        inOrder.verify(retentionExecutor).execute(expiredPostRetentionPolicy);
+        inOrder.verify(retentionExecutor).execute(expiredCommentRetentionPolicy);
+        verifyNoInteractions(postRepository);
     }
 
     @Test
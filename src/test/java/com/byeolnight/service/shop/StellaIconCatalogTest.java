@@ -0,0 +1,85 @@
+package com.byeolnight.service.shop;
+
+import com.byeolnight.entity.shop.StellaIcon;
+import com.byeolnight.entity.shop.StellaIconGrade;
+import com.byeolnight.repository.shop.StellaIconRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("StellaIconCatalog 인메모리 카탈로그 테스트")
+class StellaIconCatalogTest {
+
+    @Mock
+    private StellaIconRepository stellaIconRepository;
+
+    @InjectMocks
+    private StellaIconCatalog stellaIconCatalog;
+
+    @Test
+    @DisplayName("최초 접근 시 한 번만 적재하고 이후 조회는 DB를 거치지 않는다")
+    void loadsOnceAndServesFromMemory() {
+        // given
+        given(stellaIconRepository.findAll()).willReturn(List.of(
+                icon(2L, "토성", true), icon(1L, "소행성", true), icon(3L, "블랙홀", false)));
+
+        // when
+        List<StellaIcon> available = stellaIconCatalog.getAvailableIcons();
+        StellaIcon hidden = stellaIconCatalog.findById(3L).orElseThrow();
+        stellaIconCatalog.findById(1L);
+        stellaIconCatalog.version();
+
+        // then - 구매 가능 목록은 id 순, 비활성 아이콘도 id 조회는 가능
+        assertThat(available).extracting(StellaIcon::getId).containsExactly(1L, 2L);
+        assertThat(hidden.getName()).isEqualTo("블랙홀");
+        assertThat(stellaIconCatalog.findById(99L)).isEmpty();
+        verify(stellaIconRepository, times(1)).findAll();
+    }
+
+    @Test
+    @DisplayName("아이콘 속성이 바뀌면 refresh 후 버전(ETag)이 달라진다")
+    void versionChangesWhenCatalogChanges() {
+        // given
+        given(stellaIconRepository.findAll())
+                .willReturn(List.of(icon(1L, "소행성", true)))
+                .willReturn(List.of(icon(1L, "소행성", true)))
+                .willReturn(List.of(icon(1L, "소행성", false)));
+
+        // when
+        stellaIconCatalog.refresh();
+        String initial = stellaIconCatalog.version();
+        stellaIconCatalog.refreshAfterCommit(); // 트랜잭션 밖에서는 즉시 재적재
+        String unchanged = stellaIconCatalog.version();
+        stellaIconCatalog.refresh();
+        String disabled = stellaIconCatalog.version();
+
+        // then
+        assertThat(unchanged).isEqualTo(initial);
+        assertThat(disabled).isNotEqualTo(initial);
+        assertThat(stellaIconCatalog.getAvailableIcons()).isEmpty();
+    }
+
+    private StellaIcon icon(Long id, String name, boolean available) {
+        return StellaIcon.builder()
+                .id(id)
+                .name(name)
+                .description(name + " 아이콘")
+                .iconUrl(name + ".svg")
+                .price(100)
+                .grade(StellaIconGrade.COMMON)
+                .type(StellaIcon.IconType.STATIC)
+                .available(available)
+                .build();
+    }
+}
@@ -0,0 +1,106 @@
+package com.byeolnight.service.sitemap;
+
+import com.byeolnight.dto.post.PostSitemapRow;
+import com.byeolnight.event.PostChangedEvent;
+import com.byeolnight.repository.post.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SitemapService 테스트")
+class SitemapServiceTest {
+
+    @Mock
+    private PostRepository postRepository;
+
+    private SitemapService sitemapService;
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2026, 1, 5, 12, 0);
+
+    @BeforeEach
+    void setUp() {
+        sitemapService = new SitemapService(postRepository);
+        ReflectionTestUtils.setField(sitemapService, "baseUrl", "https://byeolnight.com");
+    }
+
+    @Test
+    @DisplayName("게시글을 keyset으로 조회해 페이지를 나누고 인덱스에 페이지별 lastmod를 기록한다")
+    void buildsPagesByKeyset() {
+        // given - 1000개(첫 페이지) + 2개(두 번째 페이지)
+        given(postRepository.findSitemapRowsAfter(eq(0L), any(Pageable.class))).willReturn(rows(1, SitemapService.PAGE_SIZE));
+        given(postRepository.findSitemapRowsAfter(eq((long) SitemapService.PAGE_SIZE), any(Pageable.class)))
+                .willReturn(rows(SitemapService.PAGE_SIZE + 1, SitemapService.PAGE_SIZE + 2));
+
+        // when
+        String index = new String(sitemapService.getIndex(false), StandardCharsets.UTF_8);
+        String secondPage = new String(sitemapService.getPostsSitemap(1, false), StandardCharsets.UTF_8);
+
+        // then
+        assertThat(index).contains("/sitemap-posts-0.xml", "/sitemap-posts-1.xml", "<lastmod>2026-01-05</lastmod>");
+        assertThat(index).doesNotContain("/sitemap-posts-2.xml");
+        assertThat(secondPage).contains("/posts/1001", "/posts/1002").doesNotContain("/posts/1000<");
+        verify(postRepository, times(2)).findSitemapRowsAfter(any(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("게시글 변경 시 해당 id 구간 페이지만 다시 생성한다")
+    void rebuildsOnlyChangedPage() {
+        // given
+        given(postRepository.findSitemapRowsAfter(eq(0L), any(Pageable.class))).willReturn(rows(1, 3));
+        sitemapService.getPostsSitemap(0, false);
+        given(postRepository.findSitemapRowsBetween(0L, 3L)).willReturn(rows(1, 2));
+
+        // when
+        sitemapService.onPostChanged(new PostChangedEvent(3L));
+        String page = new String(sitemapService.getPostsSitemap(0, false), StandardCharsets.UTF_8);
+
+        // then
+        assertThat(page).contains("/posts/1<", "/posts/2<").doesNotContain("/posts/3<");
+        verify(postRepository, times(1)).findSitemapRowsAfter(any(), any(Pageable.class));
+        verify(postRepository).findSitemapRowsBetween(0L, 3L);
+    }
+
+    @Test
+    @DisplayName("gzip 요청 시 압축된 동일 XML을 반환하고 범위 밖 페이지는 빈 urlset을 반환한다")
+    void servesGzipAndEmptyPages() throws IOException {
+        // given
+        given(postRepository.findSitemapRowsAfter(eq(0L), any(Pageable.class))).willReturn(rows(1, 2));
+
+        // when
+        byte[] plain = sitemapService.getPostsSitemap(0, false);
+        byte[] gzip = sitemapService.getPostsSitemap(0, true);
+        String outOfRange = new String(sitemapService.getPostsSitemap(5, false), StandardCharsets.UTF_8);
+
+        // then
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            assertThat(in.readAllBytes()).isEqualTo(plain);
+        }
+        assertThat(outOfRange).contains("<urlset").doesNotContain("<url>");
+    }
+
+    private List<PostSitemapRow> rows(long fromId, long toId) {
+        return LongStream.rangeClosed(fromId, toId)
+                .mapToObj(id -> new PostSitemapRow(id, UPDATED_AT))
+                .toList();
+    }
+}
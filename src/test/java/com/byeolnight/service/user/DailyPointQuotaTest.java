@@ -0,0 +1,88 @@
+package com.byeolnight.service.user;
+
+import com.byeolnight.entity.user.PointHistory.PointType;
+import com.byeolnight.infrastructure.cache.RedissonCacheService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DailyPointQuota 테스트")
+class DailyPointQuotaTest {
+
+    @Mock
+    private RedissonCacheService cacheService;
+
+    @InjectMocks
+    private DailyPointQuota dailyPointQuota;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시에는 지급하지 않는다")
+    void deniesWhenRedisFails() {
+        // given
+        given(cacheService.incrementAndGet(anyString(), any(Duration.class)))
+                .willThrow(new IllegalStateException("connection refused"));
+
+        // when
+        boolean acquired = dailyPointQuota.tryAcquire(1L, PointType.COMMENT_WRITE, 10);
+
+        // then
+        assertThat(acquired).isFalse();
+    }
+
+    @Test
+    @DisplayName("지급 트랜잭션이 롤백되면 사용한 한도를 되돌린다")
+    void releasesSlotOnRollback() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        given(cacheService.incrementAndGet(anyString(), any(Duration.class))).willReturn(3L);
+
+        // when
+        boolean acquired = dailyPointQuota.tryAcquire(1L, PointType.COMMENT_WRITE, 10);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // then
+        assertThat(acquired).isTrue();
+        verify(cacheService).decrementIfExists(anyString());
+    }
+
+    @Test
+    @DisplayName("커밋된 지급은 한도를 그대로 사용한다")
+    void keepsSlotOnCommit() {
+        // given
+        TransactionSynchronizationManager.initSynchronization();
+        given(cacheService.incrementAndGet(anyString(), any(Duration.class))).willReturn(11L);
+
+        // when
+        boolean acquired = dailyPointQuota.tryAcquire(1L, PointType.COMMENT_WRITE, 10);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        // then
+        assertThat(acquired).isFalse();
+        verify(cacheService, never()).decrementIfExists(anyString());
+    }
+}
@@ -0,0 +1,147 @@
+package com.byeolnight.service.user;
+
+import com.byeolnight.dto.user.PointHistoryJob;
+import com.byeolnight.entity.user.PointHistory;
+import com.byeolnight.entity.user.User;
+import com.byeolnight.infrastructure.cache.RedissonCacheService;
+import com.byeolnight.infrastructure.config.QueryDslConfig;
+import com.byeolnight.repository.user.PointHistoryBatchRepository;
+import com.byeolnight.repository.user.PointHistoryRepository;
+import com.byeolnight.repository.user.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 포인트 원장 동시성 테스트
+ * - 스레드마다 별도 트랜잭션으로 적립하므로 테스트 트랜잭션은 사용하지 않음
+ */
+@DataJpaTest
+@Import({QueryDslConfig.class, PointLedger.class, PointHistoryBatchRepository.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PointLedgerConcurrencyTest {
+
+    private static final int LIKES = 1_000;
+    private static final int RECEIVE_LIKE_POINTS = 2;
+
+    @Autowired
+    private PointLedger pointLedger;
+
+    @Autowired
+    private PointHistoryBatchRepository pointHistoryBatchRepository;
+
+    @Autowired
+    private PointHistoryRepository pointHistoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockBean
+    private RedissonCacheService cacheService;
+
+    private User writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = userRepository.save(User.builder()
+                .email("writer@test.com")
+                .nickname("writer")
+                .role(User.Role.USER)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        pointHistoryRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("동시에 1,000건 추천을 받아도 잔액이 정확히 누적되고 히스토리가 일괄 적재된다")
+    void concurrentLikesKeepExactBalance() throws InterruptedException {
+        // given
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(LIKES);
+        AtomicInteger failures = new AtomicInteger();
+
+        for (int i = 0; i < LIKES; i++) {
+            String referenceId = String.valueOf(i);
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    pointLedger.credit(writer.getId(), PointHistory.PointType.POST_LIKED,
+                            RECEIVE_LIKE_POINTS, "게시글 추천 받음 보상", referenceId);
+                } catch (Exception e) {
+                    failures.incrementAndGet();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        // when
+        start.countDown();
+        assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        // then - 잔액
+        assertThat(failures.get()).isZero();
+        assertThat(userRepository.findPointsById(writer.getId())).contains(LIKES * RECEIVE_LIKE_POINTS);
+
+        // then - 커밋마다 히스토리 작업이 적재되고, 배치 INSERT로 모두 기록됨
+        ArgumentCaptor<PointHistoryJob> captor = ArgumentCaptor.forClass(PointHistoryJob.class);
+        verify(cacheService, times(LIKES)).enqueue(eq(PointLedger.HISTORY_QUEUE), captor.capture());
+        pointHistoryBatchRepository.batchInsert(captor.getAllValues());
+        assertThat(pointHistoryRepository.count()).isEqualTo(LIKES);
+    }
+
+    @Test
+    @DisplayName("잔액보다 큰 금액은 차감되지 않는다")
+    void debitFailsWhenBalanceIsInsufficient() {
+        // given
+        pointLedger.credit(writer.getId(), PointHistory.PointType.ADMIN_AWARD, 30, "관리자 수여", null);
+
+        // when & then
+        assertThatThrownBy(() -> pointLedger.debit(writer.getId(), PointHistory.PointType.ICON_PURCHASE, 50, "아이콘 구매", "1"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("포인트가 부족합니다");
+        assertThat(userRepository.findPointsById(writer.getId())).contains(30);
+        verify(cacheService, times(1)).enqueue(eq(PointLedger.HISTORY_QUEUE), any(PointHistoryJob.class));
+    }
+
+    @Test
+    @DisplayName("페널티는 잔액을 0 아래로 내리지 않는다")
+    void penaltyFloorsAtZero() {
+        // given
+        pointLedger.credit(writer.getId(), PointHistory.PointType.ADMIN_AWARD, 3, "관리자 수여", null);
+
+        // when
+        int balance = pointLedger.penalize(writer.getId(), PointHistory.PointType.PENALTY, 10, "규정 위반 페널티", "1");
+
+        // then
+        assertThat(balance).isZero();
+        assertThat(userRepository.findPointsById(writer.getId())).contains(0);
+    }
+}
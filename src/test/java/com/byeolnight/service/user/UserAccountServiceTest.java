@@ -2,9 +2,9 @@ package com.byeolnight.service.user;
 
 import com.byeolnight.dto.user.UserSignUpRequestDto;
 import com.byeolnight.entity.user.User;
-import com.byeolnight.repository.log.AuditSignupLogRepository;
 import com.byeolnight.repository.user.UserRepository;
 import com.byeolnight.service.auth.EmailAuthService;
+import com.byeolnight.service.log.AuditLogWriter;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -27,7 +27,7 @@ class UserAccountServiceTest {
     @Mock
     private UserRepository userRepository;
     @Mock
-    private AuditSignupLogRepository auditSignupLogRepository;
+    private AuditLogWriter auditLogWriter;
     @Mock
     private UserSecurityService userSecurityService;
     @Mock
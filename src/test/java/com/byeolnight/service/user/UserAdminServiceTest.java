@@ -9,12 +9,14 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.Arrays;
+import org.springframework.data.domain.PageRequest;
+
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,15 +33,15 @@ class UserAdminServiceTest {
     private UserAdminService userAdminService;
 
     @Test
-    @DisplayName("전체 사용자 요약 조회")
-    void getAllUserSummaries() {
-        User user1 = User.builder().email("user1@test.com").role(User.Role.USER).build();
-        User admin = User.builder().email("admin@test.com").role(User.Role.ADMIN).build();
-        given(userRepository.findAll()).willReturn(Arrays.asList(user1, admin));
+    @DisplayName("비슷한 닉네임 조회는 전체 사용자를 읽지 않고 LIKE 조회 결과만 반환")
+    void findSimilarNicknames() {
+        given(userRepository.findNicknamesContaining("별지기", PageRequest.of(0, 20)))
+                .willReturn(List.of("별지기1", "별지기2"));
 
-        var result = userAdminService.getAllUserSummaries();
+        var result = userAdminService.findSimilarNicknames(" 별지기 ", 20);
 
-        assertThat(result).hasSize(1);
+        assertThat(result).containsExactly("별지기1", "별지기2");
+        verify(userRepository, never()).findAll();
     }
 
     @Test
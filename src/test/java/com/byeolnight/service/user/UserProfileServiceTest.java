@@ -0,0 +1,167 @@
+package com.byeolnight.service.user;
+
+import com.byeolnight.dto.comment.CommentDto;
+import com.byeolnight.dto.message.MessageDto;
+import com.byeolnight.dto.post.PostDto;
+import com.byeolnight.dto.user.MyActivityDto;
+import com.byeolnight.dto.user.UserProfileDto;
+import com.byeolnight.entity.user.User;
+import com.byeolnight.entity.user.UserStats;
+import com.byeolnight.infrastructure.exception.NotFoundException;
+import com.byeolnight.service.certificate.CertificateService;
+import com.byeolnight.service.comment.CommentService;
+import com.byeolnight.service.message.MessageService;
+import com.byeolnight.service.post.PostService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserProfileService 프로필/활동 조회 테스트")
+class UserProfileServiceTest {
+
+    @Mock private CertificateService certificateService;
+    @Mock private PostService postService;
+    @Mock private CommentService commentService;
+    @Mock private MessageService messageService;
+    @Mock private UserQueryService userQueryService;
+    @Mock private UserStatsService userStatsService;
+    @Mock private UserProfileCache userProfileCache;
+    @Spy private AsyncTaskExecutor applicationTaskExecutor = new SimpleAsyncTaskExecutor("activity-");
+
+    @InjectMocks
+    private UserProfileService userProfileService;
+
+    @Test
+    @DisplayName("캐시된 프로필이 있으면 DB를 조회하지 않는다")
+    void returnsCachedProfile() {
+        // given
+        UserProfileDto cached = UserProfileDto.builder().id(1L).nickname("별지기").postCount(3).build();
+        given(userProfileCache.get(1L)).willReturn(cached);
+
+        // when
+        UserProfileDto result = userProfileService.getUserProfile(1L);
+
+        // then
+        assertThat(result).isSameAs(cached);
+        verifyNoInteractions(userQueryService, userStatsService, certificateService);
+    }
+
+    @Test
+    @DisplayName("캐시 미스 시 집계 행으로 프로필을 만들고 캐시에 저장한다")
+    void buildsProfileFromStatsOnCacheMiss() {
+        // given
+        User user = User.builder().nickname("별지기").role(User.Role.USER).build();
+        ReflectionTestUtils.setField(user, "id", 1L);
+        given(userQueryService.findById(1L)).willReturn(user);
+        given(userStatsService.getOrCreate(user)).willReturn(UserStats.of(1L, 12, 34, 5, 67));
+        given(certificateService.getUserPublicCertificates(1L, 4)).willReturn(List.of());
+
+        // when
+        UserProfileDto result = userProfileService.getUserProfile(1L);
+
+        // then
+        assertThat(result.getPostCount()).isEqualTo(12);
+        assertThat(result.getCommentCount()).isEqualTo(34);
+        assertThat(result.getIconCount()).isEqualTo(5);
+        assertThat(result.getAttendanceCount()).isEqualTo(67);
+        verify(userProfileCache).put(result);
+    }
+
+    @Test
+    @DisplayName("내 활동의 네 가지 조회는 서로 다른 스레드에서 동시에 실행된다")
+    void loadsActivitySectionsConcurrently() {
+        // given - 네 조회가 모두 시작되어야 래치가 풀리므로 순차 실행이면 타임아웃
+        CountDownLatch allStarted = new CountDownLatch(4);
+        Set<Long> threads = ConcurrentHashMap.newKeySet();
+        PageRequest pageable = PageRequest.of(0, 10);
+        given(userQueryService.findById(1L)).willReturn(user());
+
+        given(postService.getMyPosts(eq(1L), any())).willAnswer(invocation -> {
+            await(allStarted, threads);
+            return new PageImpl<PostDto.Response>(List.of(), pageable, 7);
+        });
+        given(commentService.getMyComments(eq(1L), any())).willAnswer(invocation -> {
+            await(allStarted, threads);
+            return new PageImpl<CommentDto.Response>(List.of(), pageable, 9);
+        });
+        given(messageService.getReceivedMessages(eq(1L), any())).willAnswer(invocation -> {
+            await(allStarted, threads);
+            return MessageDto.ListResponse.builder().messages(List.of()).totalCount(2).build();
+        });
+        given(messageService.getSentMessages(eq(1L), any())).willAnswer(invocation -> {
+            await(allStarted, threads);
+            return MessageDto.ListResponse.builder().messages(List.of()).totalCount(1).build();
+        });
+
+        // when
+        MyActivityDto result = userProfileService.getMyActivity(1L, 0, 10);
+
+        // then
+        assertThat(threads).hasSize(4);
+        assertThat(result.getTotalPostCount()).isEqualTo(7);
+        assertThat(result.getTotalCommentCount()).isEqualTo(9);
+        assertThat(result.getTotalReceivedMessageCount()).isEqualTo(2);
+        assertThat(result.getTotalSentMessageCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("하위 조회의 예외는 원래 예외 그대로 전달된다")
+    void propagatesOriginalException() {
+        // given
+        given(userQueryService.findById(1L)).willReturn(user());
+        given(postService.getMyPosts(eq(1L), any())).willThrow(new NotFoundException("사용자를 찾을 수 없습니다."));
+
+        // when & then
+        assertThatThrownBy(() -> userProfileService.getMyActivity(1L, 0, 10))
+                .isInstanceOf(NotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 사용자의 활동 내역은 하위 조회 없이 NotFound로 응답한다")
+    void rejectsUnknownUser() {
+        // given
+        given(userQueryService.findById(99L)).willThrow(new NotFoundException("사용자를 찾을 수 없습니다."));
+
+        // when & then
+        assertThatThrownBy(() -> userProfileService.getMyActivity(99L, 0, 10))
+                .isInstanceOf(NotFoundException.class);
+        verifyNoInteractions(postService, commentService, messageService);
+    }
+
+    private static User user() {
+        User user = User.builder().nickname("별지기").role(User.Role.USER).build();
+        ReflectionTestUtils.setField(user, "id", 1L);
+        return user;
+    }
+
+    private void await(CountDownLatch allStarted, Set<Long> threads)
+            throws InterruptedException {
+        threads.add(Thread.currentThread().threadId());
+        allStarted.countDown();
+        assertThat(allStarted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+}
@@ -0,0 +1,91 @@
+package com.byeolnight.service.user;
+
+import com.byeolnight.entity.post.Post;
+import com.byeolnight.entity.user.User;
+import com.byeolnight.entity.user.UserStats;
+import com.byeolnight.event.UserStatsChangedEvent;
+import com.byeolnight.infrastructure.config.QueryDslConfig;
+import com.byeolnight.repository.post.PostRepository;
+import com.byeolnight.repository.user.UserRepository;
+import com.byeolnight.repository.user.UserStatsRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QueryDslConfig.class, UserStatsService.class})
+@DisplayName("UserStatsService 집계 행 생성 테스트")
+class UserStatsServiceTest {
+
+    @Autowired UserStatsService userStatsService;
+    @Autowired UserStatsRepository userStatsRepository;
+    @Autowired PostRepository postRepository;
+    @Autowired UserRepository userRepository;
+    @Autowired TestEntityManager entityManager;
+
+    private User writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = userRepository.save(User.builder()
+                .email("writer@test.com")
+                .nickname("작성자")
+                .password("encoded")
+                .role(User.Role.USER)
+                .status(User.UserStatus.ACTIVE)
+                .build());
+    }
+
+    @Test
+    @DisplayName("집계 행이 생기기 전에 발행된 증감도 잃지 않고 생성된 행에 반영된다")
+    void keepsDeltaFiredBeforeFirstRead() {
+        // given - 기존 게시글 1건 (집계 행 없음)
+        savePost("기존 글");
+        assertThat(userStatsRepository.findById(writer.getId())).isEmpty();
+
+        // when - 새 글 작성 이벤트가 최초 조회보다 먼저 도착
+        savePost("새 글");
+        userStatsService.onStatsChanged(UserStatsChangedEvent.increment(writer.getId(), UserStats.Counter.POST));
+
+        // then - 이번 변경까지 포함해 한 번만 집계
+        assertThat(userStatsService.getOrCreate(writer).getPostCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("집계 행이 있으면 원본을 다시 세지 않고 증감만 반영한다")
+    void appliesDeltaToExistingRow() {
+        // given
+        savePost("기존 글");
+        assertThat(userStatsService.getOrCreate(writer).getPostCount()).isEqualTo(1);
+
+        // when
+        savePost("새 글");
+        userStatsService.onStatsChanged(UserStatsChangedEvent.increment(writer.getId(), UserStats.Counter.POST));
+
+        // then - 벌크 UPDATE는 영속성 컨텍스트를 거치지 않으므로 비우고 조회
+        entityManager.clear();
+        assertThat(userStatsRepository.findById(writer.getId()))
+                .get()
+                .extracting(UserStats::getPostCount)
+                .isEqualTo(2);
+    }
+
+    private void savePost(String title) {
+        postRepository.save(Post.builder()
+                .title(title)
+                .content("내용입니다.")
+                .category(Post.Category.FREE)
+                .writer(writer)
+                .build());
+    }
+}
@@ -2,6 +2,7 @@ package com.byeolnight.service.weather;
 
 import com.byeolnight.dto.external.weather.OpenWeatherResponse;
 import com.byeolnight.dto.weather.WeatherResponse;
+import com.byeolnight.infrastructure.http.OutboundHttpClients;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
@@ -37,6 +38,9 @@ class WeatherServiceTest {
     @Mock
     private RestTemplate restTemplate;
 
+    @Mock
+    private OutboundHttpClients outboundHttpClients;
+
     private MeterRegistry meterRegistry;
 
     private static final String TEST_API_KEY = "test-api-key";
@@ -46,7 +50,7 @@ class WeatherServiceTest {
     @BeforeEach
     void setUp() {
         meterRegistry = new SimpleMeterRegistry();
-        weatherService = new WeatherService(localCacheService, meterRegistry);
+        weatherService = new WeatherService(localCacheService, meterRegistry, outboundHttpClients);
         ReflectionTestUtils.setField(weatherService, "apiKey", TEST_API_KEY);
         ReflectionTestUtils.setField(weatherService, "apiUrl", TEST_API_URL);
         ReflectionTestUtils.setField(weatherService, "restTemplate", restTemplate);
@@ -0,0 +1,83 @@
+package com.byeolnight.worker;
+
+import com.byeolnight.dto.user.LikePointJob;
+import com.byeolnight.infrastructure.cache.RedissonCacheService;
+import com.byeolnight.repository.post.PostRepository;
+import com.byeolnight.service.user.LikePointEventListener;
+import com.byeolnight.service.user.PointService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LikePointWorker 테스트")
+class LikePointWorkerTest {
+
+    @Mock
+    private RedissonCacheService cacheService;
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private PointService pointService;
+
+    @InjectMocks
+    private LikePointWorker likePointWorker;
+
+    @Test
+    @DisplayName("같은 게시글의 추천 받음 보상은 합산해 작성자에게 한 번만 적립한다")
+    void aggregatesReceivePointsPerPost() {
+        // given - 게시글 10번에 추천 3건, 게시글 20번에 추천 1건
+        List<LikePointJob> jobs = new ArrayList<>();
+        for (long liker = 1; liker <= 3; liker++) {
+            jobs.add(LikePointJob.give(liker, 10L));
+            jobs.add(LikePointJob.receive(10L));
+        }
+        jobs.add(LikePointJob.give(4L, 20L));
+        jobs.add(LikePointJob.receive(20L));
+        given(cacheService.<LikePointJob>dequeueBatch(eq(LikePointEventListener.LIKE_POINT_QUEUE), anyInt()))
+                .willReturn(jobs);
+        given(postRepository.findWriterIdsByIds(anyCollection()))
+                .willReturn(List.of(new Object[]{10L, 100L}, new Object[]{20L, 200L}));
+
+        // when
+        likePointWorker.processLikePoints();
+
+        // then
+        verify(pointService, times(4)).awardGiveLikePoints(any(Long.class), any(String.class));
+        verify(pointService).awardReceiveLikePoints(100L, "10", 3);
+        verify(pointService).awardReceiveLikePoints(200L, "20", 1);
+    }
+
+    @Test
+    @DisplayName("보상 적립에 실패한 작업은 재시도 큐에 다시 적재한다")
+    void requeuesFailedJobs() {
+        // given
+        LikePointJob job = LikePointJob.give(1L, 10L);
+        given(cacheService.<LikePointJob>dequeueBatch(eq(LikePointEventListener.LIKE_POINT_QUEUE), anyInt()))
+                .willReturn(List.of(job));
+        willThrow(new IllegalStateException("DB 오류")).given(pointService).awardGiveLikePoints(1L, "10");
+
+        // when
+        likePointWorker.processLikePoints();
+
+        // then
+        verify(cacheService).enqueue(eq(LikePointEventListener.LIKE_POINT_QUEUE), any(LikePointJob.class));
+    }
+}
@@ -0,0 +1,86 @@
+package com.byeolnight.worker;
+
+import com.byeolnight.dto.user.PointHistoryJob;
+import com.byeolnight.entity.user.PointHistory;
+import com.byeolnight.entity.user.User;
+import com.byeolnight.infrastructure.cache.RedissonCacheService;
+import com.byeolnight.infrastructure.config.QueryDslConfig;
+import com.byeolnight.repository.user.PointHistoryBatchRepository;
+import com.byeolnight.repository.user.PointHistoryRepository;
+import com.byeolnight.repository.user.UserRepository;
+import com.byeolnight.service.user.PointLedger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 포인트 히스토리 워커 배치 실패 테스트
+ * - 워커가 직접 트랜잭션을 여닫으므로 테스트 트랜잭션은 사용하지 않음
+ */
+@DataJpaTest
+@Import({QueryDslConfig.class, PointHistoryWorker.class, PointHistoryBatchRepository.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("PointHistoryWorker 테스트")
+class PointHistoryWorkerTest {
+
+    @Autowired
+    private PointHistoryWorker pointHistoryWorker;
+
+    @Autowired
+    private PointHistoryRepository pointHistoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockBean
+    private RedissonCacheService cacheService;
+
+    @AfterEach
+    void tearDown() {
+        pointHistoryRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("배치 중간 행이 실패하면 배치 전체를 롤백하고 건별 재시도로 정상 행을 한 번씩만 적재한다")
+    void rollsBackFailedBatchBeforeSingleInserts() {
+        // given - 두 번째 행은 존재하지 않는 사용자 (FK 위반)
+        User writer = userRepository.save(User.builder()
+                .email("writer@test.com")
+                .nickname("writer")
+                .role(User.Role.USER)
+                .build());
+        PointHistoryJob first = PointHistoryJob.of(writer.getId(), 2, PointHistory.PointType.POST_LIKED, "게시글 추천 받음 보상", "1");
+        PointHistoryJob broken = PointHistoryJob.of(writer.getId() + 999, 2, PointHistory.PointType.POST_LIKED, "게시글 추천 받음 보상", "2");
+        PointHistoryJob third = PointHistoryJob.of(writer.getId(), 2, PointHistory.PointType.POST_LIKED, "게시글 추천 받음 보상", "3");
+        given(cacheService.<PointHistoryJob>dequeueBatch(eq(PointLedger.HISTORY_QUEUE), anyInt()))
+                .willReturn(List.of(first, broken, third));
+
+        // when
+        pointHistoryWorker.flushPointHistory();
+
+        // then - 정상 행 2건만 기록, 실패 행은 재시도 큐로
+        assertThat(pointHistoryRepository.findAll())
+                .extracting(PointHistory::getReferenceId)
+                .containsExactlyInAnyOrder("1", "3");
+        ArgumentCaptor<PointHistoryJob> retried = ArgumentCaptor.forClass(PointHistoryJob.class);
+        verify(cacheService).enqueue(eq(PointLedger.HISTORY_QUEUE), retried.capture());
+        assertThat(retried.getValue().getReferenceId()).isEqualTo("2");
+        assertThat(retried.getValue().getAttempt()).isEqualTo(1);
+    }
+}
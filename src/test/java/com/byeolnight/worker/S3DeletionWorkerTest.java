@@ -0,0 +1,70 @@
+package com.byeolnight.worker;
+
+import com.byeolnight.dto.file.S3DeleteJob;
+import com.byeolnight.infrastructure.cache.RedissonCacheService;
+import com.byeolnight.service.file.S3DeletionQueue;
+import com.byeolnight.service.file.S3Service;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("S3DeletionWorker 테스트")
+class S3DeletionWorkerTest {
+
+    @Mock
+    private RedissonCacheService cacheService;
+
+    @Mock
+    private S3Service s3Service;
+
+    @InjectMocks
+    private S3DeletionWorker s3DeletionWorker;
+
+    @Test
+    @DisplayName("삭제에 실패한 키는 다음 시도 시각을 늘려 가며 다시 적재한다")
+    void requeuesFailedKeyWithBackoff() {
+        // given - 두 번째 실패
+        S3DeleteJob job = S3DeleteJob.of("uploads/a.png").withRetry("DeleteObjects 실패", Duration.ZERO);
+        given(s3Service.deleteObjects(List.of("uploads/a.png"))).willReturn(List.of("uploads/a.png"));
+
+        // when
+        Instant before = Instant.now();
+        s3DeletionWorker.processBatch(List.of(job));
+
+        // then - 30초 * 2^1
+        ArgumentCaptor<S3DeleteJob> retried = ArgumentCaptor.forClass(S3DeleteJob.class);
+        verify(cacheService).enqueue(eq(S3DeletionQueue.QUEUE), retried.capture());
+        assertThat(retried.getValue().getAttempt()).isEqualTo(2);
+        assertThat(Instant.parse(retried.getValue().getNextAttemptAt())).isAfterOrEqualTo(before.plusSeconds(60));
+        assertThat(retried.getValue().isDue(Instant.now())).isFalse();
+    }
+
+    @Test
+    @DisplayName("다음 시도 시각 전인 작업은 삭제하지 않고 큐로 되돌린다")
+    void defersJobsNotYetDue() {
+        // given
+        S3DeleteJob waiting = S3DeleteJob.of("uploads/b.png").withRetry("DeleteObjects 실패", Duration.ofMinutes(1));
+
+        // when
+        s3DeletionWorker.processBatch(List.of(waiting));
+
+        // then
+        verify(cacheService).enqueueAll(S3DeletionQueue.QUEUE, List.of(waiting));
+        verifyNoInteractions(s3Service);
+    }
+}